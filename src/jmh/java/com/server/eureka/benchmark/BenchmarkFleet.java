@@ -0,0 +1,86 @@
+package com.server.eureka.benchmark;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.ServerEurekaApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 벤치마크 공용: 인프로세스 Eureka 서버 기동 및 가상 인스턴스 생성
+ */
+final class BenchmarkFleet {
+
+    static final int INSTANCES_PER_APP = 100;
+
+    private BenchmarkFleet() {
+    }
+
+    /**
+     * ✅ local 프로파일로 서버 기동 (랜덤 포트, eviction/self-preservation 비활성, 커스텀 로그 최소화)
+     *
+     * 스냅샷/저널은 끈다 - 켜 두면 수만 개 가상 인스턴스가 data/ 에 저장되고 다음 로컬 bootRun 이 그 스냅샷을 복원한다.
+     */
+    static ConfigurableApplicationContext startServer(Map<String, Object> extraProperties) {
+        // 기본 프로퍼티(builder.properties)는 application*.yml 에 덮이므로 커맨드라인 인자로 넘긴다
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--eureka.server.enable-self-preservation=false",
+            "--eureka.server.eviction-interval-timer-in-ms=3600000",
+            "--eureka.snapshot.enabled=false",
+            "--eureka.journal.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.server.eureka=ERROR"));
+        extraProperties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return new SpringApplicationBuilder(ServerEurekaApplication.class)
+            .profiles("local")
+            .run(args.toArray(String[]::new));
+    }
+
+    static PeerAwareInstanceRegistry registry(ConfigurableApplicationContext context) {
+        return context.getBean(EurekaServerContext.class).getRegistry();
+    }
+
+    static void populate(PeerAwareInstanceRegistry registry, int instances) {
+        for (int i = 0; i < instances; i++) {
+            registry.register(instance(i), false);
+        }
+    }
+
+    static String appName(int index) {
+        return "BENCH-APP-" + (index / INSTANCES_PER_APP);
+    }
+
+    static String instanceId(int index) {
+        return "bench-host-" + index + ":" + appName(index).toLowerCase() + ":8080";
+    }
+
+    static InstanceInfo instance(int index) {
+        String appName = appName(index);
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(appName)
+            .setInstanceId(instanceId(index))
+            .setHostName("bench-host-" + index)
+            .setIPAddr("10." + ((index >> 16) & 0xff) + "." + ((index >> 8) & 0xff) + "." + (index & 0xff))
+            .setPort(8080)
+            .setVIPAddress(appName.toLowerCase())
+            .setSecureVIPAddress(appName.toLowerCase())
+            .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+            .setLeaseInfo(LeaseInfo.Builder.newBuilder()
+                .setRenewalIntervalInSecs(30)
+                .setDurationInSecs(90)
+                .build())
+            .setStatus(InstanceInfo.InstanceStatus.UP)
+            .add("zone", "zone-" + (index % 3))
+            .add("version", "1." + (index % 5))
+            .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.server.eureka.benchmark;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.server.eureka.custom.CustomEurekaEventListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ CustomEurekaEventListener 이벤트당 오버헤드 (요청 스레드에서 지불하는 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventListenerBenchmark {
+
+    private static final int FLEET = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private CustomEurekaEventListener listener;
+    private EurekaInstanceRenewedEvent[] renewals;
+    private EurekaInstanceRegisteredEvent[] registrations;
+    private EurekaInstanceCanceledEvent[] cancellations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFleet.startServer(Map.of());
+        listener = context.getBean(CustomEurekaEventListener.class);
+
+        renewals = new EurekaInstanceRenewedEvent[FLEET];
+        registrations = new EurekaInstanceRegisteredEvent[FLEET];
+        cancellations = new EurekaInstanceCanceledEvent[FLEET];
+        for (int i = 0; i < FLEET; i++) {
+            InstanceInfo instance = BenchmarkFleet.instance(i);
+            renewals[i] = new EurekaInstanceRenewedEvent(this, instance.getAppName(), instance.getId(), instance, false);
+            registrations[i] = new EurekaInstanceRegisteredEvent(this, instance, 90, false);
+            cancellations[i] = new EurekaInstanceCanceledEvent(this, instance.getAppName(), instance.getId(), false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private static int next() {
+        return ThreadLocalRandom.current().nextInt(FLEET);
+    }
+
+    @Benchmark
+    public void renewal() {
+        listener.onInstanceRenewal(renewals[next()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void renewalContended() {
+        listener.onInstanceRenewal(renewals[next()]);
+    }
+
+    @Benchmark
+    public void registration() {
+        listener.onInstanceRegistration(registrations[next()]);
+    }
+
+    @Benchmark
+    public void cancellation() {
+        listener.onInstanceCancellation(cancellations[next()]);
+    }
+}
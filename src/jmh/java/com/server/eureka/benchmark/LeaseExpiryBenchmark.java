@@ -0,0 +1,114 @@
+package com.server.eureka.benchmark;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.eureka.lease.Lease;
+import com.server.eureka.support.HierarchicalTimingWheel;
+import com.server.eureka.support.HierarchicalTimingWheel.Timeout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ lease 만료 방식 비교: 전체 스캔(EvictionTask) vs 타이밍 휠(LeaseExpiryWheel)
+ *
+ * 서버를 띄우지 않고 Eureka 레지스트리와 같은 모양(app → id → Lease)의 맵과 휠을 직접 만든다.
+ * - fullScan: evict() 한 번 - 모든 lease 의 isExpired 검사 (기본 60초마다, 감지 지연 최대 60초)
+ * - wheelInterval: 같은 60초 구간을 100ms tick 600번으로 진행 (감지 지연 최대 100ms)
+ *   매 호출 전 모든 lease 를 갱신해 둔다 (측정 제외) - 건강한 플릿에서 만료 없이 돌아가는 비용
+ * - leaseRenew / wheelRenew: 갱신 한 건당 추가 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LeaseExpiryBenchmark {
+
+    private static final long EVICTION_INTERVAL_MILLIS = 60_000L;
+    private static final long TICK_MILLIS = 100L;
+    private static final long LEASE_DURATION_MILLIS = 90_000L;
+
+    @Param({"10000", "50000", "100000"})
+    public int instances;
+
+    private final Map<String, Map<String, Lease<InstanceInfo>>> registry = new ConcurrentHashMap<>();
+    private final List<Lease<InstanceInfo>> leaseList = new ArrayList<>();
+    private final List<Timeout<Integer>> timeouts = new ArrayList<>();
+    private HierarchicalTimingWheel<Integer> wheel;
+    private long clock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clock = 0;
+        wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, clock);
+        for (int i = 0; i < instances; i++) {
+            InstanceInfo instance = BenchmarkFleet.instance(i);
+            Lease<InstanceInfo> lease = new Lease<>(instance, (int) TimeUnit.MILLISECONDS.toSeconds(LEASE_DURATION_MILLIS));
+            registry.computeIfAbsent(instance.getAppName(), app -> new ConcurrentHashMap<>()).put(instance.getId(), lease);
+            leaseList.add(lease);
+            // 갱신 시각을 고르게 흩어 놓는다 (실제 플릿처럼)
+            timeouts.add(wheel.schedule(i, clock + LEASE_DURATION_MILLIS - (i % 30_000)));
+        }
+        wheel.advance(clock, (timeout, now) -> -1);
+    }
+
+    /**
+     * 건강한 플릿: wheelInterval 호출 전마다 모든 lease 가 갱신됐다고 본다
+     */
+    @State(Scope.Benchmark)
+    public static class RenewedFleet {
+
+        @Setup(Level.Invocation)
+        public void renewAll(LeaseExpiryBenchmark fleet) {
+            for (int i = 0; i < fleet.timeouts.size(); i++) {
+                fleet.timeouts.get(i).extend(fleet.clock + LEASE_DURATION_MILLIS - (i % 30_000));
+            }
+        }
+    }
+
+    @Benchmark
+    public int fullScan() {
+        int expired = 0;
+        for (Map<String, Lease<InstanceInfo>> leases : registry.values()) {
+            for (Lease<InstanceInfo> lease : leases.values()) {
+                if (lease.isExpired(0L)) {
+                    expired++;
+                }
+            }
+        }
+        return expired;
+    }
+
+    @Benchmark
+    public int wheelInterval(RenewedFleet renewed) {
+        int fired = 0;
+        long end = clock + EVICTION_INTERVAL_MILLIS;
+        for (long now = clock + TICK_MILLIS; now <= end; now += TICK_MILLIS) {
+            fired += wheel.advance(now, (timeout, time) -> time + LEASE_DURATION_MILLIS);
+        }
+        clock = end;
+        return fired;
+    }
+
+    @Benchmark
+    public void leaseRenew() {
+        leaseList.get(ThreadLocalRandom.current().nextInt(leaseList.size())).renew();
+    }
+
+    @Benchmark
+    public void wheelRenew() {
+        Timeout<Integer> timeout = timeouts.get(ThreadLocalRandom.current().nextInt(timeouts.size()));
+        timeout.extend(timeout.deadline() + 1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.server.eureka.benchmark;
+
+import com.netflix.appinfo.EurekaAccept;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.Version;
+import com.netflix.eureka.registry.Key;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.registry.ResponseCacheImpl;
+import com.server.eureka.observability.AdvancedMetricsCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 레지스트리 핫패스 벤치마크
+ *
+ * 인프로세스로 서버를 띄우고 EurekaServerContext 의 PeerAwareInstanceRegistry 를 직접 호출한다.
+ * register/renew/cancel 은 Spring Cloud InstanceRegistry 를 거치므로 이벤트 발행과
+ * CustomEurekaEventListener 의 enqueue 비용까지 포함된다.
+ * *Contended 메서드는 8 스레드 동시 호출.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegistryBenchmark {
+
+    private static final Key FULL_JSON = new Key(Key.EntityType.Application, ResponseCacheImpl.ALL_APPS,
+            Key.KeyType.JSON, Version.V2, EurekaAccept.full);
+    private static final Key DELTA_JSON = new Key(Key.EntityType.Application, ResponseCacheImpl.ALL_APPS_DELTA,
+            Key.KeyType.JSON, Version.V2, EurekaAccept.full);
+
+    @Param({"1000", "10000", "50000"})
+    public int instances;
+
+    private ConfigurableApplicationContext context;
+    private PeerAwareInstanceRegistry registry;
+    private AdvancedMetricsCollector metricsCollector;
+    private InstanceInfo[] fleet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFleet.startServer(Map.of());
+        registry = BenchmarkFleet.registry(context);
+        metricsCollector = context.getBean(AdvancedMetricsCollector.class);
+
+        fleet = new InstanceInfo[instances];
+        for (int i = 0; i < instances; i++) {
+            fleet[i] = BenchmarkFleet.instance(i);
+            registry.register(fleet[i], false);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private InstanceInfo randomInstance() {
+        return fleet[ThreadLocalRandom.current().nextInt(fleet.length)];
+    }
+
+    @Benchmark
+    public void register() {
+        registry.register(randomInstance(), false);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void registerContended() {
+        registry.register(randomInstance(), false);
+    }
+
+    @Benchmark
+    public boolean renew() {
+        InstanceInfo instance = randomInstance();
+        return registry.renew(instance.getAppName(), instance.getId(), false);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean renewContended() {
+        InstanceInfo instance = randomInstance();
+        return registry.renew(instance.getAppName(), instance.getId(), false);
+    }
+
+    /**
+     * 해제 후 즉시 재등록 (레지스트리 크기 유지)
+     */
+    @Benchmark
+    public boolean cancelAndRegister() {
+        InstanceInfo instance = randomInstance();
+        boolean canceled = registry.cancel(instance.getAppName(), instance.getId(), false);
+        registry.register(instance, false);
+        return canceled;
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean cancelAndRegisterContended() {
+        return cancelAndRegister();
+    }
+
+    @Benchmark
+    public Applications getApplications() {
+        return registry.getApplications();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Applications getApplicationsContended() {
+        return registry.getApplications();
+    }
+
+    @Benchmark
+    public String fullFetch() {
+        return registry.getResponseCache().get(FULL_JSON);
+    }
+
+    @Benchmark
+    public String deltaFetch() {
+        return registry.getResponseCache().get(DELTA_JSON);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String deltaFetchContended() {
+        return registry.getResponseCache().get(DELTA_JSON);
+    }
+
+    @Benchmark
+    public void metricsGaugeReads(Blackhole blackhole) {
+        blackhole.consume(metricsCollector.getTotalInstances());
+        blackhole.consume(metricsCollector.getTotalApplications());
+        blackhole.consume(metricsCollector.getRegistrySizeBytes());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void metricsGaugeReadsContended(Blackhole blackhole) {
+        metricsGaugeReads(blackhole);
+    }
+}
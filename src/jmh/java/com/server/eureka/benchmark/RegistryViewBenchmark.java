@@ -0,0 +1,124 @@
+package com.server.eureka.benchmark;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.view.RegistryView;
+import com.server.eureka.view.RegistryView.AppView;
+import com.server.eureka.view.RegistryViewPublisher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 읽기 경로 비교: 라이브 레지스트리 순회 vs 불변 스냅샷(RegistryViewPublisher) 순회
+ *
+ * 같은 그룹 안에서 쓰기 스레드가 renew/register 를 계속 호출하는 동안 읽기 스레드가 전체 인스턴스를 훑는다.
+ * - live*: registry.getApplications() (호출마다 레지스트리 락 아래에서 Applications 를 새로 만든다)
+ * - view*: publisher.current() (volatile 읽기 한 번, 스냅샷 공유)
+ * 쓰기 처리량도 그룹별로 함께 보고되므로 읽기 방식이 쓰기 경로에 주는 영향도 비교할 수 있다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegistryViewBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int instances;
+
+    private ConfigurableApplicationContext context;
+    private PeerAwareInstanceRegistry registry;
+    private RegistryViewPublisher publisher;
+    private InstanceInfo[] fleet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkFleet.startServer(Map.of());
+        registry = BenchmarkFleet.registry(context);
+        publisher = context.getBean(RegistryViewPublisher.class);
+
+        fleet = new InstanceInfo[instances];
+        for (int i = 0; i < instances; i++) {
+            fleet[i] = BenchmarkFleet.instance(i);
+            registry.register(fleet[i], false);
+        }
+        // 첫 스냅샷에 전체 플릿이 반영될 때까지 대기
+        while (publisher.current().instanceCount() < instances) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void write() {
+        InstanceInfo instance = fleet[ThreadLocalRandom.current().nextInt(fleet.length)];
+        if (ThreadLocalRandom.current().nextInt(100) == 0) {
+            registry.register(instance, false);
+        } else {
+            registry.renew(instance.getAppName(), instance.getId(), false);
+        }
+    }
+
+    @Benchmark
+    @Group("live")
+    @GroupThreads(4)
+    public int liveRead() {
+        int up = 0;
+        for (Application application : registry.getApplications().getRegisteredApplications()) {
+            for (InstanceInfo info : application.getInstancesAsIsFromEureka()) {
+                if (info.getStatus() == InstanceInfo.InstanceStatus.UP) {
+                    up++;
+                }
+            }
+        }
+        return up;
+    }
+
+    @Benchmark
+    @Group("live")
+    @GroupThreads(4)
+    public void liveWrite() {
+        write();
+    }
+
+    @Benchmark
+    @Group("view")
+    @GroupThreads(4)
+    public int viewRead() {
+        int up = 0;
+        RegistryView view = publisher.current();
+        for (AppView application : view.applications()) {
+            for (InstanceInfo info : application.instances()) {
+                if (info.getStatus() == InstanceInfo.InstanceStatus.UP) {
+                    up++;
+                }
+            }
+        }
+        return up;
+    }
+
+    @Benchmark
+    @Group("view")
+    @GroupThreads(4)
+    public void viewWrite() {
+        write();
+    }
+}
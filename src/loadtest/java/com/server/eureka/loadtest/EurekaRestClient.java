@@ -0,0 +1,154 @@
+package com.server.eureka.loadtest;
+
+import com.server.eureka.loadtest.OperationStats.Operation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ✅ Eureka REST API 클라이언트 (가상 스레드에서 블로킹 호출)
+ *
+ * 동시 요청 수는 max-in-flight 세마포어로 제한한다 (수만 개 인스턴스가 동시에 깨어나도
+ * 로컬 포트/커넥션이 고갈되지 않도록). 지연시간은 세마포어 획득 이후부터 측정한다.
+ */
+final class EurekaRestClient {
+
+    static final int NOT_FOUND = 404;
+    private static final int NO_RESPONSE = -1;
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([-+0-9.eE]+|\"?NaN\"?)");
+
+    private final LoadTestConfig config;
+    private final HttpClient http;
+    private final Semaphore inFlight;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    EurekaRestClient(LoadTestConfig config) {
+        this.config = config;
+        // 요청 스레드는 가상 스레드, 응답 처리는 HttpClient 기본 executor (가상 스레드 executor 종료와 분리)
+        this.http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(config.requestTimeout())
+            .build();
+        this.inFlight = new Semaphore(config.maxInFlight());
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+    }
+
+    Map<Operation, OperationStats> getStats() {
+        return stats;
+    }
+
+    int getInFlight() {
+        return config.maxInFlight() - inFlight.availablePermits();
+    }
+
+    int register(SimulatedInstance instance) {
+        HttpRequest request = json(appUri(instance))
+            .POST(HttpRequest.BodyPublishers.ofString(instance.registrationBody()))
+            .header("Content-Type", "application/json")
+            .build();
+        return execute(Operation.REGISTER, request);
+    }
+
+    int renew(SimulatedInstance instance) {
+        URI uri = URI.create(instanceUri(instance) + "?status=UP&lastDirtyTimestamp=" + instance.getLastDirtyTimestamp());
+        return execute(Operation.RENEW, json(uri).PUT(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    int cancel(SimulatedInstance instance) {
+        return execute(Operation.CANCEL, json(URI.create(instanceUri(instance))).DELETE().build());
+    }
+
+    int fetchFull() {
+        return execute(Operation.FETCH_FULL, json(URI.create(config.eurekaUrl() + "/apps/")).GET().build());
+    }
+
+    int fetchDelta() {
+        return execute(Operation.FETCH_DELTA, json(URI.create(config.eurekaUrl() + "/apps/delta")).GET().build());
+    }
+
+    /**
+     * ✅ 서버 측 self-preservation 비율 (/actuator/metrics/eureka.server.self.preservation.ratio)
+     *
+     * 부하 측정값에 섞이지 않도록 세마포어와 통계를 거치지 않는다.
+     * @return 비율, 조회 실패 시 NaN
+     */
+    double fetchSelfPreservationRatio() {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create(config.actuatorUrl() + "/metrics/eureka.server.self.preservation.ratio"))
+            .timeout(config.requestTimeout())
+            .GET()
+            .build();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Double.NaN;
+            }
+            Matcher matcher = METRIC_VALUE.matcher(response.body());
+            return matcher.find() ? Double.parseDouble(matcher.group(1).replace("\"", "")) : Double.NaN;
+        } catch (IOException | NumberFormatException e) {
+            return Double.NaN;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Double.NaN;
+        }
+    }
+
+    private int execute(Operation operation, HttpRequest request) {
+        OperationStats operationStats = stats.get(operation);
+        inFlight.acquireUninterruptibly();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            long bytes;
+            try (InputStream body = response.body()) {
+                bytes = body.transferTo(OutputStream.nullOutputStream());
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                operationStats.recordSuccess(micros, bytes);
+            } else if (status == NOT_FOUND && operation == Operation.RENEW) {
+                operationStats.recordNotFound(micros);
+            } else {
+                operationStats.recordError(micros);
+            }
+            return status;
+        } catch (IOException e) {
+            operationStats.recordError(NO_RESPONSE);
+            return NO_RESPONSE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return NO_RESPONSE;
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(config.requestTimeout())
+            .header("Accept", "application/json")
+            .header("Accept-Encoding", "gzip");
+    }
+
+    private URI appUri(SimulatedInstance instance) {
+        return URI.create(config.eurekaUrl() + "/apps/" + instance.getAppName());
+    }
+
+    private String instanceUri(SimulatedInstance instance) {
+        return config.eurekaUrl() + "/apps/" + instance.getAppName() + "/" + instance.getInstanceId();
+    }
+}
@@ -0,0 +1,257 @@
+package com.server.eureka.loadtest;
+
+import com.server.eureka.loadtest.OperationStats.Operation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 합성 클라이언트 플릿 부하 생성기
+ *
+ * 인스턴스마다 가상 스레드 하나를 띄워 등록/갱신/delta 조회를 REST API 로 수행하고,
+ * report-interval 마다 연산별 지연시간 백분위·오류율과 서버의 self-preservation 비율을
+ * 콘솔과 CSV(report-file)에 남긴다. 종료 시 누적 요약을 출력한다.
+ *
+ * 실행: 서버를 local 프로파일로 띄운 뒤 ./gradlew :server-eureka:loadTest -Dloadtest.instances=20000
+ */
+public final class LoadGenerator {
+
+    private static final double[] QUANTILES = {0.50, 0.90, 0.99};
+    private static final int METADATA_VALUE_LENGTH = 32;
+
+    private final LoadTestConfig config;
+    private final EurekaRestClient client;
+    private final List<SimulatedInstance> instances;
+    private final String metadataFragment;
+    private final AtomicInteger registeredInstances = new AtomicInteger();
+    private final LongAdder reregistrations = new LongAdder();
+    private final AtomicBoolean summaryPrinted = new AtomicBoolean();
+    private final long startedAt = System.nanoTime();
+    private volatile boolean running = true;
+    private volatile double lastSelfPreservationRatio = Double.NaN;
+
+    private LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.client = new EurekaRestClient(config);
+        this.metadataFragment = buildMetadataFragment(config.metadataBytes());
+        this.instances = new ArrayList<>(config.instances());
+        for (int i = 0; i < config.instances(); i++) {
+            instances.add(new SimulatedInstance(i, config, client, this));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.out.println("🚀 [LOADTEST] " + config);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                     Thread.ofPlatform().name("loadtest-reporter").daemon().factory());
+             BufferedWriter report = openReport(config.reportFile())) {
+
+            LoadGenerator generator = new LoadGenerator(config);
+            // Ctrl+C 로 중단해도 누적 요약은 남긴다
+            Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(() -> {
+                generator.stop();
+                generator.printSummary();
+            }));
+
+            generator.instances.forEach(executor::submit);
+
+            long reportMillis = config.reportInterval().toMillis();
+            scheduler.scheduleAtFixedRate(() -> generator.report(report), reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+            if (config.stormsEnabled()) {
+                long stormMillis = config.stormInterval().toMillis();
+                scheduler.scheduleAtFixedRate(generator::restartStorm, stormMillis, stormMillis, TimeUnit.MILLISECONDS);
+            }
+
+            TimeUnit.MILLISECONDS.sleep(config.duration().toMillis());
+            generator.stop();
+            scheduler.shutdownNow();
+            executor.shutdown();
+            executor.awaitTermination(config.requestTimeout().toMillis() * 2 + 10_000, TimeUnit.MILLISECONDS);
+            generator.printSummary();
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    String metadataFragment() {
+        return metadataFragment;
+    }
+
+    void onInstanceUp() {
+        registeredInstances.incrementAndGet();
+    }
+
+    void onInstanceDown() {
+        registeredInstances.decrementAndGet();
+    }
+
+    void onReregistered() {
+        reregistrations.increment();
+    }
+
+    private void stop() {
+        if (running) {
+            running = false;
+            instances.forEach(SimulatedInstance::wakeUp);
+        }
+    }
+
+    /**
+     * ✅ restart storm: 무작위 애플리케이션들을 골라 storm-fraction 만큼의 인스턴스를 동시에 재시작
+     * (배포/노드 장애로 한 애플리케이션의 인스턴스가 한꺼번에 내려갔다 올라오는 상황)
+     */
+    private void restartStorm() {
+        List<Integer> apps = new ArrayList<>(config.applications());
+        for (int i = 0; i < config.applications(); i++) {
+            apps.add(i);
+        }
+        Collections.shuffle(apps);
+
+        int targetInstances = (int) Math.ceil(config.instances() * config.stormFraction());
+        int restarted = 0;
+        int stormApps = 0;
+        for (int app : apps) {
+            if (restarted >= targetInstances) {
+                break;
+            }
+            for (int i = app; i < instances.size(); i += config.applications()) {
+                instances.get(i).requestRestart();
+                restarted++;
+            }
+            stormApps++;
+        }
+        System.out.printf(Locale.ROOT, "🌪️  [LOADTEST] restart storm: %d instances across %d applications (downtime ~%ds)%n",
+                restarted, stormApps, config.stormDowntime().toSeconds());
+    }
+
+    private void report(BufferedWriter report) {
+        try {
+            lastSelfPreservationRatio = client.fetchSelfPreservationRatio();
+            long elapsedSeconds = elapsedSeconds();
+            double intervalSeconds = config.reportInterval().toMillis() / 1000.0;
+
+            System.out.printf(Locale.ROOT,
+                    "📊 [LOADTEST] t=%ds registered=%d/%d in-flight=%d re-registrations=%d self-preservation-ratio=%s%n",
+                    elapsedSeconds, registeredInstances.get(), config.instances(), client.getInFlight(),
+                    reregistrations.sum(), formatRatio(lastSelfPreservationRatio));
+            System.out.println(header());
+
+            for (OperationStats stats : client.getStats().values()) {
+                OperationStats.Summary summary = stats.intervalSummary();
+                if (summary.requests() == 0) {
+                    continue;
+                }
+                System.out.println(row(stats.getOperation(), summary, intervalSeconds));
+                report.write(csvRow(elapsedSeconds, stats.getOperation(), summary, intervalSeconds));
+                report.newLine();
+            }
+            report.flush();
+        } catch (IOException e) {
+            System.err.println("❌ [LOADTEST] failed to write report: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // 리포트 실패로 스케줄이 취소되지 않도록 삼킨다
+            System.err.println("❌ [LOADTEST] report failed: " + e);
+        }
+    }
+
+    private void printSummary() {
+        if (!summaryPrinted.compareAndSet(false, true)) {
+            return;
+        }
+        double elapsed = Math.max(1.0, (System.nanoTime() - startedAt) / 1e9);
+        System.out.printf(Locale.ROOT, "%n🏁 [LOADTEST] finished after %ds - %d instances, %d applications, metadata %dB%n",
+                (long) elapsed, config.instances(), config.applications(), config.metadataBytes());
+        System.out.println(header());
+        for (OperationStats stats : client.getStats().values()) {
+            System.out.println(row(stats.getOperation(), stats.totalSummary(), elapsed));
+        }
+        System.out.printf(Locale.ROOT, "re-registrations (renew 404)=%d last self-preservation-ratio=%s%n",
+                client.getStats().get(Operation.RENEW).getNotFound(), formatRatio(lastSelfPreservationRatio));
+    }
+
+    private static String header() {
+        return String.format(Locale.ROOT, "  %-12s %10s %9s %9s %9s %9s %9s %8s %8s %10s",
+                "operation", "requests", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "errors", "err%", "KiB/s");
+    }
+
+    private static String row(Operation operation, OperationStats.Summary summary, double seconds) {
+        LatencyHistogram.Snapshot latency = summary.latency();
+        return String.format(Locale.ROOT, "  %-12s %10d %9.1f %9.2f %9.2f %9.2f %9.2f %8d %7.2f%% %10.1f",
+                operation, summary.requests(), summary.requests() / seconds,
+                millis(latency.percentileMicros(QUANTILES[0])),
+                millis(latency.percentileMicros(QUANTILES[1])),
+                millis(latency.percentileMicros(QUANTILES[2])),
+                millis(latency.maxMicros()),
+                summary.errors(), summary.errorRate() * 100, summary.bytes() / 1024.0 / seconds);
+    }
+
+    private String csvRow(long elapsedSeconds, Operation operation, OperationStats.Summary summary, double seconds) {
+        LatencyHistogram.Snapshot latency = summary.latency();
+        return String.format(Locale.ROOT, "%d,%s,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%d,%.5f,%d,%d,%s",
+                elapsedSeconds, operation, summary.requests(), summary.requests() / seconds,
+                millis(latency.percentileMicros(QUANTILES[0])),
+                millis(latency.percentileMicros(QUANTILES[1])),
+                millis(latency.percentileMicros(QUANTILES[2])),
+                millis(latency.maxMicros()),
+                summary.errors(), summary.errorRate(), summary.bytes(),
+                registeredInstances.get(), Double.isNaN(lastSelfPreservationRatio) ? "" : lastSelfPreservationRatio);
+    }
+
+    private static BufferedWriter openReport(String reportFile) throws IOException {
+        Path path = Path.of(reportFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        BufferedWriter writer = Files.newBufferedWriter(path);
+        writer.write("elapsed_s,operation,requests,rps,p50_ms,p90_ms,p99_ms,max_ms,errors,error_rate,bytes,"
+                + "registered_instances,self_preservation_ratio");
+        writer.newLine();
+        return writer;
+    }
+
+    /**
+     * ✅ metadata-bytes 만큼의 메타데이터 항목 (32자 값 단위로 meta-N 키에 나눠 담음)
+     */
+    private static String buildMetadataFragment(int metadataBytes) {
+        StringBuilder fragment = new StringBuilder();
+        String value = "x".repeat(METADATA_VALUE_LENGTH);
+        int remaining = metadataBytes;
+        for (int key = 0; remaining > 0; key++) {
+            int length = Math.min(METADATA_VALUE_LENGTH, remaining);
+            fragment.append(",\"meta-").append(key).append("\":\"").append(value, 0, length).append('"');
+            remaining -= length;
+        }
+        return fragment.toString();
+    }
+
+    private long elapsedSeconds() {
+        return Duration.ofNanos(System.nanoTime() - startedAt).toSeconds();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String formatRatio(double ratio) {
+        return Double.isNaN(ratio) ? "n/a" : String.format(Locale.ROOT, "%.3f", ratio);
+    }
+}
@@ -0,0 +1,110 @@
+package com.server.eureka.loadtest;
+
+import java.time.Duration;
+
+/**
+ * ✅ 부하 생성기 설정 (-Dloadtest.* 시스템 프로퍼티)
+ *
+ * 기본값은 application-local.yml 로 띄운 서버(포트 20210)와 30초 갱신 주기의 일반 클라이언트를 가정한다.
+ * storm-interval-secs 가 0 이면 재시작 storm 을 만들지 않는다.
+ */
+record LoadTestConfig(
+    String baseUrl,
+    int instances,
+    int applications,
+    int metadataBytes,
+    Duration renewInterval,
+    Duration leaseDuration,
+    Duration fetchInterval,
+    double fetchingFraction,
+    double jitter,
+    Duration rampUp,
+    Duration duration,
+    Duration reportInterval,
+    Duration stormInterval,
+    double stormFraction,
+    Duration stormDowntime,
+    int maxInFlight,
+    Duration requestTimeout,
+    boolean cancelOnExit,
+    String reportFile
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            string("url", "http://localhost:20210"),
+            integer("instances", 10_000),
+            integer("applications", 100),
+            integer("metadata-bytes", 256),
+            seconds("renew-interval-secs", 30),
+            seconds("lease-duration-secs", 90),
+            seconds("fetch-interval-secs", 30),
+            decimal("fetching-fraction", 1.0),
+            decimal("jitter", 0.1),
+            seconds("ramp-up-secs", 60),
+            seconds("duration-secs", 600),
+            seconds("report-interval-secs", 10),
+            seconds("storm-interval-secs", 0),
+            decimal("storm-fraction", 0.2),
+            seconds("storm-downtime-secs", 15),
+            integer("max-in-flight", 512),
+            Duration.ofMillis(integer("request-timeout-ms", 5_000)),
+            Boolean.parseBoolean(string("cancel-on-exit", "true")),
+            string("report-file", "build/reports/loadtest/loadtest.csv")
+        ).validate();
+    }
+
+    String eurekaUrl() {
+        return baseUrl + "/eureka";
+    }
+
+    String actuatorUrl() {
+        return baseUrl + "/actuator";
+    }
+
+    boolean stormsEnabled() {
+        return !stormInterval.isZero() && stormFraction > 0;
+    }
+
+    /**
+     * ✅ 주기에 ±jitter 비율만큼 무작위 흔들림을 준 나노초 값
+     */
+    long jittered(Duration interval, double random) {
+        double factor = 1.0 + jitter * (2.0 * random - 1.0);
+        return Math.max(1L, (long) (interval.toNanos() * factor));
+    }
+
+    private LoadTestConfig validate() {
+        if (instances <= 0 || applications <= 0) {
+            throw new IllegalArgumentException("loadtest.instances and loadtest.applications must be positive");
+        }
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("loadtest.jitter must be within [0, 1)");
+        }
+        if (fetchingFraction < 0 || fetchingFraction > 1 || stormFraction < 0 || stormFraction > 1) {
+            throw new IllegalArgumentException("loadtest.fetching-fraction and loadtest.storm-fraction must be within [0, 1]");
+        }
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("loadtest.max-in-flight must be positive");
+        }
+        return this;
+    }
+
+    private static String string(String key, String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private static int integer(String key, int defaultValue) {
+        return Integer.parseInt(string(key, Integer.toString(defaultValue)));
+    }
+
+    private static double decimal(String key, double defaultValue) {
+        return Double.parseDouble(string(key, Double.toString(defaultValue)));
+    }
+
+    private static Duration seconds(String key, int defaultValue) {
+        return Duration.ofSeconds(integer(key, defaultValue));
+    }
+}
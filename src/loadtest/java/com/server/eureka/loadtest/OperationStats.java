@@ -0,0 +1,90 @@
+package com.server.eureka.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 연산 하나(register/renew/fetch/cancel)의 지연시간·오류 집계
+ *
+ * 누적 값과 리포트 구간 값을 따로 둬서 구간 리포트가 누적 요약을 지우지 않게 한다.
+ */
+final class OperationStats {
+
+    enum Operation {
+        REGISTER, RENEW, FETCH_FULL, FETCH_DELTA, CANCEL
+    }
+
+    private final Operation operation;
+    private final LatencyHistogram total = new LatencyHistogram();
+    private final LatencyHistogram interval = new LatencyHistogram();
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder intervalRequests = new LongAdder();
+    private final LongAdder totalErrors = new LongAdder();
+    private final LongAdder intervalErrors = new LongAdder();
+    private final LongAdder totalBytes = new LongAdder();
+    private final LongAdder intervalBytes = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    Operation getOperation() {
+        return operation;
+    }
+
+    void recordSuccess(long micros, long bytes) {
+        countRequest();
+        total.record(micros);
+        interval.record(micros);
+        totalBytes.add(bytes);
+        intervalBytes.add(bytes);
+    }
+
+    /**
+     * ✅ 응답이 없거나(타임아웃/IO) 2xx 가 아닌 응답
+     */
+    void recordError(long micros) {
+        countRequest();
+        if (micros >= 0) {
+            total.record(micros);
+            interval.record(micros);
+        }
+        totalErrors.increment();
+        intervalErrors.increment();
+    }
+
+    /**
+     * ✅ renew 404: 서버가 인스턴스를 모름 (eviction 또는 재시작 후) → 클라이언트가 재등록
+     */
+    void recordNotFound(long micros) {
+        countRequest();
+        total.record(micros);
+        interval.record(micros);
+        notFound.increment();
+    }
+
+    private void countRequest() {
+        totalRequests.increment();
+        intervalRequests.increment();
+    }
+
+    Summary intervalSummary() {
+        return new Summary(interval.snapshotAndReset(), intervalRequests.sumThenReset(),
+                intervalErrors.sumThenReset(), intervalBytes.sumThenReset());
+    }
+
+    Summary totalSummary() {
+        return new Summary(total.snapshot(), totalRequests.sum(), totalErrors.sum(), totalBytes.sum());
+    }
+
+    long getNotFound() {
+        return notFound.sum();
+    }
+
+    record Summary(LatencyHistogram.Snapshot latency, long requests, long errors, long bytes) {
+
+        double errorRate() {
+            return requests == 0 ? 0.0 : (double) errors / requests;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.server.eureka.loadtest;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 가상 클라이언트 인스턴스 하나 (가상 스레드 하나가 수명 전체를 담당)
+ *
+ * 실제 Eureka 클라이언트처럼 등록 → (fetch 클라이언트면) 전체 조회 후
+ * renew-interval 마다 renew, fetch-interval 마다 delta 조회를 반복한다.
+ * renew 가 404 를 받으면 재등록하고, restart storm 이 요청되면 해제 → downtime 대기 → 재등록한다.
+ */
+final class SimulatedInstance implements Runnable {
+
+    private final int index;
+    private final String appName;
+    private final String instanceId;
+    private final String hostName;
+    private final String ipAddress;
+    private final boolean fetching;
+    private final LoadTestConfig config;
+    private final EurekaRestClient client;
+    private final LoadGenerator generator;
+
+    private volatile Thread thread;
+    private volatile boolean restartRequested;
+    private volatile long lastDirtyTimestamp;
+    private boolean registered;
+
+    SimulatedInstance(int index, LoadTestConfig config, EurekaRestClient client, LoadGenerator generator) {
+        int app = index % config.applications();
+        this.index = index;
+        this.appName = "LOADTEST-APP-" + app;
+        this.hostName = "loadtest-host-" + index;
+        this.instanceId = hostName + ":" + appName.toLowerCase(Locale.ROOT) + ":8080";
+        this.ipAddress = "10." + ((index >> 16) & 0xff) + "." + ((index >> 8) & 0xff) + "." + (index & 0xff);
+        this.fetching = ThreadLocalRandom.current().nextDouble() < config.fetchingFraction();
+        this.config = config;
+        this.client = client;
+        this.generator = generator;
+    }
+
+    String getAppName() {
+        return appName;
+    }
+
+    String getInstanceId() {
+        return instanceId;
+    }
+
+    long getLastDirtyTimestamp() {
+        return lastDirtyTimestamp;
+    }
+
+    /**
+     * ✅ restart storm: 다음 깨어날 때 해제/재등록을 수행하도록 표시하고 즉시 깨운다
+     */
+    void requestRestart() {
+        restartRequested = true;
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    void wakeUp() {
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // ramp-up 구간에 등록 시점을 고르게 분산
+        sleepNanos((long) (config.rampUp().toNanos() * random.nextDouble()));
+        if (!generator.isRunning()) {
+            return;
+        }
+        start();
+
+        long nextRenew = System.nanoTime() + config.jittered(config.renewInterval(), random.nextDouble());
+        long nextFetch = System.nanoTime() + config.jittered(config.fetchInterval(), random.nextDouble());
+
+        while (generator.isRunning()) {
+            if (restartRequested) {
+                restart();
+                nextRenew = System.nanoTime() + config.jittered(config.renewInterval(), random.nextDouble());
+                nextFetch = System.nanoTime() + config.jittered(config.fetchInterval(), random.nextDouble());
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (now - nextRenew >= 0) {
+                renew();
+                nextRenew += config.jittered(config.renewInterval(), random.nextDouble());
+            }
+            if (fetching && now - nextFetch >= 0) {
+                client.fetchDelta();
+                nextFetch += config.jittered(config.fetchInterval(), random.nextDouble());
+            }
+
+            long wakeAt = fetching && nextFetch - nextRenew < 0 ? nextFetch : nextRenew;
+            sleepNanos(wakeAt - System.nanoTime());
+        }
+
+        if (config.cancelOnExit() && registered) {
+            cancel();
+        }
+    }
+
+    private void start() {
+        register();
+        if (fetching) {
+            client.fetchFull();
+        }
+    }
+
+    private void renew() {
+        int status = client.renew(this);
+        if (status == EurekaRestClient.NOT_FOUND) {
+            generator.onReregistered();
+            register();
+        }
+    }
+
+    private void restart() {
+        restartRequested = false;
+        if (registered) {
+            cancel();
+        }
+        long downtime = config.jittered(config.stormDowntime(), ThreadLocalRandom.current().nextDouble());
+        sleepNanos(downtime);
+        if (generator.isRunning()) {
+            start();
+        }
+    }
+
+    private void register() {
+        lastDirtyTimestamp = System.currentTimeMillis();
+        boolean wasRegistered = registered;
+        int status = client.register(this);
+        registered = status >= 200 && status < 300;
+        if (registered && !wasRegistered) {
+            generator.onInstanceUp();
+        } else if (!registered && wasRegistered) {
+            generator.onInstanceDown();
+        }
+    }
+
+    private void cancel() {
+        client.cancel(this);
+        registered = false;
+        generator.onInstanceDown();
+    }
+
+    /**
+     * ✅ 가상 스레드는 park 중 캐리어 스레드를 점유하지 않는다
+     * requestRestart()/종료 시 unpark 로 조기에 깨어날 수 있다.
+     */
+    private void sleepNanos(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0 && generator.isRunning() && !restartRequested) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    /**
+     * ✅ POST /eureka/apps/{app} 본문 (Eureka JSON 코덱 형식)
+     */
+    String registrationBody() {
+        String vip = appName.toLowerCase(Locale.ROOT);
+        String timestamp = Long.toString(lastDirtyTimestamp);
+        return "{\"instance\":{"
+            + "\"instanceId\":\"" + instanceId + "\","
+            + "\"hostName\":\"" + hostName + "\","
+            + "\"app\":\"" + appName + "\","
+            + "\"ipAddr\":\"" + ipAddress + "\","
+            + "\"status\":\"UP\","
+            + "\"overriddenStatus\":\"UNKNOWN\","
+            + "\"port\":{\"$\":8080,\"@enabled\":\"true\"},"
+            + "\"securePort\":{\"$\":443,\"@enabled\":\"false\"},"
+            + "\"countryId\":1,"
+            + "\"dataCenterInfo\":{\"@class\":\"com.netflix.appinfo.InstanceInfo$DefaultDataCenterInfo\",\"name\":\"MyOwn\"},"
+            + "\"leaseInfo\":{\"renewalIntervalInSecs\":" + config.renewInterval().toSeconds()
+            + ",\"durationInSecs\":" + config.leaseDuration().toSeconds() + "},"
+            + "\"metadata\":{\"zone\":\"zone-" + (index % 3) + "\"" + generator.metadataFragment() + "},"
+            + "\"homePageUrl\":\"http://" + hostName + ":8080/\","
+            + "\"statusPageUrl\":\"http://" + hostName + ":8080/actuator/info\","
+            + "\"healthCheckUrl\":\"http://" + hostName + ":8080/actuator/health\","
+            + "\"vipAddress\":\"" + vip + "\","
+            + "\"secureVipAddress\":\"" + vip + "\","
+            + "\"isCoordinatingDiscoveryServer\":\"false\","
+            + "\"lastUpdatedTimestamp\":\"" + timestamp + "\","
+            + "\"lastDirtyTimestamp\":\"" + timestamp + "\""
+            + "}}";
+    }
+}
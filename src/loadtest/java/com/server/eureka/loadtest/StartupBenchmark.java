@@ -0,0 +1,182 @@
+package com.server.eureka.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 기동 시간 벤치마크: 일반 실행(java -jar) vs fast-start(CDS 아카이브, launch.sh prepare 산출물)
+ *
+ * 모드를 번갈아 runs 번씩 새 프로세스로 띄우고, 프로세스 시작부터
+ * - 첫 GET /eureka/apps 200 응답
+ * - GET /actuator/health 가 200 + "UP"
+ * 까지의 시간을 잰다. 매 실행마다 빈 포트를 새로 잡고, 측정이 끝나면 프로세스를 종료한다.
+ * 실행별 결과는 CSV(report-file), 서버 로그는 log-dir 에 남기고 모드별 min/median/max 를 출력한다.
+ *
+ * 실행: ./gradlew :server-eureka:startupBenchmark -Dstartup.jar=... -Dstartup.fast-start-dir=...
+ */
+public final class StartupBenchmark {
+
+    private static final String NORMAL = "normal";
+    private static final String FAST_START = "fast-start";
+
+    private final StartupBenchmarkConfig config;
+    private final HttpClient http = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(500))
+        .build();
+
+    private StartupBenchmark(StartupBenchmarkConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmark(StartupBenchmarkConfig.fromSystemProperties()).run();
+    }
+
+    private record Sample(String mode, int run, long appsMillis, long healthMillis) {
+    }
+
+    private void run() throws IOException, InterruptedException {
+        List<String> modes = config.fastStartEnabled() ? List.of(NORMAL, FAST_START) : List.of(NORMAL);
+        Map<String, List<Sample>> samples = new LinkedHashMap<>();
+        Path logDir = Path.of(config.logDir());
+        Files.createDirectories(logDir);
+
+        for (int run = 1; run <= config.runs(); run++) {
+            // 모드를 번갈아 실행해 페이지 캐시/열 상태 같은 환경 변화가 한쪽에만 몰리지 않게 한다
+            for (String mode : modes) {
+                Sample sample = measure(mode, run, logDir.resolve(mode + "-" + run + ".log"));
+                samples.computeIfAbsent(mode, m -> new ArrayList<>()).add(sample);
+                System.out.printf(Locale.ROOT, "%-10s run %d: /eureka/apps %6d ms, health UP %6d ms%n",
+                        mode, run, sample.appsMillis(), sample.healthMillis());
+            }
+        }
+        writeReport(samples);
+        printSummary(samples);
+    }
+
+    private Sample measure(String mode, int run, Path log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = command(mode, port);
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile())
+            .start();
+        try {
+            String base = "http://127.0.0.1:" + port;
+            HttpRequest apps = HttpRequest.newBuilder(URI.create(base + "/eureka/apps"))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(2))
+                .build();
+            HttpRequest health = HttpRequest.newBuilder(URI.create(base + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+
+            long appsAt = -1;
+            long healthAt = -1;
+            long deadline = start + config.timeout().toNanos();
+            while (appsAt < 0 || healthAt < 0) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " run " + run + " exited with " + process.exitValue() + " - see " + log);
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException(mode + " run " + run + " not ready within " + config.timeout() + " - see " + log);
+                }
+                if (appsAt < 0 && succeeded(apps, null)) {
+                    appsAt = System.nanoTime();
+                }
+                if (healthAt < 0 && succeeded(health, "\"UP\"")) {
+                    healthAt = System.nanoTime();
+                }
+                Thread.sleep(config.pollInterval().toMillis());
+            }
+            return new Sample(mode, run, TimeUnit.NANOSECONDS.toMillis(appsAt - start),
+                    TimeUnit.NANOSECONDS.toMillis(healthAt - start));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(String mode, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(config.java());
+        command.add("-Dspring.profiles.active=" + config.profile());
+        if (!config.jvmArgs().isBlank()) {
+            command.addAll(Arrays.asList(config.jvmArgs().trim().split("\\s+")));
+        }
+        if (FAST_START.equals(mode)) {
+            command.add("@" + config.launchArgs());
+        } else {
+            command.add("-jar");
+            command.add(config.jar().toAbsolutePath().toString());
+        }
+        command.add("--server.port=" + port);
+        return command;
+    }
+
+    private boolean succeeded(HttpRequest request, String bodyMarker) throws InterruptedException {
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 && (bodyMarker == null || response.body().contains(bodyMarker));
+        } catch (IOException e) {
+            // 아직 포트가 열리지 않음
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private void writeReport(Map<String, List<Sample>> samples) throws IOException {
+        Path report = Path.of(config.reportFile());
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(report)) {
+            writer.write("mode,run,first_apps_ms,health_up_ms");
+            writer.newLine();
+            for (List<Sample> modeSamples : samples.values()) {
+                for (Sample sample : modeSamples) {
+                    writer.write(sample.mode() + "," + sample.run() + "," + sample.appsMillis() + "," + sample.healthMillis());
+                    writer.newLine();
+                }
+            }
+        }
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    private static void printSummary(Map<String, List<Sample>> samples) {
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-10s %-28s %-28s%n", "mode", "/eureka/apps min/med/max ms", "health UP min/med/max ms");
+        for (Map.Entry<String, List<Sample>> entry : samples.entrySet()) {
+            long[] apps = entry.getValue().stream().mapToLong(Sample::appsMillis).sorted().toArray();
+            long[] health = entry.getValue().stream().mapToLong(Sample::healthMillis).sorted().toArray();
+            System.out.printf(Locale.ROOT, "%-10s %-28s %-28s%n", entry.getKey(), summary(apps), summary(health));
+        }
+    }
+
+    private static String summary(long[] sorted) {
+        return sorted[0] + " / " + sorted[sorted.length / 2] + " / " + sorted[sorted.length - 1];
+    }
+}
@@ -0,0 +1,67 @@
+package com.server.eureka.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * ✅ 기동 시간 벤치마크 설정 (-Dstartup.* 시스템 프로퍼티)
+ *
+ * jar 는 필수, fast-start-dir 이 비어 있으면 일반 실행만 잰다.
+ */
+record StartupBenchmarkConfig(
+    Path jar,
+    Path fastStartDir,
+    String java,
+    String profile,
+    String jvmArgs,
+    int runs,
+    Duration timeout,
+    Duration pollInterval,
+    String reportFile,
+    String logDir
+) {
+
+    private static final String PREFIX = "startup.";
+
+    static StartupBenchmarkConfig fromSystemProperties() {
+        String fastStartDir = string("fast-start-dir", "");
+        return new StartupBenchmarkConfig(
+            Path.of(string("jar", "")),
+            fastStartDir.isEmpty() ? null : Path.of(fastStartDir),
+            string("java", Path.of(System.getProperty("java.home"), "bin", "java").toString()),
+            string("profile", "local"),
+            string("jvm-args", ""),
+            Integer.parseInt(string("runs", "5")),
+            Duration.ofSeconds(Integer.parseInt(string("timeout-secs", "180"))),
+            Duration.ofMillis(Integer.parseInt(string("poll-interval-ms", "20"))),
+            string("report-file", "build/reports/startup/startup.csv"),
+            string("log-dir", "build/reports/startup/logs")
+        ).validate();
+    }
+
+    boolean fastStartEnabled() {
+        return fastStartDir != null;
+    }
+
+    Path launchArgs() {
+        return fastStartDir.resolve("launch.args").toAbsolutePath();
+    }
+
+    private StartupBenchmarkConfig validate() {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("startup.jar must point to the server boot jar: " + jar);
+        }
+        if (fastStartEnabled() && !Files.isRegularFile(launchArgs())) {
+            throw new IllegalArgumentException("startup.fast-start-dir has no launch.args - run launch.sh prepare first");
+        }
+        if (runs <= 0) {
+            throw new IllegalArgumentException("startup.runs must be positive");
+        }
+        return this;
+    }
+
+    private static String string(String key, String defaultValue) {
+        return System.getProperty(PREFIX + key, defaultValue);
+    }
+}
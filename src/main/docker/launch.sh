@@ -0,0 +1,65 @@
+#!/bin/sh
+# ✅ Eureka 서버 실행 스크립트 (일반 / fast-start)
+#
+#   launch.sh prepare <app.jar> <dir>   fat jar 를 풀고 학습 실행으로 CDS 아카이브(app.jsa)와 launch.args 를 만든다
+#   launch.sh run [args...]             <dir>/launch.args 가 있으면 fast-start, 없으면 java -jar 로 실행
+#
+# fast-start: CDS 는 디렉터리의 클래스를 아카이브하지 못하므로 BOOT-INF/classes 를 application.jar 로 묶고,
+# classpath.idx 순서 그대로 평범한 classpath 로 실행한다 (아카이브와 실행 시 classpath 가 같아야 함).
+# 학습 실행은 spring.context.exit=onRefresh 로 컨텍스트 refresh 직후 종료하며, 설정 서버가 필요 없는 local 프로파일을 쓴다.
+# 이미지에 Spring AOT 산출물이 있으면(-PspringAot=true 로 빌드) FAST_START_AOT=true 로 spring.aot.enabled 를 켠다.
+# 실행 시 JVM 옵션(GC 등)이 학습 때와 달라 아카이브를 못 쓰면 JVM 은 경고 후 CDS 없이 그대로 뜬다.
+set -eu
+
+APP_DIR="${APP_DIR:-/app}"
+FAST_DIR="${FAST_START_DIR:-$APP_DIR/fast-start}"
+
+prepare() {
+  jar_path="$(cd "$(dirname "$1")" && pwd)/$(basename "$1")"
+  rm -rf "$2"
+  mkdir -p "$2/exploded"
+  out="$(cd "$2" && pwd)"
+  (cd "$out/exploded" && jar xf "$jar_path")
+
+  jar cf "$out/application.jar" -C "$out/exploded/BOOT-INF/classes" .
+  main_class=$(sed -n 's/^Start-Class: *//p' "$out/exploded/META-INF/MANIFEST.MF" | tr -d '\r')
+  classpath="$out/application.jar"
+  for lib in $(sed -n 's/^- "\(.*\)"$/\1/p' "$out/exploded/BOOT-INF/classpath.idx"); do
+    classpath="$classpath:$out/exploded/$lib"
+  done
+
+  aot_flag=""
+  if [ "${FAST_START_AOT:-false}" = "true" ]; then
+    aot_flag="-Dspring.aot.enabled=true"
+  fi
+
+  java -XX:ArchiveClassesAtExit="$out/app.jsa" -Dspring.context.exit=onRefresh \
+    -Dspring.profiles.active=local $aot_flag -cp "$classpath" "$main_class"
+
+  {
+    echo "-XX:SharedArchiveFile=$out/app.jsa"
+    if [ -n "$aot_flag" ]; then
+      echo "$aot_flag"
+    fi
+    echo "-cp"
+    echo "$classpath"
+    echo "$main_class"
+  } > "$out/launch.args"
+  echo "fast-start prepared: $(du -h "$out/app.jsa" | cut -f1) CDS archive, main class $main_class"
+}
+
+run() {
+  profile="-Dspring.profiles.active=${USE_PROFILE:-local}"
+  if [ -f "$FAST_DIR/launch.args" ]; then
+    exec java $profile ${JAVA_OPTS:-} "@$FAST_DIR/launch.args" "$@"
+  fi
+  exec java $profile ${JAVA_OPTS:-} -jar "$APP_DIR/app.jar" "$@"
+}
+
+command="${1:-run}"
+[ $# -gt 0 ] && shift
+case "$command" in
+  prepare) prepare "$@" ;;
+  run) run "$@" ;;
+  *) echo "usage: launch.sh prepare <app.jar> <dir> | run [args...]" >&2; exit 2 ;;
+esac
@@ -0,0 +1,249 @@
+package com.server.eureka.admission;
+
+import com.server.eureka.support.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ Eureka REST 요청 승인 제어 (클러스터 동시 재시작 같은 등록/조회 폭주 대비)
+ *
+ * 요청을 lane 으로 나눠 lane 마다 다른 규칙을 적용한다.
+ * - RENEW: 전역 버킷 하나만 (가장 넉넉하게, 대기열 없음) - 하트비트가 다른 요청 뒤에 줄 서지 않는다
+ * - REGISTER: 앱별 버킷 + 요청 출처(IP)별 버킷
+ * - FULL_FETCH: 출처별 버킷 + 동시 처리 상한, 상한을 넘으면 queue-timeout-ms 까지 대기열에서 기다린다
+ * - DELTA_FETCH: 출처별 버킷 (full 과 같은 버킷 공유)
+ * - OTHER: 해제/상태 변경/단건 조회 등 가벼운 요청은 항상 승인
+ * 거절 시 호출 측은 503 + Retry-After 로 응답한다. Retry-After 에는 지터를 더해 재시도가 다시 몰리지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "eureka.admission.enabled", havingValue = "true")
+@Slf4j
+public class AdmissionController {
+
+    /**
+     * 승인됨 (tryAdmit 반환값). 0 보다 크면 거절이며 Retry-After 초
+     */
+    public static final long ADMITTED = 0L;
+
+    public enum Lane { RENEW, REGISTER, FULL_FETCH, DELTA_FETCH, OTHER }
+
+    public enum ShedReason { LANE_RATE, APP_RATE, SOURCE_RATE, QUEUE_FULL, QUEUE_TIMEOUT }
+
+    private static final Lane[] LANES = Lane.values();
+    private static final ShedReason[] REASONS = ShedReason.values();
+
+    private final TokenBucket renewBucket;
+    private final KeyedBuckets registerByApp;
+    private final KeyedBuckets registerBySource;
+    private final KeyedBuckets fetchBySource;
+    private final Semaphore fullFetchPermits;
+    private final AtomicInteger fullFetchQueued = new AtomicInteger();
+    private final int maxQueued;
+    private final long queueTimeoutMillis;
+    private final int retryAfterJitterSeconds;
+
+    private final Counter[] admitted = new Counter[LANES.length];
+    private final Counter[][] shed = new Counter[LANES.length][REASONS.length];
+    private final Timer queueWait;
+
+    public AdmissionController(MeterRegistry meterRegistry,
+                               @Value("${eureka.admission.renew.permits-per-second:2000}") double renewPerSecond,
+                               @Value("${eureka.admission.renew.burst:4000}") int renewBurst,
+                               @Value("${eureka.admission.register.per-app-per-second:20}") double registerPerAppPerSecond,
+                               @Value("${eureka.admission.register.per-app-burst:50}") int registerPerAppBurst,
+                               @Value("${eureka.admission.register.per-source-per-second:5}") double registerPerSourcePerSecond,
+                               @Value("${eureka.admission.register.per-source-burst:10}") int registerPerSourceBurst,
+                               @Value("${eureka.admission.fetch.per-source-per-second:2}") double fetchPerSourcePerSecond,
+                               @Value("${eureka.admission.fetch.per-source-burst:10}") int fetchPerSourceBurst,
+                               @Value("${eureka.admission.fetch.max-concurrent-full:16}") int maxConcurrentFullFetches,
+                               @Value("${eureka.admission.fetch.max-queued:256}") int maxQueued,
+                               @Value("${eureka.admission.fetch.queue-timeout-ms:1000}") long queueTimeoutMillis,
+                               @Value("${eureka.admission.max-tracked-keys:10000}") int maxTrackedKeys,
+                               @Value("${eureka.admission.retry-after-jitter-seconds:5}") int retryAfterJitterSeconds) {
+        this.renewBucket = new TokenBucket(renewPerSecond, renewBurst);
+        this.registerByApp = new KeyedBuckets(registerPerAppPerSecond, registerPerAppBurst, maxTrackedKeys);
+        this.registerBySource = new KeyedBuckets(registerPerSourcePerSecond, registerPerSourceBurst, maxTrackedKeys);
+        this.fetchBySource = new KeyedBuckets(fetchPerSourcePerSecond, fetchPerSourceBurst, maxTrackedKeys);
+        this.fullFetchPermits = new Semaphore(Math.max(1, maxConcurrentFullFetches));
+        this.maxQueued = Math.max(0, maxQueued);
+        this.queueTimeoutMillis = Math.max(0L, queueTimeoutMillis);
+        this.retryAfterJitterSeconds = Math.max(0, retryAfterJitterSeconds);
+
+        for (Lane lane : LANES) {
+            String laneTag = lane.name().toLowerCase(Locale.ROOT);
+            admitted[lane.ordinal()] = Counter.builder("eureka.admission.requests")
+                .description("Eureka REST requests passed or rejected by admission control")
+                .tags("lane", laneTag, "result", "admitted", "reason", "none")
+                .register(meterRegistry);
+            for (ShedReason reason : REASONS) {
+                shed[lane.ordinal()][reason.ordinal()] = Counter.builder("eureka.admission.requests")
+                    .description("Eureka REST requests passed or rejected by admission control")
+                    .tags("lane", laneTag, "result", "shed", "reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+            }
+        }
+        this.queueWait = Timer.builder("eureka.admission.queue.wait")
+            .description("Time full fetches spent waiting for a concurrency permit")
+            .tag("lane", "full_fetch")
+            .register(meterRegistry);
+        Gauge.builder("eureka.admission.queued", fullFetchQueued, AtomicInteger::get)
+            .tag("lane", "full_fetch")
+            .register(meterRegistry);
+        Gauge.builder("eureka.admission.tracked.keys", this, AdmissionController::getTrackedKeys)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 요청 승인 여부 판단 (FULL_FETCH 는 동시 처리 상한에 걸리면 잠시 대기할 수 있다)
+     *
+     * 승인된 FULL_FETCH 는 응답 후 반드시 {@link #release(Lane)} 를 호출해야 한다.
+     *
+     * @param appName REGISTER 일 때만 사용 (다른 lane 은 null 가능)
+     * @param source  요청 출처 (원격 주소)
+     * @return {@link #ADMITTED} 또는 Retry-After 초 (1 이상)
+     */
+    public long tryAdmit(Lane lane, String appName, String source) {
+        return switch (lane) {
+            case RENEW -> renewBucket.tryAcquire()
+                    ? admit(lane) : reject(lane, ShedReason.LANE_RATE, renewBucket.nanosUntilAvailable());
+            case REGISTER -> admitRegister(appName, source);
+            case FULL_FETCH -> admitFullFetch(source);
+            case DELTA_FETCH -> admitBySource(lane, fetchBySource, source);
+            case OTHER -> admit(lane);
+        };
+    }
+
+    public void release(Lane lane) {
+        if (lane == Lane.FULL_FETCH) {
+            fullFetchPermits.release();
+        }
+    }
+
+    private long admitRegister(String appName, String source) {
+        TokenBucket app = registerByApp.get(appName);
+        if (!app.tryAcquire()) {
+            return reject(Lane.REGISTER, ShedReason.APP_RATE, app.nanosUntilAvailable());
+        }
+        return admitBySource(Lane.REGISTER, registerBySource, source);
+    }
+
+    private long admitBySource(Lane lane, KeyedBuckets buckets, String source) {
+        TokenBucket bucket = buckets.get(source);
+        return bucket.tryAcquire() ? admit(lane) : reject(lane, ShedReason.SOURCE_RATE, bucket.nanosUntilAvailable());
+    }
+
+    private long admitFullFetch(String source) {
+        TokenBucket bucket = fetchBySource.get(source);
+        if (!bucket.tryAcquire()) {
+            return reject(Lane.FULL_FETCH, ShedReason.SOURCE_RATE, bucket.nanosUntilAvailable());
+        }
+        if (fullFetchPermits.tryAcquire()) {
+            return admit(Lane.FULL_FETCH);
+        }
+        if (fullFetchQueued.incrementAndGet() > maxQueued) {
+            fullFetchQueued.decrementAndGet();
+            return reject(Lane.FULL_FETCH, ShedReason.QUEUE_FULL, TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis));
+        }
+        long start = System.nanoTime();
+        try {
+            if (fullFetchPermits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return admit(Lane.FULL_FETCH);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            fullFetchQueued.decrementAndGet();
+            queueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return reject(Lane.FULL_FETCH, ShedReason.QUEUE_TIMEOUT, TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis));
+    }
+
+    private long admit(Lane lane) {
+        admitted[lane.ordinal()].increment();
+        return ADMITTED;
+    }
+
+    private long reject(Lane lane, ShedReason reason, long waitNanos) {
+        shed[lane.ordinal()][reason.ordinal()].increment();
+        long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return retryAfterJitterSeconds > 0 ? seconds + ThreadLocalRandom.current().nextInt(retryAfterJitterSeconds + 1) : seconds;
+    }
+
+    /**
+     * ✅ 다 찬(최근 사용 없는) 키별 버킷 정리 (주기적)
+     */
+    @Scheduled(fixedDelayString = "${eureka.admission.sweep-interval-ms:60000}",
+               initialDelayString = "${eureka.admission.sweep-interval-ms:60000}")
+    public void sweep() {
+        int removed = registerByApp.sweep() + registerBySource.sweep() + fetchBySource.sweep();
+        if (removed > 0) {
+            log.debug("🚦 [ADMISSION] Swept {} idle token bucket(s)", removed);
+        }
+    }
+
+    public int getTrackedKeys() {
+        return registerByApp.size() + registerBySource.size() + fetchBySource.size();
+    }
+
+    public int getFullFetchQueued() {
+        return fullFetchQueued.get();
+    }
+
+    /**
+     * 키별 토큰 버킷 (키 수 상한을 넘으면 새 키는 overflow 버킷 하나를 함께 쓴다)
+     */
+    private static final class KeyedBuckets {
+
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final double permitsPerSecond;
+        private final int burst;
+        private final int maxKeys;
+        private final TokenBucket overflow;
+
+        private KeyedBuckets(double permitsPerSecond, int burst, int maxKeys) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+            this.maxKeys = maxKeys;
+            this.overflow = new TokenBucket(permitsPerSecond, burst);
+        }
+
+        private TokenBucket get(String key) {
+            if (key == null) {
+                return overflow;
+            }
+            TokenBucket bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+            return buckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst));
+        }
+
+        private int sweep() {
+            int before = buckets.size();
+            buckets.values().removeIf(TokenBucket::isIdle);
+            return before - buckets.size();
+        }
+
+        private int size() {
+            return buckets.size();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.server.eureka.alert;
+
+/**
+ * ✅ 전송 대상 알림
+ *
+ * @param appName     관련 애플리케이션 (없으면 null)
+ * @param occurrences 중복 제거 윈도우 동안 합쳐진 발생 횟수
+ */
+public record Alert(AlertService.AlertType type, String title, String message, String appName,
+                    long timestamp, int occurrences) {
+
+    public Alert withOccurrences(int occurrences, String message) {
+        return new Alert(type, title, message, appName, System.currentTimeMillis(), occurrences);
+    }
+
+    /**
+     * ✅ 중복 제거 키 (type, title, app)
+     */
+    public String dedupKey() {
+        return type + "|" + title + "|" + (appName != null ? appName : "");
+    }
+}
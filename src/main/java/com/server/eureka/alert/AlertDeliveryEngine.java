@@ -0,0 +1,326 @@
+package com.server.eureka.alert;
+
+import com.server.eureka.alert.sink.AlertSink;
+import com.server.eureka.support.BoundedRingQueue;
+import com.server.eureka.support.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 비동기 알림 전송 엔진
+ *
+ * 호출 스레드(이벤트 리스너 등)는 알림을 bounded 큐에 넣기만 하고 즉시 반환한다.
+ * - (type, title, app) 기준으로 중복 제거 윈도우 동안 같은 알림은 합쳐서 윈도우 종료 시 요약 1건만 보낸다
+ * - 채널(sink)마다 토큰 버킷으로 전송 속도를 제한한다 (CRITICAL 은 제한하지 않는다. 버려진 건수는 다음 전송 때 로그로 남긴다)
+ * - 전송 실패는 spring-retry 의 지수 backoff 로 재시도한다
+ */
+@Component
+@Slf4j
+public class AlertDeliveryEngine implements SmartLifecycle {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<SinkChannel> channels = new ArrayList<>();
+    private final BoundedRingQueue<Alert> queue;
+    private final long dedupWindowMillis;
+    private final Map<String, DedupWindow> windows = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter[] submittedByType;
+    private final Counter coalesced;
+    private final Counter queueFull;
+
+    private volatile boolean running;
+    private volatile Thread dispatcher;
+
+    public AlertDeliveryEngine(List<AlertSink> sinks,
+                               MeterRegistry meterRegistry,
+                               @Value("${eureka.alert.queue-capacity:1024}") int queueCapacity,
+                               @Value("${eureka.alert.dedup-window-ms:60000}") long dedupWindowMillis,
+                               @Value("${eureka.alert.rate-limit.per-minute:30}") int permitsPerMinute,
+                               @Value("${eureka.alert.rate-limit.burst:10}") int burst,
+                               @Value("${eureka.alert.retry.max-attempts:4}") int maxAttempts,
+                               @Value("${eureka.alert.retry.initial-backoff-ms:500}") long initialBackoffMillis) {
+        this.meterRegistry = meterRegistry;
+        this.queue = new BoundedRingQueue<>(queueCapacity);
+        this.dedupWindowMillis = dedupWindowMillis;
+
+        RetryTemplate retryTemplate = RetryTemplate.builder()
+            .maxAttempts(maxAttempts)
+            .exponentialBackoff(initialBackoffMillis, 2.0, initialBackoffMillis * 16)
+            .build();
+        for (AlertSink sink : sinks) {
+            channels.add(new SinkChannel(sink, TokenBucket.perMinute(permitsPerMinute, burst), retryTemplate, queueCapacity));
+        }
+
+        AlertService.AlertType[] types = AlertService.AlertType.values();
+        this.submittedByType = new Counter[types.length];
+        for (AlertService.AlertType type : types) {
+            submittedByType[type.ordinal()] = Counter.builder("eureka.alerts.submitted")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+        this.coalesced = Counter.builder("eureka.alerts.coalesced")
+            .description("Alerts merged into an existing dedup window")
+            .register(meterRegistry);
+        this.queueFull = droppedCounter("none", "queue_full");
+        Gauge.builder("eureka.alerts.queue.depth", queue, BoundedRingQueue::size)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 알림 제출 (블로킹 없음)
+     *
+     * @return 큐가 가득 차서 버려진 경우 false
+     */
+    public boolean submit(Alert alert) {
+        submittedByType[alert.type().ordinal()].increment();
+
+        long now = alert.timestamp();
+        Alert[] expiredSummary = new Alert[1];
+        boolean[] fresh = new boolean[1];
+        windows.compute(alert.dedupKey(), (key, window) -> {
+            if (window != null && now - window.startedAt < dedupWindowMillis) {
+                window.suppressed.incrementAndGet();
+                window.latest = alert;
+                return window;
+            }
+            if (window != null) {
+                expiredSummary[0] = window.summary(dedupWindowMillis);
+            }
+            fresh[0] = true;
+            return new DedupWindow(alert, now);
+        });
+
+        if (expiredSummary[0] != null) {
+            enqueue(expiredSummary[0]);
+        }
+        if (!fresh[0]) {
+            coalesced.increment();
+            return true;
+        }
+        return enqueue(alert);
+    }
+
+    private boolean enqueue(Alert alert) {
+        if (!queue.offer(alert)) {
+            queueFull.increment();
+            return false;
+        }
+        Thread current = dispatcher;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+        return true;
+    }
+
+    private void dispatchLoop() {
+        long lastSweep = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            queue.drain(this::dispatch, 64);
+
+            long now = System.nanoTime();
+            if (now - lastSweep >= SWEEP_INTERVAL_NANOS) {
+                sweepWindows();
+                lastSweep = now;
+            }
+            if (queue.isEmpty() && running) {
+                LockSupport.parkNanos(SWEEP_INTERVAL_NANOS);
+            }
+        }
+    }
+
+    private void dispatch(Alert alert) {
+        for (SinkChannel channel : channels) {
+            channel.dispatch(alert);
+        }
+    }
+
+    /**
+     * ✅ 만료된 중복 제거 윈도우 정리 (합쳐진 알림이 있으면 요약 알림 전송)
+     */
+    private void sweepWindows() {
+        long now = System.currentTimeMillis();
+        windows.forEach((key, window) -> {
+            if (now - window.startedAt >= dedupWindowMillis && windows.remove(key, window)) {
+                Alert summary = window.summary(dedupWindowMillis);
+                if (summary != null) {
+                    enqueue(summary);
+                }
+            }
+        });
+    }
+
+    private Counter droppedCounter(String sink, String reason) {
+        return Counter.builder("eureka.alerts.dropped")
+            .description("Alerts that were not delivered")
+            .tag("sink", sink)
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "alert-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("✅ Alert delivery engine started - sinks: {}", channels.stream().map(c -> c.sink.getName()).toList());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(dispatcher);
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+            for (SinkChannel channel : channels) {
+                channel.executor.shutdown();
+                channel.executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * ✅ 채널별 전송 (속도 제한 → 전용 스레드에서 재시도 포함 전송)
+     */
+    private final class SinkChannel {
+        private final AlertSink sink;
+        private final TokenBucket rateLimit;
+        private final RetryTemplate retryTemplate;
+        private final ThreadPoolExecutor executor;
+        private final Timer delivered;
+        private final Timer failed;
+        private final Counter retries;
+        private final Counter rateLimited;
+        private final Counter rateLimitBypassed;
+        private final Counter executorFull;
+        private final Counter deliveryFailed;
+
+        // 디스패처 스레드 전용: 마지막 로그 이후 속도 제한으로 버린 건수
+        private int suppressedSinceLog;
+
+        private SinkChannel(AlertSink sink, TokenBucket rateLimit, RetryTemplate retryTemplate, int queueCapacity) {
+            this.sink = sink;
+            this.rateLimit = rateLimit;
+            this.retryTemplate = retryTemplate;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "alert-sink-" + sink.getName());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            this.delivered = deliveryTimer("success");
+            this.failed = deliveryTimer("failure");
+            this.retries = Counter.builder("eureka.alerts.retries").tag("sink", sink.getName()).register(meterRegistry);
+            this.rateLimited = droppedCounter(sink.getName(), "rate_limited");
+            this.rateLimitBypassed = Counter.builder("eureka.alerts.rate_limit.bypassed")
+                .description("CRITICAL alerts sent although the sink rate limit was exhausted")
+                .tag("sink", sink.getName())
+                .register(meterRegistry);
+            this.executorFull = droppedCounter(sink.getName(), "executor_full");
+            this.deliveryFailed = droppedCounter(sink.getName(), "failed");
+        }
+
+        private Timer deliveryTimer(String outcome) {
+            return Timer.builder("eureka.alerts.delivery")
+                .description("Time from alert submission to delivery (including retries)")
+                .tag("sink", sink.getName())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        }
+
+        private void dispatch(Alert alert) {
+            if (!rateLimit.tryAcquire()) {
+                if (alert.type() != AlertService.AlertType.CRITICAL) {
+                    rateLimited.increment();
+                    suppressedSinceLog++;
+                    log.debug("Alert [{}] {} suppressed by {} rate limit", alert.type(), alert.title(), sink.getName());
+                    return;
+                }
+                rateLimitBypassed.increment();
+            }
+            if (suppressedSinceLog > 0) {
+                log.warn("⚠️ {} alert(s) suppressed by {} rate limit since the last delivery",
+                        suppressedSinceLog, sink.getName());
+                suppressedSinceLog = 0;
+            }
+            try {
+                executor.execute(() -> deliver(alert));
+            } catch (RejectedExecutionException e) {
+                executorFull.increment();
+            }
+        }
+
+        private void deliver(Alert alert) {
+            try {
+                retryTemplate.execute(context -> {
+                    if (context.getRetryCount() > 0) {
+                        retries.increment();
+                    }
+                    sink.send(alert);
+                    return null;
+                });
+                delivered.record(System.currentTimeMillis() - alert.timestamp(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                failed.record(System.currentTimeMillis() - alert.timestamp(), TimeUnit.MILLISECONDS);
+                deliveryFailed.increment();
+                log.warn("Failed to deliver alert [{}] {} via {}: {}", alert.type(), alert.title(),
+                        sink.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private static final class DedupWindow {
+        private final long startedAt;
+        private final AtomicInteger suppressed = new AtomicInteger();
+        private volatile Alert latest;
+
+        private DedupWindow(Alert first, long startedAt) {
+            this.startedAt = startedAt;
+            this.latest = first;
+        }
+
+        private Alert summary(long windowMillis) {
+            int count = suppressed.get();
+            if (count == 0) {
+                return null;
+            }
+            return latest.withOccurrences(count, String.format("%s (%d more within %ds)",
+                    latest.message(), count, TimeUnit.MILLISECONDS.toSeconds(windowMillis)));
+        }
+    }
+}
@@ -1,33 +1,35 @@
 package com.server.eureka.alert;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class AlertService {
-    
+
+    private final AlertDeliveryEngine alertDeliveryEngine;
+
     public enum AlertType {
         INFO, WARNING, CRITICAL
     }
-    
+
     public void sendAlert(AlertType type, String title, String message) {
-        // 실제 구현에서는 이메일, Slack, SMS 등으로 알림 전송
-        String emoji = getEmojiForType(type);
-        log.info("{} [{}] {}: {}", emoji, type, title, message);
-        
-        // TODO: 실제 알림 전송 로직 구현
-        // - 이메일 전송
-        // - Slack 웹훅
-        // - SMS 전송
-        // - PagerDuty 연동 등
+        sendAlert(type, title, message, null);
     }
-    
-    private String getEmojiForType(AlertType type) {
-        return switch (type) {
-            case INFO -> "ℹ️";
-            case WARNING -> "⚠️";
-            case CRITICAL -> "🚨";
-        };
+
+    /**
+     * ✅ 알림 전송 (비동기)
+     *
+     * 실제 전송(로그, 웹훅, Slack)은 {@link AlertDeliveryEngine} 이 별도 스레드에서 처리하므로
+     * 이벤트 리스너 등 호출 스레드는 블로킹되지 않는다.
+     * 같은 (type, title, appName) 알림은 중복 제거 윈도우 동안 한 건으로 합쳐진다.
+     */
+    public void sendAlert(AlertType type, String title, String message, String appName) {
+        Alert alert = new Alert(type, title, message, appName, System.currentTimeMillis(), 1);
+        if (!alertDeliveryEngine.submit(alert)) {
+            log.warn("⚠️ Alert dropped (queue full): [{}] {}", type, title);
+        }
     }
-}
\ No newline at end of file
+}
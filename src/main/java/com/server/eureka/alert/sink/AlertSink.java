@@ -0,0 +1,16 @@
+package com.server.eureka.alert.sink;
+
+import com.server.eureka.alert.Alert;
+
+/**
+ * ✅ 알림 전송 채널 (로그, 웹훅, Slack 등)
+ *
+ * {@link com.server.eureka.alert.AlertDeliveryEngine} 의 전송 스레드에서 호출된다.
+ * 전송 실패 시 예외를 던지면 backoff 후 재시도된다.
+ */
+public interface AlertSink {
+
+    String getName();
+
+    void send(Alert alert) throws Exception;
+}
@@ -0,0 +1,37 @@
+package com.server.eureka.alert.sink;
+
+import com.server.eureka.alert.Alert;
+import com.server.eureka.alert.AlertService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ 로그 출력 알림 채널 (기본)
+ */
+@Component
+@Slf4j
+public class LoggingAlertSink implements AlertSink {
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void send(Alert alert) {
+        String emoji = getEmojiForType(alert.type());
+        if (alert.occurrences() > 1) {
+            log.info("{} [{}] {}: {} (x{})", emoji, alert.type(), alert.title(), alert.message(), alert.occurrences());
+        } else {
+            log.info("{} [{}] {}: {}", emoji, alert.type(), alert.title(), alert.message());
+        }
+    }
+
+    private String getEmojiForType(AlertService.AlertType type) {
+        return switch (type) {
+            case INFO -> "ℹ️";
+            case WARNING -> "⚠️";
+            case CRITICAL -> "🚨";
+        };
+    }
+}
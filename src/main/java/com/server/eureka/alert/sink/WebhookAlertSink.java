@@ -0,0 +1,87 @@
+package com.server.eureka.alert.sink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.eureka.alert.Alert;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ✅ 웹훅 알림 채널
+ *
+ * {@code eureka.alert.webhook.url} 이 설정된 경우에만 활성화된다.
+ * format=slack 이면 Slack incoming webhook 형식({"text": ...})으로, 그 외에는 알림 필드를 그대로 JSON 으로 보낸다.
+ * 2xx 가 아닌 응답은 예외로 처리되어 재시도 대상이 된다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "eureka.alert.webhook", name = "url")
+@Slf4j
+public class WebhookAlertSink implements AlertSink {
+
+    public enum PayloadFormat { JSON, SLACK }
+
+    private final URI url;
+    private final PayloadFormat format;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    public WebhookAlertSink(@Value("${eureka.alert.webhook.url}") String url,
+                            @Value("${eureka.alert.webhook.format:json}") String format,
+                            @Value("${eureka.alert.webhook.timeout-ms:3000}") long timeoutMillis,
+                            ObjectMapper objectMapper) {
+        this.url = URI.create(url);
+        this.format = PayloadFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .build();
+    }
+
+    @Override
+    public String getName() {
+        return format == PayloadFormat.SLACK ? "slack" : "webhook";
+    }
+
+    @Override
+    public void send(Alert alert) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload(alert))))
+            .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + url + " responded with HTTP " + response.statusCode());
+        }
+    }
+
+    private Map<String, Object> payload(Alert alert) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        if (format == PayloadFormat.SLACK) {
+            String suffix = alert.occurrences() > 1 ? " (x" + alert.occurrences() + ")" : "";
+            payload.put("text", String.format("[%s] %s: %s%s", alert.type(), alert.title(), alert.message(), suffix));
+            return payload;
+        }
+        payload.put("type", alert.type().name());
+        payload.put("title", alert.title());
+        payload.put("message", alert.message());
+        payload.put("app", alert.appName());
+        payload.put("timestamp", alert.timestamp());
+        payload.put("occurrences", alert.occurrences());
+        return payload;
+    }
+}
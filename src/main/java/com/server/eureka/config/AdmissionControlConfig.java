@@ -0,0 +1,31 @@
+package com.server.eureka.config;
+
+import com.server.eureka.admission.AdmissionController;
+import com.server.eureka.web.AdmissionControlFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * ✅ Eureka REST 승인 제어 (등록/조회 폭주 시 503 + Retry-After)
+ *
+ * 조건부 GET 필터(LOWEST_PRECEDENCE - 10)보다 먼저, http.server.requests 관측 필터보다는 뒤에 둔다 (거절된 503 도 집계).
+ */
+@Configuration
+@ConditionalOnProperty(name = "eureka.admission.enabled", havingValue = "true")
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            AdmissionController admissionController,
+            @Value("${eureka.admission.source-header:}") String sourceHeader) {
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(admissionController, sourceHeader));
+        registration.addUrlPatterns("/eureka/apps", "/eureka/apps/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 20);
+        return registration;
+    }
+}
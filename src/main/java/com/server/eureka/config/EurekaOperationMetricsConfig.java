@@ -0,0 +1,28 @@
+package com.server.eureka.config;
+
+import com.server.eureka.observability.EurekaOperationMetrics;
+import com.server.eureka.web.EurekaOperationMetricsFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * ✅ Eureka REST 연산별 계측 필터
+ *
+ * 승인 제어(LOWEST_PRECEDENCE - 20)보다 바깥에 둬서 거절된 503 도 연산별로 집계한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eureka.rest.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class EurekaOperationMetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<EurekaOperationMetricsFilter> eurekaOperationMetricsFilter(EurekaOperationMetrics metrics) {
+        FilterRegistrationBean<EurekaOperationMetricsFilter> registration =
+                new FilterRegistrationBean<>(new EurekaOperationMetricsFilter(metrics));
+        registration.addUrlPatterns("/eureka/apps", "/eureka/apps/*", "/eureka/peerreplication/*");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 30);
+        return registration;
+    }
+}
@@ -0,0 +1,43 @@
+package com.server.eureka.config;
+
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.EurekaClientConfig;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.resources.ServerCodecs;
+import com.netflix.eureka.transport.EurekaServerHttpClientFactory;
+import com.server.eureka.custom.EventPublishingInstanceRegistry;
+import com.server.eureka.custom.RegistryEventPipeline;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.netflix.eureka.server.InstanceRegistryProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * ✅ 레지스트리 빈 교체 (상태 변경 이벤트 발행)
+ *
+ * EurekaServerAutoConfiguration 의 peerAwareInstanceRegistry 는 @ConditionalOnMissingBean 이 아니고
+ * 같은 이름으로 덮어쓰는 것도 막혀 있으므로, 같은 인자로 만든 레지스트리를 @Primary 로 둔다.
+ * 서버 부트스트랩/컨텍스트/리소스는 모두 이 빈을 쓰고, 기본 빈은 초기화(init/openForTraffic)되지 않은 채 남는다.
+ */
+@Configuration
+public class InstanceRegistryConfig {
+
+    @Bean
+    @Primary
+    public PeerAwareInstanceRegistry eventPublishingInstanceRegistry(EurekaServerConfig serverConfig,
+                                                                     EurekaClientConfig clientConfig,
+                                                                     ServerCodecs serverCodecs,
+                                                                     EurekaClient eurekaClient,
+                                                                     EurekaServerHttpClientFactory eurekaServerHttpClientFactory,
+                                                                     InstanceRegistryProperties instanceRegistryProperties,
+                                                                     ObjectProvider<RegistryEventPipeline> registryEventPipeline) {
+        eurekaClient.getApplications(); // 기본 빈과 같이 클라이언트 초기화를 먼저 끝낸다
+        return new EventPublishingInstanceRegistry(serverConfig, clientConfig, serverCodecs, eurekaClient,
+                eurekaServerHttpClientFactory,
+                instanceRegistryProperties.getExpectedNumberOfClientsSendingRenews(),
+                instanceRegistryProperties.getDefaultOpenForTrafficCount(),
+                registryEventPipeline);
+    }
+}
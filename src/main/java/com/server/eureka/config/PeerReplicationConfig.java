@@ -0,0 +1,36 @@
+package com.server.eureka.config;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.discovery.EurekaClientConfig;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.cluster.PeerEurekaNodes;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.resources.ServerCodecs;
+import com.server.eureka.observability.PeerReplicationMetrics;
+import com.server.eureka.replication.InstrumentedPeerEurekaNodes;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.netflix.eureka.server.ReplicationClientAdditionalFilters;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ✅ 피어 복제 계측 (EurekaServerAutoConfiguration 의 peerEurekaNodes 대체)
+ *
+ * 기본 peerEurekaNodes 빈은 @ConditionalOnMissingBean 이므로 여기서 정의하면 계측 버전이 쓰인다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eureka.monitoring.peers.instrumented", havingValue = "true", matchIfMissing = true)
+public class PeerReplicationConfig {
+
+    @Bean
+    public PeerEurekaNodes peerEurekaNodes(PeerAwareInstanceRegistry registry,
+                                           EurekaServerConfig serverConfig,
+                                           EurekaClientConfig clientConfig,
+                                           ServerCodecs serverCodecs,
+                                           ApplicationInfoManager applicationInfoManager,
+                                           ReplicationClientAdditionalFilters replicationClientAdditionalFilters,
+                                           PeerReplicationMetrics peerReplicationMetrics) {
+        return new InstrumentedPeerEurekaNodes(registry, serverConfig, clientConfig, serverCodecs,
+                applicationInfoManager, replicationClientAdditionalFilters, peerReplicationMetrics);
+    }
+}
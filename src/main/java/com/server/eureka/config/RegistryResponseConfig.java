@@ -0,0 +1,30 @@
+package com.server.eureka.config;
+
+import com.netflix.eureka.EurekaServerContext;
+import com.server.eureka.web.ConditionalRegistryFilter;
+import com.server.eureka.web.RegistryResponseCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * ✅ 레지스트리 조회 응답 계층 (ETag / 304 / 사전 압축 응답)
+ *
+ * Jersey 필터(LOWEST_PRECEDENCE)보다 먼저, http.server.requests 관측 필터보다는 뒤에 둔다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "eureka.response.conditional-get.enabled", havingValue = "true", matchIfMissing = true)
+public class RegistryResponseConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConditionalRegistryFilter> conditionalRegistryFilter(EurekaServerContext eurekaServerContext,
+                                                                                      RegistryResponseCache registryResponseCache) {
+        FilterRegistrationBean<ConditionalRegistryFilter> registration =
+                new FilterRegistrationBean<>(new ConditionalRegistryFilter(eurekaServerContext, registryResponseCache));
+        registration.addUrlPatterns("/eureka/apps", "/eureka/apps/", "/eureka/apps/delta");
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,47 @@
+package com.server.eureka.config;
+
+import com.server.eureka.observability.InstrumentedTaskScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * ✅ @Scheduled 수집기 전용 스케줄러
+ *
+ * spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 매 실행을 가상 스레드로 넘기는
+ * SimpleAsyncTaskScheduler, 아니면 spring.task.scheduling.pool.size 크기의 ThreadPoolTaskScheduler 를 쓴다.
+ * (같은 프로퍼티로 Spring Boot 가 Tomcat 요청 처리와 @Async executor 도 가상 스레드로 바꾼다)
+ * 어느 쪽이든 InstrumentedTaskScheduler 로 감싸 지연/초과 실행 메트릭을 남긴다.
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public InstrumentedTaskScheduler taskScheduler(Environment environment,
+                                                   MeterRegistry meterRegistry,
+                                                   ThreadPoolTaskSchedulerBuilder threadPoolBuilder,
+                                                   SimpleAsyncTaskSchedulerBuilder simpleAsyncBuilder) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskScheduler scheduler = simpleAsyncBuilder.build();
+            log.info("🧵 [SCHEDULER] virtual-thread mode - scheduled tasks run on virtual threads");
+            return new InstrumentedTaskScheduler(scheduler, scheduler, meterRegistry, "virtual", true);
+        }
+
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("⚠️  spring.threads.virtual.enabled=true requires JDK 21+ (running {}), falling back to platform threads",
+                    System.getProperty("java.version"));
+        }
+        ThreadPoolTaskScheduler scheduler = threadPoolBuilder.build();
+        scheduler.initialize();
+        log.info("🧵 [SCHEDULER] platform-thread mode - pool size {}", scheduler.getScheduledThreadPoolExecutor().getCorePoolSize());
+        return new InstrumentedTaskScheduler(scheduler, scheduler::shutdown, meterRegistry, "platform", false);
+    }
+}
@@ -1,13 +1,19 @@
 package com.server.eureka.config;
 
 import com.netflix.eureka.EurekaServerContext;
+import com.server.eureka.alert.AlertService;
+import com.server.eureka.journal.RegistryEventJournal;
+import com.server.eureka.observability.RenewalRateTracker;
+import com.server.eureka.observability.RenewalRateTracker.RenewalTrend;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import jakarta.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @RequiredArgsConstructor
@@ -16,6 +22,16 @@ public class SelfPreservationConfig {
     
     private final EurekaServerContext eurekaServerContext;
     private final MeterRegistry meterRegistry;
+    private final RenewalRateTracker renewalRateTracker;
+    private final AlertService alertService;
+    private final RegistryEventJournal registryEventJournal;
+
+    @Value("${eureka.monitoring.self-preservation.warning-horizon-ms:120000}")
+    private long warningHorizonMillis;
+
+    // 실제 보호 모드 진입 여부 (직전 평가 결과, 전이 알림용)
+    private volatile boolean lastActive;
+    private volatile boolean predictedWarningRaised;
     
     @PostConstruct
     public void initSelfPreservationMetrics() {
@@ -29,6 +45,16 @@ public class SelfPreservationConfig {
                 
             meterRegistry.gauge("eureka.server.self.preservation.ratio", this, 
                 SelfPreservationConfig::getSelfPreservationRatio);
+
+            // ✅ 초 단위 슬라이딩 윈도우 기반 (Eureka 의 1분 고정 버킷보다 최신)
+            meterRegistry.gauge("eureka.server.renewal.rate.sliding", renewalRateTracker,
+                RenewalRateTracker::getRenewalsLastMinute);
+            meterRegistry.gauge("eureka.server.self.preservation.ratio.sliding", this,
+                SelfPreservationConfig::getSlidingSelfPreservationRatio);
+            meterRegistry.gauge("eureka.server.self.preservation.eta.seconds", this,
+                SelfPreservationConfig::getSecondsUntilActivation);
+            meterRegistry.gauge("eureka.server.self.preservation.active", this,
+                config -> config.isSelfPreservationActive() ? 1.0 : 0.0);
                 
             log.info("✅ Self-preservation metrics initialized successfully");
             
@@ -37,22 +63,68 @@ public class SelfPreservationConfig {
         }
     }
     
+    /**
+     * ✅ 보호 모드 전이 감지 및 진입 예측 알림 (초 단위 갱신률 기반)
+     */
+    @Scheduled(fixedDelayString = "${eureka.monitoring.self-preservation.evaluate-interval-ms:5000}")
+    public void evaluateSelfPreservation() {
+        try {
+            if (eurekaServerContext.getRegistry() == null) {
+                return;
+            }
+            int threshold = eurekaServerContext.getRegistry().getNumOfRenewsPerMinThreshold();
+            boolean active = isSelfPreservationActive();
+            RenewalTrend trend = renewalRateTracker.trend();
+
+            if (active != lastActive) {
+                lastActive = active;
+                predictedWarningRaised = false;
+                registryEventJournal.recordSelfPreservation(active, trend.renewalsLastMinute(), threshold);
+                if (active) {
+                    alertService.sendAlert(AlertService.AlertType.CRITICAL, "Self-Preservation Activated",
+                        String.format("Lease expiration disabled - renewals %d/min, threshold %d/min",
+                            trend.renewalsLastMinute(), threshold));
+                } else {
+                    alertService.sendAlert(AlertService.AlertType.INFO, "Self-Preservation Deactivated",
+                        String.format("Lease expiration enabled again - renewals %d/min, threshold %d/min",
+                            trend.renewalsLastMinute(), threshold));
+                }
+                return;
+            }
+            if (active || !eurekaServerContext.getRegistry().isSelfPreservationModeEnabled()) {
+                return;
+            }
+
+            long eta = trend.millisUntilBelow(threshold);
+            boolean imminent = eta >= 0 && eta <= warningHorizonMillis;
+            if (imminent && !predictedWarningRaised) {
+                predictedWarningRaised = true;
+                alertService.sendAlert(AlertService.AlertType.WARNING, "Self-Preservation Imminent",
+                    String.format("Renewals %d/min falling %.1f/min per second - threshold %d/min reached in ~%ds",
+                        trend.renewalsLastMinute(),
+                        trend.slope() * trend.windowBuckets() * 1000.0 / trend.bucketMillis(),
+                        threshold, TimeUnit.MILLISECONDS.toSeconds(eta)));
+            } else if (!imminent) {
+                predictedWarningRaised = false;
+            }
+        } catch (Exception e) {
+            log.error("❌ Error evaluating self-preservation trend", e);
+        }
+    }
+
     @Scheduled(fixedDelay = 60000) // 1분마다
     public void logSelfPreservationStatus() {
         try {
-            boolean selfPreservation = eurekaServerContext.getRegistry().isSelfPreservationModeEnabled();
+            boolean active = isSelfPreservationActive();
             int threshold = eurekaServerContext.getRegistry().getNumOfRenewsPerMinThreshold();
-            
-            long currentLong = eurekaServerContext.getRegistry().getNumOfRenewsInLastMin();
-            int current = (int) Math.min(currentLong, Integer.MAX_VALUE);
-            
+            long current = renewalRateTracker.getRenewalsLastMinute();
             double ratio = threshold > 0 ? (double) current / threshold : 0;
             
             // 📊 포맷팅된 문자열 미리 생성
             String ratioStr = String.format("%.2f", ratio);
             String statusInfo = String.format("Ratio: %s (%d/%d)", ratioStr, current, threshold);
             
-            if (selfPreservation) {
+            if (active) {
                 log.warn("🛡️  Self-Preservation Mode ACTIVE - {}", statusInfo);
                 log.warn("🚨 Registry protection is ON - Instances will NOT be expired");
             } else {
@@ -66,18 +138,29 @@ public class SelfPreservationConfig {
                 }
             }
             
-            // 📊 주기적 요약 (매 10분마다)
-            if (System.currentTimeMillis() % 600000 < 60000) { // 10분마다 한번
-                logDetailedStatus(selfPreservation, current, threshold, ratio);
-            }
-            
         } catch (Exception e) {
             log.error("❌ Error logging self-preservation status", e);
         }
     }
 
     /**
-     * 📊 상세 상태 로깅 (10분마다)
+     * 📊 주기적 요약 (기본 10분마다, 고정 주기 스케줄)
+     */
+    @Scheduled(fixedRateString = "${eureka.monitoring.self-preservation.summary-interval-ms:600000}",
+               initialDelayString = "${eureka.monitoring.self-preservation.summary-interval-ms:600000}")
+    public void logSelfPreservationSummary() {
+        try {
+            int threshold = eurekaServerContext.getRegistry().getNumOfRenewsPerMinThreshold();
+            long current = renewalRateTracker.getRenewalsLastMinute();
+            double ratio = threshold > 0 ? (double) current / threshold : 0;
+            logDetailedStatus(isSelfPreservationActive(), (int) Math.min(current, Integer.MAX_VALUE), threshold, ratio);
+        } catch (Exception e) {
+            log.error("❌ Error logging self-preservation summary", e);
+        }
+    }
+
+    /**
+     * 📊 상세 상태 로깅
      */
     private void logDetailedStatus(boolean selfPreservation, int current, int threshold, double ratio) {
         log.info("═══════════════ 🛡️  SELF-PRESERVATION STATUS ═══════════════");
@@ -149,29 +232,73 @@ public class SelfPreservationConfig {
         }
     }
     
+    /**
+     * ✅ 실제 보호 모드 진입 여부 (설정이 켜져 있고 lease 만료가 막힌 상태)
+     *
+     * isSelfPreservationModeEnabled() 는 설정값일 뿐이므로 isLeaseExpirationEnabled() 로 판단한다.
+     */
+    public boolean isSelfPreservationActive() {
+        try {
+            return eurekaServerContext.getRegistry().isSelfPreservationModeEnabled()
+                && !eurekaServerContext.getRegistry().isLeaseExpirationEnabled();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public double getSlidingSelfPreservationRatio() {
+        try {
+            int threshold = eurekaServerContext.getRegistry().getNumOfRenewsPerMinThreshold();
+            return threshold > 0 ? (double) renewalRateTracker.getRenewalsLastMinute() / threshold : 0.0;
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * @return 현재 추세로 보호 모드 임계값에 닿기까지 남은 초 (이미 이하면 0, 감소 추세가 아니면 -1)
+     */
+    public double getSecondsUntilActivation() {
+        try {
+            int threshold = eurekaServerContext.getRegistry().getNumOfRenewsPerMinThreshold();
+            long eta = renewalRateTracker.trend().millisUntilBelow(threshold);
+            return eta < 0 ? -1.0 : eta / 1000.0;
+        } catch (Exception e) {
+            return -1.0;
+        }
+    }
+    
     /**
      * ✅ Self-preservation 상태 정보 반환 (API용)
      */
     public SelfPreservationStatus getSelfPreservationStatus() {
         try {
             boolean enabled = eurekaServerContext.getRegistry().isSelfPreservationModeEnabled();
+            boolean active = isSelfPreservationActive();
             int threshold = eurekaServerContext.getRegistry().getNumOfRenewsPerMinThreshold();
             long currentLong = eurekaServerContext.getRegistry().getNumOfRenewsInLastMin();
             int current = (int) Math.min(currentLong, Integer.MAX_VALUE);
             double ratio = threshold > 0 ? (double) current / threshold : 0.0;
+            long slidingCurrent = renewalRateTracker.getRenewalsLastMinute();
+            double slidingRatio = threshold > 0 ? (double) slidingCurrent / threshold : 0.0;
             
             return SelfPreservationStatus.builder()
                 .enabled(enabled)
+                .active(active)
                 .threshold(threshold)
                 .current(current)
                 .ratio(ratio)
-                .status(getPreservationStatusText(enabled, ratio))
+                .slidingCurrent(slidingCurrent)
+                .slidingRatio(slidingRatio)
+                .secondsUntilActivation(getSecondsUntilActivation())
+                .status(getPreservationStatusText(active, slidingRatio))
                 .build();
                 
         } catch (Exception e) {
             log.error("Error getting self-preservation status", e);
             return SelfPreservationStatus.builder()
                 .enabled(false)
+                .active(false)
                 .threshold(0)
                 .current(0)
                 .ratio(0.0)
@@ -180,8 +307,8 @@ public class SelfPreservationConfig {
         }
     }
     
-    private String getPreservationStatusText(boolean enabled, double ratio) {
-        if (enabled) {
+    private String getPreservationStatusText(boolean active, double ratio) {
+        if (active) {
             return "🛡️ ACTIVE - Protection mode is ON";
         } else if (ratio < 0.85) {
             return "⚠️ WARNING - Close to activation threshold";
@@ -197,9 +324,13 @@ public class SelfPreservationConfig {
     @lombok.Builder
     public static class SelfPreservationStatus {
         private boolean enabled;
+        private boolean active;
         private int threshold;
         private int current;
         private double ratio;
+        private long slidingCurrent;
+        private double slidingRatio;
+        private double secondsUntilActivation;
         private String status;
     }
 }
\ No newline at end of file
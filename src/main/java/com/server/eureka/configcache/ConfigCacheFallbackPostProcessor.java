@@ -0,0 +1,82 @@
+package com.server.eureka.configcache;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ✅ 설정 서버 조회 전 단계: 유효한 로컬 사본이 있으면 설정 서버를 오래 기다리지 않게 한다
+ *
+ * config data 처리(설정 서버 import) 직전에 실행된다. 이 시점에는 명령행/시스템 프로퍼티/환경 변수만 보인다.
+ * 사본이 있으면 spring.cloud.config.fail-fast=false 와 짧은 timeout(remote-timeout-ms)을 시스템 환경 변수 바로 아래 우선순위로 넣어,
+ * 설정 서버가 느리거나 죽어 있으면 재시도 없이 바로 실패하고 {@link LastKnownGoodConfigPostProcessor} 가 사본으로 대신한다.
+ * 사본이 없거나 손상됐으면 아무것도 바꾸지 않는다 (기존 fail-fast + 재시도 그대로).
+ * import 는 optional:configserver: 여야 한다 (optional 이 아니면 fail-fast=false 여도 실패한다).
+ */
+public class ConfigCacheFallbackPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String FALLBACK_SOURCE = "configCacheFallback";
+    static final String STARTED_AT = "eureka.config-cache.startup.started-at-nanos";
+    static final String ARMED = "eureka.config-cache.startup.fallback-armed";
+
+    private final Log log;
+
+    public ConfigCacheFallbackPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(getClass());
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER - 1;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put(STARTED_AT, Long.toString(System.nanoTime()));
+        if (environment.getProperty("eureka.config-cache.enabled", Boolean.class, true)) {
+            Path file = LastKnownGoodConfig.file(directory(environment), environment.getActiveProfiles());
+            try {
+                LastKnownGoodConfig.Snapshot snapshot = LastKnownGoodConfig.read(file);
+                if (snapshot != null) {
+                    String timeout = environment.getProperty("eureka.config-cache.remote-timeout-ms", "3000");
+                    overrides.put("spring.cloud.config.fail-fast", "false");
+                    overrides.put("spring.cloud.config.request-connect-timeout", timeout);
+                    overrides.put("spring.cloud.config.request-read-timeout", timeout);
+                    overrides.put(ARMED, "true");
+                    log.info("Config cache v" + snapshot.version() + " available at " + file
+                            + " - config server gets " + timeout + "ms before falling back to it");
+                }
+            } catch (IOException e) {
+                log.warn("Ignoring unusable config cache " + file + ": " + e.getMessage());
+            }
+        }
+
+        MutablePropertySources sources = environment.getPropertySources();
+        MapPropertySource fallback = new MapPropertySource(FALLBACK_SOURCE, overrides);
+        if (sources.contains(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME)) {
+            sources.addAfter(StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME, fallback);
+        } else {
+            sources.addLast(fallback);
+        }
+    }
+
+    /**
+     * ✅ 사본 디렉터리 - 기본은 스냅샷/저널과 같은 data/ 아래 (설정 서버 값이 평문으로 저장되므로 저장소에 올리지 않는다)
+     */
+    static Path directory(ConfigurableEnvironment environment) {
+        return Path.of(environment.getProperty("eureka.config-cache.dir", "data/config-cache"));
+    }
+}
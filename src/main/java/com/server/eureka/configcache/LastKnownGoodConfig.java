@@ -0,0 +1,168 @@
+package com.server.eureka.configcache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * ✅ 설정 서버에서 마지막으로 받은 설정의 로컬 사본 (프로파일별 파일 하나)
+ *
+ * properties 형식으로 저장하고 메타데이터는 {@value #META_PREFIX} 로 시작하는 키에 둔다.
+ * - checksum: 설정 항목(메타 제외)을 키 순으로 정렬한 SHA-256 - 읽을 때 다르면 손상으로 보고 쓰지 않는다
+ * - version: 내용이 바뀌어 저장될 때마다 1 증가 (같은 내용이면 파일을 다시 쓰지 않는다)
+ * 임시 파일에 쓴 뒤 원자적으로 교체하므로 쓰는 도중 죽어도 이전 사본이 남는다.
+ */
+public final class LastKnownGoodConfig {
+
+    static final String META_PREFIX = "__lkg.";
+    private static final String VERSION = META_PREFIX + "version";
+    private static final String SAVED_AT = META_PREFIX + "saved-at";
+    private static final String CHECKSUM = META_PREFIX + "checksum";
+
+    private LastKnownGoodConfig() {
+    }
+
+    /**
+     * ✅ 한 버전의 사본
+     */
+    public record Snapshot(long version, long savedAt, String checksum, Map<String, String> properties) {
+    }
+
+    /**
+     * ✅ 사용 중인 설정과 새로 받은 설정의 차이 (값은 담지 않는다 - 비밀값이 로그에 남지 않도록)
+     */
+    public record Drift(List<String> added, List<String> removed, List<String> changed) {
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+        }
+
+        public int size() {
+            return added.size() + removed.size() + changed.size();
+        }
+
+        public static Drift between(Map<String, String> inUse, Map<String, String> fresh) {
+            List<String> added = new ArrayList<>();
+            List<String> removed = new ArrayList<>();
+            List<String> changed = new ArrayList<>();
+            for (Map.Entry<String, String> entry : new TreeMap<>(fresh).entrySet()) {
+                String current = inUse.get(entry.getKey());
+                if (current == null) {
+                    added.add(entry.getKey());
+                } else if (!current.equals(entry.getValue())) {
+                    changed.add(entry.getKey());
+                }
+            }
+            for (String key : new TreeMap<>(inUse).keySet()) {
+                if (!fresh.containsKey(key)) {
+                    removed.add(key);
+                }
+            }
+            return new Drift(List.copyOf(added), List.copyOf(removed), List.copyOf(changed));
+        }
+    }
+
+    public static Path file(Path directory, String[] profiles) {
+        String key = profiles.length == 0 ? "default" : String.join(",", profiles);
+        return directory.resolve("lkg-" + key + ".properties");
+    }
+
+    /**
+     * @return 저장된 사본 (파일이 없으면 null)
+     * @throws IOException 읽기 실패 또는 checksum 불일치
+     */
+    public static Snapshot read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        Properties stored = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            stored.load(in);
+        }
+        Map<String, String> properties = new TreeMap<>();
+        for (String name : stored.stringPropertyNames()) {
+            if (!name.startsWith(META_PREFIX)) {
+                properties.put(name, stored.getProperty(name));
+            }
+        }
+        String checksum = checksum(properties);
+        if (!checksum.equals(stored.getProperty(CHECKSUM))) {
+            throw new IOException("Checksum mismatch in " + file + " - cached config is corrupt");
+        }
+        try {
+            return new Snapshot(Long.parseLong(stored.getProperty(VERSION, "0")),
+                    Long.parseLong(stored.getProperty(SAVED_AT, "0")), checksum, Map.copyOf(properties));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid metadata in " + file, e);
+        }
+    }
+
+    /**
+     * ✅ 새 사본 저장 (내용이 같으면 기존 사본을 그대로 돌려준다)
+     */
+    public static Snapshot write(Path file, Map<String, String> properties) throws IOException {
+        String checksum = checksum(properties);
+        Snapshot previous;
+        try {
+            previous = read(file);
+        } catch (IOException e) {
+            previous = null;
+        }
+        if (previous != null && previous.checksum().equals(checksum)) {
+            return previous;
+        }
+        Snapshot snapshot = new Snapshot(previous != null ? previous.version() + 1 : 1L,
+                System.currentTimeMillis(), checksum, Map.copyOf(properties));
+
+        Properties stored = new Properties();
+        stored.putAll(properties);
+        stored.setProperty(VERSION, Long.toString(snapshot.version()));
+        stored.setProperty(SAVED_AT, Long.toString(snapshot.savedAt()));
+        stored.setProperty(CHECKSUM, checksum);
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                stored.store(out, "Last known good remote configuration - do not edit");
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return snapshot;
+    }
+
+    static String checksum(Map<String, String> properties) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, String> entry : new TreeMap<>(properties).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.server.eureka.configcache;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 설정 서버 조회 후 단계: 받은 설정을 사본으로 저장하거나, 못 받았으면 사본으로 대신한다
+ *
+ * - 설정 서버 응답(configserver: 로 시작하는 property source)이 있으면 합쳐서 로컬 사본으로 저장 (내용이 바뀐 경우만 버전 증가)
+ * - 없고 {@link ConfigCacheFallbackPostProcessor} 가 사본을 확인해 둔 경우 그 사본을 설정 서버 자리(설정 파일보다 높은 우선순위)에 넣는다
+ * 어느 경로였는지와 설정 해석에 걸린 시간은 eureka.config-cache.startup.* 프로퍼티로 남겨 {@link LastKnownGoodConfigRefresher} 가 메트릭으로 노출한다.
+ */
+public class LastKnownGoodConfigPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final String CACHE_SOURCE = "lastKnownGoodConfig";
+    static final String STARTUP_SOURCE = "configCacheStartup";
+    static final String REMOTE_PREFIX = "configserver:";
+    static final String CONFIG_RESOURCE_PREFIX = "Config resource";
+
+    private final Log log;
+
+    public LastKnownGoodConfigPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(getClass());
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String startedAt = environment.getProperty(ConfigCacheFallbackPostProcessor.STARTED_AT);
+        long resolveMillis = startedAt != null
+                ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - Long.parseLong(startedAt)) : 0L;
+        if (!environment.getProperty("eureka.config-cache.enabled", Boolean.class, true)
+                || !environment.getProperty("spring.config.import", "").contains(REMOTE_PREFIX)) {
+            return;
+        }
+
+        Path file = LastKnownGoodConfig.file(ConfigCacheFallbackPostProcessor.directory(environment),
+                environment.getActiveProfiles());
+        Map<String, Object> startup = new HashMap<>();
+        startup.put("eureka.config-cache.startup.resolve-ms", Long.toString(resolveMillis));
+
+        List<EnumerablePropertySource<?>> remote = remoteSources(environment.getPropertySources());
+        if (!remote.isEmpty()) {
+            try {
+                LastKnownGoodConfig.Snapshot saved = LastKnownGoodConfig.write(file, flatten(remote));
+                startup.put("eureka.config-cache.startup.source", "remote");
+                startup.put("eureka.config-cache.startup.version", Long.toString(saved.version()));
+                log.info("Remote config resolved in " + resolveMillis + "ms - cached as v" + saved.version() + " at " + file);
+            } catch (IOException e) {
+                startup.put("eureka.config-cache.startup.source", "remote");
+                log.warn("Could not write config cache " + file + ": " + e.getMessage());
+            }
+        } else if (environment.getProperty(ConfigCacheFallbackPostProcessor.ARMED, Boolean.class, false)) {
+            LastKnownGoodConfig.Snapshot snapshot;
+            try {
+                snapshot = LastKnownGoodConfig.read(file);
+            } catch (IOException e) {
+                throw new IllegalStateException("Config server unreachable and config cache unusable", e);
+            }
+            if (snapshot == null) {
+                throw new IllegalStateException("Config server unreachable and config cache " + file + " disappeared");
+            }
+            insertCache(environment.getPropertySources(), new MapPropertySource(CACHE_SOURCE, new HashMap<>(snapshot.properties())));
+            startup.put("eureka.config-cache.startup.source", "cache");
+            startup.put("eureka.config-cache.startup.version", Long.toString(snapshot.version()));
+            log.warn("Config server unavailable - started from cached config v" + snapshot.version()
+                    + " (saved " + Instant.ofEpochMilli(snapshot.savedAt()) + ") in " + resolveMillis + "ms, refreshing in background");
+        } else {
+            return;
+        }
+        environment.getPropertySources().addLast(new MapPropertySource(STARTUP_SOURCE, startup));
+    }
+
+    /**
+     * 설정 서버 응답과 같은 자리 - 첫 설정 파일(application*.yml) 바로 위
+     */
+    static void insertCache(MutablePropertySources sources, PropertySource<?> cache) {
+        for (PropertySource<?> source : sources) {
+            if (source.getName().startsWith(CONFIG_RESOURCE_PREFIX)) {
+                sources.addBefore(source.getName(), cache);
+                return;
+            }
+        }
+        sources.addLast(cache);
+    }
+
+    static List<EnumerablePropertySource<?>> remoteSources(MutablePropertySources sources) {
+        List<EnumerablePropertySource<?>> remote = new ArrayList<>();
+        for (PropertySource<?> source : sources) {
+            if (source.getName().startsWith(REMOTE_PREFIX) && source instanceof EnumerablePropertySource<?> enumerable) {
+                remote.add(enumerable);
+            }
+        }
+        return remote;
+    }
+
+    /**
+     * 우선순위 낮은 것부터 덮어써서 실제로 보이는 값만 남긴다
+     */
+    static Map<String, String> flatten(List<EnumerablePropertySource<?>> highestFirst) {
+        Map<String, String> flattened = new LinkedHashMap<>();
+        for (int i = highestFirst.size() - 1; i >= 0; i--) {
+            EnumerablePropertySource<?> source = highestFirst.get(i);
+            for (String name : source.getPropertyNames()) {
+                Object value = source.getProperty(name);
+                if (value != null) {
+                    flattened.put(name, String.valueOf(value));
+                }
+            }
+        }
+        return flattened;
+    }
+}
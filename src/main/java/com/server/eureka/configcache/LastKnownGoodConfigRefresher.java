@@ -0,0 +1,200 @@
+package com.server.eureka.configcache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.eureka.configcache.LastKnownGoodConfig.Drift;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 로컬 사본으로 기동한 경우 백그라운드에서 설정 서버를 다시 조회하고 차이를 보고한다
+ *
+ * 설정 서버 REST API(GET {uri}/{name}/{profiles}[/{label}])로 직접 받아 사용 중인 사본과 비교한다.
+ * - 성공하면 차이(추가/삭제/변경 키 이름)를 로그와 메트릭으로 남기고, 사본 파일과 Environment 의 사본 property source 를 새 값으로 바꾼다
+ * - 이 서버의 빈 대부분은 생성 시점에 @Value 로 값을 받으므로 바뀐 값은 재시작해야 반영된다 (로그에 명시)
+ * - 한 번 성공하면 더 조회하지 않는다 (이후는 일반 config client 경로와 같다)
+ * 설정 서버로 정상 기동한 경우에는 아무것도 하지 않고 기동 경로/시간 메트릭만 노출한다.
+ */
+@Component
+@Slf4j
+public class LastKnownGoodConfigRefresher {
+
+    private final ConfigurableEnvironment environment;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final String startupSource;
+    private final long startupResolveMillis;
+
+    private volatile boolean pending;
+    private volatile long cachedVersion;
+    private volatile int lastDriftKeys;
+    private final Counter refreshSucceeded;
+    private final Counter refreshFailed;
+
+    public LastKnownGoodConfigRefresher(ConfigurableEnvironment environment,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${eureka.config-cache.startup.source:none}") String startupSource,
+                                        @Value("${eureka.config-cache.startup.resolve-ms:0}") long startupResolveMillis,
+                                        @Value("${eureka.config-cache.startup.version:0}") long cachedVersion,
+                                        @Value("${eureka.config-cache.refresh-timeout-ms:5000}") long timeoutMillis) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.startupSource = startupSource;
+        this.startupResolveMillis = startupResolveMillis;
+        this.cachedVersion = cachedVersion;
+        this.pending = "cache".equals(startupSource);
+
+        Gauge.builder("eureka.config.cache.startup.resolve", this, refresher -> refresher.startupResolveMillis)
+            .description("Time spent resolving configuration at startup")
+            .baseUnit("milliseconds")
+            .tag("source", startupSource)
+            .register(meterRegistry);
+        Gauge.builder("eureka.config.cache.version", this, refresher -> refresher.cachedVersion)
+            .register(meterRegistry);
+        Gauge.builder("eureka.config.cache.drift.keys", this, refresher -> refresher.lastDriftKeys)
+            .description("Keys that differed between the cached config in use and the config server")
+            .register(meterRegistry);
+        Gauge.builder("eureka.config.cache.refresh.pending", this, refresher -> refresher.pending ? 1 : 0)
+            .register(meterRegistry);
+        this.refreshSucceeded = Counter.builder("eureka.config.cache.refresh").tag("result", "success").register(meterRegistry);
+        this.refreshFailed = Counter.builder("eureka.config.cache.refresh").tag("result", "failure").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${eureka.config-cache.refresh-interval-ms:30000}",
+               initialDelayString = "${eureka.config-cache.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!pending) {
+            return;
+        }
+        try {
+            Map<String, String> fresh = fetch();
+            PropertySource<?> inUse = environment.getPropertySources().get(LastKnownGoodConfigPostProcessor.CACHE_SOURCE);
+            Map<String, String> current = inUse instanceof EnumerablePropertySource<?> enumerable
+                    ? LastKnownGoodConfigPostProcessor.flatten(List.of(enumerable)) : Map.of();
+
+            Drift drift = Drift.between(current, fresh);
+            lastDriftKeys = drift.size();
+            Path file = LastKnownGoodConfig.file(ConfigCacheFallbackPostProcessor.directory(environment),
+                    environment.getActiveProfiles());
+            cachedVersion = LastKnownGoodConfig.write(file, fresh).version();
+            if (inUse != null) {
+                environment.getPropertySources().replace(LastKnownGoodConfigPostProcessor.CACHE_SOURCE,
+                        new MapPropertySource(LastKnownGoodConfigPostProcessor.CACHE_SOURCE, new HashMap<>(fresh)));
+            }
+            pending = false;
+            refreshSucceeded.increment();
+
+            if (drift.isEmpty()) {
+                log.info("✅ [CONFIG] Config server reachable again - cached config v{} matches", cachedVersion);
+            } else {
+                log.warn("⚠️  [CONFIG] Config drift since cached startup config: added={}, removed={}, changed={} "
+                        + "- cache updated to v{}, restart to apply to beans bound at startup",
+                        drift.added(), drift.removed(), drift.changed(), cachedVersion);
+            }
+        } catch (IOException e) {
+            refreshFailed.increment();
+            log.debug("Config server still unavailable: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * ✅ 설정 서버 Environment 응답을 사용 우선순위대로 합친 값
+     */
+    Map<String, String> fetch() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(environmentUri())
+            .timeout(timeout)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Config server responded with HTTP " + response.statusCode());
+        }
+        List<JsonNode> highestFirst = new ArrayList<>();
+        objectMapper.readTree(response.body()).path("propertySources").forEach(highestFirst::add);
+
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (int i = highestFirst.size() - 1; i >= 0; i--) {
+            for (Iterator<Map.Entry<String, JsonNode>> it = highestFirst.get(i).path("source").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                JsonNode value = entry.getValue();
+                if (!value.isNull()) {
+                    merged.put(entry.getKey(), value.isValueNode() ? value.asText() : value.toString());
+                }
+            }
+        }
+        return merged;
+    }
+
+    URI environmentUri() {
+        String uri = configServerUri();
+        String name = environment.getProperty("spring.cloud.config.name",
+                environment.getProperty("spring.application.name", "application"));
+        String[] profiles = environment.getActiveProfiles();
+        StringBuilder path = new StringBuilder(uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri)
+            .append('/').append(name)
+            .append('/').append(profiles.length == 0 ? "default" : String.join(",", profiles));
+        String label = environment.getProperty("spring.cloud.config.label");
+        if (label != null && !label.isEmpty()) {
+            path.append('/').append(label);
+        }
+        return URI.create(path.toString());
+    }
+
+    private String configServerUri() {
+        for (String location : environment.getProperty("spring.config.import", "").split(",")) {
+            String trimmed = location.trim();
+            if (trimmed.startsWith("optional:")) {
+                trimmed = trimmed.substring("optional:".length());
+            }
+            if (trimmed.startsWith(LastKnownGoodConfigPostProcessor.REMOTE_PREFIX)) {
+                String uri = trimmed.substring(LastKnownGoodConfigPostProcessor.REMOTE_PREFIX.length());
+                if (!uri.isEmpty()) {
+                    return uri;
+                }
+            }
+        }
+        return environment.getProperty("spring.cloud.config.uri", "http://localhost:8888");
+    }
+
+    public String getStartupSource() {
+        return startupSource;
+    }
+
+    public long getStartupResolveMillis() {
+        return startupResolveMillis;
+    }
+
+    public boolean isRefreshPending() {
+        return pending;
+    }
+}
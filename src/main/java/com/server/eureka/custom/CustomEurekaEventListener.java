@@ -1,92 +1,199 @@
 package com.server.eureka.custom;
 
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
 import com.server.eureka.alert.AlertService;
+import com.server.eureka.observability.RegistryCounters;
+import com.server.eureka.observability.RenewalRateTracker;
+import com.server.eureka.stream.RegistryChangeStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.netflix.eureka.server.event.*;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import jakarta.annotation.PostConstruct;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
+/**
+ * ✅ Eureka 레지스트리 이벤트 리스너
+ *
+ * {@code @EventListener} 메서드는 Eureka 요청 스레드에서 실행되므로 이벤트를 큐에 넣기만 하고,
+ * 로깅/알림/카운터 반영은 {@link RegistryEventPipeline} 소비자 스레드에서 {@link #onEvent} 로 처리한다.
+ */
 @Component
 @RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @Slf4j
-public class CustomEurekaEventListener {
-    
+public class CustomEurekaEventListener implements RegistryEventHandler {
+
     private final AlertService alertService;
-    private final ConcurrentHashMap<String, AtomicLong> appRegistrationCount = new ConcurrentHashMap<>();
-    
+    private final RegistryCounters registryCounters;
+    private final RegistryEventPipeline registryEventPipeline;
+    private final RegistrationChurnTracker registrationChurnTracker;
+    private final RegistryChangeStream registryChangeStream;
+    private final RenewalRateTracker renewalRateTracker;
+
+    @Value("${eureka.monitoring.critical-apps:}")
+    private List<String> criticalAppNames;
+
+    // 크리티컬 서비스 감시 목록 (대문자 앱 이름, 해시 조회)
+    private Set<String> criticalApps = Set.of();
+
+    @PostConstruct
+    public void initCriticalApps() {
+        Set<String> apps = new HashSet<>();
+        for (String appName : criticalAppNames) {
+            if (appName != null && !appName.isBlank()) {
+                apps.add(appName.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        criticalApps = Set.copyOf(apps);
+        if (!criticalApps.isEmpty()) {
+            log.info("🔍 Critical service watchlist: {}", criticalApps);
+        }
+    }
+
     /**
      * ✅ 실제 존재하는 이벤트: 인스턴스 등록
      */
     @EventListener
     public void onInstanceRegistration(EurekaInstanceRegisteredEvent event) {
-        String appName = event.getInstanceInfo().getAppName();
-        String instanceId = event.getInstanceInfo().getInstanceId();
-        
-        // 등록 카운트 증가
-        appRegistrationCount.computeIfAbsent(appName, k -> new AtomicLong(0)).incrementAndGet();
-        
-        log.info("📝 [REGISTRATION] {} - {} registered", appName, instanceId);
-        
-        // 첫 번째 인스턴스 등록 시 알림
-        if (appRegistrationCount.get(appName).get() == 1) {
-            alertService.sendAlert(
-                AlertService.AlertType.INFO,
-                "First Instance Registered",
-                String.format("First instance of %s has been registered: %s", appName, instanceId)
-            );
-        }
+        registryEventPipeline.publish(RegistryEvent.registered(event));
     }
-    
+
     /**
      * ✅ 실제 존재하는 이벤트: 인스턴스 해제
      */
     @EventListener
     public void onInstanceCancellation(EurekaInstanceCanceledEvent event) {
+        registryEventPipeline.publish(RegistryEvent.canceled(event));
+    }
+
+    /**
+     * ✅ 실제 존재하는 이벤트: 인스턴스 갱신 (Heartbeat)
+     */
+    @EventListener
+    public void onInstanceRenewal(EurekaInstanceRenewedEvent event) {
+        // 갱신률은 큐 적체/drop 과 무관하게 요청 스레드에서 바로 센다 (CAS 1회)
+        renewalRateTracker.record();
+        registryEventPipeline.publish(RegistryEvent.renewed(event));
+    }
+
+    // ❌ 제거: 존재하지 않는 이벤트들
+    // EurekaInstanceStatusChangedEvent - 존재하지 않음 (상태 변경은 EventPublishingInstanceRegistry 가 파이프라인으로 발행)
+    // EurekaPeerAwareStatusChangeEvent - 존재하지 않음
+
+    /**
+     * ✅ 소비자 스레드에서 실행되는 실제 처리
+     */
+    @Override
+    public void onEvent(RegistryEvent event) {
+        switch (event.getType()) {
+            case REGISTERED -> handleRegistration(event);
+            case CANCELED -> handleCancellation(event);
+            case RENEWED -> handleRenewal(event);
+            case STATUS_CHANGED -> handleStatusChange(event);
+        }
+    }
+
+    private void handleRegistration(RegistryEvent event) {
         String appName = event.getAppName();
-        String instanceId = event.getServerId();
-        
-        log.warn("🗑️  [CANCELLATION] {} - {} canceled", appName, instanceId);
-        
-        // 마지막 인스턴스 해제 시 크리티컬 알림
-        long remainingInstances = getCurrentInstanceCount(appName);
-        if (remainingInstances == 0) {
+        String instanceId = event.getInstanceId();
+
+        // 레지스트리 카운터 반영 (전체/상태별 인스턴스 수)
+        int before = registryCounters.getAppInstanceCount(appName);
+        int live = registryCounters.onRegistered(appName, instanceId, event.getStatus());
+        registrationChurnTracker.onRegistered(appName, instanceId, event.getTimestamp());
+        registryChangeStream.onRegistered(event);
+
+        // storm 중에는 개별 로그만 낮춘다 (storm 시작/종료 시 요약만 남김, 0 ↔ 1 알림은 유지)
+        if (registrationChurnTracker.isStorming(appName)) {
+            log.debug("📝 [REGISTRATION] {} - {} registered", appName, instanceId);
+        } else {
+            log.info("📝 [REGISTRATION] {} - {} registered", appName, instanceId);
+        }
+
+        // 첫 번째 인스턴스 등록 시 알림 (0 → 1)
+        if (before == 0 && live == 1) {
+            alertService.sendAlert(
+                AlertService.AlertType.INFO,
+                "First Instance Registered",
+                String.format("First instance of %s has been registered: %s", appName, instanceId),
+                appName
+            );
+        }
+    }
+
+    private void handleCancellation(RegistryEvent event) {
+        String appName = event.getAppName();
+        String instanceId = event.getInstanceId();
+
+        // 레지스트리 카운터 반영
+        int before = registryCounters.getAppInstanceCount(appName);
+        int remainingInstances = registryCounters.onCanceled(appName, instanceId);
+        registrationChurnTracker.onCanceled(appName, instanceId, event.getTimestamp());
+        registryChangeStream.onCanceled(event);
+
+        String outcome = event.isEviction() ? "evicted (lease expired)" : "canceled";
+        if (registrationChurnTracker.isStorming(appName)) {
+            log.debug("🗑️  [CANCELLATION] {} - {} {}", appName, instanceId, outcome);
+        } else {
+            log.warn("🗑️  [CANCELLATION] {} - {} {}", appName, instanceId, outcome);
+        }
+
+        // 마지막 인스턴스 해제 시 크리티컬 알림 (1 → 0)
+        if (before > 0 && remainingInstances == 0) {
             alertService.sendAlert(
                 AlertService.AlertType.CRITICAL,
                 "Last Instance Canceled",
-                String.format("Last instance of %s has been canceled: %s", appName, instanceId)
+                String.format("Last instance of %s has been canceled: %s", appName, instanceId),
+                appName
             );
         }
     }
-    
-    /**
-     * ✅ 실제 존재하는 이벤트: 인스턴스 갱신 (Heartbeat)
-     */
-    @EventListener
-    public void onInstanceRenewal(EurekaInstanceRenewedEvent event) {
-        String appName = event.getInstanceInfo().getAppName();
+
+    private void handleRenewal(RegistryEvent event) {
+        String appName = event.getAppName();
         log.debug("🔄 [RENEWAL] {} renewed", appName);
-        
-        // 특정 애플리케이션 모니터링
-        if ("critical-service".equals(appName)) {
+
+        // 레지스트리 카운터 반영 (상태 변경 및 누락된 등록 보정)
+        if (event.getInstanceInfo() != null) {
+            InstanceStatus previous = registryCounters.getInstanceStatus(appName, event.getInstanceId());
+            registryCounters.onRenewed(appName, event.getInstanceId(), event.getStatus());
+
+            // 상태 변경은 STATUS_CHANGED 로 먼저 반영되므로, 여기서는 그 이벤트가 누락된 경우만 드러난다
+            if (previous != null && event.getStatus() != null && previous != event.getStatus()) {
+                registryChangeStream.onStatusChanged(event, previous);
+            }
+        }
+
+        // 감시 목록에 있는 애플리케이션 모니터링
+        if (criticalApps.contains(appName)) {
             monitorCriticalService(event);
         }
     }
-    
-    // ❌ 제거: 존재하지 않는 이벤트들
-    // EurekaInstanceStatusChangedEvent - 존재하지 않음
-    // EurekaPeerAwareStatusChangeEvent - 존재하지 않음
-    
-    private void monitorCriticalService(EurekaInstanceRenewedEvent event) {
-        // 크리티컬 서비스에 대한 특별 모니터링
-        log.info("🔍 Critical service {} is healthy", event.getInstanceInfo().getAppName());
+
+    private void handleStatusChange(RegistryEvent event) {
+        String appName = event.getAppName();
+        String instanceId = event.getInstanceId();
+        InstanceStatus previous = registryCounters.getInstanceStatus(appName, instanceId);
+        registryCounters.onRenewed(appName, instanceId, event.getStatus());
+
+        if (previous != null && event.getStatus() != null && previous != event.getStatus()) {
+            registryChangeStream.onStatusChanged(event, previous);
+            log.info("🔀 [STATUS] {} - {} {} → {}{}", appName, instanceId, previous, event.getStatus(),
+                    event.isReplication() ? " (replicated)" : "");
+        }
     }
-    
-    private long getCurrentInstanceCount(String appName) {
-        // 현재 등록된 인스턴스 수 계산
-        return appRegistrationCount.getOrDefault(appName, new AtomicLong(0)).get();
+
+    private void monitorCriticalService(RegistryEvent event) {
+        // 크리티컬 서비스에 대한 특별 모니터링
+        log.info("🔍 Critical service {} is healthy ({})", event.getAppName(), event.getInstanceId());
     }
-}
\ No newline at end of file
+}
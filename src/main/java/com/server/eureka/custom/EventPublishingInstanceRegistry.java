@@ -0,0 +1,80 @@
+package com.server.eureka.custom;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.EurekaClientConfig;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.resources.ServerCodecs;
+import com.netflix.eureka.transport.EurekaServerHttpClientFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.netflix.eureka.server.InstanceRegistry;
+
+/**
+ * ✅ 상태 변경(StatusUpdate / DeleteStatusOverride)을 이벤트 파이프라인으로 바로 발행하는 레지스트리
+ *
+ * Spring Cloud 의 InstanceRegistry 는 등록/갱신/해제만 이벤트로 알리고 상태 변경은 알리지 않는다.
+ * 클라이언트 요청(/eureka/apps/{app}/{id}/status)과 피어 복제 배치 모두 이 두 메서드를 거치므로
+ * 성공하면 그 직후 STATUS_CHANGED 를 발행한다. 갱신 시 상태 비교는 이벤트가 버려진 경우의 보정으로 남는다.
+ *
+ * AOP 프록시가 아니라 레지스트리 빈 자체로 등록한다 ({@link com.server.eureka.config.InstanceRegistryConfig}).
+ * 프록시는 필드가 비어 있어 레지스트리 내부를 직접 읽는 코드가 깨진다.
+ */
+public class EventPublishingInstanceRegistry extends InstanceRegistry {
+
+    private final ObjectProvider<RegistryEventPipeline> registryEventPipeline;
+
+    public EventPublishingInstanceRegistry(EurekaServerConfig serverConfig,
+                                           EurekaClientConfig clientConfig,
+                                           ServerCodecs serverCodecs,
+                                           EurekaClient eurekaClient,
+                                           EurekaServerHttpClientFactory eurekaServerHttpClientFactory,
+                                           int expectedNumberOfClientsSendingRenews,
+                                           int defaultOpenForTrafficCount,
+                                           ObjectProvider<RegistryEventPipeline> registryEventPipeline) {
+        super(serverConfig, clientConfig, serverCodecs, eurekaClient, eurekaServerHttpClientFactory,
+                expectedNumberOfClientsSendingRenews, defaultOpenForTrafficCount);
+        this.registryEventPipeline = registryEventPipeline;
+    }
+
+    @Override
+    public boolean statusUpdate(String appName, String id, InstanceStatus newStatus, String lastDirtyTimestamp,
+                                boolean isReplication) {
+        boolean updated = super.statusUpdate(appName, id, newStatus, lastDirtyTimestamp, isReplication);
+        if (updated) {
+            publishStatusChanged(appName, id, isReplication);
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteStatusOverride(String appName, String id, InstanceStatus newStatus, String lastDirtyTimestamp,
+                                        boolean isReplication) {
+        boolean deleted = super.deleteStatusOverride(appName, id, newStatus, lastDirtyTimestamp, isReplication);
+        if (deleted) {
+            publishStatusChanged(appName, id, isReplication);
+        }
+        return deleted;
+    }
+
+    /**
+     * ✅ 기대 클라이언트 수를 바꾸고 갱신 임계값을 다시 계산 (openForTraffic 의 임계값 부분만)
+     *
+     * 스냅샷 복원처럼 레지스트리가 열린 뒤 인스턴스를 채운 경우에 쓴다.
+     */
+    public void updateExpectedClients(int count) {
+        synchronized (lock) {
+            this.expectedNumberOfClientsSendingRenews = count;
+            updateRenewsPerMinThreshold();
+        }
+    }
+
+    private void publishStatusChanged(String appName, String id, boolean isReplication) {
+        // 파이프라인은 레지스트리에 의존하는 핸들러들을 모으므로 지연 조회한다
+        RegistryEventPipeline pipeline = registryEventPipeline.getIfAvailable();
+        InstanceInfo info = getInstanceByAppAndId(appName, id, false);
+        if (pipeline != null && info != null) {
+            pipeline.publish(RegistryEvent.statusChanged(appName, id, info, isReplication));
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.server.eureka.custom;
+
+import com.server.eureka.alert.AlertService;
+import com.server.eureka.observability.RegistryCounters;
+import com.server.eureka.support.SlidingWindowCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ 등록/해제 churn 추적 (flapping 및 registration storm 감지)
+ *
+ * 애플리케이션/인스턴스마다 시간 버킷 링 버퍼로 최근 윈도우의 등록·해제 횟수를 센다.
+ * - flapping: 한 인스턴스가 윈도우 안에서 등록/해제를 반복
+ * - storm: 한 애플리케이션의 등록+해제 횟수가 임계값(최소 이벤트 수, 인스턴스 수 대비 배수)을 초과
+ * storm 은 시작/종료 시 한 번씩만 알림과 메트릭을 남기고, storm 중에는 flapping 알림과 개별 이벤트 로그를 억제한다.
+ * (첫 인스턴스 등록 / 마지막 인스턴스 해제 알림은 storm 중에도 그대로 나간다)
+ */
+@Component
+@Slf4j
+public class RegistrationChurnTracker {
+
+    private static final int BUCKETS = 12;
+
+    private final AlertService alertService;
+    private final RegistryCounters registryCounters;
+    private final MeterRegistry meterRegistry;
+
+    private final long windowMillis;
+    private final int flapThreshold;
+    private final int stormMinEvents;
+    private final double stormInstanceFactor;
+
+    private final Map<String, AppChurn> apps = new ConcurrentHashMap<>();
+    private final Map<String, InstanceChurn> instances = new ConcurrentHashMap<>();
+    private final AtomicInteger activeStorms = new AtomicInteger();
+    private final AtomicInteger flappingInstances = new AtomicInteger();
+    private final Counter flaps;
+
+    public RegistrationChurnTracker(AlertService alertService,
+                                    RegistryCounters registryCounters,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${eureka.monitoring.churn.window-ms:300000}") long windowMillis,
+                                    @Value("${eureka.monitoring.churn.flap-threshold:3}") int flapThreshold,
+                                    @Value("${eureka.monitoring.churn.storm-min-events:20}") int stormMinEvents,
+                                    @Value("${eureka.monitoring.churn.storm-instance-factor:2.0}") double stormInstanceFactor) {
+        this.alertService = alertService;
+        this.registryCounters = registryCounters;
+        this.meterRegistry = meterRegistry;
+        this.windowMillis = windowMillis;
+        this.flapThreshold = flapThreshold;
+        this.stormMinEvents = stormMinEvents;
+        this.stormInstanceFactor = stormInstanceFactor;
+
+        this.flaps = Counter.builder("eureka.churn.flaps")
+            .description("Instances that started flapping (repeated register/cancel within the churn window)")
+            .register(meterRegistry);
+        Gauge.builder("eureka.churn.storms.active", activeStorms, AtomicInteger::get)
+            .register(meterRegistry);
+        Gauge.builder("eureka.churn.flapping.instances", flappingInstances, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    public void onRegistered(String appName, String instanceId, long timestamp) {
+        AppChurn app = appFor(appName);
+        app.registrations.increment(timestamp);
+        app.stormEvents.incrementAndGet();
+        trackInstance(app, appName, instanceId, timestamp);
+        evaluateStorm(app, appName, timestamp);
+    }
+
+    public void onCanceled(String appName, String instanceId, long timestamp) {
+        AppChurn app = appFor(appName);
+        app.cancellations.increment(timestamp);
+        app.stormEvents.incrementAndGet();
+        trackInstance(app, appName, instanceId, timestamp);
+        evaluateStorm(app, appName, timestamp);
+    }
+
+    /**
+     * @return 애플리케이션이 현재 storm 상태인지 (개별 로그 억제용)
+     */
+    public boolean isStorming(String appName) {
+        AppChurn app = apps.get(appName);
+        return app != null && app.stormStartedAt > 0;
+    }
+
+    private void trackInstance(AppChurn app, String appName, String instanceId, long timestamp) {
+        String key = appName + "/" + instanceId;
+        InstanceChurn instance = instances.computeIfAbsent(key, k -> new InstanceChurn(windowMillis));
+        instance.transitions.increment(timestamp);
+        instance.lastSeen = timestamp;
+
+        // 등록+해제 한 쌍을 1회 flap 으로 본다
+        int cycles = instance.transitions.sum(timestamp) / 2;
+        if (cycles >= flapThreshold && !instance.flapping) {
+            instance.flapping = true;
+            flappingInstances.incrementAndGet();
+            flaps.increment();
+            if (app.stormStartedAt == 0) {
+                alertService.sendAlert(
+                    AlertService.AlertType.WARNING,
+                    "Instance Flapping",
+                    String.format("%s is flapping: %d register/cancel cycles within %ds",
+                            key, cycles, TimeUnit.MILLISECONDS.toSeconds(windowMillis)),
+                    appName
+                );
+            }
+        }
+    }
+
+    private void evaluateStorm(AppChurn app, String appName, long timestamp) {
+        int events = app.registrations.sum(timestamp) + app.cancellations.sum(timestamp);
+        if (app.stormStartedAt == 0 && events >= stormThreshold(appName)) {
+            synchronized (app) {
+                if (app.stormStartedAt != 0) {
+                    return;
+                }
+                app.stormStartedAt = timestamp;
+                app.stormEvents.set(events);
+            }
+            activeStorms.incrementAndGet();
+            Counter.builder("eureka.churn.storms")
+                .description("Registration/cancellation storms detected per application")
+                .tag("app", appName.toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+            log.warn("🌪️  [STORM] {} registration storm started - {} events within {}s (live instances: {})",
+                    appName, events, TimeUnit.MILLISECONDS.toSeconds(windowMillis),
+                    registryCounters.getAppInstanceCount(appName));
+            alertService.sendAlert(
+                AlertService.AlertType.WARNING,
+                "Registration Storm",
+                String.format("%s: %d register/cancel events within %ds, per-event alerts suppressed until it settles",
+                        appName, events, TimeUnit.MILLISECONDS.toSeconds(windowMillis)),
+                appName
+            );
+        }
+    }
+
+    private int stormThreshold(String appName) {
+        int live = registryCounters.getAppInstanceCount(appName);
+        return (int) Math.max(stormMinEvents, Math.ceil(live * stormInstanceFactor));
+    }
+
+    /**
+     * ✅ storm 종료 판정 및 유휴 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${eureka.monitoring.churn.sweep-interval-ms:30000}")
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    void sweep(long now) {
+        apps.forEach((appName, app) -> {
+            int events = app.registrations.sum(now) + app.cancellations.sum(now);
+            if (app.stormStartedAt > 0 && events < stormThreshold(appName) / 2) {
+                long duration = now - app.stormStartedAt;
+                int total = app.stormEvents.get();
+                app.stormStartedAt = 0;
+                activeStorms.decrementAndGet();
+                log.info("🌤️  [STORM] {} registration storm ended - {} events over {}s (live instances: {})",
+                        appName, total, TimeUnit.MILLISECONDS.toSeconds(duration),
+                        registryCounters.getAppInstanceCount(appName));
+                alertService.sendAlert(
+                    AlertService.AlertType.INFO,
+                    "Registration Storm Ended",
+                    String.format("%s: %d register/cancel events over %ds, %d instances live",
+                            appName, total, TimeUnit.MILLISECONDS.toSeconds(duration),
+                            registryCounters.getAppInstanceCount(appName)),
+                    appName
+                );
+            }
+            if (events == 0 && app.stormStartedAt == 0) {
+                apps.remove(appName, app);
+            }
+        });
+
+        instances.forEach((key, instance) -> {
+            if (instance.flapping && instance.transitions.sum(now) / 2 < flapThreshold) {
+                instance.flapping = false;
+                flappingInstances.decrementAndGet();
+                log.info("✅ [FLAPPING] {} stabilized", key);
+            }
+            if (!instance.flapping && now - instance.lastSeen > windowMillis) {
+                instances.remove(key, instance);
+            }
+        });
+    }
+
+    private AppChurn appFor(String appName) {
+        return apps.computeIfAbsent(appName, k -> new AppChurn(windowMillis));
+    }
+
+    private static final class AppChurn {
+        private final SlidingWindowCounter registrations;
+        private final SlidingWindowCounter cancellations;
+        private final AtomicInteger stormEvents = new AtomicInteger();
+        private volatile long stormStartedAt;
+
+        private AppChurn(long windowMillis) {
+            this.registrations = new SlidingWindowCounter(windowMillis, BUCKETS);
+            this.cancellations = new SlidingWindowCounter(windowMillis, BUCKETS);
+        }
+    }
+
+    private static final class InstanceChurn {
+        private final SlidingWindowCounter transitions;
+        private volatile long lastSeen;
+        private volatile boolean flapping;
+
+        private InstanceChurn(long windowMillis) {
+            this.transitions = new SlidingWindowCounter(windowMillis, BUCKETS);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.server.eureka.custom;
+
+import com.netflix.appinfo.InstanceInfo;
+import lombok.Getter;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+
+/**
+ * ✅ 레지스트리 이벤트 (요청 스레드 → 이벤트 큐 전달용)
+ *
+ * 요청 스레드에서는 필요한 필드만 복사해서 큐에 넣고,
+ * 실제 처리는 {@link RegistryEventPipeline} 소비자 스레드가 담당한다.
+ *
+ * instanceInfo 는 레지스트리가 계속 고쳐 쓰는 살아있는 객체다. 소비자가 읽는 가변 필드(상태, dirty 시각, VIP)는
+ * 이벤트를 만들 때 복사해 두므로 소비 시점이 늦어도 이벤트 시점의 값을 본다. instanceInfo 에서는 등록 시 고정되는 값만 읽는다.
+ */
+@Getter
+public final class RegistryEvent {
+
+    public enum Type {
+        REGISTERED, RENEWED, CANCELED, STATUS_CHANGED
+    }
+
+    // Eureka 의 lease 만료(eviction)는 이 타이머 스레드에서 replication=false 인 cancel 로 발행된다
+    private static final String EVICTION_THREAD_NAME = "Eureka-EvictionTimer";
+    // eureka.eviction.wheel.enabled=true 면 LeaseExpiryWheel 스레드에서 만료된다
+    public static final String EXPIRY_WHEEL_THREAD_NAME = "eureka-lease-expiry";
+
+    private final Type type;
+    private final String appName;
+    private final String instanceId;
+    private final InstanceInfo instanceInfo;
+    private final InstanceInfo.InstanceStatus status;
+    private final Long lastDirtyTimestamp;
+    private final String vipAddress;
+    private final int leaseDurationSecs;
+    private final boolean replication;
+    private final boolean eviction;
+    private final long timestamp;
+
+    private RegistryEvent(Type type, String appName, String instanceId, InstanceInfo instanceInfo,
+                          int leaseDurationSecs, boolean replication, boolean eviction) {
+        this.type = type;
+        this.appName = appName;
+        this.instanceId = instanceId;
+        this.instanceInfo = instanceInfo;
+        this.status = instanceInfo != null ? instanceInfo.getStatus() : null;
+        this.lastDirtyTimestamp = instanceInfo != null ? instanceInfo.getLastDirtyTimestamp() : null;
+        this.vipAddress = instanceInfo != null ? instanceInfo.getVIPAddress() : null;
+        this.leaseDurationSecs = leaseDurationSecs;
+        this.replication = replication;
+        this.eviction = eviction;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public static RegistryEvent registered(EurekaInstanceRegisteredEvent event) {
+        InstanceInfo info = event.getInstanceInfo();
+        return new RegistryEvent(Type.REGISTERED, info.getAppName(), info.getId(), info,
+                event.getLeaseDuration(), event.isReplication(), false);
+    }
+
+    public static RegistryEvent renewed(EurekaInstanceRenewedEvent event) {
+        InstanceInfo info = event.getInstanceInfo();
+        int leaseDuration = info != null && info.getLeaseInfo() != null ? info.getLeaseInfo().getDurationInSecs() : 0;
+        return new RegistryEvent(Type.RENEWED, event.getAppName(), event.getServerId(), info,
+                leaseDuration, event.isReplication(), false);
+    }
+
+    public static RegistryEvent canceled(EurekaInstanceCanceledEvent event) {
+        String thread = Thread.currentThread().getName();
+        boolean eviction = !event.isReplication()
+                && (EVICTION_THREAD_NAME.equals(thread) || EXPIRY_WHEEL_THREAD_NAME.equals(thread));
+        return new RegistryEvent(Type.CANCELED, event.getAppName(), event.getServerId(), null,
+                0, event.isReplication(), eviction);
+    }
+
+    /**
+     * ✅ 상태 변경 (StatusUpdate / DeleteStatusOverride 가 레지스트리에 반영된 직후, {@link EventPublishingInstanceRegistry})
+     */
+    public static RegistryEvent statusChanged(String appName, String instanceId, InstanceInfo info, boolean replication) {
+        return new RegistryEvent(Type.STATUS_CHANGED, appName, instanceId, info, 0, replication, false);
+    }
+}
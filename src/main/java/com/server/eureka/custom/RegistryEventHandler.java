@@ -0,0 +1,12 @@
+package com.server.eureka.custom;
+
+/**
+ * ✅ 레지스트리 이벤트 핸들러
+ *
+ * {@link RegistryEventPipeline} 소비자 스레드에서 호출된다.
+ * 같은 인스턴스의 이벤트는 항상 같은 소비자가 순서대로 처리한다.
+ */
+public interface RegistryEventHandler {
+
+    void onEvent(RegistryEvent event);
+}
@@ -0,0 +1,177 @@
+package com.server.eureka.custom;
+
+import com.server.eureka.support.BoundedRingQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 레지스트리 이벤트 비동기 파이프라인
+ *
+ * Eureka 요청 스레드(heartbeat/등록/해제)는 이벤트를 lock-free 링 버퍼에 넣기만 하고 즉시 반환한다.
+ * 소비자 스레드가 배치 단위로 꺼내서 {@link RegistryEventHandler} 들에 전달한다.
+ * 인스턴스 단위로 파티셔닝하므로 같은 인스턴스의 이벤트 순서는 보장된다.
+ * 큐가 가득 차면 이벤트를 버리고 카운트한다 (카운터 오차는 주기적 reconcile 로 보정).
+ */
+@Component
+@Slf4j
+public class RegistryEventPipeline implements SmartLifecycle {
+
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ObjectProvider<RegistryEventHandler> handlerProvider;
+    private final int batchSize;
+    private final BoundedRingQueue<RegistryEvent>[] partitions;
+    private final Counter[] droppedByType;
+    private final Counter processed;
+    private final DistributionSummary batchSizes;
+
+    private volatile List<RegistryEventHandler> handlers = List.of();
+    private volatile boolean running;
+    private Thread[] consumers;
+
+    @SuppressWarnings("unchecked")
+    public RegistryEventPipeline(ObjectProvider<RegistryEventHandler> handlerProvider,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${eureka.monitoring.events.queue-capacity:65536}") int queueCapacity,
+                                 @Value("${eureka.monitoring.events.consumers:1}") int consumerCount,
+                                 @Value("${eureka.monitoring.events.batch-size:512}") int batchSize) {
+        this.handlerProvider = handlerProvider;
+        this.batchSize = batchSize;
+
+        int partitionCount = Math.max(1, consumerCount);
+        this.partitions = new BoundedRingQueue[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new BoundedRingQueue<>(Math.max(2, queueCapacity / partitionCount));
+        }
+
+        RegistryEvent.Type[] types = RegistryEvent.Type.values();
+        this.droppedByType = new Counter[types.length];
+        for (RegistryEvent.Type type : types) {
+            droppedByType[type.ordinal()] = Counter.builder("eureka.events.dropped")
+                .description("Registry events dropped because the event queue was full")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+        this.processed = Counter.builder("eureka.events.processed").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("eureka.events.batch.size").register(meterRegistry);
+        Gauge.builder("eureka.events.queue.depth", this, RegistryEventPipeline::getQueueDepth)
+            .register(meterRegistry);
+        Gauge.builder("eureka.events.queue.capacity", this, RegistryEventPipeline::getQueueCapacity)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 요청 스레드에서 호출 - 블로킹 없음
+     *
+     * @return 큐가 가득 차서 버려진 경우 false
+     */
+    public boolean publish(RegistryEvent event) {
+        if (partitionFor(event).offer(event)) {
+            return true;
+        }
+        droppedByType[event.getType().ordinal()].increment();
+        return false;
+    }
+
+    private BoundedRingQueue<RegistryEvent> partitionFor(RegistryEvent event) {
+        if (partitions.length == 1) {
+            return partitions[0];
+        }
+        int hash = 31 * String.valueOf(event.getAppName()).hashCode() + String.valueOf(event.getInstanceId()).hashCode();
+        return partitions[Math.floorMod(hash ^ (hash >>> 16), partitions.length)];
+    }
+
+    private void consume(BoundedRingQueue<RegistryEvent> queue) {
+        long parkNanos = 1_000;
+        while (running || !queue.isEmpty()) {
+            int drained = queue.drain(this::dispatch, batchSize);
+            if (drained > 0) {
+                processed.increment(drained);
+                batchSizes.record(drained);
+                parkNanos = 1_000;
+            } else {
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos << 1, MAX_IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void dispatch(RegistryEvent event) {
+        for (RegistryEventHandler handler : handlers) {
+            try {
+                handler.onEvent(event);
+            } catch (Exception e) {
+                log.warn("Error handling registry event {} for {}/{} in {}", event.getType(),
+                        event.getAppName(), event.getInstanceId(), handler.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        handlers = handlerProvider.orderedStream().toList();
+        running = true;
+        consumers = new Thread[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            BoundedRingQueue<RegistryEvent> queue = partitions[i];
+            Thread consumer = new Thread(() -> consume(queue), "eureka-event-consumer-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers[i] = consumer;
+        }
+        log.info("✅ Registry event pipeline started - {} consumer(s), {} handler(s), capacity {}",
+                partitions.length, handlers.size(), getQueueCapacity());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Thread consumer : consumers) {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("🛑 Registry event pipeline stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (BoundedRingQueue<RegistryEvent> partition : partitions) {
+            depth += partition.size();
+        }
+        return depth;
+    }
+
+    public int getQueueCapacity() {
+        int capacity = 0;
+        for (BoundedRingQueue<RegistryEvent> partition : partitions) {
+            capacity += partition.capacity();
+        }
+        return capacity;
+    }
+}
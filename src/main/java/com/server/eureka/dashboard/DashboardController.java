@@ -0,0 +1,121 @@
+package com.server.eureka.dashboard;
+
+import com.server.eureka.dashboard.DashboardService.DashboardPage;
+import com.server.eureka.dashboard.DashboardService.SortKey;
+import com.server.eureka.index.IndexedInstance;
+import com.server.eureka.index.RegistryIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 대규모 레지스트리용 경량 대시보드
+ *
+ * 기본 Eureka 대시보드(/)는 모든 인스턴스를 한 페이지에 서버 렌더링하므로 수천 개 인스턴스에서 느려진다.
+ * 여기서는 정적 페이지(/registry/dashboard)가 아래 JSON API 를 페이지 단위로 호출한다.
+ * - GET /registry/dashboard/api/summary
+ * - GET /registry/dashboard/api/instances?page=1&size=50&sort=app&dir=asc&status=UP&zone=zone-a&app=ORDER
+ * - GET /registry/dashboard/api/applications?page=1&size=50&sort=instances&dir=desc
+ */
+@RestController
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public DashboardController(DashboardService dashboardService,
+                               @Value("${eureka.dashboard.lite.default-page-size:50}") int defaultPageSize,
+                               @Value("${eureka.dashboard.lite.max-page-size:500}") int maxPageSize) {
+        this.dashboardService = dashboardService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @GetMapping("/registry/dashboard")
+    public ModelAndView page() {
+        return new ModelAndView("forward:/registry/dashboard/index.html");
+    }
+
+    @GetMapping("/registry/dashboard/api/summary")
+    public Map<String, Object> summary() {
+        return dashboardService.summary();
+    }
+
+    @GetMapping("/registry/dashboard/api/instances")
+    public DashboardPage<IndexedInstance> instances(@RequestParam(defaultValue = "1") int page,
+                                                    @RequestParam(required = false) Integer size,
+                                                    @RequestParam(required = false) String sort,
+                                                    @RequestParam(defaultValue = "asc") String dir,
+                                                    @RequestParam(required = false) String app,
+                                                    @RequestParam(required = false) String status,
+                                                    @RequestParam(required = false) String zone,
+                                                    @RequestParam(required = false) String vip,
+                                                    @RequestParam(required = false) String host) {
+        Map<String, List<String>> criteria = new LinkedHashMap<>();
+        addCriterion(criteria, RegistryIndex.APP, app);
+        addCriterion(criteria, RegistryIndex.STATUS, status);
+        addCriterion(criteria, RegistryIndex.ZONE, zone);
+        addCriterion(criteria, RegistryIndex.VIP, vip);
+        addCriterion(criteria, RegistryIndex.HOST, host);
+        return dashboardService.instances(criteria, parseSort(sort), isDescending(dir), page, pageSize(size));
+    }
+
+    @GetMapping("/registry/dashboard/api/applications")
+    public DashboardPage<Map<String, Object>> applications(@RequestParam(defaultValue = "1") int page,
+                                                           @RequestParam(required = false) Integer size,
+                                                           @RequestParam(defaultValue = "name") String sort,
+                                                           @RequestParam(defaultValue = "asc") String dir) {
+        boolean byInstances = switch (sort) {
+            case "name" -> false;
+            case "instances" -> true;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Invalid sort '" + sort + "' (supported: name, instances)");
+        };
+        return dashboardService.applications(byInstances, isDescending(dir), page, pageSize(size));
+    }
+
+    private int pageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private static SortKey parseSort(String sort) {
+        try {
+            return SortKey.parse(sort);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Invalid sort '" + sort + "' (supported: " + List.of(SortKey.values()) + ")");
+        }
+    }
+
+    private static boolean isDescending(String dir) {
+        return "desc".equalsIgnoreCase(dir);
+    }
+
+    private static void addCriterion(Map<String, List<String>> criteria, String dimension, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                values.add(part);
+            }
+        }
+        if (!values.isEmpty()) {
+            criteria.put(dimension, values);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.server.eureka.dashboard;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.config.SelfPreservationConfig;
+import com.server.eureka.index.IndexedInstance;
+import com.server.eureka.index.RegistryIndex;
+import com.server.eureka.observability.AdvancedMetricsCollector;
+import com.server.eureka.observability.RegistryCounters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 대시보드 데이터 (페이지 단위)
+ *
+ * 정렬된 전체 뷰는 정렬 키별로 캐시하고, 인덱스 버전이 바뀌었더라도 min-rebuild-interval-ms 안에서는 재사용한다.
+ * 따라서 필터 없는 페이지 조회는 배열 슬라이스(O(page size))이고, 정렬 비용은 요청 수와 무관하게
+ * 주기당 최대 한 번이다. 필터가 있으면 보조 인덱스로 일치하는 인스턴스만 가져와 정렬하고,
+ * 그 결과를 (조건, 정렬 키) 별로 같은 규칙으로 캐시한다 (최대 {@value #MAX_FILTERED_VIEWS} 개, 넘으면 비우고 다시 채움).
+ */
+@Component
+public class DashboardService {
+
+    private static final Comparator<String> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+    private static final int MAX_FILTERED_VIEWS = 64;
+
+    /**
+     * LAST_UPDATED 는 색인 시점의 InstanceInfo.lastUpdatedTimestamp 로 정렬한다. 이 값은 등록/상태 변경 때 바뀌고
+     * 인덱스는 등록과 상태/lastDirtyTimestamp 가 바뀐 갱신에서 재색인하므로, 상태 변경이 갱신 없이 들어오면
+     * 다음 갱신(기본 30초)까지 이전 순서로 보일 수 있다.
+     */
+    public enum SortKey {
+        APP(Comparator.comparing(IndexedInstance::app, NULLS_LAST)),
+        INSTANCE_ID(Comparator.comparing(IndexedInstance::instanceId, NULLS_LAST)),
+        STATUS(Comparator.comparing(IndexedInstance::status, NULLS_LAST)),
+        HOST(Comparator.comparing(IndexedInstance::hostName, NULLS_LAST)),
+        ZONE(Comparator.comparing(IndexedInstance::zone, NULLS_LAST)),
+        LAST_UPDATED(Comparator.comparingLong(IndexedInstance::lastUpdatedTimestamp));
+
+        // 같은 값이면 app → instanceId 순으로 고정 (페이지 경계가 요청마다 흔들리지 않도록)
+        private final Comparator<IndexedInstance> comparator;
+
+        SortKey(Comparator<IndexedInstance> primary) {
+            this.comparator = primary
+                    .thenComparing(IndexedInstance::app, NULLS_LAST)
+                    .thenComparing(IndexedInstance::instanceId, NULLS_LAST);
+        }
+
+        public static SortKey parse(String value) {
+            if (value == null || value.isBlank()) {
+                return APP;
+            }
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private final RegistryIndex registryIndex;
+    private final RegistryCounters registryCounters;
+    private final AdvancedMetricsCollector advancedMetricsCollector;
+    private final SelfPreservationConfig selfPreservationConfig;
+    private final long minRebuildIntervalMillis;
+
+    private final Map<SortKey, SortedView> views = new ConcurrentHashMap<>();
+    private final Map<FilteredKey, SortedView> filteredViews = new ConcurrentHashMap<>();
+
+    public DashboardService(RegistryIndex registryIndex,
+                            RegistryCounters registryCounters,
+                            AdvancedMetricsCollector advancedMetricsCollector,
+                            SelfPreservationConfig selfPreservationConfig,
+                            @Value("${eureka.dashboard.lite.min-rebuild-interval-ms:2000}") long minRebuildIntervalMillis) {
+        this.registryIndex = registryIndex;
+        this.registryCounters = registryCounters;
+        this.advancedMetricsCollector = advancedMetricsCollector;
+        this.selfPreservationConfig = selfPreservationConfig;
+        this.minRebuildIntervalMillis = minRebuildIntervalMillis;
+    }
+
+    /**
+     * ✅ 요약 (보호 모드 상태 + 카운터 기반 집계, 레지스트리 순회 없음)
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("applications", (long) advancedMetricsCollector.getTotalApplications());
+        counts.put("instances", (long) advancedMetricsCollector.getTotalInstances());
+        counts.put("peerNodes", advancedMetricsCollector.getTotalPeerNodes().longValue());
+        counts.put("registrySizeBytes", (long) advancedMetricsCollector.getRegistrySizeBytes());
+        counts.put("memoryUtilization", advancedMetricsCollector.getMemoryUtilization());
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (InstanceStatus status : InstanceStatus.values()) {
+            byStatus.put(status.name(), registryCounters.getInstanceCount(status));
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("generatedAt", System.currentTimeMillis());
+        summary.put("selfPreservation", selfPreservationConfig.getSelfPreservationStatus());
+        summary.put("counts", counts);
+        summary.put("instancesByStatus", byStatus);
+        return summary;
+    }
+
+    /**
+     * ✅ 인스턴스 한 페이지
+     */
+    public DashboardPage<IndexedInstance> instances(Map<String, List<String>> criteria, SortKey sort,
+                                                    boolean descending, int page, int size) {
+        if (criteria.isEmpty()) {
+            SortedView view = view(sort);
+            return slice(Arrays.asList(view.instances), descending, page, size, view.builtAt);
+        }
+        SortedView view = filteredView(criteria, sort);
+        return slice(Arrays.asList(view.instances), descending, page, size, view.builtAt);
+    }
+
+    /**
+     * ✅ 애플리케이션 목록 한 페이지 (이름 또는 인스턴스 수 정렬)
+     */
+    public DashboardPage<Map<String, Object>> applications(boolean byInstances, boolean descending, int page, int size) {
+        List<Map.Entry<String, Integer>> apps = new ArrayList<>(registryIndex.getAppInstanceCounts().entrySet());
+        Comparator<Map.Entry<String, Integer>> comparator = byInstances
+                ? Map.Entry.<String, Integer>comparingByValue().thenComparing(Map.Entry.comparingByKey())
+                : Map.Entry.comparingByKey();
+        apps.sort(comparator);
+
+        DashboardPage<Map.Entry<String, Integer>> entries = slice(apps, descending, page, size, System.currentTimeMillis());
+        List<Map<String, Object>> items = new ArrayList<>(entries.items().size());
+        for (Map.Entry<String, Integer> entry : entries.items()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", entry.getKey());
+            item.put("instances", entry.getValue());
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            for (InstanceStatus status : InstanceStatus.values()) {
+                long count = registryCounters.getAppInstanceCount(entry.getKey(), status);
+                if (count > 0) {
+                    statuses.put(status.name(), count);
+                }
+            }
+            item.put("statuses", statuses);
+            items.add(item);
+        }
+        return new DashboardPage<>(entries.page(), entries.size(), entries.total(), entries.totalPages(), items,
+                entries.viewBuiltAt());
+    }
+
+    private SortedView view(SortKey sort) {
+        SortedView view = views.get(sort);
+        if (isFresh(view)) {
+            return view;
+        }
+        // 동시에 여러 요청이 와도 정렬 키당 한 번만 다시 만든다
+        return views.compute(sort, (key, current) -> {
+            if (isFresh(current)) {
+                return current;
+            }
+            long snapshotVersion = registryIndex.getVersion();
+            IndexedInstance[] instances = registryIndex.snapshot().toArray(new IndexedInstance[0]);
+            Arrays.sort(instances, key.comparator);
+            return new SortedView(snapshotVersion, System.currentTimeMillis(), instances);
+        });
+    }
+
+    private SortedView filteredView(Map<String, List<String>> criteria, SortKey sort) {
+        FilteredKey filteredKey = FilteredKey.of(criteria, sort);
+        SortedView view = filteredViews.get(filteredKey);
+        if (isFresh(view)) {
+            return view;
+        }
+        if (view == null && filteredViews.size() >= MAX_FILTERED_VIEWS) {
+            filteredViews.clear();
+        }
+        return filteredViews.compute(filteredKey, (key, current) -> {
+            if (isFresh(current)) {
+                return current;
+            }
+            long snapshotVersion = registryIndex.getVersion();
+            IndexedInstance[] instances = registryIndex.query(key.criteria(), Integer.MAX_VALUE).instances()
+                    .toArray(new IndexedInstance[0]);
+            Arrays.sort(instances, key.sort().comparator);
+            return new SortedView(snapshotVersion, System.currentTimeMillis(), instances);
+        });
+    }
+
+    /**
+     * 인덱스가 그대로이거나, 바뀌었어도 min-rebuild-interval-ms 안이면 재사용
+     */
+    private boolean isFresh(SortedView view) {
+        return view != null && (view.version == registryIndex.getVersion()
+                || System.currentTimeMillis() - view.builtAt < minRebuildIntervalMillis);
+    }
+
+    private static <T> DashboardPage<T> slice(List<T> items, boolean descending, int page, int size, long builtAt) {
+        int total = items.size();
+        int totalPages = Math.max(1, (total + size - 1) / size);
+        int current = Math.min(Math.max(1, page), totalPages);
+        int from = (current - 1) * size;
+        int to = Math.min(total, from + size);
+        List<T> pageItems = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            pageItems.add(items.get(descending ? total - 1 - i : i));
+        }
+        return new DashboardPage<>(current, size, total, totalPages, pageItems, builtAt);
+    }
+
+    private record SortedView(long version, long builtAt, IndexedInstance[] instances) {
+    }
+
+    private record FilteredKey(Map<String, List<String>> criteria, SortKey sort) {
+
+        static FilteredKey of(Map<String, List<String>> criteria, SortKey sort) {
+            Map<String, List<String>> copy = new LinkedHashMap<>();
+            criteria.forEach((dimension, values) -> copy.put(dimension, List.copyOf(values)));
+            return new FilteredKey(Map.copyOf(copy), sort);
+        }
+    }
+
+    /**
+     * ✅ 페이지 응답 (viewBuiltAt: 정렬 뷰를 만든 시각 - 최대 min-rebuild-interval-ms 만큼 늦을 수 있음)
+     */
+    public record DashboardPage<T>(int page, int size, int total, int totalPages, List<T> items, long viewBuiltAt) {
+    }
+}
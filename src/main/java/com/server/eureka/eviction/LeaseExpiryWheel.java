@@ -0,0 +1,378 @@
+package com.server.eureka.eviction;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.AbstractInstanceRegistry;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.util.EurekaMonitors;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.custom.RegistryEventHandler;
+import com.server.eureka.support.HierarchicalTimingWheel;
+import com.server.eureka.support.HierarchicalTimingWheel.Timeout;
+import com.server.eureka.view.RegistryView;
+import com.server.eureka.view.RegistryView.AppView;
+import com.server.eureka.view.RegistryViewPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.netflix.eureka.server.EurekaServerConfigBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 타이밍 휠 기반 lease 만료 (eureka.eviction.wheel.enabled=true 일 때만)
+ *
+ * 기본 EvictionTask 는 eviction-interval-timer-in-ms 마다 모든 lease 를 훑으므로, 만료 감지가 최대 한 주기 늦고
+ * 비용이 전체 인스턴스 수에 비례한다. 여기서는 lease 마다 만료 시각을 {@link HierarchicalTimingWheel} 에 걸어두고
+ * 갱신 이벤트가 오면 마감만 늦춘다. 휠 스레드는 tick-ms 마다 마감이 지난 슬롯만 처리한다.
+ * - 마감이 지나면 레지스트리의 실제 lease 로 다시 확인한다 (Eureka 기준으로 아직 유효하면 실제 마감으로 재예약)
+ * - 보호 모드(isLeaseExpirationEnabled=false)면 만료를 미룬다
+ * - Eureka evict() 와 같은 상한: 원래 eviction 주기 동안 (등록 수 - 등록 수 x renewal-percent-threshold) 개까지만
+ * - 만료는 Eureka 와 같이 internalCancel(app, id, false) 로 처리한다 (피어에 복제하지 않음, 각 피어가 스스로 만료)
+ * - 레지스트리에서 이미 빠진 lease (휠이 보기 전에 해제/만료됨) 는 만료로 세지 않고 상한도 쓰지 않는다
+ * 기존 EvictionTask 는 fallback-scan-interval-ms 주기로 늦춰 누락 대비용 안전망으로만 남긴다.
+ * 이를 위해 생성 시 EurekaServerConfigBean 의 eviction-interval-timer-in-ms 를 그 값으로 바꾼다
+ * (상한 구간은 바꾸기 전의 원래 주기를 쓴다. 설정 파일로 주기를 늘리면 상한 구간까지 늘어나므로 코드에서 바꾼다).
+ */
+@Component
+@ConditionalOnProperty(name = "eureka.eviction.wheel.enabled", havingValue = "true")
+@Slf4j
+public class LeaseExpiryWheel implements RegistryEventHandler, SmartLifecycle {
+
+    private static final long DEFAULT_LEASE_DURATION_MILLIS = TimeUnit.SECONDS.toMillis(LeaseInfo.DEFAULT_LEASE_DURATION);
+
+    private final EurekaServerContext eurekaServerContext;
+    private final RegistryViewPublisher registryViewPublisher;
+    private final EurekaServerConfig serverConfig;
+    private final HierarchicalTimingWheel<LeaseKey> wheel;
+    private final long tickMillis;
+    private final long capWindowMillis;
+    private final long deferMillis;
+
+    // app → instanceId → 휠 항목 (갱신 fast path: 조회 후 마감 갱신만, 할당 없음)
+    private final Map<String, Map<String, Timeout<LeaseKey>>> leases = new ConcurrentHashMap<>();
+
+    // 휠 스레드 전용: 만료 상한 구간
+    private long capWindowStart;
+    private int capWindowLimit;
+    private int capWindowEvicted;
+
+    private final MethodHandle internalCancel;
+    private final Timer lateness;
+    private final Counter evicted;
+    private final Counter deferredBySelfPreservation;
+    private final Counter deferredByCap;
+
+    private volatile boolean running;
+    private Thread ticker;
+
+    public LeaseExpiryWheel(EurekaServerContext eurekaServerContext,
+                            RegistryViewPublisher registryViewPublisher,
+                            EurekaServerConfig serverConfig,
+                            MeterRegistry meterRegistry,
+                            @Value("${eureka.eviction.wheel.tick-ms:100}") long tickMillis,
+                            @Value("${eureka.eviction.wheel.defer-ms:1000}") long deferMillis,
+                            @Value("${eureka.eviction.wheel.fallback-scan-interval-ms:300000}") long fallbackScanIntervalMillis) {
+        this.eurekaServerContext = eurekaServerContext;
+        this.registryViewPublisher = registryViewPublisher;
+        this.serverConfig = serverConfig;
+        this.tickMillis = Math.max(1L, tickMillis);
+        this.deferMillis = Math.max(this.tickMillis, deferMillis);
+        this.wheel = new HierarchicalTimingWheel<>(this.tickMillis, System.currentTimeMillis());
+        this.capWindowMillis = Math.max(this.tickMillis, serverConfig.getEvictionIntervalTimerInMs());
+        this.internalCancel = findInternalCancel();
+
+        // 기존 스캔은 openForTraffic 때 예약되므로 그 전에 주기만 늘려 둔다
+        if (serverConfig instanceof EurekaServerConfigBean configBean
+                && fallbackScanIntervalMillis > configBean.getEvictionIntervalTimerInMs()) {
+            configBean.setEvictionIntervalTimerInMs(fallbackScanIntervalMillis);
+            log.info("⏱️  [EVICTION] Full-registry eviction scan relaxed to every {}s (timing wheel handles expiry)",
+                    TimeUnit.MILLISECONDS.toSeconds(fallbackScanIntervalMillis));
+        }
+
+        this.lateness = Timer.builder("eureka.lease.expiry.lateness")
+            .description("Time between a lease's deadline and its eviction by the timing wheel")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.evicted = Counter.builder("eureka.lease.expiry.evicted").register(meterRegistry);
+        this.deferredBySelfPreservation = Counter.builder("eureka.lease.expiry.deferred")
+            .tag("reason", "self_preservation")
+            .register(meterRegistry);
+        this.deferredByCap = Counter.builder("eureka.lease.expiry.deferred")
+            .tag("reason", "eviction_cap")
+            .register(meterRegistry);
+        Gauge.builder("eureka.lease.expiry.tracked", wheel, HierarchicalTimingWheel::size).register(meterRegistry);
+    }
+
+    private record LeaseKey(String app, String instanceId, long durationMillis) {
+    }
+
+    /**
+     * ✅ 파이프라인 소비자 스레드 - 등록/해제는 휠에 걸고 빼고, 갱신은 마감만 늦춘다
+     */
+    @Override
+    public void onEvent(RegistryEvent event) {
+        if (event.getAppName() == null || event.getInstanceId() == null) {
+            return;
+        }
+        String app = event.getAppName().toUpperCase(Locale.ROOT);
+        switch (event.getType()) {
+            case REGISTERED -> track(app, event.getInstanceId(), durationMillis(event.getLeaseDurationSecs()),
+                    event.getTimestamp());
+            case RENEWED -> {
+                Timeout<LeaseKey> timeout = lookup(app, event.getInstanceId());
+                if (timeout != null && timeout.isActive()) {
+                    timeout.extend(event.getTimestamp() + timeout.payload().durationMillis());
+                } else {
+                    track(app, event.getInstanceId(), durationMillis(event.getLeaseDurationSecs()), event.getTimestamp());
+                }
+            }
+            case CANCELED -> untrack(app, event.getInstanceId());
+        }
+    }
+
+    private void track(String app, String instanceId, long durationMillis, long renewedAt) {
+        Timeout<LeaseKey> timeout = wheel.schedule(new LeaseKey(app, instanceId, durationMillis), renewedAt + durationMillis);
+        Timeout<LeaseKey> previous = leases.computeIfAbsent(app, key -> new ConcurrentHashMap<>()).put(instanceId, timeout);
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+    }
+
+    private void untrack(String app, String instanceId) {
+        Map<String, Timeout<LeaseKey>> byId = leases.get(app);
+        Timeout<LeaseKey> timeout = byId != null ? byId.remove(instanceId) : null;
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    private Timeout<LeaseKey> lookup(String app, String instanceId) {
+        Map<String, Timeout<LeaseKey>> byId = leases.get(app);
+        return byId != null ? byId.get(instanceId) : null;
+    }
+
+    private static long durationMillis(int leaseDurationSecs) {
+        return leaseDurationSecs > 0 ? TimeUnit.SECONDS.toMillis(leaseDurationSecs) : DEFAULT_LEASE_DURATION_MILLIS;
+    }
+
+    /**
+     * ✅ 휠 스레드 - 마감이 지난 lease 처리
+     *
+     * @return 유지할 경우 새 마감 시각, 제거하면 -1
+     */
+    private long onExpired(Timeout<LeaseKey> timeout, long now) {
+        PeerAwareInstanceRegistry registry = eurekaServerContext.getRegistry();
+        if (registry == null) {
+            return now + deferMillis;
+        }
+        if (!registry.isLeaseExpirationEnabled()) {
+            deferredBySelfPreservation.increment();
+            return now + deferMillis;
+        }
+
+        LeaseKey lease = timeout.payload();
+        // 만료 판정이 켜져 있으면 Eureka 는 만료된 lease 를 null 로 돌려준다
+        InstanceInfo info = registry.getInstanceByAppAndId(lease.app(), lease.instanceId(), false);
+        if (info != null) {
+            return actualDeadline(info, now, lease.durationMillis());
+        }
+
+        // null 은 만료된 경우와 이미 사라진 경우 모두 - 사라진 lease 는 정리만 한다
+        if (hasLease(registry, lease)) {
+            if (!acquireEvictionPermit(now)) {
+                deferredByCap.increment();
+                return capWindowStart + capWindowMillis;
+            }
+            if (evict(registry, lease)) {
+                evicted.increment();
+                lateness.record(Math.max(0L, now - timeout.deadline()), TimeUnit.MILLISECONDS);
+                log.info("⌛ [EVICTION] Lease expired for {}/{} ({}ms after deadline)",
+                        lease.app(), lease.instanceId(), Math.max(0L, now - timeout.deadline()));
+            }
+        }
+        Map<String, Timeout<LeaseKey>> byId = leases.get(lease.app());
+        if (byId != null) {
+            byId.remove(lease.instanceId(), timeout);
+        }
+        return -1L;
+    }
+
+    /**
+     * Eureka 의 lease 는 lastRenewalTimestamp + duration 이 지나야 만료된다 (갱신 시각 기준 마감보다 늦을 수 있음)
+     */
+    private static long actualDeadline(InstanceInfo info, long now, long durationMillis) {
+        LeaseInfo leaseInfo = info.getLeaseInfo();
+        long deadline = leaseInfo != null && leaseInfo.getRenewalTimestamp() > 0
+                ? leaseInfo.getRenewalTimestamp() + durationMillis(leaseInfo.getDurationInSecs())
+                : now + durationMillis;
+        return Math.max(deadline, now + 1);
+    }
+
+    /**
+     * Eureka evict() 와 같은 상한 - 한 주기 동안 등록 수의 (1 - renewal-percent-threshold) 까지만 만료
+     */
+    private boolean acquireEvictionPermit(long now) {
+        if (now - capWindowStart >= capWindowMillis) {
+            int registrySize = wheel.size();
+            capWindowStart = now;
+            capWindowLimit = registrySize - (int) (registrySize * serverConfig.getRenewalPercentThreshold());
+            capWindowEvicted = 0;
+        }
+        if (capWindowEvicted >= capWindowLimit) {
+            return false;
+        }
+        capWindowEvicted++;
+        return true;
+    }
+
+    /**
+     * 레지스트리에 lease 가 남아 있는지 (만료 판정 없이). getApplication 은 만료된 lease 도 그대로 담는다
+     */
+    private static boolean hasLease(PeerAwareInstanceRegistry registry, LeaseKey lease) {
+        Application application = registry.getApplication(lease.app(), false);
+        return application != null && application.getByInstanceId(lease.instanceId()) != null;
+    }
+
+    private boolean evict(PeerAwareInstanceRegistry registry, LeaseKey lease) {
+        boolean removed = false;
+        boolean cancelled = false;
+        // 프록시로 감싸져 있으면 protected 메서드는 실제 레지스트리에서 호출한다
+        Object target = AopProxyUtils.getSingletonTarget(registry);
+        Object actual = target != null ? target : registry;
+        if (internalCancel != null && actual instanceof AbstractInstanceRegistry) {
+            try {
+                removed = (boolean) internalCancel.invoke(actual, lease.app(), lease.instanceId(), false);
+                cancelled = true;
+            } catch (Throwable e) {
+                log.warn("internalCancel failed for {}/{}, falling back to cancel", lease.app(), lease.instanceId(), e);
+            }
+        }
+        if (!cancelled) {
+            // isReplication=true: 피어로 복제하지 않는다 (Eureka 만료와 동일)
+            removed = registry.cancel(lease.app(), lease.instanceId(), true);
+        }
+        if (removed) {
+            EurekaMonitors.EXPIRED.increment();
+        }
+        return removed;
+    }
+
+    private static MethodHandle findInternalCancel() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(AbstractInstanceRegistry.class, MethodHandles.lookup());
+            return lookup.findVirtual(AbstractInstanceRegistry.class, "internalCancel",
+                    MethodType.methodType(boolean.class, String.class, String.class, boolean.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("⚠️  AbstractInstanceRegistry.internalCancel not accessible - expired leases will be removed via cancel(replication=true)");
+            return null;
+        }
+    }
+
+    private void tickLoop() {
+        long tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        while (running) {
+            try {
+                wheel.advance(System.currentTimeMillis(), this::onExpired);
+            } catch (Exception e) {
+                log.warn("Error advancing lease expiry wheel", e);
+            }
+            LockSupport.parkNanos(tickNanos);
+        }
+    }
+
+    /**
+     * ✅ 레지스트리 스냅샷 전체 스캔으로 누락된 lease 보정 (주기적, 저빈도)
+     * 이벤트 큐가 넘쳐 등록 이벤트를 놓친 lease 도 휠에 올린다. 사라진 lease 는 마감 때 확인 후 정리된다.
+     * 스냅샷의 갱신 시각은 오래됐을 수 있지만, 마감 때 실제 lease 로 다시 확인하므로 일찍 만료되지는 않는다.
+     */
+    @Scheduled(fixedDelayString = "${eureka.eviction.wheel.reconcile-interval-ms:300000}",
+               initialDelayString = "${eureka.eviction.wheel.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            RegistryView view = registryViewPublisher.current();
+            if (view.version() == 0L) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long corrections = 0;
+            for (AppView application : view.applications()) {
+                for (InstanceInfo info : application.instances()) {
+                    String app = application.name();
+                    Timeout<LeaseKey> timeout = lookup(app, info.getId());
+                    if (timeout == null || !timeout.isActive()) {
+                        LeaseInfo leaseInfo = info.getLeaseInfo();
+                        long duration = durationMillis(leaseInfo != null ? leaseInfo.getDurationInSecs() : 0);
+                        long renewedAt = leaseInfo != null && leaseInfo.getRenewalTimestamp() > 0
+                                ? leaseInfo.getRenewalTimestamp() : now;
+                        track(app, info.getId(), duration, renewedAt);
+                        corrections++;
+                    }
+                }
+            }
+            if (corrections > 0) {
+                log.info("🔧 [EVICTION] Reconciled lease expiry wheel - {} lease(s) added", corrections);
+            }
+        } catch (Exception e) {
+            log.warn("Error reconciling lease expiry wheel", e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        ticker = new Thread(this::tickLoop, RegistryEvent.EXPIRY_WHEEL_THREAD_NAME);
+        ticker.setDaemon(true);
+        ticker.start();
+        log.info("✅ Lease expiry timing wheel started - tick {}ms, eviction cap window {}s",
+                tickMillis, TimeUnit.MILLISECONDS.toSeconds(capWindowMillis));
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(ticker);
+        try {
+            ticker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("🛑 Lease expiry timing wheel stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public int getTrackedLeases() {
+        return wheel.size();
+    }
+}
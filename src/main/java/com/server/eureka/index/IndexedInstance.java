@@ -0,0 +1,92 @@
+package com.server.eureka.index;
+
+import com.netflix.appinfo.AmazonInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ✅ 인덱스에 보관하는 인스턴스 요약 (불변, 조회 결과로도 사용)
+ *
+ * metadata 에는 인덱스 대상 키만 담는다 (eureka.index.metadata-keys).
+ */
+public record IndexedInstance(
+        String app,
+        String instanceId,
+        String status,
+        String vipAddress,
+        String secureVipAddress,
+        String zone,
+        String hostName,
+        String ipAddr,
+        int port,
+        Map<String, String> metadata,
+        long lastDirtyTimestamp,
+        long lastUpdatedTimestamp
+) {
+
+    static IndexedInstance of(InstanceInfo info, Collection<String> metadataKeys) {
+        return of(info, info.getStatus(), info.getLastDirtyTimestamp(), metadataKeys);
+    }
+
+    /**
+     * 상태와 dirty 시각은 이벤트 생성 시 복사해 둔 값을 쓴다 (info 는 그 사이 레지스트리가 바꿨을 수 있다)
+     */
+    static IndexedInstance of(InstanceInfo info, InstanceStatus status, Long dirty, Collection<String> metadataKeys) {
+        Map<String, String> source = info.getMetadata();
+        Map<String, String> metadata = new HashMap<>();
+        if (source != null) {
+            for (String key : metadataKeys) {
+                String value = source.get(key);
+                if (value != null) {
+                    metadata.put(key, value);
+                }
+            }
+        }
+        return new IndexedInstance(
+                info.getAppName() != null ? info.getAppName().toUpperCase(Locale.ROOT) : null,
+                info.getId(),
+                statusName(status),
+                info.getVIPAddress(),
+                info.getSecureVipAddress(),
+                zoneOf(info),
+                info.getHostName(),
+                info.getIPAddr(),
+                info.getPort(),
+                Map.copyOf(metadata),
+                dirty != null ? dirty : 0L,
+                info.getLastUpdatedTimestamp());
+    }
+
+    /**
+     * ✅ 갱신 시 재색인이 필요한지 (상태 또는 dirty 시각이 바뀐 경우만)
+     */
+    boolean isStale(InstanceInfo info) {
+        return isStale(info.getStatus(), info.getLastDirtyTimestamp());
+    }
+
+    boolean isStale(InstanceStatus status, Long dirty) {
+        return !statusName(status).equals(this.status)
+                || (dirty != null && dirty != lastDirtyTimestamp);
+    }
+
+    /**
+     * zone 은 Spring Cloud 의 metadata "zone" 을 우선하고, AWS 면 availability-zone 을 쓴다
+     */
+    private static String zoneOf(InstanceInfo info) {
+        Map<String, String> metadata = info.getMetadata();
+        String zone = metadata != null ? metadata.get("zone") : null;
+        if (zone == null && info.getDataCenterInfo() instanceof AmazonInfo amazon) {
+            zone = amazon.get(AmazonInfo.MetaDataKey.availabilityZone);
+        }
+        return zone;
+    }
+
+    private static String statusName(InstanceStatus status) {
+        return (status != null ? status : InstanceStatus.UNKNOWN).name();
+    }
+}
@@ -0,0 +1,471 @@
+package com.server.eureka.index;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.custom.RegistryEventHandler;
+import com.server.eureka.view.RegistryView;
+import com.server.eureka.view.RegistryView.AppView;
+import com.server.eureka.view.RegistryViewPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ✅ 레지스트리 보조 인덱스 (status / vip / zone / host / app / 지정한 metadata 키)
+ *
+ * 이벤트 파이프라인 소비자 스레드에서 증분으로 갱신한다.
+ * - 등록: 인스턴스 요약을 만들어 이전 값의 posting 을 빼고 새 값을 넣는다
+ * - 갱신/상태 변경: 상태나 lastDirtyTimestamp 가 바뀐 경우에만 재색인 (대부분 락 없이 비교만 하고 끝난다)
+ * - 해제: posting 에서 제거
+ * 한 인스턴스의 posting 변경은 write lock 안에서 한 번에 적용되므로, 조회(read lock)는
+ * 상태가 반쯤 바뀐 인스턴스를 보지 않는다. 조회 비용은 가장 작은 조건의 posting 크기에 비례하며
+ * 전체 레지스트리 크기와 무관하다. 이벤트 누락은 주기적 reconcile 로 보정한다.
+ */
+@Component
+@Slf4j
+public class RegistryIndex implements RegistryEventHandler {
+
+    public static final String STATUS = "status";
+    public static final String VIP = "vip";
+    public static final String ZONE = "zone";
+    public static final String HOST = "host";
+    public static final String APP = "app";
+    public static final String METADATA_PREFIX = "meta.";
+
+    private final RegistryViewPublisher registryViewPublisher;
+    private final List<String> metadataKeys;
+
+    // 갱신 fast path 용 (락 없이 조회, 쓰기는 write lock 안에서)
+    private final Map<String, Map<String, IndexedInstance>> instances = new ConcurrentHashMap<>();
+
+    // 아래는 lock 으로 보호
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedInstance> byKey = new HashMap<>();
+    private final Map<String, Map<String, Set<String>>> postings = new HashMap<>();
+    // 색인이 바뀔 때마다 증가 (파생 뷰 캐시 무효화용)
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter updates;
+    private final Counter reconcileCorrections;
+    private final Timer queryLatency;
+
+    public RegistryIndex(RegistryViewPublisher registryViewPublisher,
+                         MeterRegistry meterRegistry,
+                         @Value("${eureka.index.metadata-keys:version}") List<String> metadataKeys) {
+        this.registryViewPublisher = registryViewPublisher;
+        this.metadataKeys = metadataKeys.stream().map(String::trim).filter(key -> !key.isEmpty()).toList();
+
+        this.updates = Counter.builder("eureka.index.updates")
+            .description("Instances re-indexed after a registration, status or metadata change")
+            .register(meterRegistry);
+        this.reconcileCorrections = Counter.builder("eureka.index.reconcile.corrections").register(meterRegistry);
+        this.queryLatency = Timer.builder("eureka.index.query.latency")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("eureka.index.entries", this, RegistryIndex::size).register(meterRegistry);
+    }
+
+    @Override
+    public void onEvent(RegistryEvent event) {
+        switch (event.getType()) {
+            case REGISTERED -> {
+                if (event.getInstanceInfo() != null) {
+                    upsert(event.getInstanceInfo(), event.getStatus(), event.getLastDirtyTimestamp());
+                }
+            }
+            case RENEWED, STATUS_CHANGED -> {
+                InstanceInfo info = event.getInstanceInfo();
+                if (info != null) {
+                    IndexedInstance current = lookup(event.getAppName(), event.getInstanceId());
+                    if (current == null || current.isStale(event.getStatus(), event.getLastDirtyTimestamp())) {
+                        upsert(info, event.getStatus(), event.getLastDirtyTimestamp());
+                    }
+                }
+            }
+            case CANCELED -> remove(event.getAppName(), event.getInstanceId());
+        }
+    }
+
+    private IndexedInstance lookup(String appName, String instanceId) {
+        if (appName == null || instanceId == null) {
+            return null;
+        }
+        Map<String, IndexedInstance> byId = instances.get(appName.toUpperCase(Locale.ROOT));
+        return byId != null ? byId.get(instanceId) : null;
+    }
+
+    private void upsert(InstanceInfo info) {
+        upsert(info, info.getStatus(), info.getLastDirtyTimestamp());
+    }
+
+    private void upsert(InstanceInfo info, InstanceStatus status, Long lastDirtyTimestamp) {
+        if (info.getAppName() == null || info.getId() == null) {
+            return;
+        }
+        IndexedInstance next = IndexedInstance.of(info, status, lastDirtyTimestamp, metadataKeys);
+        String key = key(next.app(), next.instanceId());
+        lock.writeLock().lock();
+        try {
+            IndexedInstance previous = byKey.put(key, next);
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            index(key, next);
+            version.incrementAndGet();
+            instances.computeIfAbsent(next.app(), app -> new ConcurrentHashMap<>()).put(next.instanceId(), next);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        updates.increment();
+    }
+
+    private void remove(String appName, String instanceId) {
+        if (appName == null || instanceId == null) {
+            return;
+        }
+        String app = appName.toUpperCase(Locale.ROOT);
+        String key = key(app, instanceId);
+        lock.writeLock().lock();
+        try {
+            IndexedInstance previous = byKey.remove(key);
+            if (previous != null) {
+                unindex(key, previous);
+                version.incrementAndGet();
+            }
+            Map<String, IndexedInstance> byId = instances.get(app);
+            if (byId != null) {
+                byId.remove(instanceId);
+                if (byId.isEmpty()) {
+                    instances.remove(app);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(String key, IndexedInstance instance) {
+        forEachTerm(instance, (dimension, value) ->
+                postings.computeIfAbsent(dimension, d -> new HashMap<>())
+                        .computeIfAbsent(value, v -> new HashSet<>())
+                        .add(key));
+    }
+
+    private void unindex(String key, IndexedInstance instance) {
+        forEachTerm(instance, (dimension, value) -> {
+            Map<String, Set<String>> values = postings.get(dimension);
+            Set<String> keys = values != null ? values.get(value) : null;
+            if (keys != null) {
+                keys.remove(key);
+                if (keys.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+        });
+    }
+
+    private void forEachTerm(IndexedInstance instance, TermConsumer consumer) {
+        consumer.accept(APP, instance.app());
+        consumer.accept(STATUS, instance.status());
+        addVips(instance.vipAddress(), consumer);
+        addVips(instance.secureVipAddress(), consumer);
+        if (instance.zone() != null) {
+            consumer.accept(ZONE, instance.zone().toLowerCase(Locale.ROOT));
+        }
+        if (instance.hostName() != null) {
+            consumer.accept(HOST, instance.hostName().toLowerCase(Locale.ROOT));
+        }
+        if (instance.ipAddr() != null && !instance.ipAddr().equalsIgnoreCase(instance.hostName())) {
+            consumer.accept(HOST, instance.ipAddr());
+        }
+        for (Map.Entry<String, String> entry : instance.metadata().entrySet()) {
+            consumer.accept(METADATA_PREFIX + entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void addVips(String vips, TermConsumer consumer) {
+        if (vips == null) {
+            return;
+        }
+        for (String vip : vips.split(",")) {
+            if (!vip.isBlank()) {
+                consumer.accept(VIP, vip.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface TermConsumer {
+        void accept(String dimension, String value);
+    }
+
+    /**
+     * ✅ 조회 - 조건(dimension → 값 목록)은 AND, 같은 dimension 의 여러 값은 OR
+     *
+     * 가장 작은 조건의 posting 만 순회하고 나머지 조건은 해시 조회로 확인한다.
+     * 결과는 limit 개까지만 모으고 중간 집합을 만들지 않는다. 조건이 하나이고 값끼리 겹칠 수 없으면
+     * (값이 하나이거나 인스턴스당 값이 하나인 dimension) total 은 posting 크기 합이라 limit 에서 바로 멈추고,
+     * 그 외에는 posting 을 끝까지 세기만 한다 (할당 없음).
+     */
+    public IndexQueryResult query(Map<String, List<String>> criteria, int limit) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            List<Term> terms = new ArrayList<>();
+            for (Map.Entry<String, List<String>> criterion : criteria.entrySet()) {
+                Map<String, Set<String>> values = postings.getOrDefault(criterion.getKey(), Map.of());
+                List<Set<String>> sets = new ArrayList<>();
+                for (String value : criterion.getValue()) {
+                    Set<String> keys = values.get(normalizeValue(criterion.getKey(), value));
+                    if (keys != null && !containsSame(sets, keys)) {
+                        sets.add(keys);
+                    }
+                }
+                if (sets.isEmpty()) {
+                    return new IndexQueryResult(0, List.of(), byKey.size());
+                }
+                terms.add(new Term(criterion.getKey(), sets));
+            }
+            if (terms.isEmpty()) {
+                return new IndexQueryResult(0, List.of(), byKey.size());
+            }
+
+            terms.sort(Comparator.comparingInt(Term::estimatedSize));
+            Term smallest = terms.get(0);
+            List<Term> rest = terms.subList(1, terms.size());
+            boolean totalFromPostings = rest.isEmpty()
+                    && (smallest.sets().size() == 1 || isSingleValued(smallest.dimension()));
+
+            List<Set<String>> sets = smallest.sets();
+            List<IndexedInstance> results = new ArrayList<>(Math.min(limit, smallest.estimatedSize()));
+            int total = 0;
+            scan:
+            for (int i = 0; i < sets.size(); i++) {
+                for (String key : sets.get(i)) {
+                    if (totalFromPostings && results.size() >= limit) {
+                        break scan;
+                    }
+                    // 같은 dimension 의 앞선 값에서 이미 센 인스턴스는 건너뛴다 (OR 중복)
+                    if (containedInEarlier(key, sets, i) || !matchesAll(key, rest)) {
+                        continue;
+                    }
+                    total++;
+                    if (results.size() < limit) {
+                        results.add(byKey.get(key));
+                    }
+                }
+            }
+            if (totalFromPostings) {
+                total = smallest.estimatedSize();
+            }
+            return new IndexQueryResult(total, results, byKey.size());
+        } finally {
+            lock.readLock().unlock();
+            queryLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 한 조건의 posting 목록 (같은 dimension 의 값별 집합, OR)
+     */
+    private record Term(String dimension, List<Set<String>> sets) {
+
+        int estimatedSize() {
+            int size = 0;
+            for (Set<String> keys : sets) {
+                size += keys.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * 인스턴스당 값이 하나뿐이라 값별 posting 이 서로 겹치지 않는 dimension (vip 는 여러 개, host 는 호스트명+IP)
+     */
+    private static boolean isSingleValued(String dimension) {
+        return APP.equals(dimension) || STATUS.equals(dimension) || ZONE.equals(dimension)
+                || dimension.startsWith(METADATA_PREFIX);
+    }
+
+    private static boolean containsSame(List<Set<String>> sets, Set<String> keys) {
+        for (Set<String> existing : sets) {
+            if (existing == keys) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containedInEarlier(String key, List<Set<String>> sets, int index) {
+        for (int i = 0; i < index; i++) {
+            if (sets.get(i).contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAll(String key, List<Term> terms) {
+        for (Term term : terms) {
+            boolean any = false;
+            for (Set<String> keys : term.sets()) {
+                if (keys.contains(key)) {
+                    any = true;
+                    break;
+                }
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ✅ 조회 값 정규화 (색인할 때와 같은 규칙)
+     */
+    static String normalizeValue(String dimension, String value) {
+        String trimmed = value.trim();
+        return switch (dimension) {
+            case APP, STATUS -> trimmed.toUpperCase(Locale.ROOT);
+            case VIP, ZONE -> trimmed.toLowerCase(Locale.ROOT);
+            case HOST -> trimmed.indexOf(':') >= 0 ? trimmed : trimmed.toLowerCase(Locale.ROOT);
+            default -> trimmed;
+        };
+    }
+
+    public record IndexQueryResult(int total, List<IndexedInstance> instances, int indexedInstances) {
+    }
+
+    /**
+     * ✅ 레지스트리 스냅샷 전체 스캔으로 누락된 이벤트 보정 (주기적, 저빈도)
+     */
+    @Scheduled(fixedDelayString = "${eureka.index.reconcile-interval-ms:300000}",
+               initialDelayString = "${eureka.index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            RegistryView view = registryViewPublisher.current();
+            if (view.version() == 0L) {
+                return;
+            }
+            Set<String> seen = new HashSet<>();
+            long corrections = 0;
+            for (AppView application : view.applications()) {
+                for (InstanceInfo info : application.instances()) {
+                    IndexedInstance current = lookup(info.getAppName(), info.getId());
+                    if (current == null || current.isStale(info)) {
+                        upsert(info);
+                        corrections++;
+                    }
+                    seen.add(key(info.getAppName().toUpperCase(Locale.ROOT), info.getId()));
+                }
+            }
+
+            List<IndexedInstance> removed = new ArrayList<>();
+            lock.readLock().lock();
+            try {
+                for (Map.Entry<String, IndexedInstance> entry : byKey.entrySet()) {
+                    if (!seen.contains(entry.getKey())) {
+                        removed.add(entry.getValue());
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            for (IndexedInstance instance : removed) {
+                remove(instance.app(), instance.instanceId());
+                corrections++;
+            }
+
+            reconcileCorrections.increment(corrections);
+            if (corrections > 0) {
+                log.info("🔧 [INDEX] Reconciled registry index - {} corrections", corrections);
+            }
+        } catch (Exception e) {
+            log.warn("Error reconciling registry index", e);
+        }
+    }
+
+    private static String key(String app, String instanceId) {
+        return app + '/' + instanceId;
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * ✅ 전체 인스턴스 복사본 (read lock 안에서 만든 일관된 시점)
+     */
+    public List<IndexedInstance> snapshot() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(byKey.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 앱별 인스턴스 수 (app posting 크기, 앱 수에 비례)
+     */
+    public Map<String, Integer> getAppInstanceCounts() {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> counts = new HashMap<>();
+            postings.getOrDefault(APP, Map.of()).forEach((app, keys) -> counts.put(app, keys.size()));
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> getMetadataKeys() {
+        return metadataKeys;
+    }
+
+    /**
+     * @return dimension 별 서로 다른 값의 수 (카디널리티)
+     */
+    public Map<String, Integer> getCardinalities() {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> cardinalities = new HashMap<>();
+            postings.forEach((dimension, values) -> cardinalities.put(dimension, values.size()));
+            return cardinalities;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.server.eureka.index;
+
+import com.server.eureka.index.RegistryIndex.IndexQueryResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ✅ 보조 인덱스 기반 인스턴스 조회 (GET /registry/instances)
+ *
+ * 예) /registry/instances?status=OUT_OF_SERVICE&zone=zone-a&meta.version=1.4
+ * - status / vip / zone / host / app / meta.{key}: 여러 번 지정하거나 쉼표로 구분하면 OR, 서로 다른 조건은 AND
+ * - meta.{key} 는 eureka.index.metadata-keys 에 있는 키만 가능
+ * - limit: 반환할 최대 인스턴스 수 (기본 500), total 은 전체 일치 수
+ */
+@RestController
+@RequiredArgsConstructor
+public class RegistryQueryController {
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 10_000;
+    private static final Set<String> DIMENSIONS = Set.of(
+            RegistryIndex.STATUS, RegistryIndex.VIP, RegistryIndex.ZONE, RegistryIndex.HOST, RegistryIndex.APP);
+
+    private final RegistryIndex registryIndex;
+
+    @GetMapping("/registry/instances")
+    public Map<String, Object> query(@RequestParam MultiValueMap<String, String> params) {
+        int limit = parseLimit(params.getFirst("limit"));
+        Map<String, List<String>> criteria = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> param : params.entrySet()) {
+            String name = param.getKey();
+            if (name.equals("limit")) {
+                continue;
+            }
+            if (name.startsWith(RegistryIndex.METADATA_PREFIX)) {
+                String metadataKey = name.substring(RegistryIndex.METADATA_PREFIX.length());
+                if (!registryIndex.getMetadataKeys().contains(metadataKey)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Metadata key '" + metadataKey + "' is not indexed (indexed: " + registryIndex.getMetadataKeys() + ")");
+                }
+            } else if (!DIMENSIONS.contains(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unknown filter '" + name + "' (supported: " + DIMENSIONS + ", meta.{key}, limit)");
+            }
+            List<String> values = new ArrayList<>();
+            for (String value : param.getValue()) {
+                for (String part : value.split(",")) {
+                    if (!part.isBlank()) {
+                        values.add(part);
+                    }
+                }
+            }
+            if (!values.isEmpty()) {
+                criteria.put(name, values);
+            }
+        }
+        if (criteria.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At least one filter is required - use /eureka/apps for the full registry");
+        }
+
+        IndexQueryResult result = registryIndex.query(criteria, limit);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("criteria", criteria);
+        response.put("total", result.total());
+        response.put("returned", result.instances().size());
+        response.put("indexedInstances", result.indexedInstances());
+        response.put("instances", result.instances());
+        return response;
+    }
+
+    private static int parseLimit(String limit) {
+        if (limit == null || limit.isBlank()) {
+            return DEFAULT_LIMIT;
+        }
+        try {
+            int value = Integer.parseInt(limit.trim());
+            return value > 0 ? Math.min(value, MAX_LIMIT) : DEFAULT_LIMIT;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid limit: " + limit);
+        }
+    }
+}
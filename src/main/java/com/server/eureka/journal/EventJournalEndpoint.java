@@ -0,0 +1,62 @@
+package com.server.eureka.journal;
+
+import com.server.eureka.journal.RegistryEventJournal.JournalQueryResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 레지스트리 이벤트 저널 조회 엔드포인트 (/actuator/eureka-journal)
+ *
+ * 예) /actuator/eureka-journal?app=ORDER-SERVICE&instance=host:order:8080&minutes=60
+ * from/to(epoch ms) 를 주면 minutes 보다 우선한다. 기본은 최근 60분, 최대 limit 건 (시간순).
+ * limit 을 넘으면 가장 최근 limit 건을 돌려주고, truncatedBefore 에 빠진 구간의 끝(반환된 가장 오래된 시각)을 적는다.
+ */
+@Component
+@Endpoint(id = "eureka-journal")
+@RequiredArgsConstructor
+public class EventJournalEndpoint {
+
+    private static final int DEFAULT_LIMIT = 500;
+    private static final int MAX_LIMIT = 5000;
+    private static final int DEFAULT_MINUTES = 60;
+
+    private final RegistryEventJournal registryEventJournal;
+
+    @ReadOperation
+    public Map<String, Object> query(@Nullable String app, @Nullable String instance,
+                                     @Nullable Long from, @Nullable Long to,
+                                     @Nullable Integer minutes, @Nullable Integer limit) {
+        long now = System.currentTimeMillis();
+        long end = to != null ? to : now;
+        long start = from != null ? from
+                : end - TimeUnit.MINUTES.toMillis(minutes != null && minutes > 0 ? minutes : DEFAULT_MINUTES);
+        int max = limit != null && limit > 0 ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+
+        long started = System.nanoTime();
+        JournalQueryResult result = registryEventJournal.query(app, instance, start, end, max);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("enabled", registryEventJournal.isEnabled());
+        response.put("from", start);
+        response.put("to", end);
+        response.put("count", result.records().size());
+        response.put("truncated", result.truncated());
+        if (result.truncated() && !result.records().isEmpty()) {
+            response.put("truncatedBefore", result.records().get(0).timestamp());
+        }
+        response.put("segmentsScanned", result.segmentsScanned());
+        response.put("segmentsSkipped", result.segmentsSkipped());
+        response.put("recordsExamined", result.recordsExamined());
+        response.put("queryMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        response.put("oldestRecordAt", registryEventJournal.getOldestTimestamp());
+        response.put("records", result.records());
+        return response;
+    }
+}
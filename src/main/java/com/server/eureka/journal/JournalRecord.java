@@ -0,0 +1,37 @@
+package com.server.eureka.journal;
+
+/**
+ * ✅ 이벤트 저널 레코드
+ *
+ * 타입별 숫자 필드 의미
+ * - RENEW_SUMMARY: count = 구간 내 갱신 수, since = 구간 첫 갱신 시각 (timestamp 는 마지막 갱신 시각)
+ * - SELF_PRESERVATION_ON/OFF: count = 최근 1분 갱신 수, threshold = 분당 갱신 임계값
+ */
+public record JournalRecord(
+        Type type,
+        long timestamp,
+        String appName,
+        String instanceId,
+        String status,
+        String previousStatus,
+        boolean replication,
+        int count,
+        long since,
+        int threshold
+) {
+
+    public enum Type {
+        REGISTERED, RENEW_SUMMARY, CANCELED, EVICTED, STATUS_CHANGED, SELF_PRESERVATION_ON, SELF_PRESERVATION_OFF;
+
+        private static final Type[] VALUES = values();
+
+        static Type of(int ordinal) {
+            return ordinal >= 0 && ordinal < VALUES.length ? VALUES[ordinal] : null;
+        }
+    }
+
+    public static JournalRecord selfPreservation(boolean active, long timestamp, long renewalsLastMinute, int threshold) {
+        return new JournalRecord(active ? Type.SELF_PRESERVATION_ON : Type.SELF_PRESERVATION_OFF, timestamp,
+                null, null, null, null, false, (int) Math.min(renewalsLastMinute, Integer.MAX_VALUE), 0L, threshold);
+    }
+}
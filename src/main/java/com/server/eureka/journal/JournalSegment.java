@@ -0,0 +1,375 @@
+package com.server.eureka.journal;
+
+import com.server.eureka.support.LongLongHashMap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 저널 세그먼트 (고정 크기 메모리 매핑 파일 하나)
+ *
+ * <pre>
+ * header: magic(int) version(short) createdAt(long) padding(2)
+ * record: length(int) timestamp(long) type(byte) flags(byte) count(int) since(long) threshold(int)
+ *         appName instanceId status previousStatus - 각각 UTF-8 길이(short, null 은 -1) + 바이트
+ * </pre>
+ * length 는 본문을 다 쓴 뒤 마지막에 기록하므로, 프로세스가 쓰는 도중 죽어도 길이 0 에서 읽기가 멈춘다.
+ *
+ * 조회 시 전체를 읽지 않도록 세그먼트마다 메모리에 요약을 둔다.
+ * - 시간 범위(min/max)와 앱 이름 집합
+ * - 인스턴스 ID 블룸 필터 (64K bit, 해시 2개)
+ * - 64KB 블록마다 첫 레코드의 시각/오프셋 (시작 위치 탐색용)
+ * 쓰기는 저널 writer 스레드 하나만 하고, 요약을 갱신한 뒤 position(volatile)을 올려 조회 스레드에 공개한다.
+ */
+final class JournalSegment {
+
+    static final int MAGIC = 0x45554a4c; // "EUJL"
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int FIXED_RECORD_BYTES = 4 + 8 + 1 + 1 + 4 + 8 + 4;
+
+    private static final int BLOCK_BYTES = 64 * 1024;
+    private static final int BLOOM_BITS = 1 << 16;
+    private static final byte FLAG_REPLICATION = 1;
+    // 소비자 파티션 간 이벤트 순서가 조금 어긋날 수 있으므로 시작 위치를 이만큼 앞당긴다
+    private static final long ORDER_SLACK_MILLIS = 5_000L;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long createdAt;
+    private final long[] bloom = new long[BLOOM_BITS / 64];
+    private final long[] blockTimestamps;
+    private final int[] blockOffsets;
+    private final Set<String> apps = ConcurrentHashMap.newKeySet();
+
+    private volatile int position;
+    private volatile long minTimestamp = Long.MAX_VALUE;
+    private volatile long maxTimestamp = Long.MIN_VALUE;
+    private volatile int recordCount;
+
+    private JournalSegment(Path path, MappedByteBuffer buffer, long createdAt) {
+        this.path = path;
+        this.buffer = buffer;
+        this.createdAt = createdAt;
+        int blocks = buffer.capacity() / BLOCK_BYTES + 1;
+        this.blockTimestamps = new long[blocks];
+        this.blockOffsets = new int[blocks];
+        Arrays.fill(blockOffsets, -1);
+        this.position = HEADER_BYTES;
+    }
+
+    /**
+     * ✅ 새 세그먼트 생성 (파일을 capacity 크기로 만들어 매핑)
+     */
+    static JournalSegment create(Path path, int capacity, long createdAt) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.putInt(0, MAGIC);
+            buffer.putShort(4, VERSION);
+            buffer.putLong(6, createdAt);
+            return new JournalSegment(path, buffer, createdAt);
+        }
+    }
+
+    /**
+     * ✅ 기존 세그먼트 열기 (읽기 전용, 기동 시 한 번 훑어서 요약 재구성)
+     */
+    static JournalSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a journal segment: " + path);
+            }
+            if (buffer.getShort(4) != VERSION) {
+                throw new IOException("Unsupported journal segment version " + buffer.getShort(4) + ": " + path);
+            }
+            JournalSegment segment = new JournalSegment(path, buffer, buffer.getLong(6));
+            segment.rebuildSummary();
+            return segment;
+        }
+    }
+
+    private void rebuildSummary() {
+        int offset = HEADER_BYTES;
+        int count = 0;
+        while (true) {
+            int length = lengthAt(offset);
+            if (length <= 0) {
+                break;
+            }
+            index(offset, buffer.getLong(offset + 4), readString(offset + FIXED_RECORD_BYTES),
+                    readString(skipString(offset + FIXED_RECORD_BYTES)));
+            offset += length;
+            count++;
+        }
+        recordCount = count;
+        position = offset;
+    }
+
+    /**
+     * ✅ 레코드 추가 (writer 스레드 전용)
+     *
+     * @return 공간이 부족하면 false (세그먼트 교체 필요)
+     */
+    boolean append(JournalRecord record, byte[] appName, byte[] instanceId, byte[] status, byte[] previousStatus) {
+        int length = FIXED_RECORD_BYTES + stringBytes(appName) + stringBytes(instanceId)
+                + stringBytes(status) + stringBytes(previousStatus);
+        int offset = position;
+        if (offset + length > buffer.capacity()) {
+            return false;
+        }
+
+        buffer.putLong(offset + 4, record.timestamp());
+        buffer.put(offset + 12, (byte) record.type().ordinal());
+        buffer.put(offset + 13, record.replication() ? FLAG_REPLICATION : 0);
+        buffer.putInt(offset + 14, record.count());
+        buffer.putLong(offset + 18, record.since());
+        buffer.putInt(offset + 26, record.threshold());
+        int cursor = offset + FIXED_RECORD_BYTES;
+        cursor = writeString(cursor, appName);
+        cursor = writeString(cursor, instanceId);
+        cursor = writeString(cursor, status);
+        writeString(cursor, previousStatus);
+        buffer.putInt(offset, length);
+
+        index(offset, record.timestamp(), record.appName(), record.instanceId());
+        recordCount++;
+        position = offset + length;
+        return true;
+    }
+
+    private void index(int offset, long timestamp, String appName, String instanceId) {
+        int block = offset / BLOCK_BYTES;
+        if (blockOffsets[block] < 0) {
+            blockOffsets[block] = offset;
+            blockTimestamps[block] = timestamp;
+        }
+        if (timestamp < minTimestamp) {
+            minTimestamp = timestamp;
+        }
+        if (timestamp > maxTimestamp) {
+            maxTimestamp = timestamp;
+        }
+        if (appName != null) {
+            apps.add(appName);
+        }
+        if (instanceId != null) {
+            long hash = LongLongHashMap.hashKey(null, instanceId);
+            setBit((int) hash & (BLOOM_BITS - 1));
+            setBit((int) (hash >>> 32) & (BLOOM_BITS - 1));
+        }
+    }
+
+    private void setBit(int bit) {
+        bloom[bit >>> 6] |= 1L << (bit & 63);
+    }
+
+    private boolean hasBit(int bit) {
+        return (bloom[bit >>> 6] & (1L << (bit & 63))) != 0;
+    }
+
+    /**
+     * ✅ 요약만으로 판단 - false 면 이 세그먼트에는 해당 레코드가 없다
+     */
+    boolean mightContain(String appName, String instanceId, long from, long to) {
+        if (recordCount == 0 || maxTimestamp < from || minTimestamp > to) {
+            return false;
+        }
+        if (appName != null && !apps.contains(appName)) {
+            return false;
+        }
+        if (instanceId != null) {
+            long hash = LongLongHashMap.hashKey(null, instanceId);
+            return hasBit((int) hash & (BLOOM_BITS - 1)) && hasBit((int) (hash >>> 32) & (BLOOM_BITS - 1));
+        }
+        return true;
+    }
+
+    /**
+     * ✅ 조건에 맞는 레코드 중 가장 최근 limit 개를 기록 순서대로 out 에 추가
+     *
+     * 맞는 레코드의 오프셋만 링에 담아 두고, 끝까지 읽은 뒤 남은 것만 디코딩한다.
+     */
+    ScanResult scan(String appName, String instanceId, long from, long to, List<JournalRecord> out, int limit) {
+        int end = position;
+        // position 을 먼저 읽었으므로 recordCount 는 end 까지의 레코드 수 이상이다
+        int[] ring = new int[Math.min(limit, recordCount)];
+        if (ring.length == 0) {
+            return new ScanResult(0, 0);
+        }
+        byte[] appBytes = appName != null ? appName.getBytes(StandardCharsets.UTF_8) : null;
+        byte[] instanceBytes = instanceId != null ? instanceId.getBytes(StandardCharsets.UTF_8) : null;
+
+        int offset = startOffset(from);
+        int examined = 0;
+        int matched = 0;
+        while (offset < end) {
+            int length = lengthAt(offset);
+            if (length <= 0) {
+                break;
+            }
+            examined++;
+            long timestamp = buffer.getLong(offset + 4);
+            if (timestamp >= from && timestamp <= to) {
+                int appOffset = offset + FIXED_RECORD_BYTES;
+                int instanceOffset = skipString(appOffset);
+                if ((appBytes == null || stringEquals(appOffset, appBytes))
+                        && (instanceBytes == null || stringEquals(instanceOffset, instanceBytes))) {
+                    ring[matched++ % ring.length] = offset;
+                }
+            }
+            offset += length;
+        }
+
+        int kept = Math.min(matched, ring.length);
+        for (int i = matched - kept; i < matched; i++) {
+            JournalRecord record = decode(ring[i % ring.length]);
+            if (record != null) {
+                out.add(record);
+            }
+        }
+        return new ScanResult(examined, matched - kept);
+    }
+
+    /**
+     * @param examined 읽은 레코드 수
+     * @param dropped  조건에 맞았지만 limit 을 넘어 빠진 (더 오래된) 레코드 수
+     */
+    record ScanResult(int examined, int dropped) {
+    }
+
+    private int startOffset(long from) {
+        long target = from - ORDER_SLACK_MILLIS;
+        int start = HEADER_BYTES;
+        int end = position;
+        for (int block = 0; block < blockOffsets.length; block++) {
+            int blockOffset = blockOffsets[block];
+            if (blockOffset < 0) {
+                continue;
+            }
+            if (blockOffset >= end || blockTimestamps[block] >= target) {
+                break;
+            }
+            start = blockOffset;
+        }
+        return start;
+    }
+
+    private JournalRecord decode(int offset) {
+        JournalRecord.Type type = JournalRecord.Type.of(buffer.get(offset + 12));
+        if (type == null) {
+            return null;
+        }
+        int cursor = offset + FIXED_RECORD_BYTES;
+        String appName = readString(cursor);
+        cursor = skipString(cursor);
+        String instanceId = readString(cursor);
+        cursor = skipString(cursor);
+        String status = readString(cursor);
+        cursor = skipString(cursor);
+        String previousStatus = readString(cursor);
+        return new JournalRecord(type, buffer.getLong(offset + 4), appName, instanceId, status, previousStatus,
+                (buffer.get(offset + 13) & FLAG_REPLICATION) != 0, buffer.getInt(offset + 14),
+                buffer.getLong(offset + 18), buffer.getInt(offset + 26));
+    }
+
+    private int lengthAt(int offset) {
+        if (offset + 4 > buffer.capacity()) {
+            return 0;
+        }
+        int length = buffer.getInt(offset);
+        return length >= FIXED_RECORD_BYTES && offset + length <= buffer.capacity() ? length : 0;
+    }
+
+    private int writeString(int offset, byte[] value) {
+        if (value == null) {
+            buffer.putShort(offset, (short) -1);
+            return offset + 2;
+        }
+        buffer.putShort(offset, (short) value.length);
+        buffer.put(offset + 2, value);
+        return offset + 2 + value.length;
+    }
+
+    private String readString(int offset) {
+        short length = buffer.getShort(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipString(int offset) {
+        short length = buffer.getShort(offset);
+        return offset + 2 + Math.max(0, length);
+    }
+
+    private boolean stringEquals(int offset, byte[] expected) {
+        short length = buffer.getShort(offset);
+        if (length != expected.length) {
+            return false;
+        }
+        return buffer.slice(offset + 2, length).equals(ByteBuffer.wrap(expected));
+    }
+
+    private static int stringBytes(byte[] value) {
+        return 2 + (value != null ? value.length : 0);
+    }
+
+    /**
+     * ✅ 디스크 동기화 (writer 스레드에서 주기적으로)
+     */
+    void force() {
+        if (!buffer.isReadOnly()) {
+            buffer.force();
+        }
+    }
+
+    static String normalizeApp(String appName) {
+        return appName != null && !appName.isBlank() ? appName.trim().toUpperCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    Path getPath() {
+        return path;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getMinTimestamp() {
+        return minTimestamp;
+    }
+
+    long getMaxTimestamp() {
+        return maxTimestamp;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    int getSizeBytes() {
+        return position;
+    }
+
+    int getCapacity() {
+        return buffer.capacity();
+    }
+}
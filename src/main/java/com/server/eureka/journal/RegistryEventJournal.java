@@ -0,0 +1,506 @@
+package com.server.eureka.journal;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.custom.RegistryEventHandler;
+import com.server.eureka.journal.JournalRecord.Type;
+import com.server.eureka.support.BoundedRingQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 레지스트리 이벤트 저널 (append-only, 세그먼트 단위 메모리 매핑 파일)
+ *
+ * 파이프라인 소비자 스레드는 이벤트를 저널 큐에 넣기만 하고, 전용 writer 스레드가 배치로 꺼내서 기록한다.
+ * - 등록 / 해제 / 만료(eviction) / 상태 변경 / 보호 모드 전이는 그대로 한 건씩 기록
+ * - 갱신은 인스턴스별로 모아 renew-summary-ms 마다 요약 한 건 (갱신 수, 구간 시작/끝)
+ * - 상태 변경은 writer 가 인스턴스별 마지막 상태와 비교해 직접 판단한다 (단일 스레드 상태)
+ * 세그먼트가 차면 새 파일로 넘어가고, retention-ms 보다 오래됐거나 max-bytes 를 넘는 오래된 세그먼트부터 지운다.
+ */
+@Component
+@Slf4j
+public class RegistryEventJournal implements RegistryEventHandler, SmartLifecycle {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int DRAIN_BATCH = 1024;
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long HOUSEKEEPING_INTERVAL_MILLIS = 1_000L;
+    private static final long RETENTION_INTERVAL_MILLIS = 30_000L;
+    private static final int MAX_CACHED_STRINGS = 16_384;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final long retentionMillis;
+    private final long maxBytes;
+    private final long renewSummaryMillis;
+    private final long flushIntervalMillis;
+
+    private final BoundedRingQueue<RegistryEvent> events;
+    private final Queue<JournalRecord> markers = new ConcurrentLinkedQueue<>();
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+
+    // writer 스레드 전용 상태
+    private final Map<String, Map<String, InstanceState>> instances = new HashMap<>();
+    private final Map<String, byte[]> utf8Cache = new HashMap<>();
+    private JournalSegment active;
+    private boolean dirty;
+    private long nextHousekeepingAt;
+    private long nextRetentionAt;
+    private long lastFlushAt;
+
+    private final Counter[] writtenByType;
+    private final Counter dropped;
+    private final Counter writeFailures;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public RegistryEventJournal(MeterRegistry meterRegistry,
+                                @Value("${eureka.journal.enabled:true}") boolean enabled,
+                                @Value("${eureka.journal.path:data/journal}") String path,
+                                @Value("${eureka.journal.segment-bytes:16777216}") int segmentBytes,
+                                @Value("${eureka.journal.retention-ms:21600000}") long retentionMillis,
+                                @Value("${eureka.journal.max-bytes:536870912}") long maxBytes,
+                                @Value("${eureka.journal.renew-summary-ms:60000}") long renewSummaryMillis,
+                                @Value("${eureka.journal.flush-interval-ms:1000}") long flushIntervalMillis,
+                                @Value("${eureka.journal.queue-capacity:65536}") int queueCapacity) {
+        this.enabled = enabled;
+        this.directory = Path.of(path);
+        this.segmentBytes = Math.max(64 * 1024, segmentBytes);
+        this.retentionMillis = retentionMillis;
+        this.maxBytes = maxBytes;
+        this.renewSummaryMillis = renewSummaryMillis;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.events = new BoundedRingQueue<>(Math.max(2, queueCapacity));
+
+        Type[] types = Type.values();
+        this.writtenByType = new Counter[types.length];
+        for (Type type : types) {
+            writtenByType[type.ordinal()] = Counter.builder("eureka.journal.records.written")
+                .tag("type", type.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+        this.dropped = Counter.builder("eureka.journal.events.dropped")
+            .description("Registry events not journaled because the journal queue was full")
+            .register(meterRegistry);
+        this.writeFailures = Counter.builder("eureka.journal.write.failures").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("eureka.journal.batch.size").register(meterRegistry);
+        Gauge.builder("eureka.journal.queue.depth", events, BoundedRingQueue::size).register(meterRegistry);
+        Gauge.builder("eureka.journal.segments", segments, List::size).register(meterRegistry);
+        Gauge.builder("eureka.journal.size.bytes", this, RegistryEventJournal::getTotalBytes)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 파이프라인 소비자 스레드 - 큐에 넣기만 한다
+     */
+    @Override
+    public void onEvent(RegistryEvent event) {
+        if (running && !events.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * ✅ 보호 모드 전이 기록 (드물게 호출)
+     */
+    public void recordSelfPreservation(boolean active, long renewalsLastMinute, int threshold) {
+        if (running) {
+            markers.offer(JournalRecord.selfPreservation(active, System.currentTimeMillis(), renewalsLastMinute, threshold));
+        }
+    }
+
+    /**
+     * ✅ 조회 - 요약(시간 범위/앱 집합/인스턴스 블룸 필터)으로 세그먼트를 거르고 남은 것만 읽는다
+     *
+     * limit 을 넘으면 가장 최근 limit 건을 돌려준다 (최신 세그먼트부터 읽고, 결과는 시간순).
+     */
+    public JournalQueryResult query(String appName, String instanceId, long from, long to, int limit) {
+        String app = JournalSegment.normalizeApp(appName);
+        String instance = instanceId != null && !instanceId.isBlank() ? instanceId.trim() : null;
+        List<JournalSegment> snapshot = List.copyOf(segments);
+        List<List<JournalRecord>> newestFirst = new ArrayList<>();
+        int collected = 0;
+        boolean truncated = false;
+        int scanned = 0;
+        int skipped = 0;
+        long examined = 0;
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            JournalSegment segment = snapshot.get(i);
+            if (!segment.mightContain(app, instance, from, to)) {
+                skipped++;
+                continue;
+            }
+            if (collected >= limit) {
+                truncated = true;
+                break;
+            }
+            scanned++;
+            List<JournalRecord> chunk = new ArrayList<>();
+            JournalSegment.ScanResult scan = segment.scan(app, instance, from, to, chunk, limit - collected);
+            examined += scan.examined();
+            truncated |= scan.dropped() > 0;
+            newestFirst.add(chunk);
+            collected += chunk.size();
+        }
+
+        List<JournalRecord> records = new ArrayList<>(collected);
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            records.addAll(newestFirst.get(i));
+        }
+        return new JournalQueryResult(records, truncated, scanned, skipped, examined);
+    }
+
+    public record JournalQueryResult(List<JournalRecord> records, boolean truncated,
+                                     int segmentsScanned, int segmentsSkipped, long recordsExamined) {
+    }
+
+    /**
+     * ✅ writer 스레드 - 배치 기록 후 갱신 요약/동기화/보존 정리
+     */
+    private void writeLoop() {
+        long parkNanos = 1_000;
+        while (running || !events.isEmpty() || !markers.isEmpty()) {
+            int written = 0;
+            try {
+                written = writeBatch();
+                housekeeping(System.currentTimeMillis(), false);
+            } catch (Exception e) {
+                writeFailures.increment();
+                log.warn("Error writing registry event journal", e);
+            }
+            if (written > 0) {
+                batchSizes.record(written);
+                parkNanos = 1_000;
+            } else {
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos << 1, MAX_IDLE_PARK_NANOS);
+            }
+        }
+        try {
+            housekeeping(System.currentTimeMillis(), true);
+        } catch (Exception e) {
+            log.warn("Error flushing registry event journal on shutdown", e);
+        }
+    }
+
+    private int writeBatch() throws IOException {
+        int count = 0;
+        JournalRecord marker;
+        while ((marker = markers.poll()) != null) {
+            append(marker);
+            count++;
+        }
+        RegistryEvent event;
+        while (count < DRAIN_BATCH && (event = events.poll()) != null) {
+            apply(event);
+            count++;
+        }
+        return count;
+    }
+
+    private void apply(RegistryEvent event) throws IOException {
+        String app = event.getAppName();
+        String id = event.getInstanceId();
+        if (app == null || id == null) {
+            return;
+        }
+        String status = statusName(event.getStatus());
+        switch (event.getType()) {
+            case REGISTERED -> {
+                InstanceState state = state(app, id);
+                flushSummary(app, id, state);
+                append(new JournalRecord(Type.REGISTERED, event.getTimestamp(), app, id, status, state.status,
+                        event.isReplication(), 0, 0L, 0));
+                state.status = status;
+            }
+            case RENEWED -> {
+                InstanceState state = state(app, id);
+                if (status != null && state.status != null && !status.equals(state.status)) {
+                    flushSummary(app, id, state);
+                    append(new JournalRecord(Type.STATUS_CHANGED, event.getTimestamp(), app, id, status, state.status,
+                            event.isReplication(), 0, 0L, 0));
+                }
+                if (status != null) {
+                    state.status = status;
+                }
+                if (state.renewals++ == 0) {
+                    state.firstRenewal = event.getTimestamp();
+                }
+                state.lastRenewal = event.getTimestamp();
+                state.replication = event.isReplication();
+            }
+            case STATUS_CHANGED -> {
+                InstanceState state = state(app, id);
+                if (status != null && state.status != null && !status.equals(state.status)) {
+                    flushSummary(app, id, state);
+                    append(new JournalRecord(Type.STATUS_CHANGED, event.getTimestamp(), app, id, status, state.status,
+                            event.isReplication(), 0, 0L, 0));
+                }
+                if (status != null) {
+                    state.status = status;
+                }
+            }
+            case CANCELED -> {
+                Map<String, InstanceState> byId = instances.get(app);
+                InstanceState state = byId != null ? byId.remove(id) : null;
+                if (state != null) {
+                    flushSummary(app, id, state);
+                    if (byId.isEmpty()) {
+                        instances.remove(app);
+                    }
+                }
+                append(new JournalRecord(event.isEviction() ? Type.EVICTED : Type.CANCELED, event.getTimestamp(),
+                        app, id, null, state != null ? state.status : null, event.isReplication(), 0, 0L, 0));
+            }
+        }
+    }
+
+    private InstanceState state(String app, String id) {
+        return instances.computeIfAbsent(app, key -> new HashMap<>()).computeIfAbsent(id, key -> new InstanceState());
+    }
+
+    private void flushSummary(String app, String id, InstanceState state) throws IOException {
+        if (state.renewals == 0) {
+            return;
+        }
+        append(new JournalRecord(Type.RENEW_SUMMARY, state.lastRenewal, app, id, state.status, null,
+                state.replication, state.renewals, state.firstRenewal, 0));
+        state.renewals = 0;
+    }
+
+    private void append(JournalRecord record) throws IOException {
+        byte[] app = utf8(record.appName());
+        byte[] id = utf8(record.instanceId());
+        byte[] status = utf8(record.status());
+        byte[] previous = utf8(record.previousStatus());
+        if (active == null || !active.append(record, app, id, status, previous)) {
+            roll(record.timestamp());
+            if (!active.append(record, app, id, status, previous)) {
+                throw new IOException("Journal record larger than a segment: " + record.type());
+            }
+        }
+        writtenByType[record.type().ordinal()].increment();
+        dirty = true;
+    }
+
+    private void roll(long timestamp) throws IOException {
+        if (active != null) {
+            active.force();
+        }
+        Files.createDirectories(directory);
+        Path path = directory.resolve(String.format("%020d%s", timestamp, SEGMENT_SUFFIX));
+        for (int suffix = 1; Files.exists(path); suffix++) {
+            path = directory.resolve(String.format("%020d-%d%s", timestamp, suffix, SEGMENT_SUFFIX));
+        }
+        active = JournalSegment.create(path, segmentBytes, timestamp);
+        segments.add(active);
+        log.debug("📒 [JOURNAL] New segment {}", path.getFileName());
+    }
+
+    private byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = utf8Cache.get(value);
+        if (bytes == null) {
+            if (utf8Cache.size() >= MAX_CACHED_STRINGS) {
+                utf8Cache.clear();
+            }
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > Short.MAX_VALUE) {
+                bytes = Arrays.copyOf(bytes, Short.MAX_VALUE);
+            }
+            utf8Cache.put(value, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * ✅ 갱신 요약 / fsync / 보존 기간 정리 (writer 스레드)
+     */
+    private void housekeeping(long now, boolean shutdown) throws IOException {
+        if (shutdown || now >= nextHousekeepingAt) {
+            nextHousekeepingAt = now + HOUSEKEEPING_INTERVAL_MILLIS;
+            for (Map.Entry<String, Map<String, InstanceState>> app : instances.entrySet()) {
+                for (Map.Entry<String, InstanceState> instance : app.getValue().entrySet()) {
+                    InstanceState state = instance.getValue();
+                    if (state.renewals > 0 && (shutdown || now - state.firstRenewal >= renewSummaryMillis)) {
+                        flushSummary(app.getKey(), instance.getKey(), state);
+                    }
+                }
+            }
+        }
+        if (dirty && active != null && (shutdown || now - lastFlushAt >= flushIntervalMillis)) {
+            active.force();
+            dirty = false;
+            lastFlushAt = now;
+        }
+        if (!shutdown && now >= nextRetentionAt) {
+            nextRetentionAt = now + RETENTION_INTERVAL_MILLIS;
+            enforceRetention(now);
+        }
+    }
+
+    private void enforceRetention(long now) {
+        long total = getTotalBytes();
+        Iterator<JournalSegment> iterator = segments.iterator();
+        while (iterator.hasNext()) {
+            JournalSegment segment = iterator.next();
+            if (segment == active) {
+                break;
+            }
+            boolean expired = segment.getRecordCount() == 0 || segment.getMaxTimestamp() < now - retentionMillis;
+            if (!expired && total <= maxBytes) {
+                break;
+            }
+            segments.remove(segment);
+            total -= segment.getCapacity();
+            try {
+                Files.deleteIfExists(segment.getPath());
+                log.debug("📒 [JOURNAL] Removed segment {} ({} records)", segment.getPath().getFileName(),
+                        segment.getRecordCount());
+            } catch (IOException e) {
+                log.warn("Cannot delete journal segment {}", segment.getPath(), e);
+            }
+        }
+    }
+
+    private void loadExistingSegments() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> paths = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(paths::add);
+        } catch (IOException e) {
+            log.warn("Cannot list journal directory {}", directory, e);
+            return;
+        }
+        paths.sort(null);
+        long records = 0;
+        for (Path path : paths) {
+            try {
+                JournalSegment segment = JournalSegment.open(path);
+                segments.add(segment);
+                records += segment.getRecordCount();
+            } catch (IOException e) {
+                log.warn("⚠️  Skipping unreadable journal segment {}: {}", path, e.getMessage());
+            }
+        }
+        if (!segments.isEmpty()) {
+            log.info("📒 [JOURNAL] Loaded {} segment(s), {} record(s) from {}", segments.size(), records, directory);
+        }
+    }
+
+    private static String statusName(InstanceStatus status) {
+        return status != null ? status.name() : null;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        loadExistingSegments();
+        running = true;
+        writer = new Thread(this::writeLoop, "eureka-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("✅ Registry event journal started - {} (segment {}KB, retention {}min)",
+                directory, segmentBytes / 1024, TimeUnit.MILLISECONDS.toMinutes(retentionMillis));
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("🛑 Registry event journal stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 이벤트 파이프라인보다 먼저 시작하고 나중에 정지해 남은 이벤트까지 기록한다
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getTotalBytes() {
+        long total = 0;
+        for (JournalSegment segment : segments) {
+            total += segment.getCapacity();
+        }
+        return total;
+    }
+
+    public long getOldestTimestamp() {
+        for (JournalSegment segment : segments) {
+            if (segment.getRecordCount() > 0) {
+                return segment.getMinTimestamp();
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * ✅ writer 스레드가 보관하는 인스턴스별 상태 (마지막 상태 + 아직 기록하지 않은 갱신 요약)
+     */
+    private static final class InstanceState {
+        private String status;
+        private int renewals;
+        private long firstRenewal;
+        private long lastRenewal;
+        private boolean replication;
+    }
+}
@@ -0,0 +1,339 @@
+package com.server.eureka.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import com.server.eureka.support.BoundedRingQueue;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * ✅ 링 버퍼 기반 비동기 appender
+ *
+ * 호출 스레드는 이벤트를 lock-free 링(BoundedRingQueue)에 넣고 바로 돌아가며,
+ * 전용 writer 스레드 하나가 꺼내서 하위 appender(파일/콘솔)에 쓴다. 큐 노드를 만들지 않으므로
+ * 이벤트당 추가 할당이 없고, 디스크 I/O 가 느려도 요청 스레드가 막히지 않는다.
+ *
+ * 큐가 찼을 때의 동작은 discardPolicy 로 정한다.
+ * - DROP_BELOW_WARN: 사용률이 discardingThreshold(%) 이상이면 TRACE/DEBUG/INFO 를 버린다. WARN/ERROR 는 가득 찰 때만 버린다
+ * - DROP_NEW: 가득 찬 경우에만 새 이벤트를 버린다
+ * - BLOCK: 자리가 날 때까지 호출 스레드가 대기한다 (유실 없음)
+ *
+ * async=false 이면 큐 없이 하위 appender 를 바로 호출한다 (기존 동기 동작).
+ * 통계는 appender 이름 단위로 유지되어 logback 설정 재로딩 후에도 카운터가 이어진다.
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public enum DiscardPolicy {
+        DROP_BELOW_WARN, DROP_NEW, BLOCK
+    }
+
+    static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final Consumer<ILoggingEvent> dispatcher = this::dispatch;
+
+    private boolean async = true;
+    private int queueSize = 8192;
+    private DiscardPolicy discardPolicy = DiscardPolicy.DROP_BELOW_WARN;
+    private int discardingThreshold = 80;
+    private long maxFlushTime = 1000;
+    private boolean includeCallerData;
+
+    private BoundedRingQueue<ILoggingEvent> queue;
+    private int discardingSize;
+    private Stats stats;
+    private Thread worker;
+    private volatile boolean workerWaiting;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for [" + getName() + "]");
+            return;
+        }
+        if (queueSize < 2) {
+            addError("Invalid queueSize " + queueSize + " for [" + getName() + "]");
+            return;
+        }
+        queue = new BoundedRingQueue<>(queueSize);
+        discardingSize = (int) ((long) queue.capacity() * Math.max(0, Math.min(discardingThreshold, 100)) / 100);
+        stats = STATS.computeIfAbsent(getName(), name -> new Stats());
+        stats.queue = queue;
+        super.start();
+
+        if (async) {
+            worker = new Thread(this::drainLoop, "eureka-log-" + getName());
+            worker.setDaemon(true);
+            worker.start();
+        }
+        addInfo("Started [" + getName() + "] async=" + async + " capacity=" + queue.capacity()
+                + " policy=" + discardPolicy);
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (!async) {
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+        if (discardPolicy == DiscardPolicy.DROP_BELOW_WARN
+                && event.getLevel().toInt() < Level.WARN_INT
+                && queue.size() >= discardingSize) {
+            stats.drop(event.getLevel());
+            return;
+        }
+
+        // 다른 스레드에서 쓰이기 전에 메시지/스레드명/MDC 를 확정
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        if (!queue.offer(event)) {
+            if (discardPolicy != DiscardPolicy.BLOCK || !offerBlocking(event)) {
+                stats.drop(event.getLevel());
+                return;
+            }
+        }
+        stats.enqueued.increment();
+        if (workerWaiting) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private boolean offerBlocking(ILoggingEvent event) {
+        stats.blocked.increment();
+        LockSupport.unpark(worker);
+        while (isStarted()) {
+            if (queue.offer(event)) {
+                return true;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        while (isStarted()) {
+            if (queue.drain(dispatcher, DRAIN_BATCH) == 0) {
+                workerWaiting = true;
+                if (queue.isEmpty() && isStarted()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                workerWaiting = false;
+            }
+        }
+
+        // 정지 시 maxFlushTime 동안 남은 이벤트를 마저 쓴다
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxFlushTime);
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            queue.drain(dispatcher, DRAIN_BATCH);
+        }
+        int remaining = queue.size();
+        if (remaining > 0) {
+            addWarn("Max flush time exceeded - " + remaining + " event(s) of [" + getName() + "] discarded");
+        }
+    }
+
+    private void dispatch(ILoggingEvent event) {
+        try {
+            appenders.appendLoopOnAppenders(event);
+        } catch (RuntimeException e) {
+            addError("Failed to write event in [" + getName() + "]", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            try {
+                worker.join(maxFlushTime + 100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (worker.isAlive()) {
+                addWarn("Writer thread of [" + getName() + "] did not finish within " + maxFlushTime + "ms");
+            }
+            worker = null;
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    /**
+     * ✅ 메트릭용 통계 조회 (appender 이름 기준, 재로딩 후에도 유지)
+     */
+    public static Map<String, Stats> stats() {
+        return STATS;
+    }
+
+    /**
+     * ✅ appender 이름 단위 통계
+     */
+    public static final class Stats {
+
+        private final LongAdder[] dropped = new LongAdder[LEVELS.length];
+        private final LongAdder enqueued = new LongAdder();
+        private final LongAdder blocked = new LongAdder();
+        private volatile BoundedRingQueue<ILoggingEvent> queue;
+
+        private Stats() {
+            for (int i = 0; i < dropped.length; i++) {
+                dropped[i] = new LongAdder();
+            }
+        }
+
+        private void drop(Level level) {
+            dropped[levelIndex(level)].increment();
+        }
+
+        public long getDropped(Level level) {
+            return dropped[levelIndex(level)].sum();
+        }
+
+        public long getEnqueued() {
+            return enqueued.sum();
+        }
+
+        public long getBlocked() {
+            return blocked.sum();
+        }
+
+        public int getQueueSize() {
+            BoundedRingQueue<ILoggingEvent> current = queue;
+            return current != null ? current.size() : 0;
+        }
+
+        public int getQueueCapacity() {
+            BoundedRingQueue<ILoggingEvent> current = queue;
+            return current != null ? current.capacity() : 0;
+        }
+
+        public double getQueueFill() {
+            int capacity = getQueueCapacity();
+            return capacity > 0 ? (double) getQueueSize() / capacity : 0.0;
+        }
+
+        private static int levelIndex(Level level) {
+            return switch (level.toInt()) {
+                case Level.TRACE_INT -> 0;
+                case Level.DEBUG_INT -> 1;
+                case Level.INFO_INT -> 2;
+                case Level.WARN_INT -> 3;
+                default -> 4;
+            };
+        }
+    }
+
+    /**
+     * ✅ 설정 (logback-spring.xml)
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void setDiscardPolicy(DiscardPolicy discardPolicy) {
+        this.discardPolicy = discardPolicy;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public void setMaxFlushTime(long maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public DiscardPolicy getDiscardPolicy() {
+        return discardPolicy;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    public long getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public boolean isIncludeCallerData() {
+        return includeCallerData;
+    }
+
+    /**
+     * ✅ AppenderAttachable (하위 appender 위임)
+     */
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -5,8 +5,15 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.filter.Filter;
 import ch.qos.logback.core.spi.FilterReply;
 
+/**
+ * ✅ 레벨 목록 필터 (예: TRACE|DEBUG|INFO|WARN)
+ *
+ * 설정 시점에 허용 레벨을 비트마스크로 한 번만 계산해 두고, 이벤트마다 비트 연산 한 번으로 판단한다.
+ */
 public class CustomLogbackFilter extends Filter<ILoggingEvent> {
+
     private String levels;
+    private volatile int mask;
 
     public String getLevels() {
         return levels;
@@ -14,36 +21,42 @@ public class CustomLogbackFilter extends Filter<ILoggingEvent> {
 
     public void setLevels(String levels) {
         this.levels = levels;
+        this.mask = toMask(levels);
     }
 
-    private Level[] level;
-
     @Override
-    public FilterReply decide(ILoggingEvent arg0) {
+    public FilterReply decide(ILoggingEvent event) {
+        return (mask & bit(event.getLevel())) != 0 ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
 
-        if (level == null && levels != null) {
-            setLevels();
+    @Override
+    public void start() {
+        if (levels == null || levels.isBlank()) {
+            addWarn("No levels configured - every event will be denied");
         }
-        if (level != null) {
-            for (Level lev : level) {
-                if (lev == arg0.getLevel()) {
-                    return FilterReply.ACCEPT;
+        super.start();
+    }
+
+    static int toMask(String levels) {
+        int mask = 0;
+        if (levels != null) {
+            for (String name : levels.split("\\|")) {
+                if (!name.isBlank()) {
+                    mask |= bit(Level.toLevel(name.trim(), Level.OFF));
                 }
             }
         }
-
-        return FilterReply.DENY;
+        return mask;
     }
 
-    private void setLevels() {
-
-        if (!levels.isEmpty()) {
-            level = new Level[levels.split("\\|").length];
-            int i = 0;
-            for (String str : levels.split("\\|")) {
-                level[i] = Level.valueOf(str);
-                i++;
-            }
-        }
+    static int bit(Level level) {
+        return switch (level.toInt()) {
+            case Level.TRACE_INT -> 1;
+            case Level.DEBUG_INT -> 1 << 1;
+            case Level.INFO_INT -> 1 << 2;
+            case Level.WARN_INT -> 1 << 3;
+            case Level.ERROR_INT -> 1 << 4;
+            default -> 0;
+        };
     }
 }
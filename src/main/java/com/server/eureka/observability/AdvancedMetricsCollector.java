@@ -3,6 +3,7 @@ package com.server.eureka.observability;
 import com.netflix.eureka.EurekaServerContext;
 import com.netflix.eureka.cluster.PeerEurekaNode;
 import com.netflix.appinfo.InstanceInfo;
+import com.server.eureka.web.RegistryResponseCache;
 import io.micrometer.core.instrument.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,8 +11,6 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @RequiredArgsConstructor
@@ -20,9 +19,10 @@ public class AdvancedMetricsCollector {
     
     private final MeterRegistry meterRegistry;
     private final EurekaServerContext eurekaServerContext;
-    
-    // 메트릭 캐시 (중복 등록 방지용)
-    private final ConcurrentHashMap<String, Boolean> registeredMetrics = new ConcurrentHashMap<>();
+    private final RegistryCounters registryCounters;
+    private final ApplicationStatusMetrics applicationStatusMetrics;
+    private final RegistryPayloadMetrics registryPayloadMetrics;
+    private final RegistryResponseCache registryResponseCache;
     
     @PostConstruct
     public void initAdvancedMetrics() {
@@ -34,6 +34,23 @@ public class AdvancedMetricsCollector {
             meterRegistry.gauge("eureka.instances.total", this, AdvancedMetricsCollector::getTotalInstances);
             meterRegistry.gauge("eureka.memory.utilization.ratio", this, AdvancedMetricsCollector::getMemoryUtilization);
             
+            // 상태별 인스턴스 수 (이벤트 기반 카운터에서 직접 읽음)
+            for (InstanceInfo.InstanceStatus status : InstanceInfo.InstanceStatus.values()) {
+                Gauge.builder("eureka.instances.status", registryCounters, counters -> counters.getInstanceCount(status))
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+            }
+            meterRegistry.gauge("eureka.registry.counters.reconcile.corrections", registryCounters,
+                RegistryCounters::getReconcileCorrections);
+
+            // 조건부 GET 응답 계층 (304 비율, 절약된 바이트)
+            meterRegistry.gauge("eureka.registry.response.not.modified.ratio", registryResponseCache,
+                RegistryResponseCache::getNotModifiedRatio);
+            meterRegistry.gauge("eureka.registry.response.bytes.saved.total", registryResponseCache,
+                RegistryResponseCache::getBytesSaved);
+            meterRegistry.gauge("eureka.registry.response.version", registryResponseCache,
+                RegistryResponseCache::getCurrentVersion);
+            
             log.info("✅ Advanced metrics collector initialized");
             
         } catch (Exception e) {
@@ -53,76 +70,18 @@ public class AdvancedMetricsCollector {
     }
     
     /**
-     * ✅ 애플리케이션별 메트릭 수집 (실제 작동하는 방식)
+     * ✅ 애플리케이션별 메트릭 수집 (app/status 태그 매트릭스, 카디널리티 상한 적용)
      */
     private void collectApplicationMetrics() {
         try {
-            if (eurekaServerContext.getRegistry() == null || 
-                eurekaServerContext.getRegistry().getApplications() == null) {
-                return;
-            }
-            
-            eurekaServerContext.getRegistry().getApplications()
-                .getRegisteredApplications()
-                .forEach(this::collectSingleApplicationMetrics);
+            int trackedApps = applicationStatusMetrics.refresh();
+            log.debug("📊 [APP_METRICS] {} applications exported as eureka.app.instances", trackedApps);
                 
         } catch (Exception e) {
             log.warn("Error collecting application metrics", e);
         }
     }
     
-    private void collectSingleApplicationMetrics(com.netflix.discovery.shared.Application application) {
-        try {
-            String appName = application.getName().toLowerCase();
-            
-            // 상태별 인스턴스 카운트 (안전한 방식)
-            long upCount = 0;
-            long downCount = 0;
-            long startingCount = 0;
-            long outOfServiceCount = 0;
-            
-            for (InstanceInfo instance : application.getInstancesAsIsFromEureka()) {
-                switch (instance.getStatus()) {
-                    case UP:
-                        upCount++;
-                        break;
-                    case DOWN:
-                        downCount++;
-                        break;
-                    case STARTING:
-                        startingCount++;
-                        break;
-                    case OUT_OF_SERVICE:
-                        outOfServiceCount++;
-                        break;
-                    default:
-                        break;
-                }
-            }
-            
-            // ✅ 안전한 메트릭 등록 방식
-            String upMetricKey = "eureka.app.instances.up." + sanitizeMetricName(appName);
-            if (!registeredMetrics.containsKey(upMetricKey)) {
-                final long finalUpCount = upCount;
-                meterRegistry.gauge(upMetricKey, application, app -> (double) getAppInstanceCount(app, InstanceInfo.InstanceStatus.UP));
-                registeredMetrics.put(upMetricKey, true);
-            }
-            
-            String downMetricKey = "eureka.app.instances.down." + sanitizeMetricName(appName);
-            if (!registeredMetrics.containsKey(downMetricKey)) {
-                meterRegistry.gauge(downMetricKey, application, app -> (double) getAppInstanceCount(app, InstanceInfo.InstanceStatus.DOWN));
-                registeredMetrics.put(downMetricKey, true);
-            }
-            
-            // 로그로 상태 정보 출력
-            log.debug("📊 [APP_METRICS] {} - UP:{} DOWN:{} STARTING:{} OUT_OF_SERVICE:{}", 
-                    appName, upCount, downCount, startingCount, outOfServiceCount);
-                    
-        } catch (Exception e) {
-            log.warn("Error collecting metrics for application: {}", application.getName(), e);
-        }
-    }
-    
     /**
      * ✅ 성능 메트릭 수집 (안전한 방식)
      */
@@ -151,8 +110,8 @@ public class AdvancedMetricsCollector {
     
     private void logRegistryStats() {
         try {
-            int totalApps = getTotalApplications().intValue();
-            int totalInstances = getTotalInstances().intValue();
+            long totalApps = (long) getTotalApplications();
+            long totalInstances = (long) getTotalInstances();
             
             log.debug("📋 [REGISTRY] Applications: {}, Total Instances: {}", totalApps, totalInstances);
             
@@ -185,22 +144,12 @@ public class AdvancedMetricsCollector {
     }
     
     /**
-     * ✅ 메트릭 계산 메서드들 (실제 작동하는 방식)
+     * ✅ 메트릭 계산 메서드들 (게이지 스크랩 시 호출 - O(1), 할당 없음)
      */
-    public Double getRegistrySizeBytes() {
-        try {
-            if (eurekaServerContext.getRegistry() == null || 
-                eurekaServerContext.getRegistry().getApplications() == null) {
-                return 0.0;
-            }
-            
-            return (double) eurekaServerContext.getRegistry().getApplications()
-                .getRegisteredApplications().stream()
-                .mapToInt(app -> app.getInstances().size() * 1024) // 인스턴스당 ~1KB 추정
-                .sum();
-        } catch (Exception e) {
-            return 0.0;
-        }
+    public double getRegistrySizeBytes() {
+        // 실제 full 레지스트리 JSON 응답 크기 (ResponseCache 재생성 시 측정)
+        return registryPayloadMetrics.getRawBytes(RegistryPayloadMetrics.PayloadType.FULL,
+            RegistryPayloadMetrics.PayloadFormat.JSON);
     }
     
     public Double getTotalPeerNodes() {
@@ -214,32 +163,12 @@ public class AdvancedMetricsCollector {
         }
     }
     
-    public Double getTotalApplications() {
-        try {
-            if (eurekaServerContext.getRegistry() == null || 
-                eurekaServerContext.getRegistry().getApplications() == null) {
-                return 0.0;
-            }
-            return (double) eurekaServerContext.getRegistry().getApplications()
-                .getRegisteredApplications().size();
-        } catch (Exception e) {
-            return 0.0;
-        }
+    public double getTotalApplications() {
+        return registryCounters.getTotalApplications();
     }
     
-    public Double getTotalInstances() {
-        try {
-            if (eurekaServerContext.getRegistry() == null || 
-                eurekaServerContext.getRegistry().getApplications() == null) {
-                return 0.0;
-            }
-            return (double) eurekaServerContext.getRegistry().getApplications()
-                .getRegisteredApplications().stream()
-                .mapToInt(app -> app.getInstances().size())
-                .sum();
-        } catch (Exception e) {
-            return 0.0;
-        }
+    public double getTotalInstances() {
+        return registryCounters.getTotalInstances();
     }
     
     public Double getMemoryUtilization() {
@@ -252,24 +181,4 @@ public class AdvancedMetricsCollector {
             return 0.0;
         }
     }
-    
-    /**
-     * ✅ 애플리케이션별 상태별 인스턴스 수 계산
-     */
-    private long getAppInstanceCount(com.netflix.discovery.shared.Application application, InstanceInfo.InstanceStatus status) {
-        try {
-            return application.getInstancesAsIsFromEureka().stream()
-                .filter(instance -> instance.getStatus() == status)
-                .count();
-        } catch (Exception e) {
-            return 0L;
-        }
-    }
-    
-    /**
-     * ✅ 메트릭 이름 정규화
-     */
-    private String sanitizeMetricName(String name) {
-        return name.replaceAll("[^a-zA-Z0-9_]", "_").toLowerCase();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 애플리케이션 x 상태 인스턴스 매트릭스 메트릭
+ *
+ * 단일 메트릭 이름 {@code eureka.app.instances} 에 app/status 태그를 붙여 노출한다.
+ * 사라진 애플리케이션의 시리즈는 갱신 시 제거되고,
+ * 상한을 넘는 애플리케이션은 {@code app=_other} 버킷으로 합산되어 카디널리티가 고정된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatusMetrics {
+
+    public static final String OVERFLOW_APP = "_other";
+
+    private static final InstanceStatus[] STATUSES = InstanceStatus.values();
+
+    private final MeterRegistry meterRegistry;
+    private final RegistryCounters registryCounters;
+
+    @Value("${eureka.monitoring.app-metrics.max-applications:200}")
+    private int maxApplications;
+
+    // 현재 개별 시리즈로 노출 중인 애플리케이션 (상한 내에서 안정적으로 유지)
+    private final Set<String> trackedApps = ConcurrentHashMap.newKeySet();
+
+    private MultiGauge appInstances;
+
+    @PostConstruct
+    public void init() {
+        appInstances = MultiGauge.builder("eureka.app.instances")
+            .description("Instances per application and status")
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 매트릭스 갱신 (주기적 수집에서 호출)
+     *
+     * @return 개별 시리즈로 노출된 애플리케이션 수
+     */
+    public int refresh() {
+        // 사라진 애플리케이션 제거
+        trackedApps.removeIf(app -> registryCounters.getAppInstanceCount(app) == 0);
+
+        long[] overflow = new long[STATUSES.length];
+        boolean hasOverflow = false;
+        for (String app : registryCounters.getApplicationNames()) {
+            if (trackedApps.contains(app) || registryCounters.getAppInstanceCount(app) == 0) {
+                continue;
+            }
+            if (trackedApps.size() < maxApplications) {
+                trackedApps.add(app);
+            } else {
+                hasOverflow = true;
+                for (InstanceStatus status : STATUSES) {
+                    overflow[status.ordinal()] += registryCounters.getAppInstanceCount(app, status);
+                }
+            }
+        }
+
+        List<MultiGauge.Row<?>> rows = new ArrayList<>(trackedApps.size() * STATUSES.length + STATUSES.length);
+        for (String app : trackedApps) {
+            String appTag = app.toLowerCase(Locale.ROOT);
+            for (InstanceStatus status : STATUSES) {
+                rows.add(MultiGauge.Row.of(Tags.of("app", appTag, "status", status.name()),
+                    registryCounters, counters -> counters.getAppInstanceCount(app, status)));
+            }
+        }
+        if (hasOverflow) {
+            for (InstanceStatus status : STATUSES) {
+                rows.add(MultiGauge.Row.of(Tags.of("app", OVERFLOW_APP, "status", status.name()),
+                    overflow[status.ordinal()]));
+            }
+        }
+
+        appInstances.register(rows, true);
+
+        if (hasOverflow) {
+            log.debug("📊 [APP_METRICS] Application cap {} reached - remaining apps aggregated as {}",
+                    maxApplications, OVERFLOW_APP);
+        }
+        return trackedApps.size();
+    }
+}
@@ -0,0 +1,236 @@
+package com.server.eureka.observability;
+
+import com.server.eureka.web.EurekaOperation;
+import com.server.eureka.web.RegistryResponseCache.CacheResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ Eureka REST 연산별 지연시간/요청·응답 크기 (http.server.requests 는 URI 패턴으로만 나뉘어 연산 구분이 안 됨)
+ *
+ * 연산 단위 메터 세 개(eureka.rest.operation 타이머, eureka.rest.request.bytes / eureka.rest.response.bytes)는
+ * operation, replication(피어 복제 여부), outcome, cache(조회 응답의 사전 인코딩 캐시 hit/miss) 로만 나누고 app 태그가 없다.
+ * 히스토그램은 이 타이머에만 켠다 (management.metrics.distribution.percentiles-histogram.eureka.rest.operation).
+ * 앱 단위 연산(등록/갱신/해제/상태 변경)은 eureka.rest.app.operation 타이머를 operation, app, replication, outcome 으로
+ * 따로 기록한다. 앱 수만큼 곱해지므로 히스토그램 없이 count/sum/max 만 두고, 앱 수가 max-apps 를 넘으면 새 앱은 "other" 로 묶는다.
+ * 갱신 핫패스: 경로의 앱 이름 구간을 잘라내지 않고 해시/비교해 앱별 메터를 찾고, 메터는 조합별로 처음 한 번만 만든다.
+ * 이후 요청은 할당 없이 기록만 한다. Observation API 는 호출마다 컨텍스트를 만들기 때문에 메터를 직접 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "eureka.rest.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class EurekaOperationMetrics {
+
+    public enum Outcome { SUCCESS, NOT_FOUND, SHED, ERROR }
+
+    private static final EurekaOperation[] OPERATIONS = EurekaOperation.values();
+    private static final Outcome[] OUTCOMES = Outcome.values();
+    private static final CacheResult[] CACHE_RESULTS = CacheResult.values();
+    private static final int OPERATION_SLOTS = OPERATIONS.length * 2 * OUTCOMES.length * CACHE_RESULTS.length;
+    private static final int APP_SLOTS = OPERATIONS.length * 2 * OUTCOMES.length;
+    private static final String OTHER_APPS = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxApps;
+    private final Meters[] operationMeters = new Meters[OPERATION_SLOTS];
+    private final AppMeters otherApps;
+
+    // copy-on-write 오픈 어드레싱 테이블 (앱 추가는 드물고, 조회는 volatile 읽기 한 번)
+    private volatile AppMeters[] table = new AppMeters[64];
+    private int appCount;
+
+    public EurekaOperationMetrics(MeterRegistry meterRegistry,
+                                  @Value("${eureka.rest.metrics.max-apps:200}") int maxApps) {
+        this.meterRegistry = meterRegistry;
+        this.maxApps = maxApps;
+        this.otherApps = new AppMeters(OTHER_APPS, 0);
+    }
+
+    /**
+     * ✅ 요청 한 건 기록
+     *
+     * @param path     컨텍스트 경로를 뺀 요청 경로 (앱 단위 연산이면 앱 이름 구간을 여기서 찾는다)
+     * @param requestBytes  요청 본문 크기 (모르면 음수 → 기록 안 함)
+     */
+    public void record(EurekaOperation operation, String path, boolean replication, int status, CacheResult cache,
+                       long durationNanos, long requestBytes, long responseBytes) {
+        Outcome outcome = outcome(status);
+        int appSlot = (operation.ordinal() * 2 + (replication ? 1 : 0)) * OUTCOMES.length + outcome.ordinal();
+        int slot = appSlot * CACHE_RESULTS.length + cache.ordinal();
+        Meters meters = operationMeters[slot];
+        if (meters == null) {
+            meters = createOperationMeters(slot, operation, replication, outcome, cache);
+        }
+        meters.latency.record(durationNanos, TimeUnit.NANOSECONDS);
+        if (requestBytes >= 0) {
+            meters.requestBytes.record(requestBytes);
+        }
+        if (responseBytes >= 0) {
+            meters.responseBytes.record(responseBytes);
+        }
+
+        if (operation.isAppScoped()) {
+            AppMeters app = lookup(path, EurekaOperation.appNameStart(), EurekaOperation.appNameEnd(path));
+            Timer latency = app.timers[appSlot];
+            if (latency == null) {
+                latency = app.create(appSlot, operation, replication, outcome);
+            }
+            latency.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized Meters createOperationMeters(int slot, EurekaOperation operation, boolean replication,
+                                                      Outcome outcome, CacheResult cache) {
+        Meters existing = operationMeters[slot];
+        if (existing != null) {
+            return existing;
+        }
+        Tags tags = Tags.of(
+            "operation", operation.tag(),
+            "replication", Boolean.toString(replication),
+            "outcome", outcome.name().toLowerCase(Locale.ROOT),
+            "cache", cache.name().toLowerCase(Locale.ROOT));
+        Meters created = new Meters(
+            Timer.builder("eureka.rest.operation")
+                .description("Latency of Eureka REST operations")
+                .tags(tags)
+                .register(meterRegistry),
+            DistributionSummary.builder("eureka.rest.request.bytes")
+                .description("Request body size of Eureka REST operations")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry),
+            DistributionSummary.builder("eureka.rest.response.bytes")
+                .description("Response body size of Eureka REST operations")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(meterRegistry));
+        operationMeters[slot] = created;
+        return created;
+    }
+
+    static Outcome outcome(int status) {
+        if (status < 400) {
+            return Outcome.SUCCESS;
+        }
+        if (status == 404) {
+            return Outcome.NOT_FOUND;
+        }
+        return status == 503 ? Outcome.SHED : Outcome.ERROR;
+    }
+
+    /**
+     * 경로의 [start, end) 구간과 같은 앱(대소문자 무시)의 메터 묶음. 처음 보는 앱이면 등록한다.
+     */
+    AppMeters lookup(String path, int start, int end) {
+        if (end <= start) {
+            return otherApps;
+        }
+        int hash = hash(path, start, end);
+        AppMeters[] current = table;
+        int mask = current.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            AppMeters entry = current[i];
+            if (entry == null) {
+                return register(path.substring(start, end).toUpperCase(Locale.ROOT), hash);
+            }
+            if (entry.hash == hash && entry.name.length() == end - start
+                    && path.regionMatches(true, start, entry.name, 0, end - start)) {
+                return entry;
+            }
+        }
+    }
+
+    private synchronized AppMeters register(String name, int hash) {
+        AppMeters[] current = table;
+        int mask = current.length - 1;
+        int i = hash & mask;
+        for (AppMeters entry = current[i]; entry != null; entry = current[i = (i + 1) & mask]) {
+            if (entry.hash == hash && entry.name.equals(name)) {
+                return entry;
+            }
+        }
+        if (appCount >= maxApps) {
+            return otherApps;
+        }
+        AppMeters created = new AppMeters(name, hash);
+        int capacity = appCount + 1 > current.length / 2 ? current.length * 2 : current.length;
+        AppMeters[] next = new AppMeters[capacity];
+        for (AppMeters entry : current) {
+            if (entry != null) {
+                insert(next, entry);
+            }
+        }
+        insert(next, created);
+        appCount++;
+        table = next;
+        return created;
+    }
+
+    private static void insert(AppMeters[] target, AppMeters entry) {
+        int mask = target.length - 1;
+        int i = entry.hash & mask;
+        while (target[i] != null) {
+            i = (i + 1) & mask;
+        }
+        target[i] = entry;
+    }
+
+    private static int hash(String path, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + Character.toUpperCase(path.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    public int getTrackedApps() {
+        return appCount;
+    }
+
+    private record Meters(Timer latency, DistributionSummary requestBytes, DistributionSummary responseBytes) {
+    }
+
+    /**
+     * 앱 하나의 지연시간 타이머 (operation × replication × outcome 조합별로 처음 쓸 때 생성, 히스토그램 없음)
+     */
+    final class AppMeters {
+
+        private final String name;
+        private final int hash;
+        private final Timer[] timers = new Timer[APP_SLOTS];
+
+        private AppMeters(String name, int hash) {
+            this.name = name;
+            this.hash = hash;
+        }
+
+        String name() {
+            return name;
+        }
+
+        private synchronized Timer create(int slot, EurekaOperation operation, boolean replication, Outcome outcome) {
+            Timer existing = timers[slot];
+            if (existing != null) {
+                return existing;
+            }
+            Timer created = Timer.builder("eureka.rest.app.operation")
+                .description("Latency of app-scoped Eureka REST operations per app (no histogram)")
+                .tags("operation", operation.tag(),
+                      "app", name,
+                      "replication", Boolean.toString(replication),
+                      "outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .publishPercentileHistogram(false)
+                .register(meterRegistry);
+            timers[slot] = created;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.server.eureka.observability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ✅ heartbeat 간격 요약 및 지연 인스턴스 조회 엔드포인트 (/actuator/eureka-heartbeats)
+ */
+@Component
+@Endpoint(id = "eureka-heartbeats")
+@RequiredArgsConstructor
+public class HeartbeatEndpoint {
+
+    private final HeartbeatIntervalTracker heartbeatIntervalTracker;
+
+    @ReadOperation
+    public Map<String, Object> heartbeats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("trackedInstances", heartbeatIntervalTracker.getTrackedInstances());
+        result.put("lateInstances", heartbeatIntervalTracker.getLateInstances());
+        result.put("applications", heartbeatIntervalTracker.getAppSummaries());
+        return result;
+    }
+}
@@ -0,0 +1,288 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.custom.RegistryEventHandler;
+import com.server.eureka.support.LongLongHashMap;
+import com.server.eureka.view.RegistryView;
+import com.server.eureka.view.RegistryViewPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 애플리케이션별 heartbeat 간격 히스토그램 및 지연 heartbeat 감지
+ *
+ * 인스턴스별 마지막 갱신 시각을 primitive long 해시맵에 보관하고,
+ * 갱신 간격을 앱별 Timer 히스토그램(p50/p99/max)으로 집계한다.
+ * 간격이 lease duration 의 일정 비율을 넘으면 해당 인스턴스를 지연 상태로 표시한다.
+ * 갱신이 아예 끊긴 인스턴스는 다음 갱신이 오지 않으므로, 주기 sweep 이 레지스트리 스냅샷의 인스턴스마다
+ * 마지막 갱신 이후 경과 시간을 확인해 지연(silent)으로 표시한다. 인스턴스가 모두 사라진 앱의 메터도 sweep 에서 제거한다.
+ */
+@Component
+@Slf4j
+public class HeartbeatIntervalTracker implements RegistryEventHandler {
+
+    private static final int DEFAULT_LEASE_SECS = 90;
+    // 하위 20비트: lease duration(초), 상위 비트: 마지막 갱신 시각(ms)
+    private static final int LEASE_BITS = 20;
+    private static final long LEASE_MASK = (1L << LEASE_BITS) - 1;
+    private static final long MISSING = -1L;
+
+    private final MeterRegistry meterRegistry;
+    private final RegistryViewPublisher registryViewPublisher;
+    private final double lateFraction;
+    private final int maxApplications;
+
+    private final LongLongHashMap lastRenewals = new LongLongHashMap(4096);
+    private final Map<String, AppHeartbeatMeters> appMeters = new ConcurrentHashMap<>();
+    private final Map<String, LateHeartbeat> lateInstances = new ConcurrentHashMap<>();
+    private final AppHeartbeatMeters overflowMeters;
+
+    public HeartbeatIntervalTracker(MeterRegistry meterRegistry,
+                                    RegistryViewPublisher registryViewPublisher,
+                                    @Value("${eureka.monitoring.heartbeat.late-fraction:0.75}") double lateFraction,
+                                    @Value("${eureka.monitoring.app-metrics.max-applications:200}") int maxApplications) {
+        this.meterRegistry = meterRegistry;
+        this.registryViewPublisher = registryViewPublisher;
+        this.lateFraction = lateFraction;
+        this.maxApplications = maxApplications;
+        this.overflowMeters = new AppHeartbeatMeters(ApplicationStatusMetrics.OVERFLOW_APP);
+        Gauge.builder("eureka.heartbeat.late.instances", lateInstances, Map::size)
+            .description("Instances whose last heartbeat gap exceeded the late fraction of their lease")
+            .register(meterRegistry);
+        Gauge.builder("eureka.heartbeat.tracked.instances", this, HeartbeatIntervalTracker::getTrackedInstances)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void onEvent(RegistryEvent event) {
+        long key = LongLongHashMap.hashKey(event.getAppName(), event.getInstanceId());
+        switch (event.getType()) {
+            case REGISTERED -> {
+                synchronized (lastRenewals) {
+                    lastRenewals.put(key, pack(event.getTimestamp(), event.getLeaseDurationSecs()), MISSING);
+                }
+                lateInstances.remove(instanceKey(event));
+            }
+            case RENEWED -> onRenewal(key, event);
+            case CANCELED -> {
+                synchronized (lastRenewals) {
+                    lastRenewals.remove(key, MISSING);
+                }
+                lateInstances.remove(instanceKey(event));
+            }
+        }
+    }
+
+    private void onRenewal(long key, RegistryEvent event) {
+        long previous;
+        synchronized (lastRenewals) {
+            previous = lastRenewals.put(key, pack(event.getTimestamp(), event.getLeaseDurationSecs()), MISSING);
+        }
+        if (previous == MISSING) {
+            return;
+        }
+
+        long gapMillis = event.getTimestamp() - (previous >>> LEASE_BITS);
+        if (gapMillis < 0) {
+            return;
+        }
+        long leaseMillis = TimeUnit.SECONDS.toMillis(leaseSecs(previous, event.getLeaseDurationSecs()));
+
+        AppHeartbeatMeters meters = metersFor(event.getAppName());
+        meters.interval.record(gapMillis, TimeUnit.MILLISECONDS);
+
+        if (gapMillis > leaseMillis * lateFraction) {
+            meters.late.increment();
+            LateHeartbeat late = new LateHeartbeat(event.getAppName(), event.getInstanceId(),
+                    gapMillis, leaseMillis, event.getTimestamp(), false);
+            if (lateInstances.put(instanceKey(event), late) == null) {
+                log.warn("⏰ [HEARTBEAT] {} - {} renewed late: gap {}ms / lease {}ms",
+                        event.getAppName(), event.getInstanceId(), gapMillis, leaseMillis);
+            }
+        } else if (!lateInstances.isEmpty()) {
+            lateInstances.remove(instanceKey(event));
+        }
+    }
+
+    /**
+     * ✅ 갱신이 끊긴 인스턴스 감지 + 빈 앱 메터 정리
+     *
+     * 스냅샷의 인스턴스마다 마지막 갱신 이후 경과 시간이 lease 의 late-fraction 을 넘으면 silent 로 표시한다.
+     * 추적 기록이 없는 인스턴스(기동 전 복원 등)는 첫 갱신 전까지 판단하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${eureka.monitoring.heartbeat.sweep-interval-ms:10000}",
+               initialDelayString = "${eureka.monitoring.heartbeat.sweep-interval-ms:10000}")
+    public void sweep() {
+        RegistryView view = registryViewPublisher.current();
+        if (view.version() == 0L) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (RegistryView.AppView app : view.applications()) {
+            for (InstanceInfo instance : app.instances()) {
+                checkSilent(instance.getAppName(), instance.getId(), now);
+            }
+        }
+        evictEmptyApps(view);
+    }
+
+    private void checkSilent(String appName, String instanceId, long now) {
+        long packed;
+        synchronized (lastRenewals) {
+            packed = lastRenewals.get(LongLongHashMap.hashKey(appName, instanceId), MISSING);
+        }
+        if (packed == MISSING) {
+            return;
+        }
+        long gapMillis = now - (packed >>> LEASE_BITS);
+        long leaseMillis = TimeUnit.SECONDS.toMillis(leaseSecs(packed, 0));
+        if (gapMillis <= leaseMillis * lateFraction) {
+            return;
+        }
+        String key = appName + "/" + instanceId;
+        LateHeartbeat late = new LateHeartbeat(appName, instanceId, gapMillis, leaseMillis, now, true);
+        if (lateInstances.put(key, late) == null) {
+            log.warn("⏰ [HEARTBEAT] {} - {} silent: no renewal for {}ms / lease {}ms",
+                    appName, instanceId, gapMillis, leaseMillis);
+        }
+    }
+
+    private void evictEmptyApps(RegistryView view) {
+        for (Map.Entry<String, AppHeartbeatMeters> entry : appMeters.entrySet()) {
+            if (view.application(entry.getKey()) == null && appMeters.remove(entry.getKey(), entry.getValue())) {
+                meterRegistry.remove(entry.getValue().interval);
+                meterRegistry.remove(entry.getValue().late);
+                log.debug("Removed heartbeat meters of {} (no instances left)", entry.getKey());
+            }
+        }
+    }
+
+    private AppHeartbeatMeters metersFor(String appName) {
+        AppHeartbeatMeters meters = appMeters.get(appName);
+        if (meters != null) {
+            return meters;
+        }
+        if (appMeters.size() >= maxApplications) {
+            return overflowMeters;
+        }
+        return appMeters.computeIfAbsent(appName, AppHeartbeatMeters::new);
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public int getTrackedInstances() {
+        synchronized (lastRenewals) {
+            return lastRenewals.size();
+        }
+    }
+
+    public List<LateHeartbeat> getLateInstances() {
+        List<LateHeartbeat> late = new ArrayList<>(lateInstances.values());
+        late.sort(Comparator.comparingDouble(LateHeartbeat::leaseRatio).reversed());
+        return late;
+    }
+
+    /**
+     * @return 마지막 갱신 시각(ms), 추적 중이 아니면 -1
+     */
+    public long getLastRenewal(String appName, String instanceId) {
+        long packed;
+        synchronized (lastRenewals) {
+            packed = lastRenewals.get(LongLongHashMap.hashKey(appName, instanceId), MISSING);
+        }
+        return packed == MISSING ? -1 : packed >>> LEASE_BITS;
+    }
+
+    public List<AppHeartbeatSummary> getAppSummaries() {
+        List<AppHeartbeatSummary> summaries = new ArrayList<>();
+        appMeters.values().forEach(meters -> summaries.add(meters.summary()));
+        if (overflowMeters.interval.count() > 0) {
+            summaries.add(overflowMeters.summary());
+        }
+        return summaries;
+    }
+
+    private static String instanceKey(RegistryEvent event) {
+        return event.getAppName() + "/" + event.getInstanceId();
+    }
+
+    private static long pack(long timestamp, int leaseSecs) {
+        return (timestamp << LEASE_BITS) | (Math.max(0, leaseSecs) & LEASE_MASK);
+    }
+
+    private static int leaseSecs(long packed, int fallback) {
+        int lease = (int) (packed & LEASE_MASK);
+        if (lease > 0) {
+            return lease;
+        }
+        return fallback > 0 ? fallback : DEFAULT_LEASE_SECS;
+    }
+
+    private final class AppHeartbeatMeters {
+        private final String appName;
+        private final Timer interval;
+        private final Counter late;
+
+        private AppHeartbeatMeters(String appName) {
+            String appTag = appName.toLowerCase(Locale.ROOT);
+            this.appName = appName;
+            this.interval = Timer.builder("eureka.heartbeat.interval")
+                .description("Time between consecutive renewals of the same instance")
+                .tag("app", appTag)
+                .publishPercentiles(0.5, 0.99)
+                .minimumExpectedValue(Duration.ofSeconds(1))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry);
+            this.late = Counter.builder("eureka.heartbeat.late")
+                .description("Renewals that arrived after the configured fraction of the lease duration")
+                .tag("app", appTag)
+                .register(meterRegistry);
+        }
+
+        private AppHeartbeatSummary summary() {
+            var snapshot = interval.takeSnapshot();
+            double p50 = 0;
+            double p99 = 0;
+            for (var percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == 0.5) {
+                    p50 = percentile.value(TimeUnit.MILLISECONDS);
+                } else if (percentile.percentile() == 0.99) {
+                    p99 = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return new AppHeartbeatSummary(appName, snapshot.count(), p50, p99,
+                    snapshot.max(TimeUnit.MILLISECONDS), (long) late.count());
+        }
+    }
+
+    /**
+     * @param silent true 면 sweep 이 감지한 갱신 없음 (gapMillis 는 감지 시점까지 경과 시간), false 면 늦게 도착한 갱신
+     */
+    public record LateHeartbeat(String appName, String instanceId, long gapMillis, long leaseMillis, long detectedAt,
+                                boolean silent) {
+        public double leaseRatio() {
+            return leaseMillis > 0 ? (double) gapMillis / leaseMillis : 0.0;
+        }
+    }
+
+    public record AppHeartbeatSummary(String appName, long renewals, double p50Millis, double p99Millis,
+                                      double maxMillis, long lateRenewals) {
+    }
+}
@@ -0,0 +1,272 @@
+package com.server.eureka.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.util.ClassUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ @Scheduled 전용 계측 스케줄러 (지연/초과 실행 메트릭)
+ *
+ * 실제 실행은 delegate(ThreadPoolTaskScheduler 또는 가상 스레드 SimpleAsyncTaskScheduler)에 맡기고,
+ * 작업마다 예정 시각 대비 시작 지연(lag)과 주기를 넘긴 실행(overrun)을 기록한다.
+ * - eureka.scheduler.task.lag{task}: 예정 시각 → 실제 시작
+ * - eureka.scheduler.task.overruns{task}: 실행 시간이 주기(fixedRate)/지연(fixedDelay)보다 긴 경우
+ * - eureka.scheduler.tasks.running{mode}: 실행 중인 작업 수
+ *
+ * dispatchFixedDelay 가 켜져 있으면(가상 스레드 모드) fixedDelay 작업을 delegate 의 단일 스케줄러
+ * 스레드에서 돌리지 않고 "완료 후 다음 1회 예약" 체인으로 바꿔 매 실행을 별도 스레드로 넘긴다.
+ * SimpleAsyncTaskScheduler 는 fixedDelay 를 스케줄러 스레드에서 블로킹 실행하므로 그대로 두면
+ * 모든 수집기가 스레드 하나를 공유하게 된다.
+ */
+@Slf4j
+public class InstrumentedTaskScheduler implements TaskScheduler, DisposableBean {
+
+    private final TaskScheduler delegate;
+    private final AutoCloseable shutdown;
+    private final MeterRegistry meterRegistry;
+    private final boolean dispatchFixedDelay;
+    private final AtomicInteger running = new AtomicInteger();
+
+    public InstrumentedTaskScheduler(TaskScheduler delegate,
+                                     AutoCloseable shutdown,
+                                     MeterRegistry meterRegistry,
+                                     String mode,
+                                     boolean dispatchFixedDelay) {
+        this.delegate = delegate;
+        this.shutdown = shutdown;
+        this.meterRegistry = meterRegistry;
+        this.dispatchFixedDelay = dispatchFixedDelay;
+
+        Gauge.builder("eureka.scheduler.tasks.running", running, AtomicInteger::get)
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Clock getClock() {
+        return delegate.getClock();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        TrackedTask tracked = track(task, Kind.TRIGGER, Duration.ZERO, null);
+        return delegate.schedule(tracked, triggerContext -> {
+            Instant next = trigger.nextExecution(triggerContext);
+            tracked.expectedAt = next != null ? next.toEpochMilli() : 0L;
+            return next;
+        });
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        return delegate.schedule(track(task, Kind.ONE_SHOT, Duration.ZERO, startTime), startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return delegate.scheduleAtFixedRate(track(task, Kind.FIXED_RATE, period, startTime), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return delegate.scheduleAtFixedRate(track(task, Kind.FIXED_RATE, period, getClock().instant()), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        TrackedTask tracked = track(task, Kind.FIXED_DELAY, delay, startTime);
+        if (dispatchFixedDelay) {
+            return new FixedDelayChain(tracked, delay).start(startTime);
+        }
+        return delegate.scheduleWithFixedDelay(tracked, startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        TrackedTask tracked = track(task, Kind.FIXED_DELAY, delay, getClock().instant());
+        if (dispatchFixedDelay) {
+            return new FixedDelayChain(tracked, delay).start(getClock().instant());
+        }
+        return delegate.scheduleWithFixedDelay(tracked, delay);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        shutdown.close();
+    }
+
+    private TrackedTask track(Runnable task, Kind kind, Duration period, Instant firstRun) {
+        return new TrackedTask(task, taskName(task), kind, period.toMillis(),
+                firstRun != null ? firstRun.toEpochMilli() : 0L);
+    }
+
+    /**
+     * ✅ @Scheduled 메서드는 "클래스.메서드", 그 외는 클래스 이름
+     */
+    static String taskName(Runnable task) {
+        if (task instanceof ScheduledMethodRunnable methodRunnable) {
+            return ClassUtils.getUserClass(methodRunnable.getTarget()).getSimpleName()
+                    + "." + methodRunnable.getMethod().getName();
+        }
+        return ClassUtils.getUserClass(task).getSimpleName();
+    }
+
+    private enum Kind {
+        ONE_SHOT, TRIGGER, FIXED_RATE, FIXED_DELAY
+    }
+
+    private final class TrackedTask implements Runnable {
+
+        private final Runnable task;
+        private final Kind kind;
+        private final long periodMillis;
+        private final Timer lag;
+        private final Counter overruns;
+        private volatile long expectedAt;
+
+        private TrackedTask(Runnable task, String name, Kind kind, long periodMillis, long expectedAt) {
+            this.task = task;
+            this.kind = kind;
+            this.periodMillis = periodMillis;
+            this.expectedAt = expectedAt;
+            this.lag = Timer.builder("eureka.scheduler.task.lag")
+                .description("Delay between a scheduled task's planned and actual start")
+                .tag("task", name)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+            this.overruns = Counter.builder("eureka.scheduler.task.overruns")
+                .description("Executions that took longer than the task's period or delay")
+                .tag("task", name)
+                .register(meterRegistry);
+        }
+
+        @Override
+        public void run() {
+            long startedAt = getClock().millis();
+            long expected = expectedAt;
+            if (expected > 0) {
+                lag.record(Math.max(0L, startedAt - expected), TimeUnit.MILLISECONDS);
+            }
+
+            running.incrementAndGet();
+            long startNanos = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                running.decrementAndGet();
+                long tookMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                if (periodMillis > 0 && tookMillis > periodMillis) {
+                    overruns.increment();
+                }
+                switch (kind) {
+                    case FIXED_RATE -> expectedAt = (expected > 0 ? expected : startedAt) + periodMillis;
+                    case FIXED_DELAY -> expectedAt = getClock().millis() + periodMillis;
+                    case ONE_SHOT -> expectedAt = 0L;
+                    case TRIGGER -> {
+                        // 다음 예정 시각은 트리거 래퍼가 갱신한다
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * ✅ fixedDelay 를 "실행 완료 → delay 후 1회 예약" 체인으로 구현 (매 실행이 delegate 의 작업 스레드에서 수행)
+     *
+     * 예외가 나도 체인은 계속된다 (Spring 의 fixedDelay 기본 동작과 동일하게 로그 후 다음 실행).
+     */
+    private final class FixedDelayChain implements Runnable, ScheduledFuture<Object> {
+
+        private final Runnable task;
+        private final Duration delay;
+        private ScheduledFuture<?> current;
+        private boolean cancelled;
+
+        private FixedDelayChain(Runnable task, Duration delay) {
+            this.task = task;
+            this.delay = delay;
+        }
+
+        private FixedDelayChain start(Instant startTime) {
+            scheduleNext(startTime);
+            return this;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("❌ Unexpected error occurred in scheduled task", e);
+            } finally {
+                scheduleNext(getClock().instant().plus(delay));
+            }
+        }
+
+        private synchronized void scheduleNext(Instant at) {
+            if (!cancelled) {
+                current = delegate.schedule(this, at);
+            }
+        }
+
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            return current == null || current.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized boolean isDone() {
+            return cancelled;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            return currentFuture().get();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return currentFuture().get(timeout, unit);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return currentFuture().getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        private synchronized ScheduledFuture<?> currentFuture() {
+            return current;
+        }
+    }
+}
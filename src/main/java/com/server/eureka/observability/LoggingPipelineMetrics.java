@@ -0,0 +1,70 @@
+package com.server.eureka.observability;
+
+import ch.qos.logback.classic.Level;
+import com.server.eureka.logback.RingBufferAsyncAppender;
+import com.server.eureka.logback.RingBufferAsyncAppender.Stats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 비동기 로깅 파이프라인 메트릭 (appender 태그)
+ *
+ * RingBufferAsyncAppender 는 Spring 보다 먼저 logback 이 만들기 때문에 주입 대신
+ * appender 이름별 통계를 주기적으로 확인해 새로 생긴 appender 만 바인딩한다 (설정 scan 재로딩 대응).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoggingPipelineMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> bound = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(fixedDelay = 60000)
+    public void bindAppenders() {
+        for (Map.Entry<String, Stats> entry : RingBufferAsyncAppender.stats().entrySet()) {
+            if (bound.add(entry.getKey())) {
+                bind(entry.getKey(), entry.getValue());
+                log.debug("📝 Async log appender metrics bound: {}", entry.getKey());
+            }
+        }
+    }
+
+    private void bind(String appender, Stats stats) {
+        Gauge.builder("logging.async.queue.size", stats, Stats::getQueueSize)
+            .description("Events waiting in the async appender ring buffer")
+            .tag("appender", appender)
+            .register(meterRegistry);
+        Gauge.builder("logging.async.queue.capacity", stats, Stats::getQueueCapacity)
+            .tag("appender", appender)
+            .register(meterRegistry);
+        Gauge.builder("logging.async.queue.fill", stats, Stats::getQueueFill)
+            .description("Ring buffer utilisation (0-1)")
+            .tag("appender", appender)
+            .register(meterRegistry);
+        FunctionCounter.builder("logging.async.events.enqueued", stats, Stats::getEnqueued)
+            .tag("appender", appender)
+            .register(meterRegistry);
+        FunctionCounter.builder("logging.async.producer.blocked", stats, Stats::getBlocked)
+            .description("Appends that had to wait for free space (BLOCK policy)")
+            .tag("appender", appender)
+            .register(meterRegistry);
+        for (Level level : new Level[] {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR}) {
+            FunctionCounter.builder("logging.async.events.dropped", stats, s -> s.getDropped(level))
+                .description("Events discarded by the async appender's discard policy")
+                .tag("appender", appender)
+                .tag("level", level.toString().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.server.eureka.observability;
+
+import com.server.eureka.observability.PeerReplicationMetrics.PeerStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 피어별 복제 상태 조회 엔드포인트 (/actuator/eureka-peers)
+ */
+@Component
+@Endpoint(id = "eureka-peers")
+@RequiredArgsConstructor
+public class PeerReplicationEndpoint {
+
+    private final PeerReplicationMetrics peerReplicationMetrics;
+
+    @ReadOperation
+    public Map<String, Object> peers() {
+        List<Map<String, Object>> peers = new ArrayList<>();
+        int lagging = 0;
+        for (PeerStats stats : peerReplicationMetrics.getPeers()) {
+            Map<String, Object> peer = new LinkedHashMap<>();
+            peer.put("peerUrl", stats.getPeerUrl());
+            peer.put("lagging", stats.isLagging());
+            peer.put("pending", stats.getPending());
+            peer.put("oldestPendingAgeMs", stats.getOldestPendingAgeMillis());
+            peer.put("lastSuccessAt", stats.getLastSuccessAt());
+            peer.put("msSinceLastSuccess", stats.getMillisSinceLastSuccess());
+            peer.put("lastFailureAt", stats.getLastFailureAt());
+            peer.put("consecutiveFailures", stats.getConsecutiveFailures());
+            peer.put("lastError", stats.getLastError());
+            peer.put("batches", stats.getBatches());
+            peer.put("items", stats.getItems());
+            peer.put("failures", stats.getFailures());
+            peer.put("retries", stats.getRetries());
+            peer.put("meanBatchSize", stats.getMeanBatchSize());
+            peer.put("meanDispatchMs", stats.getMeanDispatchMillis());
+            peer.put("maxDispatchMs", stats.getMaxDispatchMillis());
+            peers.add(peer);
+            if (stats.isLagging()) {
+                lagging++;
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalPeers", peers.size());
+        result.put("laggingPeers", lagging);
+        result.put("peers", peers);
+        return result;
+    }
+}
@@ -0,0 +1,326 @@
+package com.server.eureka.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 피어 복제 메트릭 (peer URL 태그)
+ *
+ * InstrumentedPeerEurekaNode 가 복제 작업 제출을, InstrumentedReplicationClient 가 배치 전송 결과를 알려준다.
+ * 제출됐지만 아직 성공한 배치에 포함되지 않은 작업을 작업 ID(action#app/id) 단위로 보관해 backlog 로 쓴다.
+ * Eureka 배처도 같은 ID 의 대기 작업을 덮어쓰므로 같은 방식으로 합쳐지며,
+ * 배처가 만료/폐기한 작업은 maxTimeForReplication 이 지나면 sweep 에서 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PeerReplicationMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${eureka.server.max-time-for-replication:30000}")
+    private long pendingExpiryMillis;
+
+    @Value("${eureka.monitoring.peers.lag-threshold-ms:60000}")
+    private long lagThresholdMillis;
+
+    private final Map<String, PeerStats> peers = new ConcurrentHashMap<>();
+
+    public PeerStats forPeer(String peerUrl) {
+        return peers.computeIfAbsent(peerUrl, PeerStats::new);
+    }
+
+    /**
+     * ✅ 피어 목록에서 빠진 노드의 메트릭 제거
+     */
+    public void removePeer(String peerUrl) {
+        PeerStats stats = peers.remove(peerUrl);
+        if (stats != null) {
+            stats.meters.forEach(meterRegistry::remove);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eureka.monitoring.peers.sweep-interval-ms:10000}")
+    public void sweepExpiredTasks() {
+        long cutoff = System.currentTimeMillis() - pendingExpiryMillis;
+        for (PeerStats stats : peers.values()) {
+            int expired = stats.expirePending(cutoff);
+            if (expired > 0) {
+                log.debug("🔁 [REPLICATION] {} - {} pending task(s) expired without a successful batch",
+                        stats.peerUrl, expired);
+            }
+            if (stats.isLagging()) {
+                log.warn("⚠️  [REPLICATION] Peer {} is lagging - {} pending, oldest {}ms, last success {}ms ago",
+                        stats.peerUrl, stats.getPending(), stats.getOldestPendingAgeMillis(),
+                        stats.getMillisSinceLastSuccess());
+            }
+        }
+    }
+
+    public Collection<PeerStats> getPeers() {
+        return peers.values();
+    }
+
+    /**
+     * ✅ 피어 하나의 복제 상태
+     */
+    public final class PeerStats {
+
+        private final String peerUrl;
+        private final List<Meter> meters = new ArrayList<>();
+        private final Map<String, PendingTask> pending = new ConcurrentHashMap<>();
+        private final AtomicLong lastSuccessAt = new AtomicLong();
+        private final AtomicLong lastFailureAt = new AtomicLong();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile String lastError;
+
+        private final Counter submitted;
+        private final Counter batches;
+        private final Counter items;
+        private final Counter batchFailures;
+        private final Counter itemFailures;
+        private final Counter retries;
+        private final Counter expired;
+        private final DistributionSummary batchSize;
+        private final Timer batchLatency;
+        private final Timer replicationLag;
+        private final Timer directLatency;
+
+        private PeerStats(String peerUrl) {
+            this.peerUrl = peerUrl;
+            Tags tags = Tags.of("peer", peerUrl);
+            this.submitted = register(Counter.builder("eureka.peer.replication.submitted")
+                .description("Replication tasks handed to the peer's batcher").tags(tags));
+            this.batches = register(Counter.builder("eureka.peer.replication.batches").tags(tags));
+            this.items = register(Counter.builder("eureka.peer.replication.items").tags(tags));
+            this.batchFailures = register(Counter.builder("eureka.peer.replication.failures")
+                .description("Failed replication requests (network error or non-2xx batch response)")
+                .tags(tags).tag("level", "batch"));
+            this.itemFailures = register(Counter.builder("eureka.peer.replication.failures")
+                .description("Failed replication requests (network error or non-2xx batch response)")
+                .tags(tags).tag("level", "item"));
+            this.retries = register(Counter.builder("eureka.peer.replication.retries")
+                .description("Replication tasks sent again after a failed batch").tags(tags));
+            this.expired = register(Counter.builder("eureka.peer.replication.expired")
+                .description("Pending tasks that never made it into a successful batch").tags(tags));
+            this.batchSize = register(DistributionSummary.builder("eureka.peer.replication.batch.size")
+                .tags(tags).publishPercentiles(0.5, 0.99));
+            this.batchLatency = register(Timer.builder("eureka.peer.replication.dispatch.latency")
+                .description("HTTP round trip of one replication batch").tags(tags)
+                .publishPercentileHistogram().publishPercentiles(0.5, 0.99));
+            this.replicationLag = register(Timer.builder("eureka.peer.replication.lag")
+                .description("Time from task submission to its successful replication").tags(tags)
+                .publishPercentiles(0.5, 0.99));
+            this.directLatency = register(Timer.builder("eureka.peer.replication.direct.latency")
+                .description("Non-batched replication calls (ASG status, connection priming)").tags(tags)
+                .publishPercentiles(0.5, 0.99));
+            meters.add(Gauge.builder("eureka.peer.replication.pending", pending, Map::size)
+                .tags(tags).register(meterRegistry));
+            meters.add(Gauge.builder("eureka.peer.replication.pending.oldest.age", this,
+                    PeerStats::getOldestPendingAgeMillis)
+                .tags(tags).baseUnit("milliseconds").register(meterRegistry));
+            meters.add(Gauge.builder("eureka.peer.replication.last.success.age", this,
+                    stats -> stats.getMillisSinceLastSuccess() / 1000.0)
+                .description("Seconds since the last successful batch to this peer")
+                .tags(tags).baseUnit("seconds").register(meterRegistry));
+        }
+
+        private Counter register(Counter.Builder builder) {
+            Counter counter = builder.register(meterRegistry);
+            meters.add(counter);
+            return counter;
+        }
+
+        private DistributionSummary register(DistributionSummary.Builder builder) {
+            DistributionSummary summary = builder.register(meterRegistry);
+            meters.add(summary);
+            return summary;
+        }
+
+        private Timer register(Timer.Builder builder) {
+            Timer timer = builder.register(meterRegistry);
+            meters.add(timer);
+            return timer;
+        }
+
+        /**
+         * ✅ 요청 스레드 (복제 작업 제출 시)
+         */
+        public void onSubmitted(String action, String appName, String id) {
+            submitted.increment();
+            pending.putIfAbsent(taskId(action, appName, id), new PendingTask(System.currentTimeMillis()));
+        }
+
+        /**
+         * ✅ 배치 전송 직전 - 이전 시도가 있었던 작업은 재시도로 집계
+         */
+        public void onBatchDispatched(String action, String appName, String id) {
+            PendingTask task = pending.get(taskId(action, appName, id));
+            if (task != null && task.attempts.getAndIncrement() > 0) {
+                retries.increment();
+            }
+        }
+
+        public void onBatchCompleted(int size, long elapsedNanos) {
+            batches.increment();
+            items.increment(size);
+            batchSize.record(size);
+            batchLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            lastSuccessAt.set(System.currentTimeMillis());
+            consecutiveFailures.set(0);
+        }
+
+        /**
+         * ✅ 성공한 배치에 포함된 작업 (항목 상태 코드가 2xx 가 아니면 항목 실패로 집계)
+         */
+        public void onItemCompleted(String action, String appName, String id, int statusCode) {
+            PendingTask task = pending.remove(taskId(action, appName, id));
+            if (task != null) {
+                replicationLag.record(Math.max(0L, System.currentTimeMillis() - task.submittedAt), TimeUnit.MILLISECONDS);
+            }
+            if (statusCode < 200 || statusCode >= 300) {
+                itemFailures.increment();
+            }
+        }
+
+        public void onBatchFailed(long elapsedNanos, String error) {
+            batchFailures.increment();
+            batchLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            lastFailureAt.set(System.currentTimeMillis());
+            lastError = error;
+            if (consecutiveFailures.incrementAndGet() == 1) {
+                log.warn("🔁 [REPLICATION] Batch to {} failed: {}", peerUrl, error);
+            }
+        }
+
+        public void onDirectCall(long elapsedNanos, boolean success, String error) {
+            directLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (!success) {
+                batchFailures.increment();
+                lastFailureAt.set(System.currentTimeMillis());
+                lastError = error;
+            }
+        }
+
+        private int expirePending(long cutoff) {
+            int count = 0;
+            for (Map.Entry<String, PendingTask> entry : pending.entrySet()) {
+                if (entry.getValue().submittedAt < cutoff && pending.remove(entry.getKey(), entry.getValue())) {
+                    count++;
+                }
+            }
+            expired.increment(count);
+            return count;
+        }
+
+        /**
+         * ✅ 조회 메서드들 (엔드포인트 / 게이지용)
+         */
+        public String getPeerUrl() {
+            return peerUrl;
+        }
+
+        public int getPending() {
+            return pending.size();
+        }
+
+        public long getOldestPendingAgeMillis() {
+            long oldest = Long.MAX_VALUE;
+            for (PendingTask task : pending.values()) {
+                oldest = Math.min(oldest, task.submittedAt);
+            }
+            return oldest == Long.MAX_VALUE ? 0L : System.currentTimeMillis() - oldest;
+        }
+
+        public long getLastSuccessAt() {
+            return lastSuccessAt.get();
+        }
+
+        public long getMillisSinceLastSuccess() {
+            long last = lastSuccessAt.get();
+            return last > 0 ? System.currentTimeMillis() - last : 0L;
+        }
+
+        public long getLastFailureAt() {
+            return lastFailureAt.get();
+        }
+
+        public int getConsecutiveFailures() {
+            return consecutiveFailures.get();
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        public long getBatches() {
+            return (long) batches.count();
+        }
+
+        public long getItems() {
+            return (long) items.count();
+        }
+
+        public long getFailures() {
+            return (long) (batchFailures.count() + itemFailures.count());
+        }
+
+        public long getRetries() {
+            return (long) retries.count();
+        }
+
+        public double getMeanBatchSize() {
+            return batchSize.mean();
+        }
+
+        public double getMeanDispatchMillis() {
+            return batchLatency.mean(TimeUnit.MILLISECONDS);
+        }
+
+        public double getMaxDispatchMillis() {
+            return batchLatency.max(TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * ✅ 지연 판단: 대기 작업이 임계치보다 오래됐거나, 실패가 이어지는 중 마지막 성공이 임계치보다 오래된 경우
+         */
+        public boolean isLagging() {
+            if (getOldestPendingAgeMillis() > lagThresholdMillis) {
+                return true;
+            }
+            return consecutiveFailures.get() > 0 && getMillisSinceLastSuccess() > lagThresholdMillis;
+        }
+    }
+
+    private static String taskId(String action, String appName, String id) {
+        return action + '#' + appName + '/' + id;
+    }
+
+    private static final class PendingTask {
+        private final long submittedAt;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private PendingTask(long submittedAt) {
+            this.submittedAt = submittedAt;
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.EurekaServerContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 레지스트리 카운터 (이벤트 기반 증분 집계)
+ *
+ * 등록/해제/갱신 이벤트로 전체 인스턴스 수, 애플리케이션 수, 상태별 인스턴스 수를 유지한다.
+ * 게이지는 스크랩마다 레지스트리를 순회하지 않고 카운터 값만 읽는다.
+ * 이벤트 누락으로 생긴 오차는 주기적인 reconcile 로 보정한다.
+ *
+ * reconcile 은 지연된 뷰가 아니라 살아있는 레지스트리를 읽고, 이벤트 반영과는 앱 단위 락으로 직렬화한다.
+ * 레지스트리를 읽기 시작한 뒤 이벤트가 반영된 앱은 스냅샷이 이미 낡았을 수 있으므로 이번 회차에서 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistryCounters {
+
+    private static final InstanceStatus[] STATUSES = InstanceStatus.values();
+
+    private final EurekaServerContext eurekaServerContext;
+
+    private final ConcurrentHashMap<String, AppCounter> apps = new ConcurrentHashMap<>();
+    private final LongAdder[] statusTotals = newAdders();
+    private final LongAdder instanceTotal = new LongAdder();
+    private final AtomicInteger applicationTotal = new AtomicInteger();
+    private final LongAdder reconcileCorrections = new LongAdder();
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    /**
+     * ✅ 인스턴스 등록 반영
+     *
+     * @return 반영 후 해당 애플리케이션의 인스턴스 수
+     */
+    public int onRegistered(String appName, String instanceId, InstanceStatus status) {
+        return applyEvent(appName, instanceId, status);
+    }
+
+    /**
+     * ✅ 인스턴스 갱신 반영 (상태 변경 감지 및 누락된 등록 보정)
+     */
+    public int onRenewed(String appName, String instanceId, InstanceStatus status) {
+        return applyEvent(appName, instanceId, status);
+    }
+
+    /**
+     * ✅ 인스턴스 해제 반영
+     *
+     * @return 반영 후 해당 애플리케이션의 인스턴스 수
+     */
+    public int onCanceled(String appName, String instanceId) {
+        AppCounter app = apps.get(normalize(appName));
+        if (app == null) {
+            return 0;
+        }
+        synchronized (app) {
+            app.lastChange = changeSequence.incrementAndGet();
+            return remove(app, instanceId);
+        }
+    }
+
+    private int applyEvent(String appName, String instanceId, InstanceStatus status) {
+        String key = normalize(appName);
+        while (true) {
+            AppCounter app = apps.computeIfAbsent(key, k -> new AppCounter());
+            synchronized (app) {
+                // reconcile 이 빈 앱을 지운 직후라면 새 카운터로 다시 시도한다
+                if (app.removed) {
+                    continue;
+                }
+                app.lastChange = changeSequence.incrementAndGet();
+                return apply(app, instanceId, status);
+            }
+        }
+    }
+
+    private int remove(AppCounter app, String instanceId) {
+        InstanceStatus previous = app.instances.remove(instanceId);
+        if (previous != null) {
+            app.byStatus[previous.ordinal()].decrement();
+            statusTotals[previous.ordinal()].decrement();
+            instanceTotal.decrement();
+            if (app.live.decrementAndGet() == 0) {
+                applicationTotal.decrementAndGet();
+            }
+        }
+        return app.live.get();
+    }
+
+    private int apply(AppCounter app, String instanceId, InstanceStatus status) {
+        InstanceStatus current = status != null ? status : InstanceStatus.UNKNOWN;
+        InstanceStatus previous = app.instances.put(instanceId, current);
+        if (previous == null) {
+            instanceTotal.increment();
+            if (app.live.incrementAndGet() == 1) {
+                applicationTotal.incrementAndGet();
+            }
+        } else if (previous != current) {
+            app.byStatus[previous.ordinal()].decrement();
+            statusTotals[previous.ordinal()].decrement();
+        }
+        if (previous != current) {
+            app.byStatus[current.ordinal()].increment();
+            statusTotals[current.ordinal()].increment();
+        }
+        return app.live.get();
+    }
+
+    /**
+     * ✅ 레지스트리 전체 스캔으로 카운터 오차 보정 (주기적, 저빈도)
+     */
+    @Scheduled(
+            fixedDelayString = "${eureka.monitoring.counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${eureka.monitoring.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            // 스냅샷을 읽기 전의 시퀀스 - 이보다 늦게 바뀐 앱은 스냅샷보다 카운터가 최신이다
+            long snapshotSequence = changeSequence.get();
+            Map<String, Map<String, InstanceStatus>> live = new HashMap<>();
+            for (Application application : eurekaServerContext.getRegistry().getApplications().getRegisteredApplications()) {
+                for (InstanceInfo instance : application.getInstancesAsIsFromEureka()) {
+                    live.computeIfAbsent(normalize(application.getName()), k -> new HashMap<>())
+                        .put(instance.getId(), instance.getStatus() != null ? instance.getStatus() : InstanceStatus.UNKNOWN);
+                }
+            }
+
+            long corrections = 0;
+            int skipped = 0;
+            for (Map.Entry<String, Map<String, InstanceStatus>> entry : live.entrySet()) {
+                AppCounter app = apps.computeIfAbsent(entry.getKey(), k -> new AppCounter());
+                synchronized (app) {
+                    if (app.removed || app.lastChange > snapshotSequence) {
+                        skipped++;
+                        continue;
+                    }
+                    corrections += reconcileApp(entry.getKey(), app, entry.getValue());
+                }
+            }
+            for (Map.Entry<String, AppCounter> entry : apps.entrySet()) {
+                if (live.containsKey(entry.getKey())) {
+                    continue;
+                }
+                AppCounter app = entry.getValue();
+                synchronized (app) {
+                    if (app.removed || app.lastChange > snapshotSequence) {
+                        skipped++;
+                        continue;
+                    }
+                    corrections += reconcileApp(entry.getKey(), app, Map.of());
+                }
+            }
+
+            reconcileCorrections.add(corrections);
+            if (corrections > 0) {
+                log.info("🔧 [COUNTERS] Reconciled registry counters - {} corrections ({} apps changed during scan, skipped)",
+                        corrections, skipped);
+            } else {
+                log.debug("🔧 [COUNTERS] Registry counters in sync ({} apps changed during scan, skipped)", skipped);
+            }
+        } catch (Exception e) {
+            log.warn("Error reconciling registry counters", e);
+        }
+    }
+
+    /**
+     * 앱 락을 잡은 상태에서 호출 - 레지스트리 기준으로 인스턴스/상태를 맞추고, 비면 맵에서 제거한다
+     */
+    private long reconcileApp(String appName, AppCounter app, Map<String, InstanceStatus> live) {
+        long corrections = 0;
+        for (Map.Entry<String, InstanceStatus> instance : live.entrySet()) {
+            if (app.instances.get(instance.getKey()) != instance.getValue()) {
+                apply(app, instance.getKey(), instance.getValue());
+                corrections++;
+            }
+        }
+        for (String instanceId : app.instances.keySet()) {
+            if (!live.containsKey(instanceId)) {
+                remove(app, instanceId);
+                corrections++;
+            }
+        }
+        if (app.live.get() == 0) {
+            app.removed = true;
+            apps.remove(appName, app);
+        }
+        return corrections;
+    }
+
+    @EventListener
+    public void onRegistryAvailable(EurekaRegistryAvailableEvent event) {
+        reconcile();
+    }
+
+    /**
+     * ✅ 게이지용 조회 메서드 (O(1), 할당 없음)
+     */
+    public long getTotalInstances() {
+        return instanceTotal.sum();
+    }
+
+    public long getTotalApplications() {
+        return applicationTotal.get();
+    }
+
+    public long getInstanceCount(InstanceStatus status) {
+        return statusTotals[status.ordinal()].sum();
+    }
+
+    public long getReconcileCorrections() {
+        return reconcileCorrections.sum();
+    }
+
+    public int getAppInstanceCount(String appName) {
+        AppCounter app = apps.get(normalize(appName));
+        return app != null ? app.live.get() : 0;
+    }
+
+    public long getAppInstanceCount(String appName, InstanceStatus status) {
+        AppCounter app = apps.get(normalize(appName));
+        return app != null ? app.byStatus[status.ordinal()].sum() : 0L;
+    }
+
+    /**
+     * @return 마지막으로 반영된 인스턴스 상태, 모르는 인스턴스면 null
+     */
+    public InstanceStatus getInstanceStatus(String appName, String instanceId) {
+        AppCounter app = apps.get(normalize(appName));
+        return app != null && instanceId != null ? app.instances.get(instanceId) : null;
+    }
+
+    public Set<String> getApplicationNames() {
+        return apps.keySet();
+    }
+
+    private static String normalize(String appName) {
+        return appName == null ? "UNKNOWN" : appName.toUpperCase(Locale.ROOT);
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[STATUSES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static final class AppCounter {
+        private final ConcurrentHashMap<String, InstanceStatus> instances = new ConcurrentHashMap<>();
+        private final LongAdder[] byStatus = newAdders();
+        private final AtomicInteger live = new AtomicInteger();
+        private long lastChange;
+        private boolean removed;
+    }
+}
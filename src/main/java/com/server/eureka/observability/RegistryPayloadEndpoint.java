@@ -0,0 +1,42 @@
+package com.server.eureka.observability;
+
+import com.server.eureka.observability.RegistryPayloadMetrics.PayloadFormat;
+import com.server.eureka.observability.RegistryPayloadMetrics.PayloadType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ✅ 레지스트리 페이로드 크기 조회 엔드포인트 (/actuator/eureka-payload)
+ */
+@Component
+@Endpoint(id = "eureka-payload")
+@RequiredArgsConstructor
+public class RegistryPayloadEndpoint {
+
+    private final RegistryPayloadMetrics registryPayloadMetrics;
+
+    @ReadOperation
+    public Map<String, Object> payload(@Nullable Integer limit) {
+        Map<String, Object> payloads = new LinkedHashMap<>();
+        for (PayloadType type : PayloadType.values()) {
+            for (PayloadFormat format : PayloadFormat.values()) {
+                payloads.put(type.name().toLowerCase(Locale.ROOT) + "." + format.name().toLowerCase(Locale.ROOT), Map.of(
+                    "rawBytes", registryPayloadMetrics.getRawBytes(type, format),
+                    "gzipBytes", registryPayloadMetrics.getGzipBytes(type, format)));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("measuredAt", registryPayloadMetrics.getLastMeasuredAt());
+        result.put("payloads", payloads);
+        result.put("applications", registryPayloadMetrics.getLargestApplications(limit != null ? limit : 50));
+        return result;
+    }
+}
@@ -0,0 +1,252 @@
+package com.server.eureka.observability;
+
+import com.netflix.discovery.converters.wrappers.EncoderWrapper;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.EurekaServerContext;
+import com.server.eureka.view.RegistryView.AppView;
+import com.server.eureka.view.RegistryViewPublisher;
+import com.server.eureka.web.RegistryResponseCache;
+import com.server.eureka.web.RegistryResponseCache.VersionedPayload;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ✅ 레지스트리 응답 페이로드 크기 측정
+ *
+ * 클라이언트 조회로 이미 만들어진 full/delta 응답(JSON, XML)의 raw/gzip 크기를 {@link RegistryResponseCache} 에서 읽는다.
+ * 측정하려고 응답을 만들지 않는다 - ResponseCache 를 직접 조회하면 아무도 받지 않는 XML/delta 응답까지 생성시켜
+ * 관측 대상 부하를 스스로 늘리기 때문. 아직 아무도 받지 않은 조합(또는 conditional-get 비활성)은 0 으로 남는다.
+ * 응답 버전이 바뀐 경우에만 갱신하며, full 응답이 바뀌면 애플리케이션별 인코딩 크기도 클라이언트가 받은 형식만 다시 잰다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RegistryPayloadMetrics {
+
+    public enum PayloadType { FULL, DELTA }
+
+    public enum PayloadFormat { JSON, XML }
+
+    private static final PayloadType[] TYPES = PayloadType.values();
+    private static final PayloadFormat[] FORMATS = PayloadFormat.values();
+
+    private final MeterRegistry meterRegistry;
+    private final EurekaServerContext eurekaServerContext;
+    private final RegistryViewPublisher registryViewPublisher;
+    private final RegistryResponseCache registryResponseCache;
+
+    @Value("${eureka.monitoring.payload.top-applications:20}")
+    private int topApplications;
+
+    // [type][format] 별 raw/gzip 크기
+    private final AtomicLongArray rawBytes = new AtomicLongArray(TYPES.length * FORMATS.length);
+    private final AtomicLongArray gzipBytes = new AtomicLongArray(TYPES.length * FORMATS.length);
+
+    // 마지막으로 측정한 응답 버전 (버전 비교로 재생성 여부 판단)
+    private final long[] lastVersions = new long[TYPES.length * FORMATS.length];
+
+    private final Map<String, AppPayloadSize> appSizes = new ConcurrentHashMap<>();
+
+    private volatile long lastMeasuredAt;
+
+    private MultiGauge appPayloadBytes;
+
+    @PostConstruct
+    public void initPayloadMetrics() {
+        for (PayloadType type : TYPES) {
+            for (PayloadFormat format : FORMATS) {
+                int slot = slot(type, format);
+                Tags tags = Tags.of("type", type.name().toLowerCase(Locale.ROOT),
+                        "format", format.name().toLowerCase(Locale.ROOT));
+                Gauge.builder("eureka.registry.payload.bytes", rawBytes, bytes -> bytes.get(slot))
+                    .tags(tags).tag("encoding", "raw")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+                Gauge.builder("eureka.registry.payload.bytes", gzipBytes, bytes -> bytes.get(slot))
+                    .tags(tags).tag("encoding", "gzip")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            }
+        }
+        appPayloadBytes = MultiGauge.builder("eureka.registry.payload.app.bytes")
+            .description("Encoded size of the largest applications in the full registry payload")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 이미 만들어진 응답이 바뀐 경우에만 측정
+     */
+    @Scheduled(fixedDelayString = "${eureka.monitoring.payload.interval-ms:30000}")
+    public void measure() {
+        try {
+            if (eurekaServerContext.getRegistry() == null) {
+                return;
+            }
+            boolean fullChanged = false;
+            for (PayloadType type : TYPES) {
+                for (PayloadFormat format : FORMATS) {
+                    boolean changed = measureServed(type, format);
+                    fullChanged |= changed && type == PayloadType.FULL;
+                }
+            }
+
+            if (fullChanged) {
+                measureApplications();
+            }
+            lastMeasuredAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("Error measuring registry payload size", e);
+        }
+    }
+
+    private boolean measureServed(PayloadType type, PayloadFormat format) {
+        VersionedPayload payload = registryResponseCache.peek(
+                RegistryResponseCache.PayloadType.valueOf(type.name()),
+                RegistryResponseCache.PayloadFormat.valueOf(format.name()));
+        int slot = slot(type, format);
+        if (payload == null || payload.version() == lastVersions[slot]) {
+            return false;
+        }
+        lastVersions[slot] = payload.version();
+        rawBytes.set(slot, payload.raw().length);
+        gzipBytes.set(slot, payload.gzip().length);
+        return true;
+    }
+
+    private void measureApplications() throws IOException {
+        boolean json = lastVersions[slot(PayloadType.FULL, PayloadFormat.JSON)] != 0L;
+        boolean xml = lastVersions[slot(PayloadType.FULL, PayloadFormat.XML)] != 0L;
+        EncoderWrapper jsonCodec = eurekaServerContext.getServerCodecs().getFullJsonCodec();
+        EncoderWrapper xmlCodec = eurekaServerContext.getServerCodecs().getFullXmlCodec();
+
+        Map<String, AppPayloadSize> measured = new ConcurrentHashMap<>();
+        for (AppView app : registryViewPublisher.current().applications()) {
+            Application application = app.application();
+            String jsonPayload = json ? jsonCodec.encode(application) : "";
+            String xmlPayload = xml ? xmlCodec.encode(application) : "";
+            measured.put(application.getName(), new AppPayloadSize(
+                application.getName(),
+                application.getInstances().size(),
+                utf8Length(jsonPayload), json ? gzipLength(jsonPayload) : 0,
+                utf8Length(xmlPayload), xml ? gzipLength(xmlPayload) : 0));
+        }
+        appSizes.keySet().retainAll(measured.keySet());
+        appSizes.putAll(measured);
+
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        for (AppPayloadSize size : getLargestApplications(topApplications)) {
+            String app = size.appName().toLowerCase(Locale.ROOT);
+            if (json) {
+                rows.add(MultiGauge.Row.of(Tags.of("app", app, "format", "json", "encoding", "raw"), size.jsonRawBytes()));
+                rows.add(MultiGauge.Row.of(Tags.of("app", app, "format", "json", "encoding", "gzip"), size.jsonGzipBytes()));
+            }
+            if (xml) {
+                rows.add(MultiGauge.Row.of(Tags.of("app", app, "format", "xml", "encoding", "raw"), size.xmlRawBytes()));
+                rows.add(MultiGauge.Row.of(Tags.of("app", app, "format", "xml", "encoding", "gzip"), size.xmlGzipBytes()));
+            }
+        }
+        appPayloadBytes.register(rows, true);
+
+        log.debug("📦 [PAYLOAD] Measured {} applications - full JSON {}B (gzip {}B)",
+                measured.size(), getRawBytes(PayloadType.FULL, PayloadFormat.JSON),
+                getGzipBytes(PayloadType.FULL, PayloadFormat.JSON));
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public long getRawBytes(PayloadType type, PayloadFormat format) {
+        return rawBytes.get(slot(type, format));
+    }
+
+    public long getGzipBytes(PayloadType type, PayloadFormat format) {
+        return gzipBytes.get(slot(type, format));
+    }
+
+    public long getLastMeasuredAt() {
+        return lastMeasuredAt;
+    }
+
+    public List<AppPayloadSize> getLargestApplications(int limit) {
+        return appSizes.values().stream()
+            .sorted(Comparator.comparingLong((AppPayloadSize size) -> Math.max(size.jsonRawBytes(), size.xmlRawBytes())).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    private static int slot(PayloadType type, PayloadFormat format) {
+        return type.ordinal() * FORMATS.length + format.ordinal();
+    }
+
+    /**
+     * ✅ 문자열을 인코딩하지 않고 UTF-8 바이트 길이 계산
+     */
+    static long utf8Length(CharSequence value) {
+        long length = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static long gzipLength(String value) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(counter)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return counter.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    /**
+     * ✅ 애플리케이션별 인코딩 크기
+     */
+    public record AppPayloadSize(String appName, int instances,
+                                 long jsonRawBytes, long jsonGzipBytes,
+                                 long xmlRawBytes, long xmlGzipBytes) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.server.eureka.observability;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ✅ 초 단위 슬라이딩 윈도우 갱신률 (lock-free)
+ *
+ * Eureka 의 getNumOfRenewsInLastMin() 은 1분 고정 버킷이라 최대 1분 늦게 반영된다.
+ * 여기서는 bucket-ms(기본 1초) 버킷 링에 갱신 수를 세고, 가장 최근의 완료된 버킷까지 1분치를 합산해
+ * 초 단위로 최신인 갱신률을 만든다. 같은 1분치 버킷에 직선을 맞춰 추세(기울기)도 계산한다.
+ *
+ * 버킷 하나는 long 하나에 (버킷 번호 << 28 | 카운트) 로 담아 CAS 만으로 증가/재사용한다.
+ * 요청 스레드에서 호출되며 락과 할당이 없다.
+ */
+@Component
+public class RenewalRateTracker {
+
+    private static final int COUNT_BITS = 28;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MILLIS = 60_000L;
+
+    private final long bucketMillis;
+    private final int windowBuckets;
+    private final AtomicLongArray ring;
+    private final Clock clock;
+
+    @Autowired
+    public RenewalRateTracker(@Value("${eureka.monitoring.renewals.bucket-ms:1000}") long bucketMillis) {
+        this(bucketMillis, Clock.systemUTC());
+    }
+
+    RenewalRateTracker(long bucketMillis, Clock clock) {
+        this.clock = clock;
+        this.bucketMillis = Math.max(100L, Math.min(bucketMillis, WINDOW_MILLIS / 4));
+        this.windowBuckets = (int) (WINDOW_MILLIS / this.bucketMillis);
+        this.ring = new AtomicLongArray(windowBuckets + 1);
+    }
+
+    public void record() {
+        record(clock.millis());
+    }
+
+    void record(long now) {
+        long epoch = now / bucketMillis;
+        int index = (int) (epoch % ring.length());
+        for (;;) {
+            long packed = ring.get(index);
+            long next;
+            if ((packed >>> COUNT_BITS) == epoch) {
+                if ((packed & COUNT_MASK) == COUNT_MASK) {
+                    return; // 포화 (버킷당 2^28 - 1)
+                }
+                next = packed + 1;
+            } else {
+                next = (epoch << COUNT_BITS) | 1L;
+            }
+            if (ring.compareAndSet(index, packed, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * ✅ 최근 1분(완료된 버킷 기준) 갱신 수 - Eureka 의 renews-per-minute 와 같은 단위
+     */
+    public long getRenewalsLastMinute() {
+        return sumWindow(clock.millis() / bucketMillis - 1);
+    }
+
+    /**
+     * ✅ 추세 포함 스냅샷 (최근 1분 버킷에 최소제곱 직선을 맞춘다)
+     */
+    public RenewalTrend trend() {
+        long newest = clock.millis() / bucketMillis - 1;
+        int n = windowBuckets;
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            long count = countAt(newest - (n - 1) + i);
+            total += count;
+            sumX += i;
+            sumY += count;
+            sumXY += (double) i * count;
+            sumXX += (double) i * i;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        double slope = denominator != 0 ? (n * sumXY - sumX * sumY) / denominator : 0.0;
+        double intercept = (sumY - slope * sumX) / n;
+        return new RenewalTrend(total, intercept, slope, n, bucketMillis);
+    }
+
+    private long sumWindow(long newestEpoch) {
+        long total = 0;
+        for (long epoch = newestEpoch - windowBuckets + 1; epoch <= newestEpoch; epoch++) {
+            total += countAt(epoch);
+        }
+        return total;
+    }
+
+    private long countAt(long epoch) {
+        long packed = ring.get((int) (epoch % ring.length()));
+        return (packed >>> COUNT_BITS) == epoch ? packed & COUNT_MASK : 0L;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    /**
+     * ✅ 최근 1분 갱신 수와 버킷별 직선 추세 (y = intercept + slope * x, x 는 윈도우 내 버킷 위치)
+     */
+    public record RenewalTrend(long renewalsLastMinute, double intercept, double slope,
+                               int windowBuckets, long bucketMillis) {
+
+        /**
+         * ✅ 추세가 유지될 때 1분 합계가 threshold 이하로 떨어지기까지 남은 시간 (ms)
+         *
+         * @return 이미 이하면 0, 감소 추세가 아니면 -1
+         */
+        public long millisUntilBelow(long threshold) {
+            if (threshold <= 0) {
+                return -1L;
+            }
+            if (renewalsLastMinute <= threshold) {
+                return 0L;
+            }
+            if (slope >= 0) {
+                return -1L;
+            }
+            // k 버킷 뒤의 1분 합계 = W * (a + b * (k + (W - 1) / 2))
+            double buckets = ((double) threshold / windowBuckets - intercept) / slope - (windowBuckets - 1) / 2.0;
+            return buckets <= 0 ? 0L : (long) (buckets * bucketMillis);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.server.eureka.replication;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.cluster.HttpReplicationClient;
+import com.netflix.eureka.cluster.PeerEurekaNode;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistryImpl.Action;
+import com.server.eureka.observability.PeerReplicationMetrics;
+import com.server.eureka.observability.PeerReplicationMetrics.PeerStats;
+
+/**
+ * ✅ 복제 작업 제출을 기록하는 PeerEurekaNode
+ *
+ * 배처에 들어가는 작업(등록/해제/heartbeat/상태 변경)을 제출 시점에 PeerStats 의 대기 목록에 올린다.
+ * 연결 priming heartbeat 는 배처를 거치지 않으므로 제외한다.
+ */
+public class InstrumentedPeerEurekaNode extends PeerEurekaNode {
+
+    private final PeerReplicationMetrics peerReplicationMetrics;
+    private final PeerStats stats;
+
+    public InstrumentedPeerEurekaNode(PeerAwareInstanceRegistry registry, String targetHost, String serviceUrl,
+                                      HttpReplicationClient replicationClient, EurekaServerConfig config,
+                                      PeerReplicationMetrics peerReplicationMetrics, PeerStats stats) {
+        super(registry, targetHost, serviceUrl, replicationClient, config);
+        this.peerReplicationMetrics = peerReplicationMetrics;
+        this.stats = stats;
+    }
+
+    @Override
+    public void register(InstanceInfo info) throws Exception {
+        stats.onSubmitted(Action.Register.name(), info.getAppName(), info.getId());
+        super.register(info);
+    }
+
+    @Override
+    public void cancel(String appName, String id) throws Exception {
+        stats.onSubmitted(Action.Cancel.name(), appName, id);
+        super.cancel(appName, id);
+    }
+
+    @Override
+    public void heartbeat(String appName, String id, InstanceInfo info, InstanceStatus overriddenStatus,
+                          boolean primeConnection) throws Throwable {
+        if (!primeConnection) {
+            stats.onSubmitted(Action.Heartbeat.name(), appName, id);
+        }
+        super.heartbeat(appName, id, info, overriddenStatus, primeConnection);
+    }
+
+    @Override
+    public void statusUpdate(String appName, String id, InstanceStatus newStatus, InstanceInfo info) {
+        stats.onSubmitted(Action.StatusUpdate.name(), appName, id);
+        super.statusUpdate(appName, id, newStatus, info);
+    }
+
+    @Override
+    public void deleteStatusOverride(String appName, String id, InstanceInfo info) {
+        stats.onSubmitted(Action.DeleteStatusOverride.name(), appName, id);
+        super.deleteStatusOverride(appName, id, info);
+    }
+
+    @Override
+    public void shutDown() {
+        super.shutDown();
+        peerReplicationMetrics.removePeer(getServiceUrl());
+    }
+}
@@ -0,0 +1,68 @@
+package com.server.eureka.replication;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.discovery.EurekaClientConfig;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.cluster.HttpReplicationClient;
+import com.netflix.eureka.cluster.PeerEurekaNode;
+import com.netflix.eureka.cluster.PeerEurekaNodes;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.resources.ServerCodecs;
+import com.netflix.eureka.transport.Jersey3ReplicationClient;
+import com.server.eureka.observability.PeerReplicationMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.netflix.eureka.server.ReplicationClientAdditionalFilters;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * ✅ 계측된 복제 클라이언트/노드를 만드는 PeerEurekaNodes
+ *
+ * Spring Cloud 기본 구현(RefreshablePeerEurekaNodes)처럼 service-url 관련 설정이 바뀌면 피어 목록을 다시 읽고,
+ * ReplicationClientAdditionalFilters(인증 헤더 등)를 복제 클라이언트에 그대로 붙인다.
+ */
+@Slf4j
+public class InstrumentedPeerEurekaNodes extends PeerEurekaNodes implements ApplicationListener<EnvironmentChangeEvent> {
+
+    private final PeerReplicationMetrics peerReplicationMetrics;
+    private final ReplicationClientAdditionalFilters replicationClientAdditionalFilters;
+
+    public InstrumentedPeerEurekaNodes(PeerAwareInstanceRegistry registry,
+                                       EurekaServerConfig serverConfig,
+                                       EurekaClientConfig clientConfig,
+                                       ServerCodecs serverCodecs,
+                                       ApplicationInfoManager applicationInfoManager,
+                                       ReplicationClientAdditionalFilters replicationClientAdditionalFilters,
+                                       PeerReplicationMetrics peerReplicationMetrics) {
+        super(registry, serverConfig, clientConfig, serverCodecs, applicationInfoManager);
+        this.replicationClientAdditionalFilters = replicationClientAdditionalFilters;
+        this.peerReplicationMetrics = peerReplicationMetrics;
+    }
+
+    @Override
+    protected PeerEurekaNode createPeerEurekaNode(String peerEurekaNodeUrl) {
+        HttpReplicationClient replicationClient = Jersey3ReplicationClient.createReplicationClient(
+                serverConfig, serverCodecs, peerEurekaNodeUrl, replicationClientAdditionalFilters.getFilters());
+        PeerReplicationMetrics.PeerStats stats = peerReplicationMetrics.forPeer(peerEurekaNodeUrl);
+        String targetHost = hostFromUrl(peerEurekaNodeUrl);
+        if (targetHost == null) {
+            targetHost = "host";
+        }
+        log.info("🔗 [REPLICATION] Instrumented peer node created for {}", peerEurekaNodeUrl);
+        return new InstrumentedPeerEurekaNode(registry, targetHost, peerEurekaNodeUrl,
+                new InstrumentedReplicationClient(replicationClient, stats), serverConfig,
+                peerReplicationMetrics, stats);
+    }
+
+    @Override
+    public void onApplicationEvent(EnvironmentChangeEvent event) {
+        boolean peerConfigChanged = event.getKeys().stream().anyMatch(key ->
+                key.startsWith("eureka.client.service-url.")
+                        || key.startsWith("eureka.client.availability-zones.")
+                        || key.equals("eureka.client.region")
+                        || key.equals("eureka.client.use-dns-for-fetching-service-urls"));
+        if (peerConfigChanged) {
+            updatePeerEurekaNodes(resolvePeerUrls());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.server.eureka.replication;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.discovery.shared.transport.EurekaHttpResponse;
+import com.netflix.eureka.cluster.HttpReplicationClient;
+import com.netflix.eureka.cluster.protocol.ReplicationInstance;
+import com.netflix.eureka.cluster.protocol.ReplicationInstanceResponse;
+import com.netflix.eureka.cluster.protocol.ReplicationList;
+import com.netflix.eureka.cluster.protocol.ReplicationListResponse;
+import com.netflix.eureka.resources.ASGResource.ASGStatus;
+import com.server.eureka.observability.PeerReplicationMetrics.PeerStats;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 피어 복제 HTTP 클라이언트 계측 래퍼
+ *
+ * 배치 전송(submitBatchUpdates)의 크기/왕복 시간/성공 여부와 항목별 결과를 PeerStats 에 기록한다.
+ * 배처를 거치지 않는 단건 호출(ASG 상태, 연결 priming heartbeat 등)은 direct 지연으로 기록한다.
+ * 조회 메서드는 복제 경로가 아니므로 그대로 위임한다.
+ */
+public class InstrumentedReplicationClient implements HttpReplicationClient {
+
+    private final HttpReplicationClient delegate;
+    private final PeerStats stats;
+
+    public InstrumentedReplicationClient(HttpReplicationClient delegate, PeerStats stats) {
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    @Override
+    public EurekaHttpResponse<ReplicationListResponse> submitBatchUpdates(ReplicationList replicationList) {
+        List<ReplicationInstance> instances = replicationList.getReplicationList();
+        for (ReplicationInstance instance : instances) {
+            stats.onBatchDispatched(instance.getAction().name(), instance.getAppName(), instance.getId());
+        }
+
+        long start = System.nanoTime();
+        EurekaHttpResponse<ReplicationListResponse> response;
+        try {
+            response = delegate.submitBatchUpdates(replicationList);
+        } catch (RuntimeException e) {
+            stats.onBatchFailed(System.nanoTime() - start, e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (!isSuccess(response.getStatusCode())) {
+            stats.onBatchFailed(elapsed, "HTTP " + response.getStatusCode());
+            return response;
+        }
+        stats.onBatchCompleted(instances.size(), elapsed);
+
+        // 응답 항목은 요청 항목과 같은 순서로 온다
+        List<ReplicationInstanceResponse> results = response.getEntity() != null
+                ? response.getEntity().getResponseList() : List.of();
+        for (int i = 0; i < instances.size(); i++) {
+            ReplicationInstance instance = instances.get(i);
+            int statusCode = i < results.size() ? results.get(i).getStatusCode() : response.getStatusCode();
+            stats.onItemCompleted(instance.getAction().name(), instance.getAppName(), instance.getId(), statusCode);
+        }
+        return response;
+    }
+
+    @Override
+    public EurekaHttpResponse<Void> statusUpdate(String asgName, ASGStatus newStatus) {
+        return direct(() -> delegate.statusUpdate(asgName, newStatus));
+    }
+
+    @Override
+    public EurekaHttpResponse<Void> register(InstanceInfo info) {
+        return direct(() -> delegate.register(info));
+    }
+
+    @Override
+    public EurekaHttpResponse<Void> cancel(String appName, String id) {
+        return direct(() -> delegate.cancel(appName, id));
+    }
+
+    @Override
+    public EurekaHttpResponse<InstanceInfo> sendHeartBeat(String appName, String id, InstanceInfo info,
+                                                          InstanceStatus overriddenStatus) {
+        return direct(() -> delegate.sendHeartBeat(appName, id, info, overriddenStatus));
+    }
+
+    @Override
+    public EurekaHttpResponse<Void> statusUpdate(String appName, String id, InstanceStatus newStatus, InstanceInfo info) {
+        return direct(() -> delegate.statusUpdate(appName, id, newStatus, info));
+    }
+
+    @Override
+    public EurekaHttpResponse<Void> deleteStatusOverride(String appName, String id, InstanceInfo info) {
+        return direct(() -> delegate.deleteStatusOverride(appName, id, info));
+    }
+
+    @Override
+    public EurekaHttpResponse<Applications> getApplications(String... regions) {
+        return delegate.getApplications(regions);
+    }
+
+    @Override
+    public EurekaHttpResponse<Applications> getDelta(String... regions) {
+        return delegate.getDelta(regions);
+    }
+
+    @Override
+    public EurekaHttpResponse<Applications> getVip(String vipAddress, String... regions) {
+        return delegate.getVip(vipAddress, regions);
+    }
+
+    @Override
+    public EurekaHttpResponse<Applications> getSecureVip(String secureVipAddress, String... regions) {
+        return delegate.getSecureVip(secureVipAddress, regions);
+    }
+
+    @Override
+    public EurekaHttpResponse<Application> getApplication(String appName) {
+        return delegate.getApplication(appName);
+    }
+
+    @Override
+    public EurekaHttpResponse<InstanceInfo> getInstance(String appName, String id) {
+        return delegate.getInstance(appName, id);
+    }
+
+    @Override
+    public EurekaHttpResponse<InstanceInfo> getInstance(String id) {
+        return delegate.getInstance(id);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    private <T> EurekaHttpResponse<T> direct(Supplier<EurekaHttpResponse<T>> call) {
+        long start = System.nanoTime();
+        try {
+            EurekaHttpResponse<T> response = call.get();
+            boolean success = isSuccess(response.getStatusCode());
+            stats.onDirectCall(System.nanoTime() - start, success, success ? null : "HTTP " + response.getStatusCode());
+            return response;
+        } catch (RuntimeException e) {
+            stats.onDirectCall(System.nanoTime() - start, false, e.getClass().getSimpleName() + ": " + e.getMessage());
+            throw e;
+        }
+    }
+
+    private static boolean isSuccess(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
@@ -0,0 +1,260 @@
+package com.server.eureka.snapshot;
+
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.appinfo.InstanceInfo.PortType;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * ✅ 레지스트리 스냅샷 바이너리 포맷
+ *
+ * <pre>
+ * header: magic(int) version(short) createdAt(long) renewsPerMinThreshold(int) renewsLastMin(long)
+ *         instanceCount(int) bodyLength(int) bodyCrc32(long)
+ * body:   instance* - 문자열은 UTF-8 길이(int, null 은 -1) + 바이트
+ * </pre>
+ * 인코딩 버퍼는 스냅샷 사이에 재사용하며 부족할 때만 두 배로 늘린다 (단일 writer 전제).
+ */
+public final class RegistrySnapshotCodec {
+
+    static final int MAGIC = 0x45555253; // "EURS"
+    static final short VERSION = 1;
+    static final int HEADER_BYTES = 4 + 2 + 8 + 4 + 8 + 4 + 4 + 8;
+
+    private ByteBuffer scratch = ByteBuffer.allocate(64 * 1024);
+
+    /**
+     * ✅ 스냅샷 인코딩
+     *
+     * @return 읽기 모드로 flip 된 버퍼 (다음 encode 호출 전까지만 유효)
+     */
+    public ByteBuffer encode(RegistrySnapshot snapshot) {
+        scratch.clear();
+        scratch.position(HEADER_BYTES);
+        for (InstanceInfo instance : snapshot.instances()) {
+            writeInstance(instance);
+        }
+        int bodyLength = scratch.position() - HEADER_BYTES;
+
+        CRC32 crc = new CRC32();
+        crc.update(scratch.array(), HEADER_BYTES, bodyLength);
+
+        scratch.putInt(0, MAGIC);
+        scratch.putShort(4, VERSION);
+        scratch.putLong(6, snapshot.createdAt());
+        scratch.putInt(14, snapshot.renewsPerMinThreshold());
+        scratch.putLong(18, snapshot.renewsLastMin());
+        scratch.putInt(26, snapshot.instances().size());
+        scratch.putInt(30, bodyLength);
+        scratch.putLong(34, crc.getValue());
+        scratch.flip();
+        return scratch;
+    }
+
+    /**
+     * ✅ 스냅샷 디코딩 (magic/버전/CRC 불일치 시 IllegalArgumentException)
+     */
+    public static RegistrySnapshot decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a registry snapshot (bad magic)");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported registry snapshot version: " + version);
+            }
+            long createdAt = buffer.getLong();
+            int threshold = buffer.getInt();
+            long renewsLastMin = buffer.getLong();
+            int instanceCount = buffer.getInt();
+            int bodyLength = buffer.getInt();
+            long expectedCrc = buffer.getLong();
+
+            ByteBuffer body = buffer.slice();
+            body.limit(bodyLength);
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if (crc.getValue() != expectedCrc) {
+                throw new IllegalArgumentException("Registry snapshot checksum mismatch");
+            }
+
+            List<InstanceInfo> instances = new ArrayList<>(instanceCount);
+            for (int i = 0; i < instanceCount; i++) {
+                instances.add(readInstance(body));
+            }
+            return new RegistrySnapshot(createdAt, threshold, renewsLastMin, instances);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated registry snapshot", e);
+        }
+    }
+
+    private void writeInstance(InstanceInfo instance) {
+        writeString(instance.getAppName());
+        writeString(instance.getId());
+        writeString(instance.getAppGroupName());
+        writeString(instance.getHostName());
+        writeString(instance.getIPAddr());
+        writeString(instance.getVIPAddress());
+        writeString(instance.getSecureVipAddress());
+        writeString(instance.getStatus() != null ? instance.getStatus().name() : null);
+        writeString(instance.getOverriddenStatus() != null ? instance.getOverriddenStatus().name() : null);
+        ensure(4 + 1 + 4 + 1 + 4);
+        scratch.putInt(instance.getPort());
+        scratch.put((byte) (instance.isPortEnabled(PortType.UNSECURE) ? 1 : 0));
+        scratch.putInt(instance.getSecurePort());
+        scratch.put((byte) (instance.isPortEnabled(PortType.SECURE) ? 1 : 0));
+        scratch.putInt(instance.getCountryId());
+        writeString(instance.getHomePageUrl());
+        writeString(instance.getStatusPageUrl());
+        writeString(instance.getHealthCheckUrl());
+        writeString(instance.getSecureHealthCheckUrl());
+        writeString(instance.getDataCenterInfo() != null ? instance.getDataCenterInfo().getName().name() : null);
+        writeString(instance.getASGName());
+
+        LeaseInfo lease = instance.getLeaseInfo();
+        ensure(4 + 4 + 8 * 4 + 8 + 8);
+        scratch.putInt(lease != null ? lease.getRenewalIntervalInSecs() : LeaseInfo.DEFAULT_LEASE_RENEWAL_INTERVAL);
+        scratch.putInt(lease != null ? lease.getDurationInSecs() : LeaseInfo.DEFAULT_LEASE_DURATION);
+        scratch.putLong(lease != null ? lease.getRegistrationTimestamp() : 0L);
+        scratch.putLong(lease != null ? lease.getRenewalTimestamp() : 0L);
+        scratch.putLong(lease != null ? lease.getServiceUpTimestamp() : 0L);
+        scratch.putLong(lease != null ? lease.getEvictionTimestamp() : 0L);
+        scratch.putLong(instance.getLastUpdatedTimestamp());
+        Long lastDirty = instance.getLastDirtyTimestamp();
+        scratch.putLong(lastDirty != null ? lastDirty : 0L);
+
+        Map<String, String> metadata = instance.getMetadata();
+        ensure(4);
+        scratch.putInt(metadata != null ? metadata.size() : 0);
+        if (metadata != null) {
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                writeString(entry.getKey());
+                writeString(entry.getValue());
+            }
+        }
+    }
+
+    private static InstanceInfo readInstance(ByteBuffer in) {
+        String appName = readString(in);
+        String instanceId = readString(in);
+        String appGroupName = readString(in);
+        String hostName = readString(in);
+        String ipAddr = readString(in);
+        String vipAddress = readString(in);
+        String secureVipAddress = readString(in);
+        String status = readString(in);
+        String overriddenStatus = readString(in);
+        int port = in.getInt();
+        boolean portEnabled = in.get() != 0;
+        int securePort = in.getInt();
+        boolean securePortEnabled = in.get() != 0;
+        int countryId = in.getInt();
+        String homePageUrl = readString(in);
+        String statusPageUrl = readString(in);
+        String healthCheckUrl = readString(in);
+        String secureHealthCheckUrl = readString(in);
+        String dataCenterName = readString(in);
+        String asgName = readString(in);
+
+        LeaseInfo lease = LeaseInfo.Builder.newBuilder()
+            .setRenewalIntervalInSecs(in.getInt())
+            .setDurationInSecs(in.getInt())
+            .setRegistrationTimestamp(in.getLong())
+            .setRenewalTimestamp(in.getLong())
+            .setServiceUpTimestamp(in.getLong())
+            .setEvictionTimestamp(in.getLong())
+            .build();
+        long lastUpdated = in.getLong();
+        long lastDirty = in.getLong();
+
+        int metadataSize = in.getInt();
+        Map<String, String> metadata = new HashMap<>(Math.max(4, metadataSize * 2));
+        for (int i = 0; i < metadataSize; i++) {
+            metadata.put(readString(in), readString(in));
+        }
+
+        DataCenterInfo.Name dataCenter = dataCenterName != null
+                ? DataCenterInfo.Name.valueOf(dataCenterName) : DataCenterInfo.Name.MyOwn;
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(appName)
+            .setInstanceId(instanceId)
+            .setAppGroupName(appGroupName)
+            .setHostName(hostName)
+            .setIPAddr(ipAddr)
+            .setVIPAddress(vipAddress)
+            .setSecureVIPAddress(secureVipAddress)
+            .setStatus(status != null ? InstanceStatus.toEnum(status) : InstanceStatus.UNKNOWN)
+            .setOverriddenStatus(overriddenStatus != null ? InstanceStatus.toEnum(overriddenStatus) : InstanceStatus.UNKNOWN)
+            .setPort(port)
+            .enablePort(PortType.UNSECURE, portEnabled)
+            .setSecurePort(securePort)
+            .enablePort(PortType.SECURE, securePortEnabled)
+            .setCountryId(countryId)
+            .setHomePageUrlForDeser(homePageUrl)
+            .setStatusPageUrlForDeser(statusPageUrl)
+            .setHealthCheckUrlsForDeser(healthCheckUrl, secureHealthCheckUrl)
+            .setDataCenterInfo(new MyDataCenterInfo(dataCenter))
+            .setASGName(asgName)
+            .setLeaseInfo(lease)
+            .setMetadata(metadata)
+            .setLastUpdatedTimestamp(lastUpdated)
+            .setLastDirtyTimestamp(lastDirty)
+            .build();
+    }
+
+    private void writeString(String value) {
+        if (value == null) {
+            ensure(4);
+            scratch.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensure(4 + bytes.length);
+        scratch.putInt(bytes.length);
+        scratch.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void ensure(int bytes) {
+        if (scratch.remaining() < bytes) {
+            int capacity = scratch.capacity();
+            while (capacity - scratch.position() < bytes) {
+                capacity <<= 1;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            scratch.flip();
+            grown.put(scratch);
+            scratch = grown;
+        }
+    }
+
+    /**
+     * ✅ 스냅샷 내용 (인스턴스의 LeaseInfo 에 갱신/등록 시각이 담긴다)
+     */
+    public record RegistrySnapshot(long createdAt, int renewsPerMinThreshold, long renewsLastMin,
+                                   List<InstanceInfo> instances) {
+    }
+}
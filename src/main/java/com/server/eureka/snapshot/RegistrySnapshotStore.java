@@ -0,0 +1,285 @@
+package com.server.eureka.snapshot;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.custom.EventPublishingInstanceRegistry;
+import com.server.eureka.snapshot.RegistrySnapshotCodec.RegistrySnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 레지스트리 스냅샷 저장/복원 (warm restart)
+ *
+ * 주기적으로 레지스트리(리스 시각 포함)와 갱신 임계값 상태를 메모리 매핑 파일에 바이너리로 기록한다.
+ * 기동 시 피어 동기화(syncUp)가 끝나 레지스트리가 열리면(EurekaRegistryAvailableEvent) 스냅샷을 읽어
+ * 피어에서 받지 못한 인스턴스만 복제 없이(isReplication) 등록하고, 전체 인스턴스 수로 기대 클라이언트 수와
+ * 갱신 임계값만 다시 계산한다. 피어가 가진 정보가 항상 우선한다.
+ * openForTraffic 을 다시 부르지 않는다 - postInit(퇴출 태스크)이 한 번 더 돌고 startupTime 과 로컬 인스턴스 상태가 바뀐다.
+ * 레지스트리 뷰가 복원분까지 담도록 이 리스너가 {@link #REGISTRY_AVAILABLE_ORDER} 로 가장 먼저 돈다.
+ * - 스냅샷 자체가 max-age 보다 오래됐으면 버린다
+ * - 남은 lease 가 min-remaining-lease-ratio 미만인 인스턴스는 복원하지 않는다
+ *   등록하면 lease 가 지금부터 새로 시작되므로, 곧 만료됐어야 할 인스턴스가 최대 (duration - 남은 시간)만큼 더 살아남는다.
+ *   Eureka 는 lease 의 마지막 갱신 시각을 밖에서 정할 수 없고, 남은 시간으로 등록하면 이후 갱신에도 짧은 duration 이
+ *   그대로 남으므로, 연장 폭을 비율로 제한하는 쪽을 택했다 (기본 0.5 → 최대 duration 의 절반만큼 연장)
+ * - 갱신 임계값은 저장된 값을 쓰지 않고 복원 후 인스턴스 수로 다시 계산한다 (저장값은 비교용으로 로그에만 남김)
+ */
+@Component
+@Slf4j
+public class RegistrySnapshotStore implements SmartLifecycle {
+
+    public static final int REGISTRY_AVAILABLE_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    private final EurekaServerContext eurekaServerContext;
+    private final Path path;
+    private final long maxAgeMillis;
+    private final double minRemainingLeaseRatio;
+    private final boolean enabled;
+    private final RegistrySnapshotCodec codec = new RegistrySnapshotCodec();
+
+    private final Timer writeTime;
+    private final Timer loadTime;
+    private final Counter writeFailures;
+    private final Counter restoredInstances;
+    private final Counter skippedInstances;
+    private final AtomicLong sizeBytes = new AtomicLong();
+    private final AtomicLong snapshotInstances = new AtomicLong();
+    private final AtomicLong lastWrittenAt = new AtomicLong();
+
+    // 복원 판단이 끝나기 전에는 쓰지 않는다 (빈 레지스트리로 좋은 스냅샷을 덮어쓰지 않도록)
+    private volatile boolean restoreCompleted;
+    private volatile boolean running;
+
+    public RegistrySnapshotStore(EurekaServerContext eurekaServerContext,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${eureka.snapshot.enabled:true}") boolean enabled,
+                                 @Value("${eureka.snapshot.path:data/eureka-registry.snapshot}") String path,
+                                 @Value("${eureka.snapshot.max-age-ms:600000}") long maxAgeMillis,
+                                 @Value("${eureka.snapshot.min-remaining-lease-ratio:0.5}") double minRemainingLeaseRatio) {
+        this.eurekaServerContext = eurekaServerContext;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.maxAgeMillis = maxAgeMillis;
+        this.minRemainingLeaseRatio = Math.max(0.0, Math.min(1.0, minRemainingLeaseRatio));
+
+        this.writeTime = Timer.builder("eureka.snapshot.write.time")
+            .description("Time to encode and write the registry snapshot")
+            .register(meterRegistry);
+        this.loadTime = Timer.builder("eureka.snapshot.load.time")
+            .description("Time to read the registry snapshot and preload the registry")
+            .register(meterRegistry);
+        this.writeFailures = Counter.builder("eureka.snapshot.write.failures").register(meterRegistry);
+        this.restoredInstances = Counter.builder("eureka.snapshot.restored.instances")
+            .description("Instances preloaded from the snapshot on startup")
+            .register(meterRegistry);
+        this.skippedInstances = Counter.builder("eureka.snapshot.skipped.instances")
+            .description("Snapshot instances not restored (already known from peers or lease nearly expired)")
+            .register(meterRegistry);
+        Gauge.builder("eureka.snapshot.size.bytes", sizeBytes, AtomicLong::get)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("eureka.snapshot.instances", snapshotInstances, AtomicLong::get)
+            .register(meterRegistry);
+        Gauge.builder("eureka.snapshot.age", lastWrittenAt,
+                written -> written.get() > 0 ? (System.currentTimeMillis() - written.get()) / 1000.0 : 0.0)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 레지스트리가 열린 직후 (syncUp + openForTraffic 이후) 스냅샷으로 보충
+     */
+    @EventListener
+    @Order(REGISTRY_AVAILABLE_ORDER)
+    public void onRegistryAvailable(EurekaRegistryAvailableEvent event) {
+        try {
+            if (enabled) {
+                restore();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️  Failed to restore registry snapshot from {} - starting cold", path, e);
+        } finally {
+            restoreCompleted = true;
+        }
+    }
+
+    private void restore() throws IOException {
+        if (!Files.isRegularFile(path)) {
+            log.info("💾 [SNAPSHOT] No registry snapshot at {} - starting cold", path);
+            return;
+        }
+
+        long start = System.nanoTime();
+        RegistrySnapshot snapshot;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            snapshot = RegistrySnapshotCodec.decode(buffer);
+        }
+
+        long now = System.currentTimeMillis();
+        long age = now - snapshot.createdAt();
+        if (age > maxAgeMillis) {
+            log.info("💾 [SNAPSHOT] Snapshot is {}s old (limit {}s) - ignored",
+                    TimeUnit.MILLISECONDS.toSeconds(age), TimeUnit.MILLISECONDS.toSeconds(maxAgeMillis));
+            return;
+        }
+
+        PeerAwareInstanceRegistry registry = eurekaServerContext.getRegistry();
+        int restored = 0;
+        int skipped = 0;
+        for (InstanceInfo instance : snapshot.instances()) {
+            LeaseInfo lease = instance.getLeaseInfo();
+            int durationSecs = lease != null ? lease.getDurationInSecs() : LeaseInfo.DEFAULT_LEASE_DURATION;
+            long lastRenewal = lease != null ? lease.getRenewalTimestamp() : 0L;
+            long durationMillis = TimeUnit.SECONDS.toMillis(durationSecs);
+            long remaining = lastRenewal > 0 ? lastRenewal + durationMillis - now : durationMillis;
+            if (remaining < durationMillis * minRemainingLeaseRatio || registry.getInstanceByAppAndId(instance.getAppName(), instance.getId(), false) != null) {
+                skipped++;
+                continue;
+            }
+            registry.register(instance, durationSecs, true);
+            restored++;
+        }
+        restoredInstances.increment(restored);
+        skippedInstances.increment(skipped);
+
+        if (restored > 0) {
+            // 갱신 임계값을 실제 인스턴스 수 기준으로 다시 계산 (피어 동기화 결과 + 복원분)
+            if (registry instanceof EventPublishingInstanceRegistry instanceRegistry) {
+                instanceRegistry.updateExpectedClients(countInstances(registry));
+            } else {
+                log.warn("⚠️  [SNAPSHOT] {} is not an EventPublishingInstanceRegistry - renewal threshold left at the peer sync value",
+                        registry.getClass().getSimpleName());
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        loadTime.record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("💾 [SNAPSHOT] Restored {} instance(s), skipped {} from a {}s old snapshot in {}ms - threshold {} recomputed (snapshot had {})",
+                restored, skipped, TimeUnit.MILLISECONDS.toSeconds(age), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                registry.getNumOfRenewsPerMinThreshold(), snapshot.renewsPerMinThreshold());
+    }
+
+    /**
+     * ✅ 주기적 스냅샷 기록 (임시 파일에 매핑 기록 → fsync → 원자적 rename)
+     */
+    @Scheduled(fixedDelayString = "${eureka.snapshot.interval-ms:30000}",
+               initialDelayString = "${eureka.snapshot.interval-ms:30000}")
+    public void writeSnapshot() {
+        if (!enabled || !restoreCompleted || eurekaServerContext.getRegistry() == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            PeerAwareInstanceRegistry registry = eurekaServerContext.getRegistry();
+            List<InstanceInfo> instances = new ArrayList<>();
+            for (Application application : registry.getApplications().getRegisteredApplications()) {
+                instances.addAll(application.getInstancesAsIsFromEureka());
+            }
+            RegistrySnapshot snapshot = new RegistrySnapshot(System.currentTimeMillis(),
+                    registry.getNumOfRenewsPerMinThreshold(), registry.getNumOfRenewsInLastMin(), instances);
+
+            int size = write(codec.encode(snapshot));
+            writeTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            sizeBytes.set(size);
+            snapshotInstances.set(instances.size());
+            lastWrittenAt.set(snapshot.createdAt());
+            log.debug("💾 [SNAPSHOT] Wrote {} instance(s), {}B to {}", instances.size(), size, path);
+        } catch (Exception e) {
+            writeFailures.increment();
+            log.warn("Error writing registry snapshot to {}", path, e);
+        }
+    }
+
+    private synchronized int write(ByteBuffer encoded) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int size = encoded.remaining();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mapped.put(encoded);
+            mapped.force();
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return size;
+    }
+
+    private static int countInstances(PeerAwareInstanceRegistry registry) {
+        int count = 0;
+        for (Application application : registry.getApplications().getRegisteredApplications()) {
+            count += application.getInstancesAsIsFromEureka().size();
+        }
+        return count;
+    }
+
+    /**
+     * ✅ 정상 종료 시 마지막 스냅샷 기록 (Eureka 서버 컨텍스트보다 먼저 정지)
+     */
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (running) {
+            running = false;
+            writeSnapshot();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 1000;
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public long getLastWrittenAt() {
+        return lastWrittenAt.get();
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes.get();
+    }
+}
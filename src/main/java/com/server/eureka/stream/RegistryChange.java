@@ -0,0 +1,33 @@
+package com.server.eureka.stream;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+
+/**
+ * ✅ 스트림으로 내보내는 레지스트리 변경 (등록 / 해제 / 상태 변경)
+ *
+ * sequence 는 서버 단위로 단조 증가하며 SSE 이벤트 id 로 쓰인다 (재연결 시 Last-Event-ID 로 이어받기).
+ */
+public record RegistryChange(long sequence,
+                             Type type,
+                             String app,
+                             String instanceId,
+                             String vipAddress,
+                             String status,
+                             String previousStatus,
+                             boolean replication,
+                             long timestamp) {
+
+    public enum Type {
+        REGISTERED, CANCELED, STATUS_CHANGED
+    }
+
+    static RegistryChange of(long sequence, Type type, RegistryEvent event, String vipAddress,
+                             InstanceStatus previousStatus) {
+        InstanceStatus status = event.getStatus();
+        return new RegistryChange(sequence, type, event.getAppName(), event.getInstanceId(), vipAddress,
+                status != null ? status.name() : null,
+                previousStatus != null ? previousStatus.name() : null,
+                event.isReplication(), event.getTimestamp());
+    }
+}
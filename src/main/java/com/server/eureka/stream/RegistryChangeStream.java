@@ -0,0 +1,524 @@
+package com.server.eureka.stream;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.support.BoundedRingQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 레지스트리 변경 푸시 스트림 (SSE)
+ *
+ * {@link com.server.eureka.custom.CustomEurekaEventListener} 가 이벤트 소비자 스레드에서 등록/해제/상태 변경을 넘기면
+ * 시퀀스 번호를 붙여 최근 이력 링에 보관하고, 구독자별 bounded 큐에 넣는다.
+ * 실제 전송은 전송 스레드 풀이 구독자 단위로 처리하므로 느린 구독자가 다른 구독자나 이벤트 파이프라인을 막지 않는다.
+ * 구독자 큐가 넘치면 무한정 버퍼링하지 않고 정책에 따라 끊거나(drop) resync 이벤트를 보내 스냅샷 재조회를 요구한다.
+ *
+ * SseEmitter.send 는 느린 클라이언트에서 블로킹되므로 전송 하나가 write-timeout-ms 를 넘기면 구독자를 닫는다.
+ * 막힌 전송 스레드는 소켓 write timeout 으로 풀릴 때까지 돌아오지 않으므로, 그동안 전송 풀을 한 스레드씩 늘려
+ * 다른 구독자가 굶지 않게 한다. drop 정책의 overflow 도 전송 중인지와 상관없이 바로 구독자를 뺀다.
+ * emitter.complete() 는 전송과 같은 락을 잡으므로 항상 그 구독자의 전송 작업 안에서만 호출한다.
+ */
+@Component
+@Slf4j
+public class RegistryChangeStream implements SmartLifecycle {
+
+    public enum OverflowPolicy { DROP, RESYNC }
+
+    private final int maxSubscribers;
+    private final int subscriberQueueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final int senderThreads;
+    // write timeout 으로 닫혔지만 아직 전송에서 돌아오지 않은 스레드 수 (그만큼 전송 풀을 늘려 둔다)
+    private final AtomicInteger stalledSenders = new AtomicInteger();
+    private final Object resizeLock = new Object();
+
+    // 최근 변경 이력 (sequence & mask 위치, 재연결 시 이어받기용)
+    private final RegistryChange[] history;
+    private final int historyMask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 해제 이벤트에는 InstanceInfo 가 없으므로 VIP 필터링을 위해 인스턴스별 VIP 를 기억한다
+    private final Map<String, String> vipByInstance = new ConcurrentHashMap<>();
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter published;
+    private final Counter resyncs;
+    private final Timer fanoutLatency;
+
+    private volatile ThreadPoolExecutor senders;
+    private volatile boolean running;
+
+    public RegistryChangeStream(MeterRegistry meterRegistry,
+                                @Value("${eureka.stream.max-subscribers:256}") int maxSubscribers,
+                                @Value("${eureka.stream.subscriber-queue:1024}") int subscriberQueueCapacity,
+                                @Value("${eureka.stream.history-size:8192}") int historySize,
+                                @Value("${eureka.stream.overflow-policy:resync}") String overflowPolicy,
+                                @Value("${eureka.stream.timeout-ms:1800000}") long timeoutMillis,
+                                @Value("${eureka.stream.write-timeout-ms:10000}") long writeTimeoutMillis,
+                                @Value("${eureka.stream.sender-threads:8}") int senderThreads) {
+        this.meterRegistry = meterRegistry;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberQueueCapacity = Math.max(2, subscriberQueueCapacity);
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, writeTimeoutMillis));
+        this.senderThreads = Math.max(1, senderThreads);
+
+        int capacity = Integer.highestOneBit(Math.max(2, historySize) - 1) << 1;
+        this.history = new RegistryChange[capacity];
+        this.historyMask = capacity - 1;
+
+        this.published = Counter.builder("eureka.stream.events.published")
+            .description("Registry changes published to the change stream")
+            .register(meterRegistry);
+        this.resyncs = Counter.builder("eureka.stream.resyncs")
+            .description("Subscribers told to re-fetch a registry snapshot")
+            .register(meterRegistry);
+        this.fanoutLatency = Timer.builder("eureka.stream.fanout.latency")
+            .description("Time from the registry event to its delivery to a subscriber")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("eureka.stream.subscribers", subscriberCount, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 이벤트 소비자 스레드에서 호출 (CustomEurekaEventListener)
+     */
+    public void onRegistered(RegistryEvent event) {
+        String vip = event.getVipAddress();
+        if (vip != null) {
+            vipByInstance.put(instanceKey(event), vip);
+        }
+        publish(RegistryChange.Type.REGISTERED, event, vip, null);
+    }
+
+    public void onCanceled(RegistryEvent event) {
+        publish(RegistryChange.Type.CANCELED, event, vipByInstance.remove(instanceKey(event)), null);
+    }
+
+    public void onStatusChanged(RegistryEvent event, InstanceStatus previousStatus) {
+        String vip = event.getVipAddress();
+        if (vip != null) {
+            vipByInstance.put(instanceKey(event), vip);
+        }
+        publish(RegistryChange.Type.STATUS_CHANGED, event, vip, previousStatus);
+    }
+
+    private synchronized void publish(RegistryChange.Type type, RegistryEvent event, String vip,
+                                      InstanceStatus previousStatus) {
+        RegistryChange change = RegistryChange.of(sequence.incrementAndGet(), type, event, vip, previousStatus);
+        history[(int) (change.sequence() & historyMask)] = change;
+        published.increment();
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(change)) {
+                if (!subscriber.queue.offer(change)) {
+                    if (overflowPolicy == OverflowPolicy.DROP) {
+                        // 전송 중에 막혀 있어도 바로 뺀다 (complete 는 그 전송이 끝난 뒤 전송 작업에서)
+                        close(subscriber, "slow_consumer");
+                        continue;
+                    }
+                    subscriber.overflowed = true;
+                }
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * ✅ 새 구독 (since 이후 변경부터 이어받기, null 이면 현재 시점부터)
+     *
+     * @return 구독자 수 상한 초과 시 null
+     */
+    public SseEmitter subscribe(Set<String> apps, Set<String> vips, Long since) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(subscriberIds.incrementAndGet(), emitter, apps, vips,
+                new BoundedRingQueue<>(subscriberQueueCapacity));
+        emitter.onCompletion(() -> remove(subscriber, "completed"));
+        emitter.onTimeout(() -> remove(subscriber, "timeout"));
+        emitter.onError(e -> remove(subscriber, "error"));
+
+        synchronized (this) {
+            long current = sequence.get();
+            long from = since != null ? Math.min(since, current) : current;
+            subscriber.lastSent = from;
+            subscriber.replay = replaySince(from, current);
+            subscriber.resyncRequired = subscriber.replay == null;
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        log.info("📡 [STREAM] Subscriber #{} connected - apps={}, vips={}, since={}",
+                subscriber.id, apps, vips, since);
+        return emitter;
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * @return from 이후 이력 (이미 덮어써져 이어받을 수 없으면 null)
+     */
+    private List<RegistryChange> replaySince(long from, long current) {
+        if (current - from > history.length) {
+            return null;
+        }
+        List<RegistryChange> changes = new ArrayList<>((int) (current - from));
+        for (long seq = from + 1; seq <= current; seq++) {
+            RegistryChange change = history[(int) (seq & historyMask)];
+            if (change == null || change.sequence() != seq) {
+                return null;
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    private void schedule(Subscriber subscriber) {
+        ThreadPoolExecutor executor = senders;
+        if (executor == null || subscriber.completed || !subscriber.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.scheduled.set(false);
+        }
+    }
+
+    /**
+     * ✅ 전송 스레드 - 구독자 하나의 대기 변경을 순서대로 전송 (닫힌 구독자면 emitter 를 완료)
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            if (!subscriber.closed) {
+                deliver(subscriber);
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber, "error");
+        } finally {
+            if (subscriber.closed) {
+                complete(subscriber);
+            }
+            subscriber.scheduled.set(false);
+            // set(false) 직전에 닫혔으면 close() 의 schedule 이 실패했으므로 여기서 다시 건다
+            if (subscriber.closed ? !subscriber.completed
+                    : subscriber.overflowed || !subscriber.queue.isEmpty()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void deliver(Subscriber subscriber) throws IOException {
+        if (subscriber.overflowed) {
+            subscriber.overflowed = false;
+            subscriber.resyncRequired = true;
+        }
+        if (subscriber.resyncRequired) {
+            subscriber.resyncRequired = false;
+            subscriber.replay = null;
+            sendResync(subscriber);
+        }
+
+        List<RegistryChange> replay = subscriber.replay;
+        if (replay != null) {
+            subscriber.replay = null;
+            for (RegistryChange change : replay) {
+                if (subscriber.closed) {
+                    return;
+                }
+                if (subscriber.accepts(change)) {
+                    send(subscriber, change);
+                }
+            }
+        }
+
+        RegistryChange change;
+        while (!subscriber.closed && !subscriber.overflowed && (change = subscriber.queue.poll()) != null) {
+            send(subscriber, change);
+        }
+    }
+
+    private void send(Subscriber subscriber, RegistryChange change) throws IOException {
+        if (change.sequence() <= subscriber.lastSent) {
+            return;
+        }
+        write(subscriber, SseEmitter.event()
+            .id(Long.toString(change.sequence()))
+            .name(change.type().name().toLowerCase(Locale.ROOT))
+            .data(change, MediaType.APPLICATION_JSON));
+        subscriber.lastSent = change.sequence();
+        fanoutLatency.record(Math.max(0L, System.currentTimeMillis() - change.timestamp()), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 전송 시작 시각을 남겨 {@link #checkStalledSends()} 가 막힌 전송을 찾게 한다
+     */
+    private void write(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedNanos = 0L;
+            if (subscriber.stalled) {
+                subscriber.stalled = false;
+                stalledSenders.decrementAndGet();
+                resizeSenders();
+            }
+        }
+    }
+
+    /**
+     * ✅ 이어받을 수 없을 때 - 현재 시퀀스를 알려주고 클라이언트가 /eureka/apps 스냅샷을 다시 받게 한다
+     */
+    private void sendResync(Subscriber subscriber) throws IOException {
+        long current = sequence.get();
+        subscriber.lastSent = current;
+        write(subscriber, SseEmitter.event()
+            .id(Long.toString(current))
+            .name("resync")
+            .data(Map.of("sequence", current), MediaType.APPLICATION_JSON));
+        resyncs.increment();
+    }
+
+    /**
+     * ✅ 막힌 전송 감지 - write-timeout 을 넘긴 구독자는 닫고, 막힌 스레드만큼 전송 풀을 늘린다
+     */
+    @Scheduled(fixedDelayString = "${eureka.stream.stall-check-ms:1000}")
+    public void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0L && now - started > writeTimeoutNanos && !subscriber.stalled) {
+                subscriber.stalled = true;
+                stalledSenders.incrementAndGet();
+                resizeSenders();
+                close(subscriber, "write_timeout");
+            }
+        }
+    }
+
+    private void resizeSenders() {
+        ThreadPoolExecutor executor = senders;
+        if (executor == null) {
+            return;
+        }
+        // stop() 이 모니터를 잡고 종료를 기다리는 동안에도 전송 스레드가 막히지 않도록 별도 락
+        synchronized (resizeLock) {
+            int size = senderThreads + Math.max(0, stalledSenders.get());
+            if (size > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(size);
+                executor.setCorePoolSize(size);
+            } else {
+                executor.setCorePoolSize(size);
+                executor.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    /**
+     * ✅ 유휴 연결 감지용 keep-alive 주석
+     */
+    @Scheduled(fixedDelayString = "${eureka.stream.keepalive-ms:15000}")
+    public void keepAlive() {
+        ThreadPoolExecutor executor = senders;
+        if (executor == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty() && subscriber.scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (!subscriber.closed) {
+                                write(subscriber, SseEmitter.event().comment("keep-alive"));
+                            }
+                        } catch (IOException | IllegalStateException e) {
+                            remove(subscriber, "error");
+                        } finally {
+                            if (subscriber.closed) {
+                                complete(subscriber);
+                            }
+                            subscriber.scheduled.set(false);
+                            if (subscriber.closed ? !subscriber.completed : !subscriber.queue.isEmpty()) {
+                                schedule(subscriber);
+                            }
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    subscriber.scheduled.set(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * 구독자를 바로 빼고, emitter 완료는 그 구독자의 전송 작업에 맡긴다 (전송 중이면 끝난 뒤)
+     */
+    private void close(Subscriber subscriber, String reason) {
+        if (remove(subscriber, reason)) {
+            schedule(subscriber);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        if (subscriber.completed) {
+            return;
+        }
+        subscriber.completed = true;
+        try {
+            subscriber.emitter.complete();
+        } catch (RuntimeException e) {
+            log.debug("Error completing stream subscriber #{}", subscriber.id, e);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber, String reason) {
+        if (subscriber.closed) {
+            return false;
+        }
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+        Counter.builder("eureka.stream.subscribers.closed")
+            .description("Change stream subscriptions that ended")
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+        log.info("📡 [STREAM] Subscriber #{} disconnected ({}) - last sequence {}",
+                subscriber.id, reason, subscriber.lastSent);
+        return true;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "eureka-stream-sender-" + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        senders.allowCoreThreadTimeOut(true);
+        running = true;
+        log.info("✅ Registry change stream started - {} sender thread(s), overflow policy {}",
+                senderThreads, overflowPolicy);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        for (Subscriber subscriber : subscribers) {
+            close(subscriber, "shutdown");
+        }
+        senders.shutdown();
+        try {
+            senders.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        senders = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * ✅ 조회 메서드들
+     */
+    public long getCurrentSequence() {
+        return sequence.get();
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private static String instanceKey(RegistryEvent event) {
+        return String.valueOf(event.getAppName()).toUpperCase(Locale.ROOT) + "/" + event.getInstanceId();
+    }
+
+    /**
+     * ✅ 구독자 (필터 + bounded 큐 + 전송 상태)
+     *
+     * scheduled 로 구독자당 전송 작업이 최대 1개만 돌게 해서 전송 순서를 보장한다.
+     */
+    private static final class Subscriber {
+        private final long id;
+        private final SseEmitter emitter;
+        private final Set<String> apps;
+        private final Set<String> vips;
+        private final BoundedRingQueue<RegistryChange> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean resyncRequired;
+        private volatile boolean closed;
+        private volatile boolean completed;
+        private volatile boolean stalled;
+        private volatile long sendStartedNanos;
+        private volatile List<RegistryChange> replay;
+        private volatile long lastSent;
+
+        private Subscriber(long id, SseEmitter emitter, Set<String> apps, Set<String> vips,
+                           BoundedRingQueue<RegistryChange> queue) {
+            this.id = id;
+            this.emitter = emitter;
+            this.apps = apps;
+            this.vips = vips;
+            this.queue = queue;
+        }
+
+        private boolean accepts(RegistryChange change) {
+            if (!apps.isEmpty() && (change.app() == null || !apps.contains(change.app().toUpperCase(Locale.ROOT)))) {
+                return false;
+            }
+            return vips.isEmpty() || (change.vipAddress() != null && vips.contains(change.vipAddress().toLowerCase(Locale.ROOT)));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.server.eureka.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * ✅ 레지스트리 변경 스트림 엔드포인트 (GET /registry/stream, text/event-stream)
+ *
+ * - app / vip: 필터 (여러 번 지정 가능, 생략 시 전체)
+ * - since 또는 Last-Event-ID: 해당 시퀀스 이후부터 이어받기 (이력 밖이면 resync 이벤트)
+ */
+@RestController
+@RequiredArgsConstructor
+public class RegistryStreamController {
+
+    private final RegistryChangeStream registryChangeStream;
+
+    @GetMapping(path = "/registry/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(name = "app", required = false) List<String> apps,
+                             @RequestParam(name = "vip", required = false) List<String> vips,
+                             @RequestParam(name = "since", required = false) Long since,
+                             @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = registryChangeStream.subscribe(
+                normalize(apps, true), normalize(vips, false), lastEventId != null ? lastEventId : since);
+        if (emitter == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many stream subscribers");
+        }
+        return emitter;
+    }
+
+    private static Set<String> normalize(List<String> values, boolean upperCase) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> normalized = new HashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                String trimmed = value.trim();
+                normalized.add(upperCase ? trimmed.toUpperCase(Locale.ROOT) : trimmed.toLowerCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(normalized);
+    }
+}
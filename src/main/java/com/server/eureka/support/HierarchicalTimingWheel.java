@@ -0,0 +1,257 @@
+package com.server.eureka.support;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ 계층형 타이밍 휠 (레벨당 64 슬롯, 최대 4 레벨)
+ *
+ * 만료 시각을 tick 단위 슬롯에 넣어두고 시간이 지나면 해당 슬롯만 처리한다.
+ * 한 tick 당 비용은 그 슬롯에 든 항목 수에만 비례하고 전체 항목 수와는 무관하다.
+ * - schedule / cancel / extend 는 어느 스레드에서든 호출 가능 (schedule 은 대기 큐에 넣고 다음 advance 에서 배치)
+ * - extend 는 마감 시각만 늦추고 슬롯은 옮기지 않는다. 슬롯 차례가 왔을 때 마감이 남아 있으면 그때 다시 배치한다
+ *   (갱신이 잦은 lease 는 갱신마다 volatile 쓰기 한 번으로 끝난다)
+ * - advance 는 한 스레드에서만 호출한다
+ * 마감을 앞당기는 것은 지원하지 않는다 (cancel 후 새로 schedule).
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final ArrayList<Timeout<T>>[][] wheels;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    // advance 스레드 전용: 다음에 처리할 tick (이전 tick 은 모두 처리됨)
+    private long tick;
+    private ArrayList<Timeout<T>> spare = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.wheels = new ArrayList[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new ArrayList<>();
+            }
+        }
+    }
+
+    /**
+     * ✅ 만료 처리 콜백
+     */
+    @FunctionalInterface
+    public interface ExpiryHandler<T> {
+
+        /**
+         * @return 계속 유지할 경우 새 마감 시각 (지금보다 늦어야 함), 제거하려면 음수
+         */
+        long onExpired(Timeout<T> timeout, long nowMillis);
+    }
+
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis);
+        size.incrementAndGet();
+        pending.offer(timeout);
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.finish(Timeout.CANCELED)) {
+            size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * ✅ tick 을 now 까지 진행하며 만료 항목을 handler 에 넘긴다
+     *
+     * @return handler 를 호출한 횟수
+     */
+    public int advance(long nowMillis, ExpiryHandler<T> handler) {
+        drainPending();
+        long target = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        int fired = 0;
+        while (tick <= target) {
+            // 상위 레벨이 한 바퀴 도는 시점이면 해당 슬롯을 아래 레벨로 재배치 (높은 레벨부터)
+            for (int level = LEVELS - 1; level >= 1; level--) {
+                long lowerBits = tick & ((1L << (SLOT_BITS * level)) - 1);
+                if (lowerBits == 0) {
+                    cascade(level, (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+                }
+            }
+            fired += expire((int) (tick & SLOT_MASK), nowMillis, handler);
+            tick++;
+        }
+        return fired;
+    }
+
+    private void cascade(int level, int slot) {
+        ArrayList<Timeout<T>> bucket = takeSlot(level, slot);
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Timeout<T> timeout = bucket.get(i);
+            if (timeout.isActive()) {
+                place(timeout, tick);
+            }
+        }
+        releaseSlot(bucket);
+    }
+
+    private int expire(int slot, long nowMillis, ExpiryHandler<T> handler) {
+        ArrayList<Timeout<T>> bucket = takeSlot(0, slot);
+        int fired = 0;
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            Timeout<T> timeout = bucket.get(i);
+            if (!timeout.isActive()) {
+                continue;
+            }
+            if (timeout.deadline > nowMillis) {
+                // 슬롯에 들어간 뒤 extend 된 항목
+                place(timeout, tick + 1);
+                continue;
+            }
+            fired++;
+            long next;
+            try {
+                next = handler.onExpired(timeout, nowMillis);
+            } catch (RuntimeException e) {
+                // handler 실패는 다음 tick 에 다시 시도
+                next = nowMillis + tickMillis;
+            }
+            if (next < 0) {
+                if (timeout.finish(Timeout.EXPIRED)) {
+                    size.decrementAndGet();
+                }
+            } else if (timeout.isActive()) {
+                timeout.extend(Math.max(next, nowMillis + 1));
+                place(timeout, tick + 1);
+            }
+        }
+        releaseSlot(bucket);
+        return fired;
+    }
+
+    private void drainPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isActive()) {
+                place(timeout, tick);
+            }
+        }
+    }
+
+    /**
+     * 마감 tick 까지 남은 거리로 레벨을 고른다. minTick 보다 이른 마감은 minTick 에 둔다.
+     */
+    private void place(Timeout<T> timeout, long minTick) {
+        long deadlineTick = Math.max(minTick, ceilDiv(timeout.deadline - startMillis, tickMillis));
+        long delta = deadlineTick - tick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+                wheels[level][(int) ((deadlineTick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timeout);
+                return;
+            }
+        }
+        // 휠 범위를 넘는 마감은 최상위 레벨의 가장 늦게 돌아오는 슬롯에 두고, 차례가 오면 다시 배치한다
+        int top = LEVELS - 1;
+        long lastTick = tick + (1L << (SLOT_BITS * LEVELS)) - 1;
+        wheels[top][(int) ((lastTick >>> (SLOT_BITS * top)) & SLOT_MASK)].add(timeout);
+    }
+
+    private ArrayList<Timeout<T>> takeSlot(int level, int slot) {
+        ArrayList<Timeout<T>> bucket = wheels[level][slot];
+        wheels[level][slot] = spare;
+        spare = null;
+        return bucket;
+    }
+
+    private void releaseSlot(ArrayList<Timeout<T>> bucket) {
+        bucket.clear();
+        spare = bucket;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * ✅ 휠 항목 (payload + 마감 시각)
+     */
+    public static final class Timeout<T> {
+
+        private static final int ACTIVE = 0;
+        private static final int CANCELED = 1;
+        private static final int EXPIRED = 2;
+        private static final VarHandle STATE;
+        private static final VarHandle DEADLINE;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                STATE = lookup.findVarHandle(Timeout.class, "state", int.class);
+                DEADLINE = lookup.findVarHandle(Timeout.class, "deadline", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final T payload;
+        private volatile long deadline;
+        private volatile int state;
+
+        private Timeout(T payload, long deadline) {
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        /**
+         * ✅ 마감을 늦춘다 (더 이른 값은 무시)
+         */
+        public void extend(long deadlineMillis) {
+            long current;
+            while (deadlineMillis > (current = deadline)) {
+                if (DEADLINE.compareAndSet(this, current, deadlineMillis)) {
+                    return;
+                }
+            }
+        }
+
+        public boolean isActive() {
+            return state == ACTIVE;
+        }
+
+        private boolean finish(int terminal) {
+            return STATE.compareAndSet(this, ACTIVE, terminal);
+        }
+    }
+}
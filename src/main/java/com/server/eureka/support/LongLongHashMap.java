@@ -0,0 +1,161 @@
+package com.server.eureka.support;
+
+import java.util.Arrays;
+
+/**
+ * ✅ long → long 오픈 어드레싱 해시맵 (박싱/엔트리 객체 없음)
+ *
+ * 선형 탐사 + backward-shift 삭제를 사용한다. 스레드 안전하지 않으므로 호출 측에서 동기화한다.
+ * 키 0 은 빈 슬롯 표시로 쓰이므로 내부적으로 다른 값으로 치환한다.
+ */
+public final class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final long ZERO_KEY_SUBSTITUTE = 0x9E3779B97F4A7C15L;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * @return 이전 값, 없으면 missingValue
+     */
+    public long put(long key, long value, long missingValue) {
+        long k = normalize(key);
+        int index = indexOf(k);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == k) {
+                long previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = k;
+        values[index] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    public long get(long key, long missingValue) {
+        long k = normalize(key);
+        int index = indexOf(k);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == k) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return 삭제된 값, 없으면 missingValue
+     */
+    public long remove(long key, long missingValue) {
+        long k = normalize(key);
+        int index = indexOf(k);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == k) {
+                long previous = values[index];
+                shiftBack(index);
+                size--;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void shiftBack(int gap) {
+        int index = gap;
+        for (;;) {
+            index = (index + 1) & mask;
+            long k = keys[index];
+            if (k == EMPTY) {
+                break;
+            }
+            int home = indexOf(k);
+            // home 이 (gap, index] 범위 밖이면 gap 으로 당겨온다
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0L;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k != EMPTY) {
+                int index = indexOf(k);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = k;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int indexOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static long normalize(long key) {
+        return key == EMPTY ? ZERO_KEY_SUBSTITUTE : key;
+    }
+
+    /**
+     * ✅ 앱 이름 + 인스턴스 ID 로 64비트 키 생성 (FNV-1a, 문자열 결합 없음)
+     */
+    public static long hashKey(CharSequence first, CharSequence second) {
+        long hash = 0xcbf29ce484222325L;
+        hash = mix(hash, first);
+        hash = (hash ^ '/') * 0x100000001b3L;
+        return mix(hash, second);
+    }
+
+    private static long mix(long hash, CharSequence value) {
+        if (value == null) {
+            return hash;
+        }
+        for (int i = 0, n = value.length(); i < n; i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
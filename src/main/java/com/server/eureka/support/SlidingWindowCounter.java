@@ -0,0 +1,45 @@
+package com.server.eureka.support;
+
+/**
+ * ✅ 시간 버킷 링 버퍼 기반 슬라이딩 윈도우 카운터
+ *
+ * 윈도우를 bucketCount 개의 버킷으로 나누고, 버킷마다 시작 시각(epoch)을 함께 저장한다.
+ * 오래된 버킷은 접근 시점에 0 으로 재사용되므로 별도의 정리 작업이 필요 없다.
+ */
+public final class SlidingWindowCounter {
+
+    private final long bucketMillis;
+    private final long[] epochs;
+    private final int[] counts;
+
+    public SlidingWindowCounter(long windowMillis, int bucketCount) {
+        this.bucketMillis = Math.max(1L, windowMillis / bucketCount);
+        this.epochs = new long[bucketCount];
+        this.counts = new int[bucketCount];
+    }
+
+    public synchronized void increment(long now) {
+        long epoch = now / bucketMillis;
+        int index = (int) (epoch % counts.length);
+        if (epochs[index] != epoch) {
+            epochs[index] = epoch;
+            counts[index] = 0;
+        }
+        counts[index]++;
+    }
+
+    public synchronized int sum(long now) {
+        long oldest = now / bucketMillis - counts.length + 1;
+        int total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (epochs[i] >= oldest) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+
+    public long getWindowMillis() {
+        return bucketMillis * counts.length;
+    }
+}
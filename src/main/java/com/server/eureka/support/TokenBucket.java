@@ -0,0 +1,59 @@
+package com.server.eureka.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ lock-free 토큰 버킷 (GCRA 방식)
+ *
+ * 다음 토큰이 생기는 이론상 시각(theoretical arrival time) 하나만 AtomicLong 으로 관리한다.
+ * 초당 permitsPerSecond 개가 보충되고, 최대 burst 개까지 한 번에 소비할 수 있다.
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstToleranceNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    public static TokenBucket perMinute(int permitsPerMinute, int burst) {
+        return new TokenBucket(permitsPerMinute / 60.0, burst);
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        for (;;) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + intervalNanos;
+            if (next - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return 버킷이 가득 찬 상태(최근 소비 없음)면 true - 지워도 새 버킷과 구별되지 않는다
+     */
+    public boolean isIdle() {
+        return theoreticalArrival.get() - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return 다음 토큰을 얻을 수 있을 때까지 남은 시간 (ns), 지금 가능하면 0
+     */
+    public long nanosUntilAvailable() {
+        long wait = theoreticalArrival.get() + intervalNanos - burstToleranceNanos - System.nanoTime();
+        return Math.max(0L, wait);
+    }
+}
@@ -0,0 +1,147 @@
+package com.server.eureka.view;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ✅ 레지스트리 읽기 전용 스냅샷 (불변, 버전 단위로 통째로 교체)
+ *
+ * {@link RegistryViewPublisher} 가 만든 뒤에는 아무도 수정하지 않는다.
+ * 인스턴스는 만들 당시의 InstanceInfo 복사본이며 (LeaseInfo, metadata 까지 복사), 바뀌지 않은 앱의 AppView 는 다음 버전과 공유한다.
+ * 읽는 쪽은 volatile 참조 하나만 읽으므로 레지스트리 쓰기 경로와 락을 다투지 않는다.
+ */
+public final class RegistryView {
+
+    public static final RegistryView EMPTY = new RegistryView(0L, 0L, Map.of());
+
+    private final long version;
+    private final long builtAt;
+    private final Map<String, AppView> applications;
+    private final int instanceCount;
+
+    RegistryView(long version, long builtAt, Map<String, AppView> applications) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.applications = Map.copyOf(applications);
+        int instances = 0;
+        for (AppView app : this.applications.values()) {
+            instances += app.instances().size();
+        }
+        this.instanceCount = instances;
+    }
+
+    /**
+     * ✅ 한 애플리케이션의 스냅샷
+     *
+     * application 은 같은 복사본으로 만든 Eureka Application (인코딩용, 수정 금지)
+     */
+    public record AppView(String name, List<InstanceInfo> instances, Map<String, InstanceInfo> byId,
+                          Application application) {
+
+        static AppView of(Application source) {
+            List<InstanceInfo> sourceInstances = source.getInstancesAsIsFromEureka();
+            InstanceInfo[] copies = new InstanceInfo[sourceInstances.size()];
+            Map<String, InstanceInfo> byId = new HashMap<>(Math.max(4, copies.length * 2));
+            Application application = new Application(source.getName());
+            for (int i = 0; i < copies.length; i++) {
+                copies[i] = copy(sourceInstances.get(i));
+                byId.put(copies[i].getId(), copies[i]);
+                application.addInstance(copies[i]);
+            }
+            return new AppView(normalize(source.getName()), List.of(copies), Map.copyOf(byId), application);
+        }
+
+        /**
+         * InstanceInfo 복사 생성자는 LeaseInfo 와 metadata 맵을 원본과 공유하므로 둘 다 따로 복사한다
+         * (레지스트리가 갱신 시각/metadata 를 제자리에서 바꿔도 스냅샷은 그대로)
+         */
+        private static InstanceInfo copy(InstanceInfo source) {
+            InstanceInfo copy = new InstanceInfo(source);
+            LeaseInfo lease = source.getLeaseInfo();
+            if (lease != null) {
+                copy.setLeaseInfo(LeaseInfo.Builder.newBuilder()
+                    .setRenewalIntervalInSecs(lease.getRenewalIntervalInSecs())
+                    .setDurationInSecs(lease.getDurationInSecs())
+                    .setRegistrationTimestamp(lease.getRegistrationTimestamp())
+                    .setRenewalTimestamp(lease.getRenewalTimestamp())
+                    .setEvictionTimestamp(lease.getEvictionTimestamp())
+                    .setServiceUpTimestamp(lease.getServiceUpTimestamp())
+                    .build());
+            }
+            Map<String, String> metadata = source.getMetadata();
+            new InstanceInfo.Builder(copy).setMetadata(metadata == null || metadata.isEmpty()
+                    ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(metadata)));
+            return copy;
+        }
+
+        public InstanceInfo get(String instanceId) {
+            return byId.get(instanceId);
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public long builtAt() {
+        return builtAt;
+    }
+
+    public Collection<AppView> applications() {
+        return applications.values();
+    }
+
+    public AppView application(String appName) {
+        return appName != null ? applications.get(normalize(appName)) : null;
+    }
+
+    public InstanceInfo instance(String appName, String instanceId) {
+        AppView app = application(appName);
+        return app != null && instanceId != null ? app.get(instanceId) : null;
+    }
+
+    public int applicationCount() {
+        return applications.size();
+    }
+
+    public int instanceCount() {
+        return instanceCount;
+    }
+
+    Map<String, AppView> applicationMap() {
+        return applications;
+    }
+
+    /**
+     * ✅ Eureka Applications 로 변환 (full 응답 인코딩용, apps__hashcode 포함)
+     */
+    public Applications toApplications() {
+        Applications apps = new Applications();
+        for (AppView app : applications.values()) {
+            apps.addApplication(app.application());
+        }
+        apps.setAppsHashCode(apps.getReconcileHashCode());
+        return apps;
+    }
+
+    /**
+     * 앱 이름은 Eureka 와 같이 대문자로 (이미 대문자면 같은 인스턴스를 돌려줘 할당 없음)
+     */
+    static String normalize(String appName) {
+        for (int i = 0; i < appName.length(); i++) {
+            if (Character.isLowerCase(appName.charAt(i))) {
+                return appName.toUpperCase(Locale.ROOT);
+            }
+        }
+        return appName;
+    }
+}
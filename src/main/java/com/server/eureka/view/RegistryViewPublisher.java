@@ -0,0 +1,289 @@
+package com.server.eureka.view;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.custom.RegistryEventHandler;
+import com.server.eureka.snapshot.RegistrySnapshotStore;
+import com.server.eureka.view.RegistryView.AppView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ✅ 레지스트리 읽기 스냅샷 발행 (copy-on-write, volatile 참조 하나)
+ *
+ * 파이프라인 소비자 스레드는 바뀐 앱 이름과 표시 시각만 남기고, 전용 스레드가 coalesce-ms 동안 모은 뒤 한 번에 다시 만든다.
+ * - 등록/해제: 해당 앱 표시
+ * - 갱신: 스냅샷의 상태 또는 lastDirtyTimestamp 와 다를 때만 표시 (대부분 비교만 하고 끝, 할당 없음)
+ * - 재생성: 마지막 표시 후 coalesce-ms 가 지난 앱만 레지스트리에서 다시 읽어 복사하고 나머지 AppView 는 이전 버전과 공유한다
+ * InstanceRegistry 는 Registered/Canceled 이벤트를 실제 쓰기보다 먼저 발행하므로, 방금 표시된 앱을 바로 읽으면
+ * 쓰기 전 상태를 복사할 수 있다. 그래서 표시 후 coalesce-ms 를 기다리고, 재생성 중에 다시 표시된 앱은 표시를 지우지 않는다.
+ * 계속 표시되는 앱은 첫 표시 후 coalesce-ms × {@value #MAX_DEFER_ROUNDS} 가 지나면 표시를 남긴 채 한 번 반영한다.
+ * 따라서 쓰기 폭주가 와도 coalesce-ms 당 재생성은 한 번이고, 비용은 바뀐 앱 크기에 비례한다.
+ * 이벤트 누락은 full-rebuild-interval-ms 마다 전체 재생성으로 보정한다.
+ */
+@Component
+@Slf4j
+public class RegistryViewPublisher implements RegistryEventHandler, SmartLifecycle {
+
+    private final EurekaServerContext eurekaServerContext;
+    private final long coalesceMillis;
+
+    private volatile RegistryView current = RegistryView.EMPTY;
+
+    private static final int MAX_DEFER_ROUNDS = 4;
+
+    // 앱 → 표시 시각 (재생성 중 다시 표시되면 값이 바뀌어 조건부 remove 가 실패하므로 다음 재생성까지 남는다)
+    private final ConcurrentHashMap<String, DirtyMark> dirtyApps = new ConcurrentHashMap<>();
+    private final AtomicLong firstChangeAt = new AtomicLong();
+    private final LongAdder pendingChanges = new LongAdder();
+    private volatile boolean fullRebuildRequested = true;
+
+    private final Counter incrementalRebuilds;
+    private final Counter fullRebuilds;
+    private final Counter coalescedChanges;
+    private final Timer rebuildTime;
+
+    private volatile boolean running;
+    private Thread rebuilder;
+
+    public RegistryViewPublisher(EurekaServerContext eurekaServerContext,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${eureka.registry.view.coalesce-ms:250}") long coalesceMillis) {
+        this.eurekaServerContext = eurekaServerContext;
+        this.coalesceMillis = Math.max(1L, coalesceMillis);
+
+        this.incrementalRebuilds = Counter.builder("eureka.registry.view.rebuilds")
+            .tag("mode", "incremental")
+            .register(meterRegistry);
+        this.fullRebuilds = Counter.builder("eureka.registry.view.rebuilds")
+            .tag("mode", "full")
+            .register(meterRegistry);
+        this.coalescedChanges = Counter.builder("eureka.registry.view.coalesced.changes")
+            .description("Registry changes folded into another change's snapshot rebuild")
+            .register(meterRegistry);
+        this.rebuildTime = Timer.builder("eureka.registry.view.rebuild").register(meterRegistry);
+        Gauge.builder("eureka.registry.view.version", this, publisher -> publisher.current.version())
+            .register(meterRegistry);
+        Gauge.builder("eureka.registry.view.age", this, RegistryViewPublisher::getAgeMillis)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 현재 스냅샷 (volatile 읽기 한 번)
+     */
+    public RegistryView current() {
+        return current;
+    }
+
+    /**
+     * ✅ 파이프라인 소비자 스레드 - 바뀐 앱만 표시
+     */
+    @Override
+    public void onEvent(RegistryEvent event) {
+        if (event.getAppName() == null) {
+            return;
+        }
+        String app = RegistryView.normalize(event.getAppName());
+        if (event.getType() == RegistryEvent.Type.RENEWED && !isStale(app, event)) {
+            return;
+        }
+        markDirty(app);
+    }
+
+    private boolean isStale(String app, RegistryEvent event) {
+        if (event.getInstanceInfo() == null) {
+            return false;
+        }
+        InstanceInfo published = current.instance(app, event.getInstanceId());
+        return published == null
+                || published.getStatus() != event.getStatus()
+                || !Objects.equals(published.getLastDirtyTimestamp(), event.getLastDirtyTimestamp());
+    }
+
+    private void markDirty(String app) {
+        long now = System.currentTimeMillis();
+        dirtyApps.merge(app, new DirtyMark(now, now), (marked, next) -> new DirtyMark(marked.firstAt(), next.lastAt()));
+        pendingChanges.increment();
+        firstChangeAt.compareAndSet(0L, now);
+    }
+
+    private record DirtyMark(long firstAt, long lastAt) {
+    }
+
+    /**
+     * ✅ 레지스트리가 열리면 전체 스냅샷을 만든다 (스냅샷 복원 직후, 다른 리스너보다는 먼저)
+     */
+    @EventListener
+    @Order(RegistrySnapshotStore.REGISTRY_AVAILABLE_ORDER + 1)
+    public void onRegistryAvailable(EurekaRegistryAvailableEvent event) {
+        fullRebuildRequested = true;
+        rebuild();
+    }
+
+    /**
+     * ✅ 이벤트 누락 보정용 전체 재생성 요청 (주기적, 저빈도)
+     */
+    @Scheduled(fixedDelayString = "${eureka.registry.view.full-rebuild-interval-ms:300000}",
+               initialDelayString = "${eureka.registry.view.full-rebuild-interval-ms:300000}")
+    public void requestFullRebuild() {
+        fullRebuildRequested = true;
+        firstChangeAt.compareAndSet(0L, System.currentTimeMillis());
+    }
+
+    private void rebuildLoop() {
+        long parkNanos = TimeUnit.MILLISECONDS.toNanos(coalesceMillis);
+        while (running) {
+            LockSupport.parkNanos(parkNanos);
+            long since = firstChangeAt.get();
+            if (since == 0L || System.currentTimeMillis() - since < coalesceMillis) {
+                continue;
+            }
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("Error rebuilding registry view", e);
+            }
+        }
+    }
+
+    /**
+     * ✅ 표시된 앱만 다시 읽어 새 버전 발행 (전체 재생성 요청이 있으면 전체)
+     */
+    synchronized void rebuild() {
+        PeerAwareInstanceRegistry registry = eurekaServerContext.getRegistry();
+        if (registry == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        firstChangeAt.set(0L);
+        boolean full = fullRebuildRequested;
+        fullRebuildRequested = false;
+
+        RegistryView previous = current;
+        Map<String, AppView> apps;
+        int rebuiltApps = 0;
+        if (full) {
+            // 전체를 다시 읽으므로 충분히 오래된 표시만 지운다 (방금 표시된 앱은 쓰기가 끝난 뒤 한 번 더)
+            for (Map.Entry<String, DirtyMark> entry : dirtyApps.entrySet()) {
+                if (settled(entry.getValue(), now)) {
+                    dirtyApps.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            apps = new HashMap<>();
+            for (Application application : registry.getApplications().getRegisteredApplications()) {
+                if (!application.getInstancesAsIsFromEureka().isEmpty()) {
+                    AppView app = AppView.of(application);
+                    apps.put(app.name(), app);
+                    rebuiltApps++;
+                }
+            }
+        } else {
+            apps = new HashMap<>(previous.applicationMap());
+            for (Map.Entry<String, DirtyMark> entry : dirtyApps.entrySet()) {
+                String name = entry.getKey();
+                DirtyMark mark = entry.getValue();
+                if (settled(mark, now)) {
+                    dirtyApps.remove(name, mark);
+                } else if (now - mark.firstAt() < coalesceMillis * MAX_DEFER_ROUNDS) {
+                    continue;
+                }
+                Application application = registry.getApplication(name);
+                if (application == null || application.getInstancesAsIsFromEureka().isEmpty()) {
+                    apps.remove(name);
+                } else {
+                    apps.put(name, AppView.of(application));
+                }
+                rebuiltApps++;
+            }
+        }
+
+        if (!dirtyApps.isEmpty()) {
+            long oldest = now;
+            for (DirtyMark mark : dirtyApps.values()) {
+                oldest = Math.min(oldest, mark.firstAt());
+            }
+            firstChangeAt.compareAndSet(0L, oldest);
+        }
+        if (!full && rebuiltApps == 0) {
+            return;
+        }
+
+        long changes = pendingChanges.sumThenReset();
+        current = new RegistryView(previous.version() + 1, System.currentTimeMillis(), apps);
+        rebuildTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        (full ? fullRebuilds : incrementalRebuilds).increment();
+        if (changes > 1) {
+            coalescedChanges.increment(changes - 1);
+        }
+        log.debug("🗂️  [VIEW] Published registry view v{} - {} app(s) rebuilt{}, {} change(s) coalesced",
+                current.version(), rebuiltApps, full ? " (full)" : "", changes);
+    }
+
+    private boolean settled(DirtyMark mark, long now) {
+        return now - mark.lastAt() >= coalesceMillis;
+    }
+
+    /**
+     * @return 스냅샷에 아직 반영되지 않은 변경이 있으면 가장 오래된 변경 이후 경과 시간, 없으면 0
+     */
+    public double getAgeMillis() {
+        long since = firstChangeAt.get();
+        return since == 0L ? 0.0 : System.currentTimeMillis() - since;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        rebuilder = new Thread(this::rebuildLoop, "eureka-registry-view");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+        log.info("✅ Registry view publisher started - coalescing changes for {}ms", coalesceMillis);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(rebuilder);
+        try {
+            rebuilder.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("🛑 Registry view publisher stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
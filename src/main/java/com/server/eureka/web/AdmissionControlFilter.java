@@ -0,0 +1,94 @@
+package com.server.eureka.web;
+
+import com.server.eureka.admission.AdmissionController;
+import com.server.eureka.admission.AdmissionController.Lane;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * ✅ /eureka/apps 승인 제어 필터 (조건부 GET 필터와 Jersey 앞단)
+ *
+ * {@link EurekaOperation} 으로 lane 을 고르고 {@link AdmissionController} 가 거절하면 본문 없이 503 + Retry-After 로 끝낸다.
+ * 갱신/등록/full/delta 조회만 검사하고, 해제/상태·메타데이터 변경/단건 조회는 그대로 통과시킨다.
+ * 피어 복제 요청(x-netflix-discovery-replication: true, /eureka/peerreplication)은 검사하지 않는다.
+ * Eureka 클라이언트는 Retry-After 를 읽지 않지만, 503 이면 다음 하트비트/복제 주기에 다시 시도하므로 자연히 분산된다.
+ *
+ * 출처별 상한의 키는 로드 밸런서 뒤에서 원격 주소가 모두 LB 로 뭉치지 않도록 다음 순서로 고른다.
+ * 1) source-header 를 설정했으면 그 헤더 - 신뢰하는 LB 가 붙이는 헤더만 지정할 것. 목록(X-Forwarded-For)이면 LB 가 덧붙인 마지막 값
+ * 2) 클라이언트가 보내는 DiscoveryIdentity-Id (Eureka 클라이언트의 IP) - 원격 주소와 묶는다
+ * 3) 원격 주소
+ */
+@RequiredArgsConstructor
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_IDENTITY_HEADER = "DiscoveryIdentity-Id";
+
+    private final AdmissionController admissionController;
+    private final String sourceHeader;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "true".equals(request.getHeader(EurekaOperation.REPLICATION_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Lane lane = lane(EurekaOperation.classify(request.getMethod(), path));
+        if (lane == Lane.OTHER) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String appName = lane == Lane.REGISTER ? registerAppName(path) : null;
+        long retryAfter = admissionController.tryAdmit(lane, appName, source(request));
+        if (retryAfter != AdmissionController.ADMITTED) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.setContentLength(0);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            admissionController.release(lane);
+        }
+    }
+
+    String source(HttpServletRequest request) {
+        if (sourceHeader != null && !sourceHeader.isBlank()) {
+            String forwarded = request.getHeader(sourceHeader);
+            if (forwarded != null && !forwarded.isBlank()) {
+                return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+            }
+        }
+        String identity = request.getHeader(CLIENT_IDENTITY_HEADER);
+        if (identity != null && !identity.isBlank()) {
+            return identity.trim() + "@" + request.getRemoteAddr();
+        }
+        return request.getRemoteAddr();
+    }
+
+    static Lane lane(EurekaOperation operation) {
+        return switch (operation) {
+            case RENEW -> Lane.RENEW;
+            case REGISTER -> Lane.REGISTER;
+            case FULL_FETCH -> Lane.FULL_FETCH;
+            case DELTA_FETCH -> Lane.DELTA_FETCH;
+            default -> Lane.OTHER;
+        };
+    }
+
+    private static String registerAppName(String path) {
+        return path.substring(EurekaOperation.appNameStart(), EurekaOperation.appNameEnd(path)).toUpperCase(Locale.ROOT);
+    }
+}
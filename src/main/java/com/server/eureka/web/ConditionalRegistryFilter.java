@@ -0,0 +1,121 @@
+package com.server.eureka.web;
+
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.util.EurekaMonitors;
+import com.server.eureka.web.RegistryResponseCache.CacheResult;
+import com.server.eureka.web.RegistryResponseCache.PayloadFormat;
+import com.server.eureka.web.RegistryResponseCache.PayloadType;
+import com.server.eureka.web.RegistryResponseCache.VersionedPayload;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ✅ /eureka/apps, /eureka/apps/delta 조건부 GET 필터 (Jersey 앞단)
+ *
+ * If-None-Match 가 현재 버전의 ETag 와 같으면 304 로 응답하고,
+ * 아니면 사전 인코딩된 바이트(gzip 또는 원본)를 재인코딩 없이 그대로 쓴다.
+ * Eureka 의 ApplicationsResource 와 같은 규칙으로 포맷(Accept 에 json 포함 시 JSON, 아니면 XML)과
+ * gzip 여부(Accept-Encoding)를 고른다. regions 파라미터, compact 응답, 접근 제한/델타 비활성 상태,
+ * 레지스트리 미초기화 상황은 모두 기존 Jersey 리소스로 넘긴다.
+ * Jersey 를 거치지 않으므로 ApplicationsResource 가 올리던 EurekaMonitors GET_ALL / GET_ALL_DELTA 도 여기서 올린다 (304 포함).
+ */
+@RequiredArgsConstructor
+public class ConditionalRegistryFilter extends OncePerRequestFilter {
+
+    private static final String APPS_PATH = "/eureka/apps";
+    private static final String DELTA_PATH = "/eureka/apps/delta";
+
+    private final EurekaServerContext eurekaServerContext;
+    private final RegistryResponseCache registryResponseCache;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || payloadType(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PayloadType type = payloadType(request);
+        if (type == null || !isServable(request, type)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        PayloadFormat format = accept != null && accept.contains("json") ? PayloadFormat.JSON : PayloadFormat.XML;
+        VersionedPayload previous = registryResponseCache.peek(type, format);
+        VersionedPayload payload = registryResponseCache.current(type, format);
+        if (payload == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        (type == PayloadType.FULL ? EurekaMonitors.GET_ALL : EurekaMonitors.GET_ALL_DELTA).increment();
+        request.setAttribute(RegistryResponseCache.CACHE_RESULT_ATTRIBUTE,
+                previous == null || previous.version() != payload.version() ? CacheResult.MISS : CacheResult.HIT);
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        response.setHeader(HttpHeaders.ETAG, gzip ? payload.gzipEtag() : payload.etag());
+        response.setHeader(HttpHeaders.VARY, "Accept, Accept-Encoding, X-Eureka-Accept");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (payload.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            registryResponseCache.recordNotModified(type, payload, gzip);
+            return;
+        }
+
+        byte[] body = gzip ? payload.gzip() : payload.raw();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format == PayloadFormat.JSON ? MediaType.APPLICATION_JSON_VALUE : MediaType.APPLICATION_XML_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        ServletOutputStream out = response.getOutputStream();
+        out.write(body);
+        out.flush();
+        registryResponseCache.recordServed(type, payload, gzip);
+    }
+
+    private PayloadType payloadType(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (APPS_PATH.equals(path)) {
+            return PayloadType.FULL;
+        }
+        if (DELTA_PATH.equals(path)) {
+            return PayloadType.DELTA;
+        }
+        return null;
+    }
+
+    private boolean isServable(HttpServletRequest request, PayloadType type) {
+        if (request.getParameter("regions") != null) {
+            return false;
+        }
+        String eurekaAccept = request.getHeader("X-Eureka-Accept");
+        if (eurekaAccept != null && !"full".equalsIgnoreCase(eurekaAccept)) {
+            return false;
+        }
+        PeerAwareInstanceRegistry registry = eurekaServerContext.getRegistry();
+        if (registry == null || !registry.shouldAllowAccess(false)) {
+            return false;
+        }
+        return type != PayloadType.DELTA || !eurekaServerContext.getServerConfig().shouldDisableDelta();
+    }
+}
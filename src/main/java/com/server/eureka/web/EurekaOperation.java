@@ -0,0 +1,96 @@
+package com.server.eureka.web;
+
+import java.util.Locale;
+
+/**
+ * ✅ Eureka REST 요청 종류 (메서드 + 경로 모양으로 판별, 할당 없음)
+ *
+ * - POST   /eureka/apps/{app}                    → REGISTER
+ * - PUT    /eureka/apps/{app}/{id}               → RENEW
+ * - DELETE /eureka/apps/{app}/{id}               → CANCEL
+ * - PUT    /eureka/apps/{app}/{id}/status        → STATUS_UPDATE (DELETE 는 override 해제)
+ * - GET    /eureka/apps                          → FULL_FETCH
+ * - GET    /eureka/apps/delta                    → DELTA_FETCH
+ * - POST   /eureka/peerreplication/batch         → REPLICATION_BATCH
+ * - 그 외 (단건 조회, 메타데이터 변경, vips 등)    → OTHER
+ */
+public enum EurekaOperation {
+
+    REGISTER, RENEW, CANCEL, STATUS_UPDATE, FULL_FETCH, DELTA_FETCH, REPLICATION_BATCH, OTHER;
+
+    public static final String REPLICATION_HEADER = "x-netflix-discovery-replication";
+
+    static final String APPS_PATH = "/eureka/apps";
+    private static final String DELTA_PATH = "/eureka/apps/delta";
+    private static final String BATCH_PATH = "/eureka/peerreplication/batch";
+    private static final String STATUS_SEGMENT = "status";
+
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * @param path 컨텍스트 경로를 뺀 요청 경로
+     */
+    public static EurekaOperation classify(String method, String path) {
+        int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        if (!path.startsWith(APPS_PATH)) {
+            return "POST".equals(method) && end == BATCH_PATH.length() && path.startsWith(BATCH_PATH)
+                    ? REPLICATION_BATCH : OTHER;
+        }
+        if (end == APPS_PATH.length()) {
+            return "GET".equals(method) ? FULL_FETCH : OTHER;
+        }
+        if (path.charAt(APPS_PATH.length()) != '/') {
+            return OTHER;
+        }
+        int appEnd = appNameEnd(path);
+        if (appEnd >= end) {
+            // /eureka/apps/{app}
+            if ("POST".equals(method)) {
+                return REGISTER;
+            }
+            return "GET".equals(method) && end == DELTA_PATH.length() && path.startsWith(DELTA_PATH) ? DELTA_FETCH : OTHER;
+        }
+        int idEnd = path.indexOf('/', appEnd + 1);
+        if (idEnd < 0 || idEnd >= end) {
+            // /eureka/apps/{app}/{id}
+            if ("PUT".equals(method)) {
+                return RENEW;
+            }
+            return "DELETE".equals(method) ? CANCEL : OTHER;
+        }
+        // /eureka/apps/{app}/{id}/status
+        boolean status = end - idEnd - 1 == STATUS_SEGMENT.length()
+                && path.startsWith(STATUS_SEGMENT, idEnd + 1);
+        return status && ("PUT".equals(method) || "DELETE".equals(method)) ? STATUS_UPDATE : OTHER;
+    }
+
+    /**
+     * @return 앱 단위 요청이면 true (경로에 {app} 세그먼트가 있음)
+     */
+    public boolean isAppScoped() {
+        return this == REGISTER || this == RENEW || this == CANCEL || this == STATUS_UPDATE;
+    }
+
+    public boolean isFetch() {
+        return this == FULL_FETCH || this == DELTA_FETCH;
+    }
+
+    /**
+     * {app} 세그먼트 시작 위치 (앱 단위 요청에서만 의미 있음)
+     */
+    public static int appNameStart() {
+        return APPS_PATH.length() + 1;
+    }
+
+    /**
+     * {app} 세그먼트 끝 위치 (다음 '/' 또는 경로 끝)
+     */
+    public static int appNameEnd(String path) {
+        int slash = path.indexOf('/', appNameStart());
+        return slash < 0 ? path.length() : slash;
+    }
+}
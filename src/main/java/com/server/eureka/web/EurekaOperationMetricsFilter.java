@@ -0,0 +1,158 @@
+package com.server.eureka.web;
+
+import com.server.eureka.observability.EurekaOperationMetrics;
+import com.server.eureka.web.RegistryResponseCache.CacheResult;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ✅ Eureka REST 연산별 계측 필터 (승인 제어/조건부 GET 필터보다 바깥)
+ *
+ * {@link EurekaOperation} 으로 연산을 판별해 {@link EurekaOperationMetrics} 에 지연시간, 요청/응답 본문 크기,
+ * 복제 여부, 상태 코드, 조회 캐시 결과를 넘긴다. OTHER 는 http.server.requests 에 맡기고 건너뛴다.
+ * 응답 크기는 출력 스트림에 쓴 바이트를 세는 래퍼로 잰다. 래퍼와 스트림은 스레드마다 하나를 재사용하므로
+ * 플랫폼 스레드 모드에서는 요청당 할당이 없다 (가상 스레드 모드에서는 스레드가 요청마다 새로 생겨 재사용되지 않는다).
+ * Writer 로 쓴 응답은 세지 않는다 (Eureka Jersey 리소스는 스트림만 쓴다).
+ */
+@RequiredArgsConstructor
+public class EurekaOperationMetricsFilter extends OncePerRequestFilter {
+
+    private static final ThreadLocal<CountingResponse> RESPONSES = new ThreadLocal<>();
+
+    private final EurekaOperationMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String uri = request.getRequestURI();
+        int contextLength = request.getContextPath().length();
+        String path = contextLength == 0 ? uri : uri.substring(contextLength);
+        EurekaOperation operation = EurekaOperation.classify(request.getMethod(), path);
+        if (operation == EurekaOperation.OTHER) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CountingResponse counting = RESPONSES.get();
+        if (counting == null) {
+            counting = new CountingResponse(response);
+            RESPONSES.set(counting);
+        } else if (counting.inUse) {
+            // 같은 스레드에서 중첩 dispatch 된 경우만 새로 만든다
+            counting = new CountingResponse(response);
+        }
+        counting.reset(response);
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            long duration = System.nanoTime() - start;
+            Object cacheAttribute = request.getAttribute(RegistryResponseCache.CACHE_RESULT_ATTRIBUTE);
+            CacheResult cache = cacheAttribute instanceof CacheResult result ? result
+                    : operation.isFetch() ? CacheResult.BYPASS : CacheResult.NONE;
+            boolean replication = "true".equals(request.getHeader(EurekaOperation.REPLICATION_HEADER));
+            metrics.record(operation, path, replication, response.getStatus(), cache, duration,
+                    request.getContentLengthLong(), counting.bytesWritten());
+            counting.release();
+        }
+    }
+
+    /**
+     * 쓴 바이트 수만 세는 응답 래퍼 (재사용)
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private final CountingOutputStream stream = new CountingOutputStream();
+        private boolean inUse;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void reset(HttpServletResponse response) {
+            setResponse(response);
+            stream.reset(response);
+            inUse = true;
+        }
+
+        private void release() {
+            stream.reset(null);
+            inUse = false;
+        }
+
+        private long bytesWritten() {
+            return stream.count;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stream.delegate();
+            return stream;
+        }
+    }
+
+    private static final class CountingOutputStream extends ServletOutputStream {
+
+        private HttpServletResponse response;
+        private ServletOutputStream delegate;
+        private long count;
+
+        private void reset(HttpServletResponse response) {
+            this.response = response;
+            this.delegate = null;
+            this.count = 0;
+        }
+
+        private ServletOutputStream delegate() throws IOException {
+            if (delegate == null) {
+                delegate = response.getOutputStream();
+            }
+            return delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate().write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate().write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate().flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate().close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate == null || delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            try {
+                delegate().setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.server.eureka.web;
+
+import com.netflix.appinfo.EurekaAccept;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.Version;
+import com.netflix.eureka.registry.Key;
+import com.netflix.eureka.registry.ResponseCache;
+import com.netflix.eureka.registry.ResponseCacheImpl;
+import com.netflix.eureka.resources.ServerCodecs;
+import com.server.eureka.view.RegistryView;
+import com.server.eureka.view.RegistryViewPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ✅ 레지스트리 full/delta 응답의 버전별 사전 인코딩 캐시 (ETag / 조건부 GET 용)
+ *
+ * Eureka ResponseCache 가 응답 문자열을 재생성하면(참조가 바뀌면) 그 버전에 대해 한 번만
+ * UTF-8 바이트와 gzip 바이트, 강한 ETag 를 만들어 둔다. 이후 요청은 인코딩 없이 캐시된 배열을 그대로 쓴다.
+ * ETag 는 페이로드의 apps__hashcode 와 본문 해시(FNV-1a 64)로 만들며, 인코딩별로 다른 태그를 쓴다.
+ *
+ * eureka.registry.view.serve-full-fetch=true 면 full 응답은 ResponseCache 대신 {@link RegistryView} 버전마다 한 번 인코딩한다.
+ * delta 는 항상 ResponseCache 를 쓴다 (클라이언트가 delta 적용 후 비교하는 apps__hashcode 가 레지스트리 기준이어야 하므로,
+ * 스냅샷이 잠시 뒤처진 동안은 해시 불일치로 full 재조회가 한 번 더 날 수 있어 기본값은 false).
+ */
+@Component
+@Slf4j
+public class RegistryResponseCache {
+
+    public enum PayloadType { FULL, DELTA }
+
+    public enum PayloadFormat { JSON, XML }
+
+    /**
+     * ✅ 조회 요청이 사전 인코딩 응답을 어떻게 썼는지 (요청 속성 {@link #CACHE_RESULT_ATTRIBUTE} 로 전달)
+     * HIT: 기존 버전 재사용, MISS: 요청 중 그 타입/포맷 슬롯이 새 버전으로 바뀜, BYPASS: Jersey 리소스로 넘김, NONE: 조회 요청 아님
+     * (버전 번호는 전 슬롯 공용이므로 다른 슬롯의 재생성과 구분하려면 슬롯의 이전 payload 와 비교한다)
+     */
+    public enum CacheResult { NONE, HIT, MISS, BYPASS }
+
+    public static final String CACHE_RESULT_ATTRIBUTE = RegistryResponseCache.class.getName() + ".CACHE_RESULT";
+
+    private static final PayloadType[] TYPES = PayloadType.values();
+    private static final PayloadFormat[] FORMATS = PayloadFormat.values();
+
+    private final EurekaServerContext eurekaServerContext;
+    private final RegistryViewPublisher registryViewPublisher;
+    private final boolean serveFullFetchFromView;
+    private final Key[] keys = new Key[TYPES.length * FORMATS.length];
+    private final VersionedPayload[] payloads = new VersionedPayload[TYPES.length * FORMATS.length];
+    private final ViewPayload[] viewPayloads = new ViewPayload[FORMATS.length];
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private final Counter[] notModified = new Counter[TYPES.length];
+    private final Counter[] served = new Counter[TYPES.length];
+    private final Counter[] savedByNotModified = new Counter[TYPES.length];
+    private final Counter[] savedByGzip = new Counter[TYPES.length];
+    private final Counter[] rebuilds = new Counter[TYPES.length];
+    private final LongAdder notModifiedTotal = new LongAdder();
+    private final LongAdder requestTotal = new LongAdder();
+    private final LongAdder bytesSavedTotal = new LongAdder();
+
+    public RegistryResponseCache(EurekaServerContext eurekaServerContext,
+                                 RegistryViewPublisher registryViewPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${eureka.registry.view.serve-full-fetch:false}") boolean serveFullFetchFromView) {
+        this.eurekaServerContext = eurekaServerContext;
+        this.registryViewPublisher = registryViewPublisher;
+        this.serveFullFetchFromView = serveFullFetchFromView;
+        for (PayloadType type : TYPES) {
+            String typeTag = type.name().toLowerCase(Locale.ROOT);
+            for (PayloadFormat format : FORMATS) {
+                keys[slot(type, format)] = cacheKey(type, format);
+            }
+            notModified[type.ordinal()] = Counter.builder("eureka.registry.response.requests")
+                .description("Registry fetches answered from the precomputed response layer")
+                .tags("type", typeTag, "result", "not_modified")
+                .register(meterRegistry);
+            served[type.ordinal()] = Counter.builder("eureka.registry.response.requests")
+                .description("Registry fetches answered from the precomputed response layer")
+                .tags("type", typeTag, "result", "full_body")
+                .register(meterRegistry);
+            savedByNotModified[type.ordinal()] = Counter.builder("eureka.registry.response.bytes.saved")
+                .description("Response bytes not sent thanks to 304 Not Modified or gzip")
+                .baseUnit("bytes")
+                .tags("type", typeTag, "reason", "not_modified")
+                .register(meterRegistry);
+            savedByGzip[type.ordinal()] = Counter.builder("eureka.registry.response.bytes.saved")
+                .description("Response bytes not sent thanks to 304 Not Modified or gzip")
+                .baseUnit("bytes")
+                .tags("type", typeTag, "reason", "gzip")
+                .register(meterRegistry);
+            rebuilds[type.ordinal()] = Counter.builder("eureka.registry.response.rebuilds")
+                .description("Precomputed registry responses rebuilt after a ResponseCache regeneration")
+                .tag("type", typeTag)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * ✅ 현재 ResponseCache 버전의 사전 인코딩 응답 (레지스트리 미초기화 시 null)
+     */
+    public VersionedPayload current(PayloadType type, PayloadFormat format) {
+        if (eurekaServerContext.getRegistry() == null) {
+            return null;
+        }
+        if (type == PayloadType.FULL && serveFullFetchFromView) {
+            RegistryView view = registryViewPublisher.current();
+            if (view.version() > 0L) {
+                return fromView(view, format);
+            }
+        }
+        ResponseCache responseCache = eurekaServerContext.getRegistry().getResponseCache();
+        if (responseCache == null) {
+            return null;
+        }
+        int slot = slot(type, format);
+        String source = responseCache.get(keys[slot]);
+        if (source == null) {
+            return null;
+        }
+        VersionedPayload payload = payloads[slot];
+        if (payload != null && payload.source == source) {
+            return payload;
+        }
+        return rebuild(type, slot, source);
+    }
+
+    private VersionedPayload fromView(RegistryView view, PayloadFormat format) {
+        ViewPayload cached = viewPayloads[format.ordinal()];
+        if (cached != null && cached.viewVersion() == view.version()) {
+            return cached.payload();
+        }
+        int slot = slot(PayloadType.FULL, format);
+        synchronized (keys[slot]) {
+            cached = viewPayloads[format.ordinal()];
+            if (cached != null && cached.viewVersion() == view.version()) {
+                return cached.payload();
+            }
+            ServerCodecs codecs = eurekaServerContext.getServerCodecs();
+            String source;
+            try {
+                source = format == PayloadFormat.JSON
+                        ? codecs.getFullJsonCodec().encode(view.toApplications())
+                        : codecs.getFullXmlCodec().encode(view.toApplications());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            VersionedPayload payload = rebuild(PayloadType.FULL, slot, source);
+            viewPayloads[format.ordinal()] = new ViewPayload(view.version(), payload);
+            return payload;
+        }
+    }
+
+    /**
+     * ✅ 마지막으로 만든 사전 인코딩 응답 (만들지 않음, 클라이언트가 아직 받지 않은 조합이면 null)
+     */
+    public VersionedPayload peek(PayloadType type, PayloadFormat format) {
+        return payloads[slot(type, format)];
+    }
+
+    private record ViewPayload(long viewVersion, VersionedPayload payload) {
+    }
+
+    private VersionedPayload rebuild(PayloadType type, int slot, String source) {
+        synchronized (keys[slot]) {
+            VersionedPayload payload = payloads[slot];
+            if (payload != null && payload.source == source) {
+                return payload;
+            }
+            byte[] raw = source.getBytes(StandardCharsets.UTF_8);
+            byte[] gzip = gzip(raw);
+            String tag = appsHashCode(source) + "-" + Long.toHexString(fnv64(raw));
+            VersionedPayload rebuilt = new VersionedPayload(source, versionSequence.incrementAndGet(),
+                    raw, gzip, "\"" + tag + "\"", "\"" + tag + "-gzip\"");
+            payloads[slot] = rebuilt;
+            rebuilds[type.ordinal()].increment();
+            log.debug("📦 [RESPONSE] Rebuilt {} payload v{} - {}B raw, {}B gzip, etag {}",
+                    keys[slot].getName(), rebuilt.version(), raw.length, gzip.length, rebuilt.etag());
+            return rebuilt;
+        }
+    }
+
+    /**
+     * ✅ 요청 결과 기록 (필터에서 호출)
+     */
+    public void recordNotModified(PayloadType type, VersionedPayload payload, boolean gzipAccepted) {
+        long saved = gzipAccepted ? payload.gzip().length : payload.raw().length;
+        notModified[type.ordinal()].increment();
+        savedByNotModified[type.ordinal()].increment(saved);
+        notModifiedTotal.increment();
+        requestTotal.increment();
+        bytesSavedTotal.add(saved);
+    }
+
+    public void recordServed(PayloadType type, VersionedPayload payload, boolean gzipped) {
+        served[type.ordinal()].increment();
+        requestTotal.increment();
+        if (gzipped) {
+            long saved = payload.raw().length - payload.gzip().length;
+            savedByGzip[type.ordinal()].increment(saved);
+            bytesSavedTotal.add(saved);
+        }
+    }
+
+    /**
+     * ✅ 게이지용 조회 메서드 (O(1), 할당 없음)
+     */
+    public double getNotModifiedRatio() {
+        long total = requestTotal.sum();
+        return total > 0 ? (double) notModifiedTotal.sum() / total : 0.0;
+    }
+
+    public long getBytesSaved() {
+        return bytesSavedTotal.sum();
+    }
+
+    public long getCurrentVersion() {
+        return versionSequence.get();
+    }
+
+    private static Key cacheKey(PayloadType type, PayloadFormat format) {
+        String entityName = type == PayloadType.FULL ? ResponseCacheImpl.ALL_APPS : ResponseCacheImpl.ALL_APPS_DELTA;
+        Key.KeyType keyType = format == PayloadFormat.JSON ? Key.KeyType.JSON : Key.KeyType.XML;
+        return new Key(Key.EntityType.Application, entityName, keyType, Version.V2, EurekaAccept.full);
+    }
+
+    private static int slot(PayloadType type, PayloadFormat format) {
+        return type.ordinal() * FORMATS.length + format.ordinal();
+    }
+
+    /**
+     * ✅ 페이로드에서 apps__hashcode 값 추출 (JSON/XML 공통, 없으면 "NA")
+     */
+    static String appsHashCode(String payload) {
+        int field = payload.indexOf("apps__hashcode");
+        if (field < 0) {
+            return "NA";
+        }
+        int start = field + "apps__hashcode".length();
+        while (start < payload.length() && !isHashCodeChar(payload.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < payload.length() && isHashCodeChar(payload.charAt(end))) {
+            end++;
+        }
+        return end > start ? payload.substring(start, end) : "NA";
+    }
+
+    private static boolean isHashCodeChar(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    static long fnv64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 8));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * ✅ 한 레지스트리 버전의 사전 인코딩 응답
+     *
+     * source 는 ResponseCache 가 돌려준 원본 문자열 (참조 비교로 재생성 여부 판단)
+     */
+    public record VersionedPayload(String source, long version, byte[] raw, byte[] gzip,
+                                   String etag, String gzipEtag) {
+
+        /**
+         * ✅ If-None-Match 값이 이 버전의 태그(인코딩 무관) 중 하나와 일치하는지
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+                return false;
+            }
+            if (ifNoneMatch.trim().equals("*")) {
+                return true;
+            }
+            return ifNoneMatch.contains(etag) || ifNoneMatch.contains(gzipEtag);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.server.eureka.admission;
+
+import com.server.eureka.admission.AdmissionController.Lane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControllerTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdmissionController controller(int maxConcurrentFull, int maxQueued, long queueTimeoutMillis) {
+        return new AdmissionController(meterRegistry, 1000, 1000, 1, 2, 1000, 1000, 1000, 1000,
+                maxConcurrentFull, maxQueued, queueTimeoutMillis, 100, 0);
+    }
+
+    private double shed(String lane, String reason) {
+        return meterRegistry.get("eureka.admission.requests")
+            .tags("lane", lane, "result", "shed", "reason", reason)
+            .counter().count();
+    }
+
+    @Test
+    void shedsRegistrationsPerAppWithoutTouchingRenewsOrOtherApps() {
+        AdmissionController controller = controller(4, 0, 0);
+
+        assertThat(controller.tryAdmit(Lane.REGISTER, "ORDER", "10.0.0.1")).isEqualTo(AdmissionController.ADMITTED);
+        assertThat(controller.tryAdmit(Lane.REGISTER, "ORDER", "10.0.0.2")).isEqualTo(AdmissionController.ADMITTED);
+        long retryAfter = controller.tryAdmit(Lane.REGISTER, "ORDER", "10.0.0.3");
+
+        assertThat(retryAfter).isGreaterThanOrEqualTo(1L);
+        assertThat(shed("register", "app_rate")).isEqualTo(1.0);
+        assertThat(controller.tryAdmit(Lane.REGISTER, "PAYMENT", "10.0.0.3")).isEqualTo(AdmissionController.ADMITTED);
+        assertThat(controller.tryAdmit(Lane.RENEW, null, "10.0.0.3")).isEqualTo(AdmissionController.ADMITTED);
+    }
+
+    @Test
+    void queuesFullFetchesUntilAPermitIsReleased() throws InterruptedException {
+        AdmissionController controller = controller(1, 1, 5_000);
+        assertThat(controller.tryAdmit(Lane.FULL_FETCH, null, "10.0.0.1")).isEqualTo(AdmissionController.ADMITTED);
+
+        AtomicLong queuedResult = new AtomicLong(-1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            queuedResult.set(controller.tryAdmit(Lane.FULL_FETCH, null, "10.0.0.2"));
+            done.countDown();
+        });
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (controller.getFullFetchQueued() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // 대기열이 가득 찬 상태에서 온 요청은 기다리지 않고 거절
+        assertThat(controller.tryAdmit(Lane.FULL_FETCH, null, "10.0.0.3")).isGreaterThanOrEqualTo(1L);
+        assertThat(shed("full_fetch", "queue_full")).isEqualTo(1.0);
+
+        controller.release(Lane.FULL_FETCH);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queuedResult.get()).isEqualTo(AdmissionController.ADMITTED);
+        assertThat(controller.getFullFetchQueued()).isZero();
+    }
+
+    @Test
+    void timesOutQueuedFullFetches() {
+        AdmissionController controller = controller(1, 4, 20);
+        controller.tryAdmit(Lane.FULL_FETCH, null, "10.0.0.1");
+
+        assertThat(controller.tryAdmit(Lane.FULL_FETCH, null, "10.0.0.2")).isGreaterThanOrEqualTo(1L);
+        assertThat(shed("full_fetch", "queue_timeout")).isEqualTo(1.0);
+    }
+}
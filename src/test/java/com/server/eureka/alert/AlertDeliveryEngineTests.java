@@ -0,0 +1,145 @@
+package com.server.eureka.alert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.eureka.alert.sink.WebhookAlertSink;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertDeliveryEngineTests {
+
+    private HttpServer stubWebhook;
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AlertDeliveryEngine engine;
+
+    @BeforeEach
+    void startStubWebhook() throws IOException {
+        stubWebhook = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubWebhook.createContext("/hook", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            int status = failuresBeforeSuccess.getAndDecrement() > 0 ? 500 : 200;
+            if (status == 200) {
+                receivedBodies.add(body);
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        stubWebhook.start();
+    }
+
+    @AfterEach
+    void stop() {
+        if (engine != null) {
+            engine.stop();
+        }
+        stubWebhook.stop(0);
+    }
+
+    private AlertDeliveryEngine startEngine(long dedupWindowMillis, int permitsPerMinute, int burst) {
+        String url = "http://127.0.0.1:" + stubWebhook.getAddress().getPort() + "/hook";
+        WebhookAlertSink sink = new WebhookAlertSink(url, "json", 2000, new ObjectMapper());
+        engine = new AlertDeliveryEngine(List.of(sink), meterRegistry, 64, dedupWindowMillis,
+                permitsPerMinute, burst, 4, 10);
+        engine.start();
+        return engine;
+    }
+
+    private static Alert alert(String title, String appName) {
+        return alert(AlertService.AlertType.CRITICAL, title, appName);
+    }
+
+    private static Alert alert(AlertService.AlertType type, String title, String appName) {
+        return new Alert(type, title, "message", appName, System.currentTimeMillis(), 1);
+    }
+
+    private void awaitReceived(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receivedBodies.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void deliversAlertToWebhook() throws InterruptedException {
+        startEngine(60_000, 600, 10);
+
+        assertThat(engine.submit(alert("Last Instance Canceled", "ORDER-SERVICE"))).isTrue();
+
+        awaitReceived(1);
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(receivedBodies.get(0)).contains("\"title\":\"Last Instance Canceled\"", "\"app\":\"ORDER-SERVICE\"");
+    }
+
+    @Test
+    void coalescesDuplicateAlertsWithinWindow() throws InterruptedException {
+        startEngine(60_000, 600, 10);
+
+        for (int i = 0; i < 5; i++) {
+            engine.submit(alert("Registration Storm", "ORDER-SERVICE"));
+        }
+        engine.submit(alert("Registration Storm", "PAYMENT-SERVICE"));
+
+        awaitReceived(2);
+        Thread.sleep(200);
+        assertThat(receivedBodies).hasSize(2);
+        assertThat(meterRegistry.get("eureka.alerts.coalesced").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    void retriesFailedDeliveryWithBackoff() throws InterruptedException {
+        failuresBeforeSuccess.set(2);
+        startEngine(60_000, 600, 10);
+
+        engine.submit(alert("Peer Down", null));
+
+        awaitReceived(1);
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(meterRegistry.get("eureka.alerts.retries").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void dropsAlertsAboveSinkRateLimit() throws InterruptedException {
+        startEngine(0, 1, 2);
+
+        for (int i = 0; i < 5; i++) {
+            engine.submit(alert(AlertService.AlertType.WARNING, "Alert " + i, null));
+        }
+
+        awaitReceived(2);
+        Thread.sleep(200);
+        assertThat(receivedBodies).hasSize(2);
+        assertThat(meterRegistry.get("eureka.alerts.dropped").tag("reason", "rate_limited").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void criticalAlertsBypassSinkRateLimit() throws InterruptedException {
+        startEngine(0, 1, 1);
+
+        engine.submit(alert(AlertService.AlertType.WARNING, "Warning", null));
+        engine.submit(alert(AlertService.AlertType.WARNING, "Suppressed", null));
+        engine.submit(alert("Peer Down", null));
+
+        awaitReceived(2);
+        Thread.sleep(200);
+        assertThat(receivedBodies).hasSize(2);
+        assertThat(receivedBodies.get(1)).contains("\"title\":\"Peer Down\"");
+        assertThat(meterRegistry.get("eureka.alerts.dropped").tag("reason", "rate_limited").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("eureka.alerts.rate_limit.bypassed").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,148 @@
+package com.server.eureka.configcache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.eureka.configcache.LastKnownGoodConfig.Drift;
+import com.server.eureka.configcache.LastKnownGoodConfig.Snapshot;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LastKnownGoodConfigTests {
+
+    private static final String PROFILE = "lkgtest";
+    private static final long REMOTE_TIMEOUT_MILLIS = 300;
+    private static final long SLOW_RESPONSE_MILLIS = 5_000;
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer stubConfigServer;
+    private volatile String remoteValue = "remote-1";
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void startStubConfigServer() throws IOException {
+        stubConfigServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubConfigServer.setExecutor(Executors.newCachedThreadPool());
+        stubConfigServer.createContext("/", exchange -> {
+            try {
+                Thread.sleep(responseDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"name\":\"server-eureka\",\"profiles\":[\"" + PROFILE + "\"],\"label\":null,"
+                    + "\"version\":null,\"state\":null,\"propertySources\":["
+                    + "{\"name\":\"stub-profile\",\"source\":{\"eureka.test.value\":\"" + remoteValue + "\"}},"
+                    + "{\"name\":\"stub-default\",\"source\":{\"eureka.test.value\":\"shadowed\",\"eureka.test.timeout\":30}}]}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stubConfigServer.start();
+    }
+
+    @AfterEach
+    void stopStubConfigServer() {
+        stubConfigServer.stop(0);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class EmptyApplication {
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(EmptyApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--spring.profiles.active=" + PROFILE,
+                 "--spring.application.name=server-eureka",
+                 "--spring.config.import=optional:configserver:http://127.0.0.1:" + stubConfigServer.getAddress().getPort(),
+                 "--eureka.config-cache.dir=" + cacheDir,
+                 "--eureka.config-cache.remote-timeout-ms=" + REMOTE_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void cachesRemoteConfigThenStartsFromCacheWhenConfigServerIsSlow() throws IOException {
+        long remoteMillis;
+        try (ConfigurableApplicationContext context = start()) {
+            ConfigurableEnvironment environment = context.getEnvironment();
+            assertThat(environment.getProperty("eureka.test.value")).isEqualTo("remote-1");
+            assertThat(environment.getProperty("eureka.config-cache.startup.source")).isEqualTo("remote");
+            remoteMillis = environment.getProperty("eureka.config-cache.startup.resolve-ms", Long.class);
+        }
+        // 사본이 없을 때는 timeout 을 줄이지 않으므로, 응답이 바로 오는 설정 서버에서 걸린 시간 그대로다
+        assertThat(remoteMillis).isLessThan(SLOW_RESPONSE_MILLIS);
+        Snapshot cached = LastKnownGoodConfig.read(LastKnownGoodConfig.file(cacheDir, new String[]{PROFILE}));
+        assertThat(cached.version()).isEqualTo(1L);
+        assertThat(cached.properties()).containsEntry("eureka.test.value", "remote-1").containsEntry("eureka.test.timeout", "30");
+
+        responseDelayMillis = SLOW_RESPONSE_MILLIS;
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = start()) {
+            long startupMillis = (System.nanoTime() - start) / 1_000_000;
+            ConfigurableEnvironment environment = context.getEnvironment();
+            long cacheMillis = environment.getProperty("eureka.config-cache.startup.resolve-ms", Long.class);
+
+            assertThat(environment.getProperty("eureka.config-cache.startup.source")).isEqualTo("cache");
+            assertThat(environment.getProperty("eureka.test.value")).isEqualTo("remote-1");
+            // 설정 서버를 remote-timeout 만큼만 기다린 뒤 (재시도 없이) 사본으로 넘어간다
+            assertThat(cacheMillis).isGreaterThanOrEqualTo(REMOTE_TIMEOUT_MILLIS).isLessThan(SLOW_RESPONSE_MILLIS);
+            assertThat(startupMillis).isLessThan(SLOW_RESPONSE_MILLIS);
+
+            // 설정 서버가 돌아오면 백그라운드 재조회가 차이를 보고하고 사본을 갱신한다
+            responseDelayMillis = 0;
+            remoteValue = "remote-2";
+            LastKnownGoodConfigRefresher refresher = new LastKnownGoodConfigRefresher(environment, new ObjectMapper(),
+                    new SimpleMeterRegistry(), "cache", cacheMillis, 1L, 2_000);
+            refresher.refresh();
+
+            assertThat(refresher.isRefreshPending()).isFalse();
+            assertThat(environment.getProperty("eureka.test.value")).isEqualTo("remote-2");
+        }
+        Snapshot refreshed = LastKnownGoodConfig.read(LastKnownGoodConfig.file(cacheDir, new String[]{PROFILE}));
+        assertThat(refreshed.version()).isEqualTo(2L);
+        assertThat(refreshed.properties()).containsEntry("eureka.test.value", "remote-2");
+    }
+
+    @Test
+    void keepsVersionForUnchangedContentAndRejectsTamperedFiles() throws IOException {
+        Path file = LastKnownGoodConfig.file(cacheDir, new String[]{"prod"});
+        assertThat(LastKnownGoodConfig.write(file, Map.of("a", "1", "b", "2")).version()).isEqualTo(1L);
+        assertThat(LastKnownGoodConfig.write(file, Map.of("b", "2", "a", "1")).version()).isEqualTo(1L);
+        assertThat(LastKnownGoodConfig.write(file, Map.of("a", "1", "b", "3")).version()).isEqualTo(2L);
+
+        Files.writeString(file, Files.readString(file).replace("b=3", "b=4"));
+        assertThatThrownBy(() -> LastKnownGoodConfig.read(file)).isInstanceOf(IOException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    void reportsDriftByKeyName() {
+        Drift drift = Drift.between(Map.of("a", "1", "b", "2", "c", "3"), Map.of("a", "1", "b", "20", "d", "4"));
+
+        assertThat(drift.added()).containsExactly("d");
+        assertThat(drift.removed()).containsExactly("c");
+        assertThat(drift.changed()).containsExactly("b");
+        assertThat(drift.size()).isEqualTo(3);
+    }
+}
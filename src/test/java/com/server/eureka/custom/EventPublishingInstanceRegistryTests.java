@@ -0,0 +1,94 @@
+package com.server.eureka.custom;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EventPublishingInstanceRegistryTests {
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+
+    static class RecordingHandler implements RegistryEventHandler {
+        final List<RegistryEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEvent(RegistryEvent event) {
+            events.add(event);
+        }
+    }
+
+    @Autowired
+    PeerAwareInstanceRegistry registry;
+
+    @Autowired
+    EurekaServerContext eurekaServerContext;
+
+    @Autowired
+    RecordingHandler recordingHandler;
+
+    @Test
+    void registryBeanIsTheUnproxiedSubclassUsedByTheServerContext() {
+        assertThat(registry).isInstanceOf(EventPublishingInstanceRegistry.class);
+        assertThat(AopUtils.isAopProxy(registry)).isFalse();
+        assertThat(eurekaServerContext.getRegistry()).isSameAs(registry);
+    }
+
+    @Test
+    void statusUpdatePublishesStatusChangedEvent() throws InterruptedException {
+        InstanceInfo info = InstanceInfo.Builder.newBuilder()
+            .setAppName("STATUS-TEST")
+            .setInstanceId("status-test-1")
+            .setHostName("status-test-1.local")
+            .setIPAddr("10.0.0.1")
+            .setStatus(InstanceStatus.UP)
+            .build();
+        registry.register(info, 90, true);
+
+        boolean updated = registry.statusUpdate("STATUS-TEST", "status-test-1", InstanceStatus.OUT_OF_SERVICE,
+                String.valueOf(info.getLastDirtyTimestamp()), true);
+
+        assertThat(updated).isTrue();
+        RegistryEvent event = awaitEvent(RegistryEvent.Type.STATUS_CHANGED);
+        assertThat(event).isNotNull();
+        assertThat(event.getAppName()).isEqualTo("STATUS-TEST");
+        assertThat(event.getInstanceId()).isEqualTo("status-test-1");
+        assertThat(event.getStatus()).isEqualTo(InstanceStatus.OUT_OF_SERVICE);
+        assertThat(event.isReplication()).isTrue();
+
+        registry.cancel("STATUS-TEST", "status-test-1", true);
+    }
+
+    private RegistryEvent awaitEvent(RegistryEvent.Type type) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            for (RegistryEvent event : recordingHandler.events) {
+                if (event.getType() == type && "status-test-1".equals(event.getInstanceId())) {
+                    return event;
+                }
+            }
+            Thread.sleep(20);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,124 @@
+package com.server.eureka.custom;
+
+import com.server.eureka.alert.AlertService;
+import com.server.eureka.alert.AlertService.AlertType;
+import com.server.eureka.observability.RegistryCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RegistrationChurnTrackerTests {
+
+    private static final long WINDOW = 60_000L;
+    private static final long T0 = 1_000_000L;
+
+    private final AlertService alertService = mock(AlertService.class);
+    private final RegistryCounters registryCounters = mock(RegistryCounters.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RegistrationChurnTracker tracker =
+        new RegistrationChurnTracker(alertService, registryCounters, meterRegistry, WINDOW, 3, 20, 2.0);
+
+    @Test
+    void flagsFlappingOnceWhenCyclesReachTheThreshold() {
+        cycle("order-1", T0, 2);
+        verify(alertService, never()).sendAlert(eq(AlertType.WARNING), eq("Instance Flapping"), anyString(), eq("ORDER"));
+
+        cycle("order-1", T0 + 1_000, 2);
+
+        verify(alertService, times(1)).sendAlert(eq(AlertType.WARNING), eq("Instance Flapping"), anyString(), eq("ORDER"));
+        assertThat(meterRegistry.get("eureka.churn.flaps").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("eureka.churn.flapping.instances").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void transitionsOutsideTheWindowDoNotCountTowardsFlapping() {
+        cycle("order-1", T0, 2);
+        cycle("order-1", T0 + WINDOW + 5_000, 1);
+
+        verify(alertService, never()).sendAlert(eq(AlertType.WARNING), eq("Instance Flapping"), anyString(), eq("ORDER"));
+        assertThat(meterRegistry.get("eureka.churn.flaps").counter().count()).isZero();
+    }
+
+    @Test
+    void flappingClearsOnceTheWindowExpires() {
+        cycle("order-1", T0, 3);
+        assertThat(meterRegistry.get("eureka.churn.flapping.instances").gauge().value()).isEqualTo(1.0);
+
+        tracker.sweep(T0 + WINDOW + 5_000);
+
+        assertThat(meterRegistry.get("eureka.churn.flapping.instances").gauge().value()).isZero();
+    }
+
+    @Test
+    void stormThresholdScalesWithLiveInstances() {
+        when(registryCounters.getAppInstanceCount("ORDER")).thenReturn(50);
+
+        // 인스턴스 50개 x 배수 2.0 = 100 건부터 storm (최소 이벤트 수 20 보다 크다)
+        for (int i = 0; i < 99; i++) {
+            tracker.onRegistered("ORDER", "order-" + i, T0);
+        }
+        assertThat(tracker.isStorming("ORDER")).isFalse();
+
+        tracker.onRegistered("ORDER", "order-99", T0);
+
+        assertThat(tracker.isStorming("ORDER")).isTrue();
+        verify(alertService, times(1)).sendAlert(eq(AlertType.WARNING), eq("Registration Storm"), anyString(), eq("ORDER"));
+        assertThat(meterRegistry.get("eureka.churn.storms").tag("app", "order").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void smallAppsUseTheMinimumEventCount() {
+        when(registryCounters.getAppInstanceCount("ORDER")).thenReturn(1);
+
+        for (int i = 0; i < 19; i++) {
+            tracker.onCanceled("ORDER", "order-" + i, T0);
+        }
+        assertThat(tracker.isStorming("ORDER")).isFalse();
+
+        tracker.onCanceled("ORDER", "order-19", T0);
+        assertThat(tracker.isStorming("ORDER")).isTrue();
+    }
+
+    @Test
+    void stormEndsOnceEventsLeaveTheWindow() {
+        for (int i = 0; i < 20; i++) {
+            tracker.onRegistered("ORDER", "order-" + i, T0);
+        }
+        assertThat(tracker.isStorming("ORDER")).isTrue();
+
+        tracker.sweep(T0 + 1_000);
+        assertThat(tracker.isStorming("ORDER")).isTrue();
+
+        tracker.sweep(T0 + WINDOW + 5_000);
+
+        assertThat(tracker.isStorming("ORDER")).isFalse();
+        verify(alertService).sendAlert(eq(AlertType.INFO), eq("Registration Storm Ended"), anyString(), eq("ORDER"));
+        assertThat(meterRegistry.get("eureka.churn.storms.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void flappingAlertsAreSuppressedDuringAStorm() {
+        for (int i = 0; i < 20; i++) {
+            tracker.onRegistered("ORDER", "order-" + i, T0);
+        }
+        cycle("order-flap", T0, 3);
+
+        verify(alertService, never()).sendAlert(eq(AlertType.WARNING), eq("Instance Flapping"), anyString(), eq("ORDER"));
+        assertThat(meterRegistry.get("eureka.churn.flaps").counter().count()).isEqualTo(1.0);
+    }
+
+    private void cycle(String instanceId, long timestamp, int cycles) {
+        for (int i = 0; i < cycles; i++) {
+            tracker.onRegistered("ORDER", instanceId, timestamp);
+            tracker.onCanceled("ORDER", instanceId, timestamp);
+        }
+    }
+}
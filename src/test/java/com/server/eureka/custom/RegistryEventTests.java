@@ -0,0 +1,39 @@
+package com.server.eureka.custom;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistryEventTests {
+
+    @Test
+    void capturesMutableInstanceFieldsWhenTheEventIsCreated() throws InterruptedException {
+        InstanceInfo info = InstanceInfo.Builder.newBuilder()
+            .setAppName("ORDER")
+            .setInstanceId("order-1")
+            .setHostName("order-1")
+            .setVIPAddress("order")
+            .setStatus(InstanceStatus.UP)
+            .build();
+        Long dirty = info.getLastDirtyTimestamp();
+
+        RegistryEvent registered = RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, info, 90, false));
+        RegistryEvent renewed = RegistryEvent.renewed(new EurekaInstanceRenewedEvent(this, "ORDER", "order-1", info, false));
+
+        // 소비자 스레드가 읽기 전에 레지스트리가 같은 객체를 고쳐 쓴다
+        Thread.sleep(5);
+        info.setStatusWithoutDirty(InstanceStatus.OUT_OF_SERVICE);
+        info.setVIPAddress("order-v2");
+        assertThat(info.setIsDirtyWithTime()).isNotEqualTo(dirty);
+
+        for (RegistryEvent event : new RegistryEvent[] {registered, renewed}) {
+            assertThat(event.getStatus()).isEqualTo(InstanceStatus.UP);
+            assertThat(event.getVipAddress()).isEqualTo("order");
+            assertThat(event.getLastDirtyTimestamp()).isEqualTo(dirty);
+        }
+    }
+}
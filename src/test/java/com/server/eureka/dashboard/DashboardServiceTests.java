@@ -0,0 +1,71 @@
+package com.server.eureka.dashboard;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.dashboard.DashboardService.DashboardPage;
+import com.server.eureka.dashboard.DashboardService.SortKey;
+import com.server.eureka.index.IndexedInstance;
+import com.server.eureka.index.RegistryIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardServiceTests {
+
+    private final RegistryIndex index = new RegistryIndex(null, new SimpleMeterRegistry(), List.of());
+    private final DashboardService service = new DashboardService(index, null, null, null, 0);
+
+    @Test
+    void pagesThroughSortedViewInBothDirections() {
+        for (int i = 0; i < 7; i++) {
+            register("APP-" + (char) ('A' + i), "id-" + i, InstanceStatus.UP);
+        }
+
+        DashboardPage<IndexedInstance> second = service.instances(Map.of(), SortKey.APP, false, 2, 3);
+        assertThat(second.total()).isEqualTo(7);
+        assertThat(second.totalPages()).isEqualTo(3);
+        assertThat(second.items()).extracting(IndexedInstance::app).containsExactly("APP-D", "APP-E", "APP-F");
+
+        DashboardPage<IndexedInstance> firstDesc = service.instances(Map.of(), SortKey.APP, true, 1, 3);
+        assertThat(firstDesc.items()).extracting(IndexedInstance::app).containsExactly("APP-G", "APP-F", "APP-E");
+
+        DashboardPage<IndexedInstance> beyond = service.instances(Map.of(), SortKey.APP, false, 99, 3);
+        assertThat(beyond.page()).isEqualTo(3);
+        assertThat(beyond.items()).extracting(IndexedInstance::app).containsExactly("APP-G");
+    }
+
+    @Test
+    void filteredPagesUseIndexAndKeepSortOrder() {
+        register("ORDER", "order-2", InstanceStatus.DOWN);
+        register("ORDER", "order-1", InstanceStatus.DOWN);
+        register("PAYMENT", "payment-1", InstanceStatus.UP);
+
+        DashboardPage<IndexedInstance> page = service.instances(
+                Map.of(RegistryIndex.STATUS, List.of("down")), SortKey.INSTANCE_ID, false, 1, 10);
+        assertThat(page.items()).extracting(IndexedInstance::instanceId).containsExactly("order-1", "order-2");
+
+        // 캐시된 필터 결과는 인덱스 버전이 바뀌면 다시 만든다
+        register("ORDER", "order-0", InstanceStatus.DOWN);
+        DashboardPage<IndexedInstance> refreshed = service.instances(
+                Map.of(RegistryIndex.STATUS, List.of("down")), SortKey.INSTANCE_ID, true, 1, 2);
+        assertThat(refreshed.total()).isEqualTo(3);
+        assertThat(refreshed.items()).extracting(IndexedInstance::instanceId).containsExactly("order-2", "order-1");
+    }
+
+    private void register(String app, String id, InstanceStatus status) {
+        InstanceInfo info = InstanceInfo.Builder.newBuilder()
+            .setAppName(app)
+            .setInstanceId(id)
+            .setHostName(id + ".local")
+            .setIPAddr("10.0.0.1")
+            .setStatus(status)
+            .build();
+        index.onEvent(RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, info, 90, false)));
+    }
+}
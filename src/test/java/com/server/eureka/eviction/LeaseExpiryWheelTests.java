@@ -0,0 +1,82 @@
+package com.server.eureka.eviction;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.view.RegistryViewPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaseExpiryWheelTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LeaseExpiryWheel wheel;
+
+    @AfterEach
+    void stop() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void evictsOnlyLeasesStillInAProxiedRegistry() throws InterruptedException {
+        PeerAwareInstanceRegistry target = mock(PeerAwareInstanceRegistry.class);
+        when(target.isLeaseExpirationEnabled()).thenReturn(true);
+        Application order = new Application("ORDER");
+        order.addInstance(instance("expired-1"));
+        when(target.getApplication("ORDER", false)).thenReturn(order);
+        when(target.cancel("ORDER", "expired-1", true)).thenReturn(true);
+
+        // 레지스트리 빈이 프록시여도 공개 API 로만 lease 존재를 확인한다
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(PeerAwareInstanceRegistry.class);
+        PeerAwareInstanceRegistry proxied = (PeerAwareInstanceRegistry) proxyFactory.getProxy();
+
+        EurekaServerContext context = mock(EurekaServerContext.class);
+        when(context.getRegistry()).thenReturn(proxied);
+        wheel = new LeaseExpiryWheel(context, mock(RegistryViewPublisher.class), mock(EurekaServerConfig.class),
+                meterRegistry, 10, 1000, 0);
+        wheel.start();
+
+        wheel.onEvent(RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, instance("expired-1"), 1, false)));
+        wheel.onEvent(RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, instance("gone-1"), 1, false)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (wheel.getTrackedLeases() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertThat(wheel.getTrackedLeases()).isZero();
+        verify(target, times(1)).cancel("ORDER", "expired-1", true);
+        verify(target, never()).cancel(eq("ORDER"), eq("gone-1"), anyBoolean());
+        assertThat(meterRegistry.get("eureka.lease.expiry.evicted").counter().count()).isEqualTo(1.0);
+    }
+
+    private static InstanceInfo instance(String id) {
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName("ORDER")
+            .setInstanceId(id)
+            .setHostName(id + ".local")
+            .setStatus(InstanceStatus.UP)
+            .build();
+    }
+}
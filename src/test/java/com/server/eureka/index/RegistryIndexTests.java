@@ -0,0 +1,102 @@
+package com.server.eureka.index;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.index.RegistryIndex.IndexQueryResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RegistryIndexTests {
+
+    private final RegistryIndex index = new RegistryIndex(null, new SimpleMeterRegistry(), List.of("version"));
+
+    @Test
+    void combinesCriteriaWithAndAcrossDimensionsAndOrWithinOne() {
+        register(instance("ORDER", "order-1", "zone-a", "1.4", InstanceStatus.OUT_OF_SERVICE));
+        register(instance("ORDER", "order-2", "zone-a", "1.3", InstanceStatus.OUT_OF_SERVICE));
+        register(instance("ORDER", "order-3", "zone-b", "1.4", InstanceStatus.OUT_OF_SERVICE));
+        register(instance("PAYMENT", "payment-1", "zone-a", "1.4", InstanceStatus.UP));
+
+        IndexQueryResult result = index.query(Map.of(
+                "status", List.of("out_of_service"),
+                "zone", List.of("ZONE-A"),
+                "meta.version", List.of("1.4")), 100);
+        assertThat(result.instances()).extracting(IndexedInstance::instanceId).containsExactly("order-1");
+
+        IndexQueryResult either = index.query(Map.of("meta.version", List.of("1.3", "1.4"), "app", List.of("order")), 100);
+        assertThat(either.total()).isEqualTo(3);
+    }
+
+    @Test
+    void stopsCollectingAtLimitButReportsTheFullTotal() {
+        for (int i = 0; i < 20; i++) {
+            register(instance("ORDER", "order-" + i, i % 2 == 0 ? "zone-a" : "zone-b", "1.4", InstanceStatus.UP));
+        }
+
+        IndexQueryResult single = index.query(Map.of("status", List.of("UP", "up")), 5);
+        assertThat(single.instances()).hasSize(5);
+        assertThat(single.total()).isEqualTo(20);
+
+        IndexQueryResult filtered = index.query(Map.of("status", List.of("UP"), "zone", List.of("zone-a")), 3);
+        assertThat(filtered.instances()).hasSize(3);
+        assertThat(filtered.total()).isEqualTo(10);
+
+        // host 는 호스트명과 IP 를 모두 색인하므로 두 값이 같은 인스턴스를 가리켜도 한 번만 센다
+        IndexQueryResult hosts = index.query(Map.of("host", List.of("order-0.local", "10.0.0.1")), 100);
+        assertThat(hosts.total()).isEqualTo(20);
+        assertThat(hosts.instances()).hasSize(20).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void renewalWithNewStatusMovesPostingsAndCancelRemovesThem() {
+        InstanceInfo info = instance("ORDER", "order-1", "zone-a", "1.4", InstanceStatus.UP);
+        register(info);
+        assertThat(index.query(Map.of("status", List.of("UP")), 10).total()).isEqualTo(1);
+
+        info.setStatusWithoutDirty(InstanceStatus.DOWN);
+        index.onEvent(RegistryEvent.renewed(new EurekaInstanceRenewedEvent(this, "ORDER", "order-1", info, false)));
+        assertThat(index.query(Map.of("status", List.of("UP")), 10).total()).isZero();
+        assertThat(index.query(Map.of("status", List.of("DOWN")), 10).total()).isEqualTo(1);
+
+        index.onEvent(RegistryEvent.canceled(new EurekaInstanceCanceledEvent(this, "ORDER", "order-1", false)));
+        assertThat(index.query(Map.of("status", List.of("DOWN")), 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void statusChangeEventMovesPostingsWithoutWaitingForRenewal() {
+        InstanceInfo info = instance("ORDER", "order-1", "zone-a", "1.4", InstanceStatus.UP);
+        register(info);
+
+        info.setStatusWithoutDirty(InstanceStatus.OUT_OF_SERVICE);
+        index.onEvent(RegistryEvent.statusChanged("ORDER", "order-1", info, false));
+        assertThat(index.query(Map.of("status", List.of("UP")), 10).total()).isZero();
+        assertThat(index.query(Map.of("status", List.of("OUT_OF_SERVICE")), 10).total()).isEqualTo(1);
+    }
+
+    private void register(InstanceInfo info) {
+        index.onEvent(RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, info, 90, false)));
+    }
+
+    private static InstanceInfo instance(String app, String id, String zone, String version, InstanceStatus status) {
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(app)
+            .setInstanceId(id)
+            .setHostName(id + ".local")
+            .setIPAddr("10.0.0.1")
+            .setVIPAddress(app.toLowerCase())
+            .setStatus(status)
+            .setMetadata(new HashMap<>(Map.of("zone", zone, "version", version)))
+            .build();
+    }
+}
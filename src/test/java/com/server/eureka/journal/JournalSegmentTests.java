@@ -0,0 +1,83 @@
+package com.server.eureka.journal;
+
+import com.server.eureka.journal.JournalRecord.Type;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalSegmentTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendedRecordsAreQueryableAndSurviveReopen() throws Exception {
+        Path path = directory.resolve("segment.journal");
+        JournalSegment segment = JournalSegment.create(path, 1024 * 1024, 1_000L);
+        for (int i = 0; i < 5000; i++) {
+            String app = i % 2 == 0 ? "ORDER" : "PAYMENT";
+            append(segment, new JournalRecord(Type.RENEW_SUMMARY, 1_000L + i * 100L, app, app + "-" + (i % 10),
+                    "UP", null, false, 30, 900L + i * 100L, 0));
+        }
+        append(segment, new JournalRecord(Type.EVICTED, 600_000L, "ORDER", "ORDER-4", null, "UP", false, 0, 0L, 0));
+        segment.force();
+
+        assertThat(segment.mightContain("ORDER", "ORDER-4", 0L, Long.MAX_VALUE)).isTrue();
+        assertThat(segment.mightContain("INVENTORY", null, 0L, Long.MAX_VALUE)).isFalse();
+        assertThat(segment.mightContain(null, null, 700_000L, 800_000L)).isFalse();
+
+        JournalSegment reopened = JournalSegment.open(path);
+        assertThat(reopened.getRecordCount()).isEqualTo(5001);
+
+        List<JournalRecord> out = new ArrayList<>();
+        JournalSegment.ScanResult scan = reopened.scan("ORDER", "ORDER-4", 400_000L, 700_000L, out, 100);
+
+        assertThat(scan.examined()).isLessThan(5001); // block index skips the older part of the segment
+        assertThat(out).isNotEmpty().allMatch(record -> record.instanceId().equals("ORDER-4")
+                && record.timestamp() >= 400_000L);
+        assertThat(out.get(out.size() - 1).type()).isEqualTo(Type.EVICTED);
+        assertThat(out.get(out.size() - 1).previousStatus()).isEqualTo("UP");
+    }
+
+    @Test
+    void scanBeyondLimitKeepsTheNewestRecordsInOrder() throws Exception {
+        JournalSegment segment = JournalSegment.create(directory.resolve("tail.journal"), 1024 * 1024, 0L);
+        for (int i = 0; i < 100; i++) {
+            append(segment, new JournalRecord(Type.REGISTERED, 1_000L + i, "ORDER", "ORDER-" + i,
+                    "UP", null, false, 0, 0L, 0));
+        }
+
+        List<JournalRecord> out = new ArrayList<>();
+        JournalSegment.ScanResult scan = segment.scan("ORDER", null, 0L, Long.MAX_VALUE, out, 10);
+
+        assertThat(scan.dropped()).isEqualTo(90);
+        assertThat(out).extracting(JournalRecord::instanceId)
+                .containsExactly("ORDER-90", "ORDER-91", "ORDER-92", "ORDER-93", "ORDER-94",
+                        "ORDER-95", "ORDER-96", "ORDER-97", "ORDER-98", "ORDER-99");
+    }
+
+    @Test
+    void appendFailsWhenSegmentIsFull() throws Exception {
+        JournalSegment segment = JournalSegment.create(directory.resolve("small.journal"), 100, 0L);
+        JournalRecord record = new JournalRecord(Type.REGISTERED, 1L, "APP", "instance-1", "UP", null, true, 0, 0L, 0);
+
+        assertThat(append(segment, record)).isTrue();
+        assertThat(append(segment, record)).isFalse();
+        assertThat(segment.getRecordCount()).isEqualTo(1);
+    }
+
+    private static boolean append(JournalSegment segment, JournalRecord record) {
+        return segment.append(record, bytes(record.appName()), bytes(record.instanceId()),
+                bytes(record.status()), bytes(record.previousStatus()));
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+}
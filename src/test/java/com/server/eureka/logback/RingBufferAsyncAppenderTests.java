@@ -0,0 +1,113 @@
+package com.server.eureka.logback;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.server.eureka.logback.RingBufferAsyncAppender.DiscardPolicy;
+import com.server.eureka.logback.RingBufferAsyncAppender.Stats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RingBufferAsyncAppenderTests {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("test");
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final GatedAppender target = new GatedAppender();
+    private RingBufferAsyncAppender appender;
+
+    @AfterEach
+    void stop() {
+        gate.countDown();
+        if (appender != null) {
+            appender.stop();
+        }
+    }
+
+    @Test
+    void dropsLowLevelEventsAboveThresholdButKeepsWarnUntilFull() throws InterruptedException {
+        appender = start("drop-below-warn", DiscardPolicy.DROP_BELOW_WARN, 50);
+
+        appender.doAppend(event(Level.INFO, "first"));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue(); // writer is now stuck on "first"
+
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(event(Level.INFO, "info-" + i));
+        }
+        for (int i = 0; i < 3; i++) {
+            appender.doAppend(event(Level.WARN, "warn-" + i));
+        }
+
+        Stats stats = RingBufferAsyncAppender.stats().get("drop-below-warn");
+        assertThat(stats.getDropped(Level.INFO)).isEqualTo(3);
+        assertThat(stats.getDropped(Level.WARN)).isEqualTo(1);
+        assertThat(stats.getQueueSize()).isEqualTo(4);
+
+        gate.countDown();
+        appender.stop();
+        assertThat(target.messages).containsExactly("first", "info-0", "info-1", "warn-0", "warn-1");
+    }
+
+    @Test
+    void syncModeWritesOnCallerThread() {
+        appender = new RingBufferAsyncAppender();
+        appender.setContext(context);
+        appender.setName("sync");
+        appender.setAsync(false);
+        appender.addAppender(target);
+        gate.countDown();
+        target.start();
+        appender.start();
+
+        appender.doAppend(event(Level.INFO, "inline"));
+
+        assertThat(target.messages).containsExactly("inline");
+        assertThat(target.threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    private RingBufferAsyncAppender start(String name, DiscardPolicy policy, int threshold) {
+        RingBufferAsyncAppender async = new RingBufferAsyncAppender();
+        async.setContext(context);
+        async.setName(name);
+        async.setQueueSize(4);
+        async.setDiscardPolicy(policy);
+        async.setDiscardingThreshold(threshold);
+        async.addAppender(target);
+        target.start();
+        async.start();
+        return async;
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    private final class GatedAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getFormattedMessage());
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.eureka.EurekaServerContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ApplicationStatusMetricsTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RegistryCounters registryCounters = new RegistryCounters(mock(EurekaServerContext.class));
+    private final ApplicationStatusMetrics metrics = new ApplicationStatusMetrics(meterRegistry, registryCounters);
+
+    @Test
+    void foldsApplicationsBeyondTheCapIntoTheOverflowSeries() {
+        ReflectionTestUtils.setField(metrics, "maxApplications", 2);
+        metrics.init();
+        register("ORDER", 2, InstanceStatus.UP);
+        register("PAYMENT", 1, InstanceStatus.UP);
+        register("SHIPPING", 1, InstanceStatus.DOWN);
+        register("CATALOG", 3, InstanceStatus.UP);
+
+        assertThat(metrics.refresh()).isEqualTo(2);
+
+        Set<String> apps = appTags();
+        assertThat(apps).hasSize(3).contains(ApplicationStatusMetrics.OVERFLOW_APP);
+        // 개별 시리즈와 _other 를 합치면 전체 인스턴스 수와 같다
+        assertThat(sumByStatus()).containsEntry("UP", 6.0).containsEntry("DOWN", 1.0);
+
+        // 개별 시리즈의 애플리케이션이 사라지면 그 자리를 넘친 애플리케이션이 채운다
+        String tracked = apps.stream().filter(app -> !app.equals(ApplicationStatusMetrics.OVERFLOW_APP))
+            .findFirst().orElseThrow();
+        for (int i = 0; i < 3; i++) {
+            registryCounters.onCanceled(tracked, tracked + "-" + i);
+        }
+        assertThat(metrics.refresh()).isEqualTo(2);
+
+        assertThat(appTags()).hasSize(3).doesNotContain(tracked).contains(ApplicationStatusMetrics.OVERFLOW_APP);
+        assertThat(sumByStatus().values().stream().mapToDouble(Double::doubleValue).sum())
+            .isEqualTo(7.0 - registryCountOf(tracked));
+    }
+
+    @Test
+    void noOverflowSeriesWhileUnderTheCap() {
+        ReflectionTestUtils.setField(metrics, "maxApplications", 10);
+        metrics.init();
+        register("ORDER", 2, InstanceStatus.UP);
+        register("PAYMENT", 1, InstanceStatus.STARTING);
+
+        assertThat(metrics.refresh()).isEqualTo(2);
+
+        assertThat(appTags()).containsExactlyInAnyOrder("order", "payment");
+        assertThat(meterRegistry.get("eureka.app.instances").tags("app", "payment", "status", "STARTING")
+            .gauge().value()).isEqualTo(1.0);
+    }
+
+    private final Map<String, Integer> registered = new HashMap<>();
+
+    private void register(String app, int instances, InstanceStatus status) {
+        for (int i = 0; i < instances; i++) {
+            registryCounters.onRegistered(app, app.toLowerCase(Locale.ROOT) + "-" + i, status);
+        }
+        registered.put(app.toLowerCase(Locale.ROOT), instances);
+    }
+
+    private int registryCountOf(String appTag) {
+        return registered.get(appTag);
+    }
+
+    private Set<String> appTags() {
+        return meterRegistry.find("eureka.app.instances").gauges().stream()
+            .map(gauge -> gauge.getId().getTag("app"))
+            .collect(Collectors.toSet());
+    }
+
+    private Map<String, Double> sumByStatus() {
+        Map<String, Double> sums = new HashMap<>();
+        for (Gauge gauge : meterRegistry.find("eureka.app.instances").gauges()) {
+            sums.merge(gauge.getId().getTag("status"), gauge.value(), Double::sum);
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,69 @@
+package com.server.eureka.observability;
+
+import com.server.eureka.web.EurekaOperation;
+import com.server.eureka.web.RegistryResponseCache.CacheResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EurekaOperationMetricsTests {
+
+    @Test
+    void classifiesEurekaRestCalls() {
+        assertThat(EurekaOperation.classify("POST", "/eureka/apps/ORDER-SERVICE")).isEqualTo(EurekaOperation.REGISTER);
+        assertThat(EurekaOperation.classify("PUT", "/eureka/apps/ORDER-SERVICE/host:order:8080")).isEqualTo(EurekaOperation.RENEW);
+        assertThat(EurekaOperation.classify("PUT", "/eureka/apps/ORDER-SERVICE/host:order:8080/")).isEqualTo(EurekaOperation.RENEW);
+        assertThat(EurekaOperation.classify("DELETE", "/eureka/apps/ORDER-SERVICE/host:order:8080")).isEqualTo(EurekaOperation.CANCEL);
+        assertThat(EurekaOperation.classify("PUT", "/eureka/apps/ORDER-SERVICE/host:order:8080/status")).isEqualTo(EurekaOperation.STATUS_UPDATE);
+        assertThat(EurekaOperation.classify("GET", "/eureka/apps/")).isEqualTo(EurekaOperation.FULL_FETCH);
+        assertThat(EurekaOperation.classify("GET", "/eureka/apps/delta")).isEqualTo(EurekaOperation.DELTA_FETCH);
+        assertThat(EurekaOperation.classify("POST", "/eureka/peerreplication/batch/")).isEqualTo(EurekaOperation.REPLICATION_BATCH);
+        assertThat(EurekaOperation.classify("GET", "/eureka/apps/ORDER-SERVICE")).isEqualTo(EurekaOperation.OTHER);
+        assertThat(EurekaOperation.classify("PUT", "/eureka/apps/ORDER-SERVICE/host:order:8080/metadata")).isEqualTo(EurekaOperation.OTHER);
+    }
+
+    @Test
+    void tagsAppScopedOperationsByAppIgnoringCase() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EurekaOperationMetrics metrics = new EurekaOperationMetrics(registry, 10);
+
+        metrics.record(EurekaOperation.RENEW, "/eureka/apps/ORDER-SERVICE/a", false, 200, CacheResult.NONE, 1_000, -1, 0);
+        metrics.record(EurekaOperation.RENEW, "/eureka/apps/order-service/b", false, 200, CacheResult.NONE, 1_000, -1, 0);
+        metrics.record(EurekaOperation.RENEW, "/eureka/apps/ORDER-SERVICE/c", true, 404, CacheResult.NONE, 1_000, -1, 0);
+        metrics.record(EurekaOperation.FULL_FETCH, "/eureka/apps", false, 200, CacheResult.HIT, 1_000, -1, 2_048);
+
+        Timer renew = registry.get("eureka.rest.app.operation")
+            .tags("operation", "renew", "app", "ORDER-SERVICE", "replication", "false", "outcome", "success")
+            .timer();
+        assertThat(renew.count()).isEqualTo(2);
+        assertThat(registry.get("eureka.rest.app.operation")
+            .tags("operation", "renew", "replication", "true", "outcome", "not_found").timer().count()).isEqualTo(1);
+        assertThat(registry.get("eureka.rest.operation")
+            .tags("operation", "renew", "replication", "false", "outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(registry.get("eureka.rest.response.bytes")
+            .tags("operation", "full_fetch", "cache", "hit").summary().totalAmount()).isEqualTo(2_048);
+        // 연산 단위 메터와 바이트 요약에는 app 태그가 없고, 조회는 앱별 타이머를 만들지 않는다
+        assertThat(registry.find("eureka.rest.operation").tagKeys("app").meters()).isEmpty();
+        assertThat(registry.find("eureka.rest.response.bytes").tagKeys("app").meters()).isEmpty();
+        assertThat(registry.find("eureka.rest.app.operation").tag("operation", "full_fetch").meters()).isEmpty();
+        assertThat(metrics.getTrackedApps()).isEqualTo(1);
+    }
+
+    @Test
+    void foldsAppsBeyondCapIntoOther() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EurekaOperationMetrics metrics = new EurekaOperationMetrics(registry, 2);
+
+        for (int i = 0; i < 5; i++) {
+            metrics.record(EurekaOperation.REGISTER, "/eureka/apps/APP-" + i, false, 204, CacheResult.NONE, 1_000, 512, 0);
+        }
+
+        assertThat(metrics.getTrackedApps()).isEqualTo(2);
+        assertThat(registry.get("eureka.rest.app.operation").tags("operation", "register", "app", "other").timer().count())
+            .isEqualTo(3);
+        assertThat(registry.get("eureka.rest.request.bytes").tags("operation", "register").summary().totalAmount())
+            .isEqualTo(5 * 512);
+    }
+}
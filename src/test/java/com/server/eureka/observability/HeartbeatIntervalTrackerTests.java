@@ -0,0 +1,68 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.observability.HeartbeatIntervalTracker.LateHeartbeat;
+import com.server.eureka.view.RegistryViewPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRenewedEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HeartbeatIntervalTrackerTests {
+
+    @Test
+    void flagsSilentInstancesAndEvictsMetersOfEmptyApps() throws InterruptedException {
+        InstanceInfo instance = InstanceInfo.Builder.newBuilder()
+            .setAppName("ORDER")
+            .setInstanceId("order-1")
+            .setHostName("order-1")
+            .setLeaseInfo(LeaseInfo.Builder.newBuilder().setDurationInSecs(1).build())
+            .build();
+        Application order = new Application("ORDER");
+        order.addInstance(instance);
+        Applications applications = new Applications();
+        applications.addApplication(order);
+
+        PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+        EurekaServerContext context = mock(EurekaServerContext.class);
+        when(context.getRegistry()).thenReturn(registry);
+        when(registry.getApplications()).thenReturn(applications);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RegistryViewPublisher publisher = new RegistryViewPublisher(context, meterRegistry, 100L);
+        EurekaRegistryAvailableEvent available = new EurekaRegistryAvailableEvent(mock(EurekaServerConfig.class));
+        publisher.onRegistryAvailable(available);
+
+        HeartbeatIntervalTracker tracker = new HeartbeatIntervalTracker(meterRegistry, publisher, 0.75, 200);
+        tracker.onEvent(RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, instance, 1, false)));
+        tracker.onEvent(RegistryEvent.renewed(new EurekaInstanceRenewedEvent(this, "ORDER", "order-1", instance, false)));
+
+        tracker.sweep();
+        assertThat(tracker.getLateInstances()).isEmpty();
+
+        // 다음 갱신이 오지 않아도 sweep 이 lease 의 75% 경과를 감지한다
+        Thread.sleep(900);
+        tracker.sweep();
+        assertThat(tracker.getLateInstances()).singleElement()
+            .extracting(LateHeartbeat::instanceId, LateHeartbeat::silent)
+            .containsExactly("order-1", true);
+        assertThat(meterRegistry.get("eureka.heartbeat.late").tag("app", "order").counter().count()).isZero();
+
+        when(registry.getApplications()).thenReturn(new Applications());
+        publisher.onRegistryAvailable(available);
+        tracker.sweep();
+        assertThat(meterRegistry.find("eureka.heartbeat.interval").tag("app", "order").timer()).isNull();
+        assertThat(tracker.getAppSummaries()).isEmpty();
+    }
+}
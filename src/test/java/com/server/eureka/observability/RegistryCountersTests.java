@@ -0,0 +1,129 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegistryCountersTests {
+
+    private final PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+    private final RegistryCounters counters = new RegistryCounters(contextOf(registry));
+
+    @Test
+    void tracksRegistrationsStatusChangesAndCancellations() {
+        assertThat(counters.onRegistered("order", "order-1", InstanceStatus.UP)).isEqualTo(1);
+        assertThat(counters.onRegistered("ORDER", "order-2", InstanceStatus.STARTING)).isEqualTo(2);
+        counters.onRegistered("PAYMENT", "payment-1", InstanceStatus.UP);
+        counters.onRenewed("ORDER", "order-2", InstanceStatus.UP);
+
+        assertThat(counters.getTotalInstances()).isEqualTo(3);
+        assertThat(counters.getTotalApplications()).isEqualTo(2);
+        assertThat(counters.getInstanceCount(InstanceStatus.UP)).isEqualTo(3);
+        assertThat(counters.getInstanceCount(InstanceStatus.STARTING)).isZero();
+
+        assertThat(counters.onCanceled("PAYMENT", "payment-1")).isZero();
+        assertThat(counters.onCanceled("PAYMENT", "payment-1")).isZero();
+
+        assertThat(counters.getTotalInstances()).isEqualTo(2);
+        assertThat(counters.getTotalApplications()).isEqualTo(1);
+        assertThat(counters.getAppInstanceCount("ORDER", InstanceStatus.UP)).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileCorrectsCountersFromTheLiveRegistry() {
+        counters.onRegistered("ORDER", "order-1", InstanceStatus.UP);
+        counters.onRegistered("PAYMENT", "payment-1", InstanceStatus.UP);
+        when(registry.getApplications()).thenReturn(applications(
+            instance("ORDER", "order-1", InstanceStatus.DOWN),
+            instance("ORDER", "order-2", InstanceStatus.UP)));
+
+        counters.reconcile();
+
+        assertThat(counters.getReconcileCorrections()).isEqualTo(3);
+        assertThat(counters.getAppInstanceCount("ORDER")).isEqualTo(2);
+        assertThat(counters.getInstanceCount(InstanceStatus.DOWN)).isEqualTo(1);
+        assertThat(counters.getApplicationNames()).containsExactly("ORDER");
+        assertThat(counters.getTotalApplications()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileSkipsAppsRegisteredIntoAfterTheSnapshotWasRead() {
+        counters.onRegistered("ORDER", "order-1", InstanceStatus.UP);
+        when(registry.getApplications()).thenAnswer(invocation -> {
+            Applications snapshot = applications(instance("ORDER", "order-1", InstanceStatus.UP));
+            // 스냅샷을 읽는 사이 소비자 스레드가 등록을 반영한다
+            counters.onRegistered("ORDER", "order-2", InstanceStatus.UP);
+            return snapshot;
+        });
+
+        counters.reconcile();
+
+        assertThat(counters.getAppInstanceCount("ORDER")).isEqualTo(2);
+        assertThat(counters.getReconcileCorrections()).isZero();
+    }
+
+    @Test
+    void reconcileDoesNotResurrectAnInstanceCanceledAfterTheSnapshotWasRead() {
+        counters.onRegistered("ORDER", "order-1", InstanceStatus.UP);
+        when(registry.getApplications()).thenAnswer(invocation -> {
+            Applications snapshot = applications(instance("ORDER", "order-1", InstanceStatus.UP));
+            counters.onCanceled("ORDER", "order-1");
+            return snapshot;
+        });
+
+        counters.reconcile();
+
+        assertThat(counters.getAppInstanceCount("ORDER")).isZero();
+        assertThat(counters.getTotalInstances()).isZero();
+    }
+
+    @Test
+    void registrationAfterAnEmptyAppIsDroppedStartsAFreshCounter() {
+        counters.onRegistered("PAYMENT", "payment-1", InstanceStatus.UP);
+        when(registry.getApplications()).thenReturn(new Applications());
+
+        counters.reconcile();
+        assertThat(counters.getApplicationNames()).isEmpty();
+
+        assertThat(counters.onRegistered("PAYMENT", "payment-2", InstanceStatus.UP)).isEqualTo(1);
+        assertThat(counters.getAppInstanceCount("PAYMENT")).isEqualTo(1);
+        assertThat(counters.getTotalApplications()).isEqualTo(1);
+        assertThat(counters.getTotalInstances()).isEqualTo(1);
+    }
+
+    private static EurekaServerContext contextOf(PeerAwareInstanceRegistry registry) {
+        EurekaServerContext context = mock(EurekaServerContext.class);
+        when(context.getRegistry()).thenReturn(registry);
+        return context;
+    }
+
+    private static InstanceInfo instance(String app, String id, InstanceStatus status) {
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(app)
+            .setInstanceId(id)
+            .setHostName(id)
+            .setStatus(status)
+            .build();
+    }
+
+    private static Applications applications(InstanceInfo... instances) {
+        Applications applications = new Applications();
+        for (InstanceInfo instance : instances) {
+            Application application = applications.getRegisteredApplications(instance.getAppName());
+            if (application == null) {
+                application = new Application(instance.getAppName());
+                applications.addApplication(application);
+            }
+            application.addInstance(instance);
+        }
+        return applications;
+    }
+}
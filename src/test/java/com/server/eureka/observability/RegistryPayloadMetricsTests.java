@@ -0,0 +1,121 @@
+package com.server.eureka.observability;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.converters.wrappers.CodecWrapper;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.resources.ServerCodecs;
+import com.server.eureka.observability.RegistryPayloadMetrics.AppPayloadSize;
+import com.server.eureka.observability.RegistryPayloadMetrics.PayloadFormat;
+import com.server.eureka.observability.RegistryPayloadMetrics.PayloadType;
+import com.server.eureka.view.RegistryViewPublisher;
+import com.server.eureka.web.RegistryResponseCache;
+import com.server.eureka.web.RegistryResponseCache.VersionedPayload;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaRegistryAvailableEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegistryPayloadMetricsTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+    private final EurekaServerContext context = mock(EurekaServerContext.class);
+    private final RegistryResponseCache responseCache = mock(RegistryResponseCache.class);
+    private final RegistryViewPublisher viewPublisher = new RegistryViewPublisher(context, meterRegistry, 100L);
+    private final RegistryPayloadMetrics metrics =
+        new RegistryPayloadMetrics(meterRegistry, context, viewPublisher, responseCache);
+
+    RegistryPayloadMetricsTests() throws Exception {
+        CodecWrapper jsonCodec = mock(CodecWrapper.class);
+        // 인스턴스 하나당 100 바이트로 인코딩되는 것으로 본다
+        when(jsonCodec.encode(any())).thenAnswer(invocation -> {
+            Application application = invocation.getArgument(0);
+            return "x".repeat(100 * application.getInstances().size());
+        });
+        ServerCodecs codecs = mock(ServerCodecs.class);
+        when(codecs.getFullJsonCodec()).thenReturn(jsonCodec);
+        when(codecs.getFullXmlCodec()).thenReturn(mock(CodecWrapper.class));
+        when(context.getRegistry()).thenReturn(registry);
+        when(context.getServerCodecs()).thenReturn(codecs);
+
+        ReflectionTestUtils.setField(metrics, "topApplications", 2);
+        metrics.initPayloadMetrics();
+    }
+
+    @Test
+    void exportsOnlyTheLargestApplicationsForFormatsClientsFetched() {
+        publishRegistry(Map.of("SMALL", 1, "MEDIUM", 3, "LARGE", 5));
+        serveFullJson(1L, 9_000);
+
+        metrics.measure();
+
+        assertThat(metrics.getRawBytes(PayloadType.FULL, PayloadFormat.JSON)).isEqualTo(9_000);
+        assertThat(metrics.getRawBytes(PayloadType.FULL, PayloadFormat.XML)).isZero();
+        assertThat(metrics.getLargestApplications(2)).extracting(AppPayloadSize::appName)
+            .containsExactly("LARGE", "MEDIUM");
+        assertThat(appGauges()).containsOnlyKeys("large/json/raw", "large/json/gzip", "medium/json/raw", "medium/json/gzip")
+            .containsEntry("large/json/raw", 500.0)
+            .containsEntry("medium/json/raw", 300.0);
+
+        // 응답 버전이 그대로면 다시 재지 않는다
+        publishRegistry(Map.of("SMALL", 10, "MEDIUM", 3, "LARGE", 5));
+        metrics.measure();
+        assertThat(appGauges()).containsOnlyKeys("large/json/raw", "large/json/gzip", "medium/json/raw", "medium/json/gzip");
+
+        // 새 버전이면 순위가 바뀌고 밀려난 애플리케이션의 시리즈는 지워진다
+        serveFullJson(2L, 18_000);
+        metrics.measure();
+
+        assertThat(appGauges()).containsOnlyKeys("small/json/raw", "small/json/gzip", "large/json/raw", "large/json/gzip")
+            .containsEntry("small/json/raw", 1_000.0);
+        assertThat(metrics.getRawBytes(PayloadType.FULL, PayloadFormat.JSON)).isEqualTo(18_000);
+    }
+
+    private void serveFullJson(long version, int rawBytes) {
+        VersionedPayload payload = new VersionedPayload("v" + version, version, new byte[rawBytes], new byte[rawBytes / 10],
+                "\"etag\"", "\"etag-gzip\"");
+        when(responseCache.peek(eq(RegistryResponseCache.PayloadType.FULL), eq(RegistryResponseCache.PayloadFormat.JSON)))
+            .thenReturn(payload);
+    }
+
+    private void publishRegistry(Map<String, Integer> instanceCounts) {
+        Applications applications = new Applications();
+        instanceCounts.forEach((name, count) -> {
+            Application application = new Application(name);
+            for (int i = 0; i < count; i++) {
+                application.addInstance(InstanceInfo.Builder.newBuilder()
+                    .setAppName(name)
+                    .setInstanceId(name.toLowerCase(Locale.ROOT) + "-" + i)
+                    .setHostName(name.toLowerCase(Locale.ROOT) + "-" + i)
+                    .build());
+            }
+            applications.addApplication(application);
+        });
+        when(registry.getApplications()).thenReturn(applications);
+        viewPublisher.onRegistryAvailable(new EurekaRegistryAvailableEvent(mock(EurekaServerConfig.class)));
+    }
+
+    private Map<String, Double> appGauges() {
+        Map<String, Double> values = new HashMap<>();
+        for (Gauge gauge : meterRegistry.find("eureka.registry.payload.app.bytes").gauges()) {
+            values.put(gauge.getId().getTag("app") + "/" + gauge.getId().getTag("format") + "/"
+                    + gauge.getId().getTag("encoding"), gauge.value());
+        }
+        return values;
+    }
+}
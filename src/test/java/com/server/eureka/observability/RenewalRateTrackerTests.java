@@ -0,0 +1,148 @@
+package com.server.eureka.observability;
+
+import com.server.eureka.observability.RenewalRateTracker.RenewalTrend;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.function.IntUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RenewalRateTrackerTests {
+
+    // 버킷(1초) 경계에 맞춘 기준 시각 - 윈도우는 T0 ~ T0 + 59s 의 60 버킷
+    private static final long T0 = 1_700_000_000_000L;
+    private static final long WINDOW_END = T0 + 60_000L;
+
+    private final MutableClock clock = new MutableClock(T0);
+    private final RenewalRateTracker tracker = new RenewalRateTracker(1_000L, clock);
+
+    @Test
+    void flatRateHasNoSlopeAndNeverCrossesALowerThreshold() {
+        fill(second -> 10);
+        clock.set(WINDOW_END + 500);
+
+        RenewalTrend trend = tracker.trend();
+
+        assertThat(tracker.getRenewalsLastMinute()).isEqualTo(600);
+        assertThat(trend.renewalsLastMinute()).isEqualTo(600);
+        assertThat(trend.slope()).isCloseTo(0.0, within(1e-9));
+        assertThat(trend.intercept()).isCloseTo(10.0, within(1e-9));
+        assertThat(trend.millisUntilBelow(300)).isEqualTo(-1L);
+    }
+
+    @Test
+    void fallingRateProjectsWhenTheMinuteTotalDropsBelowTheThreshold() {
+        fill(second -> 120 - second);
+        clock.set(WINDOW_END);
+
+        RenewalTrend trend = tracker.trend();
+
+        assertThat(trend.renewalsLastMinute()).isEqualTo(5_430);
+        assertThat(trend.slope()).isCloseTo(-1.0, within(1e-9));
+        assertThat(trend.intercept()).isCloseTo(120.0, within(1e-9));
+        // k 초 뒤 1분 합계 = 60 * (90.5 - k) → 3000 이 되는 건 40.5 초 뒤
+        assertThat(trend.millisUntilBelow(3_000)).isCloseTo(40_500L, within(1L));
+    }
+
+    @Test
+    void risingRateDoesNotProjectACrossing() {
+        fill(second -> 10 + second);
+        clock.set(WINDOW_END);
+
+        RenewalTrend trend = tracker.trend();
+
+        assertThat(trend.slope()).isCloseTo(1.0, within(1e-9));
+        assertThat(trend.millisUntilBelow(100)).isEqualTo(-1L);
+    }
+
+    @Test
+    void countsOnlyCompletedBucketsInsideTheWindow() {
+        // 윈도우 직전 버킷과 진행 중인 버킷은 빠진다
+        record(T0 - 1_000, 50);
+        record(T0 + 50_000, 30);
+        record(T0 + 59_999, 20);
+        record(WINDOW_END + 200, 1_000);
+        clock.set(WINDOW_END + 400);
+
+        assertThat(tracker.getRenewalsLastMinute()).isEqualTo(50);
+
+        // 버킷이 완료되면 포함되고, 가장 오래된 버킷은 밀려난다
+        clock.set(WINDOW_END + 1_000);
+        assertThat(tracker.getRenewalsLastMinute()).isEqualTo(1_050);
+    }
+
+    @Test
+    void warmingUpWindowReadsAsRisingRatherThanFalling() {
+        // 기동 직후처럼 마지막 10초에만 갱신이 있는 경우
+        fill(second -> second >= 50 ? 60 : 0);
+        clock.set(WINDOW_END);
+
+        RenewalTrend trend = tracker.trend();
+
+        assertThat(trend.renewalsLastMinute()).isEqualTo(600);
+        assertThat(trend.slope()).isPositive();
+        assertThat(trend.millisUntilBelow(300)).isEqualTo(-1L);
+    }
+
+    @Test
+    void thresholdAlreadyCrossedReturnsZero() {
+        fill(second -> 120 - second);
+        clock.set(WINDOW_END);
+
+        RenewalTrend trend = tracker.trend();
+
+        assertThat(trend.millisUntilBelow(5_430)).isZero();
+        assertThat(trend.millisUntilBelow(10_000)).isZero();
+        assertThat(trend.millisUntilBelow(0)).isEqualTo(-1L);
+    }
+
+    private void fill(IntUnaryOperator countAtSecond) {
+        for (int second = 0; second < 60; second++) {
+            record(T0 + second * 1_000L + 100, countAtSecond.applyAsInt(second));
+        }
+    }
+
+    private void record(long at, int count) {
+        clock.set(at);
+        for (int i = 0; i < count; i++) {
+            tracker.record();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void set(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
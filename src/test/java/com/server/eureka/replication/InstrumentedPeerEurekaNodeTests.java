@@ -0,0 +1,103 @@
+package com.server.eureka.replication;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.discovery.shared.transport.EurekaHttpResponse;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.cluster.HttpReplicationClient;
+import com.netflix.eureka.cluster.protocol.ReplicationInstance;
+import com.netflix.eureka.cluster.protocol.ReplicationInstanceResponse;
+import com.netflix.eureka.cluster.protocol.ReplicationList;
+import com.netflix.eureka.cluster.protocol.ReplicationListResponse;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistryImpl.Action;
+import com.server.eureka.observability.PeerReplicationMetrics;
+import com.server.eureka.observability.PeerReplicationMetrics.PeerStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InstrumentedPeerEurekaNodeTests {
+
+    private static final String PEER_URL = "http://peer1:8761/eureka/";
+
+    @Test
+    void countsSubmittedTasksUntilTheirBatchSucceeds() throws Throwable {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PeerReplicationMetrics metrics = new PeerReplicationMetrics(meterRegistry);
+        PeerStats stats = metrics.forPeer(PEER_URL);
+
+        HttpReplicationClient delegate = mock(HttpReplicationClient.class);
+        when(delegate.submitBatchUpdates(any(ReplicationList.class))).thenAnswer(invocation -> {
+            ReplicationList batch = invocation.getArgument(0);
+            List<ReplicationInstanceResponse> results = new ArrayList<>();
+            for (ReplicationInstance instance : batch.getReplicationList()) {
+                // 이미 없는 인스턴스의 해제는 항목 단위 404
+                int status = instance.getAction() == Action.Cancel ? 404 : 200;
+                results.add(new ReplicationInstanceResponse(status, null));
+            }
+            return EurekaHttpResponse.anEurekaHttpResponse(200, new ReplicationListResponse(results)).build();
+        });
+        when(delegate.sendHeartBeat(any(), any(), any(), any()))
+            .thenReturn(EurekaHttpResponse.anEurekaHttpResponse(200, (InstanceInfo) null).build());
+
+        InstrumentedPeerEurekaNode node = new InstrumentedPeerEurekaNode(mock(PeerAwareInstanceRegistry.class),
+                "peer1", PEER_URL, new InstrumentedReplicationClient(delegate, stats), serverConfig(), metrics, stats);
+        try {
+            InstanceInfo order = instance("ORDER", "order-1");
+            node.register(order);
+            node.heartbeat("ORDER", "order-1", order, null, false);
+            node.statusUpdate("ORDER", "order-1", InstanceStatus.OUT_OF_SERVICE, order);
+            node.cancel("PAYMENT", "payment-1");
+            // 연결 priming heartbeat 는 배처를 거치지 않으므로 제출로 세지 않는다
+            node.heartbeat("ORDER", "order-1", order, null, true);
+
+            assertThat(meterRegistry.get("eureka.peer.replication.submitted").counter().count()).isEqualTo(4.0);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while ((stats.getPending() > 0 || stats.getItems() < 4) && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(stats.getPending()).isZero();
+            assertThat(stats.getItems()).isEqualTo(4);
+            assertThat(stats.getBatches()).isPositive();
+            assertThat(stats.getConsecutiveFailures()).isZero();
+            assertThat(meterRegistry.get("eureka.peer.replication.failures").tag("level", "item").counter().count())
+                .isEqualTo(1.0);
+            assertThat(meterRegistry.get("eureka.peer.replication.lag").timer().count()).isEqualTo(4);
+            assertThat(meterRegistry.get("eureka.peer.replication.direct.latency").timer().count()).isEqualTo(1);
+        } finally {
+            node.shutDown();
+        }
+
+        // 피어 목록에서 빠지면 메트릭도 지운다
+        assertThat(metrics.getPeers()).isEmpty();
+        assertThat(meterRegistry.find("eureka.peer.replication.submitted").counter()).isNull();
+    }
+
+    private static EurekaServerConfig serverConfig() {
+        EurekaServerConfig config = mock(EurekaServerConfig.class);
+        when(config.getMaxElementsInPeerReplicationPool()).thenReturn(1000);
+        when(config.getMaxThreadsForPeerReplication()).thenReturn(1);
+        when(config.getMaxElementsInStatusReplicationPool()).thenReturn(1000);
+        when(config.getMaxThreadsForStatusReplication()).thenReturn(1);
+        when(config.getMaxTimeForReplication()).thenReturn(30_000);
+        return config;
+    }
+
+    private static InstanceInfo instance(String app, String id) {
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(app)
+            .setInstanceId(id)
+            .setHostName(id)
+            .build();
+    }
+}
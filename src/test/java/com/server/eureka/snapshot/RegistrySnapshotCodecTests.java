@@ -0,0 +1,101 @@
+package com.server.eureka.snapshot;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.appinfo.LeaseInfo;
+import com.server.eureka.snapshot.RegistrySnapshotCodec.RegistrySnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegistrySnapshotCodecTests {
+
+    private final RegistrySnapshotCodec codec = new RegistrySnapshotCodec();
+
+    @Test
+    void roundTripsInstancesLeasesAndThresholdState() {
+        List<InstanceInfo> instances = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            instances.add(instance("ORDER-SERVICE", "order-" + i, i % 7 == 0 ? InstanceStatus.DOWN : InstanceStatus.UP));
+        }
+        RegistrySnapshot snapshot = new RegistrySnapshot(1_700_000_000_000L, 850, 912, instances);
+
+        RegistrySnapshot decoded = RegistrySnapshotCodec.decode(copy(codec.encode(snapshot)));
+
+        assertThat(decoded.createdAt()).isEqualTo(snapshot.createdAt());
+        assertThat(decoded.renewsPerMinThreshold()).isEqualTo(850);
+        assertThat(decoded.renewsLastMin()).isEqualTo(912);
+        assertThat(decoded.instances()).hasSize(500);
+
+        InstanceInfo original = instances.get(7);
+        InstanceInfo restored = decoded.instances().get(7);
+        assertThat(restored.getAppName()).isEqualTo(original.getAppName());
+        assertThat(restored.getId()).isEqualTo(original.getId());
+        assertThat(restored.getHostName()).isEqualTo(original.getHostName());
+        assertThat(restored.getIPAddr()).isEqualTo(original.getIPAddr());
+        assertThat(restored.getVIPAddress()).isEqualTo(original.getVIPAddress());
+        assertThat(restored.getStatus()).isEqualTo(InstanceStatus.DOWN);
+        assertThat(restored.getPort()).isEqualTo(8080);
+        assertThat(restored.getMetadata()).containsEntry("version", "1.4").containsEntry("zone", "zone-a");
+        assertThat(restored.getLeaseInfo().getDurationInSecs()).isEqualTo(90);
+        assertThat(restored.getLeaseInfo().getRenewalTimestamp())
+            .isEqualTo(original.getLeaseInfo().getRenewalTimestamp());
+        assertThat(restored.getLastDirtyTimestamp()).isEqualTo(original.getLastDirtyTimestamp());
+    }
+
+    @Test
+    void rejectsCorruptedSnapshot() {
+        RegistrySnapshot snapshot = new RegistrySnapshot(1L, 0, 0, List.of(instance("APP", "app-1", InstanceStatus.UP)));
+        ByteBuffer encoded = copy(codec.encode(snapshot));
+        int last = encoded.limit() - 1;
+        encoded.put(last, (byte) (encoded.get(last) ^ 0xFF));
+
+        assertThatThrownBy(() -> RegistrySnapshotCodec.decode(encoded))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void rejectsTruncatedSnapshot() {
+        RegistrySnapshot snapshot = new RegistrySnapshot(1L, 0, 0, List.of(instance("APP", "app-1", InstanceStatus.UP)));
+        ByteBuffer encoded = copy(codec.encode(snapshot));
+        encoded.limit(RegistrySnapshotCodec.HEADER_BYTES + 3);
+
+        assertThatThrownBy(() -> RegistrySnapshotCodec.decode(encoded))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteBuffer copy(ByteBuffer encoded) {
+        ByteBuffer copy = ByteBuffer.allocate(encoded.remaining());
+        copy.put(encoded).flip();
+        return copy;
+    }
+
+    private static InstanceInfo instance(String app, String id, InstanceStatus status) {
+        long now = System.currentTimeMillis();
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(app)
+            .setInstanceId(id)
+            .setHostName(id + ".local")
+            .setIPAddr("10.0.0.1")
+            .setVIPAddress(app.toLowerCase())
+            .setPort(8080)
+            .setStatus(status)
+            .setMetadata(new HashMap<>(Map.of("version", "1.4", "zone", "zone-a")))
+            .setLeaseInfo(LeaseInfo.Builder.newBuilder()
+                .setRenewalIntervalInSecs(30)
+                .setDurationInSecs(90)
+                .setRegistrationTimestamp(now - 60_000)
+                .setRenewalTimestamp(now - 5_000)
+                .build())
+            .setLastDirtyTimestamp(now - 60_000)
+            .build();
+    }
+}
@@ -0,0 +1,239 @@
+package com.server.eureka.stream;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.server.eureka.custom.RegistryEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RegistryChangeStreamTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private RegistryChangeStream stream;
+
+    @AfterEach
+    void stop() {
+        for (RecordingEmitter emitter : emitters) {
+            emitter.gate.countDown();
+        }
+        if (stream != null) {
+            stream.stop();
+        }
+    }
+
+    private RegistryChangeStream start(int queueCapacity, int historySize, String overflowPolicy,
+                                       long writeTimeoutMillis, int senderThreads) {
+        stream = new RegistryChangeStream(meterRegistry, 16, queueCapacity, historySize, overflowPolicy,
+                60_000, writeTimeoutMillis, senderThreads) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        stream.start();
+        return stream;
+    }
+
+    @Test
+    void filtersByAppAndReplaysChangesAfterSince() throws InterruptedException {
+        start(16, 16, "resync", 10_000, 2);
+        register("ORDER", "order-1");
+        register("PAYMENT", "payment-1");
+        register("ORDER", "order-2");
+
+        stream.subscribe(Set.of("ORDER"), Set.of(), 0L);
+        stream.subscribe(Set.of(), Set.of(), 2L);
+        RecordingEmitter orders = emitters.get(0);
+        RecordingEmitter all = emitters.get(1);
+
+        register("ORDER", "order-3");
+
+        await(() -> orders.ids.size() == 3 && all.ids.size() == 2);
+        assertThat(orders.ids).containsExactly(1L, 3L, 4L);
+        assertThat(orders.names).containsOnly("registered");
+        assertThat(all.ids).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void sendsResyncWhenSinceIsNoLongerInHistory() throws InterruptedException {
+        start(16, 4, "resync", 10_000, 2);
+        for (int i = 0; i < 10; i++) {
+            register("ORDER", "order-" + i);
+        }
+
+        stream.subscribe(Set.of(), Set.of(), 1L);
+        RecordingEmitter emitter = emitters.get(0);
+
+        await(() -> !emitter.names.isEmpty());
+        assertThat(emitter.names.get(0)).isEqualTo("resync");
+        assertThat(emitter.ids.get(0)).isEqualTo(10L);
+    }
+
+    @Test
+    void resyncPolicyTellsAnOverflowedSubscriberToRefetch() throws InterruptedException {
+        start(2, 64, "resync", 10_000, 2);
+        stream.subscribe(Set.of(), Set.of(), null);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.block();
+
+        register("ORDER", "order-0");
+        await(emitter::isSending);
+        for (int i = 1; i < 10; i++) {
+            register("ORDER", "order-" + i);
+        }
+        emitter.gate.countDown();
+
+        await(() -> emitter.names.contains("resync"));
+        assertThat(emitter.names.get(0)).isEqualTo("registered");
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("eureka.stream.resyncs").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void dropPolicyRemovesAnOverflowedSubscriberEvenWhileItIsMidSend() throws InterruptedException {
+        start(2, 64, "drop", 10_000, 2);
+        stream.subscribe(Set.of(), Set.of(), null);
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.block();
+
+        register("ORDER", "order-0");
+        await(emitter::isSending);
+        for (int i = 1; i < 10; i++) {
+            register("ORDER", "order-" + i);
+        }
+
+        assertThat(stream.getSubscriberCount()).isZero();
+        assertThat(emitter.completed).isFalse();
+        emitter.gate.countDown();
+        await(() -> emitter.completed);
+        assertThat(meterRegistry.get("eureka.stream.subscribers.closed").tag("reason", "slow_consumer")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void stalledSendIsClosedAndDoesNotStarveOtherSubscribers() throws InterruptedException {
+        start(16, 64, "resync", 50, 1);
+        stream.subscribe(Set.of("ORDER"), Set.of(), null);
+        stream.subscribe(Set.of(), Set.of(), null);
+        RecordingEmitter stalled = emitters.get(0);
+        RecordingEmitter healthy = emitters.get(1);
+        stalled.block();
+
+        register("ORDER", "order-0");
+        await(stalled::isSending);
+        Thread.sleep(100);
+        stream.checkStalledSends();
+
+        // 막힌 스레드 대신 전송 풀이 늘어나 다른 구독자는 계속 받는다
+        await(() -> healthy.ids.contains(1L));
+        assertThat(healthy.ids).contains(1L);
+        assertThat(stream.getSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("eureka.stream.subscribers.closed").tag("reason", "write_timeout")
+                .counter().count()).isEqualTo(1.0);
+
+        stalled.gate.countDown();
+        await(() -> stalled.completed);
+        assertThat(stalled.completed).isTrue();
+    }
+
+    @Test
+    void lastEventIdTakesPrecedenceOverSince() {
+        RegistryChangeStream changeStream = mock(RegistryChangeStream.class);
+        when(changeStream.subscribe(Set.of("ORDER"), Set.of(), 7L)).thenReturn(new SseEmitter());
+
+        new RegistryStreamController(changeStream).stream(List.of(" order "), null, 3L, 7L);
+
+        verify(changeStream).subscribe(Set.of("ORDER"), Set.of(), 7L);
+    }
+
+    private void register(String app, String id) {
+        InstanceInfo info = InstanceInfo.Builder.newBuilder()
+            .setAppName(app)
+            .setInstanceId(id)
+            .setHostName(id + ".local")
+            .setStatus(InstanceStatus.UP)
+            .build();
+        stream.onRegistered(RegistryEvent.registered(new EurekaInstanceRegisteredEvent(this, info, 90, false)));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 서블릿 없이 보낸 이벤트를 기록하는 emitter (block() 후에는 gate 가 열릴 때까지 전송이 멈춘다)
+     */
+    static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern ID = Pattern.compile("id:(\\d+)");
+        private static final Pattern EVENT = Pattern.compile("event:(\\w+)");
+
+        final List<Long> ids = new CopyOnWriteArrayList<>();
+        final List<String> names = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch gate = new CountDownLatch(0);
+        volatile boolean sending;
+        volatile boolean completed;
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        boolean isSending() {
+            return sending;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } finally {
+                sending = false;
+            }
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String value) {
+                    text.append(value);
+                }
+            }
+            Matcher event = EVENT.matcher(text);
+            if (event.find()) {
+                Matcher id = ID.matcher(text);
+                ids.add(id.find() ? Long.parseLong(id.group(1)) : -1L);
+                names.add(event.group(1));
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
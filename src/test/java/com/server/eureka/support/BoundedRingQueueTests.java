@@ -0,0 +1,148 @@
+package com.server.eureka.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedRingQueueTests {
+
+    @Test
+    void roundsCapacityUpToAPowerOfTwo() {
+        assertThat(new BoundedRingQueue<Integer>(2).capacity()).isEqualTo(2);
+        assertThat(new BoundedRingQueue<Integer>(5).capacity()).isEqualTo(8);
+        assertThat(new BoundedRingQueue<Integer>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new BoundedRingQueue<Integer>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsOffersWhileFullAndAcceptsAgainAfterPoll() {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+
+        assertThat(queue.poll()).isZero();
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue.offer(5)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drain(drained::add, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void keepsFifoOrderAcrossManyWraparounds() {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(4);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 10_000; round++) {
+            // 매 회차 채우는 개수를 바꿔 head/tail 이 슬롯 경계를 여러 위치에서 넘게 한다
+            int batch = 1 + round % 4;
+            for (int i = 0; i < batch; i++) {
+                assertThat(queue.offer(next++)).isTrue();
+            }
+            for (int i = 0; i < batch; i++) {
+                assertThat(queue.poll()).isEqualTo(expected++);
+            }
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void drainStopsAtTheLimit() {
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(8);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(i);
+        }
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drain(drained::add, 4)).isEqualTo(4);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void deliversEveryElementExactlyOnceWithConcurrentProducersAndConsumers() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int perProducer = 100_000;
+        int total = producers * perProducer;
+        BoundedRingQueue<Integer> queue = new BoundedRingQueue<>(64);
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger consumed = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!queue.offer(base + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    // 한 소비자가 보는 같은 생산자의 원소는 생산 순서를 지켜야 한다
+                    int[] lastByProducer = new int[producers];
+                    Arrays.fill(lastByProducer, -1);
+                    start.await();
+                    while (consumed.get() < total) {
+                        Integer element = queue.poll();
+                        if (element == null) {
+                            Thread.onSpinWait();
+                            continue;
+                        }
+                        seen.incrementAndGet(element);
+                        consumed.incrementAndGet();
+                        int producer = element / perProducer;
+                        if (element <= lastByProducer[producer]) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        lastByProducer[producer] = element;
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(consumed.get()).isEqualTo(total);
+        assertThat(outOfOrder.get()).isZero();
+        for (int i = 0; i < total; i++) {
+            assertThat(seen.get(i)).as("element %d", i).isEqualTo(1);
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}
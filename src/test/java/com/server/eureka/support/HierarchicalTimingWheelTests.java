@@ -0,0 +1,70 @@
+package com.server.eureka.support;
+
+import com.server.eureka.support.HierarchicalTimingWheel.Timeout;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTests {
+
+    @Test
+    void firesEachDeadlineWithinOneTickAcrossLevels() {
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 0);
+        // level 0 (< 640ms), level 1 (< 40s), level 2 (< 43min)
+        long[] deadlines = {5, 95, 639, 641, 12_345, 39_990, 1_000_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = 0; now <= 1_000_100; now += 10) {
+            wheel.advance(now, (timeout, time) -> {
+                firedAt.put(timeout.payload(), time);
+                return -1;
+            });
+        }
+
+        assertThat(firedAt).hasSize(deadlines.length);
+        for (long deadline : deadlines) {
+            assertThat(firedAt.get(deadline)).isBetween(deadline, deadline + 10);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void extendedAndCanceledTimeoutsDoNotFireEarly() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(100, 0);
+        Timeout<String> renewed = wheel.schedule("renewed", 1_000);
+        Timeout<String> canceled = wheel.schedule("canceled", 1_000);
+        wheel.schedule("rescheduled", 1_000);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(500, (timeout, now) -> -1);
+        renewed.extend(90_000);
+        renewed.extend(5_000);
+        wheel.cancel(canceled);
+
+        wheel.advance(1_000, (timeout, now) -> {
+            fired.add(timeout.payload() + "@" + now);
+            return timeout.payload().equals("rescheduled") ? 3_000 : -1;
+        });
+        assertThat(fired).containsExactly("rescheduled@1000");
+        assertThat(renewed.deadline()).isEqualTo(90_000);
+
+        fired.clear();
+        for (long now = 1_100; now <= 90_000; now += 100) {
+            long at = now;
+            wheel.advance(at, (timeout, time) -> {
+                fired.add(timeout.payload() + "@" + time);
+                return -1;
+            });
+        }
+        assertThat(fired).containsExactly("rescheduled@3000", "renewed@90000");
+        assertThat(wheel.size()).isZero();
+    }
+}
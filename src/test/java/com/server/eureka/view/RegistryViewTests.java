@@ -0,0 +1,122 @@
+package com.server.eureka.view;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.netflix.appinfo.LeaseInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.server.eureka.custom.RegistryEvent;
+import com.server.eureka.view.RegistryView.AppView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RegistryViewTests {
+
+    @Test
+    void appViewCopiesInstancesSoLaterRegistryWritesDoNotLeakIn() {
+        InstanceInfo live = instance("ORDER", "order-1", InstanceStatus.UP);
+        Application source = new Application("ORDER");
+        source.addInstance(live);
+
+        AppView app = AppView.of(source);
+        live.setStatusWithoutDirty(InstanceStatus.DOWN);
+
+        assertThat(app.get("order-1")).isNotSameAs(live);
+        assertThat(app.get("order-1").getStatus()).isEqualTo(InstanceStatus.UP);
+        assertThat(app.application().getInstancesAsIsFromEureka()).containsExactly(app.get("order-1"));
+    }
+
+    @Test
+    void appViewDoesNotShareLeaseInfoOrMetadataWithTheLiveInstance() {
+        InstanceInfo live = instance("ORDER", "order-1", InstanceStatus.UP);
+        live.setLeaseInfo(LeaseInfo.Builder.newBuilder().setDurationInSecs(90).setRenewalTimestamp(1_000L).build());
+        live.getMetadata().put("version", "1");
+        Application source = new Application("ORDER");
+        source.addInstance(live);
+
+        AppView app = AppView.of(source);
+        live.getLeaseInfo().setRenewalTimestamp(2_000L);
+        live.getMetadata().put("version", "2");
+
+        assertThat(app.get("order-1").getLeaseInfo()).isNotSameAs(live.getLeaseInfo());
+        assertThat(app.get("order-1").getLeaseInfo().getRenewalTimestamp()).isEqualTo(1_000L);
+        assertThat(app.get("order-1").getLeaseInfo().getDurationInSecs()).isEqualTo(90);
+        assertThat(app.get("order-1").getMetadata()).containsEntry("version", "1");
+    }
+
+    @Test
+    void publisherWaitsForCoalesceWindowBeforeReadingAMarkedApp() throws InterruptedException {
+        PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+        EurekaServerContext context = mock(EurekaServerContext.class);
+        when(context.getRegistry()).thenReturn(registry);
+        when(registry.getApplications()).thenReturn(new Applications());
+        RegistryViewPublisher publisher = new RegistryViewPublisher(context, new SimpleMeterRegistry(), 100L);
+        publisher.rebuild();
+
+        // 이벤트는 레지스트리 쓰기보다 먼저 온다 - 표시 직후 재생성은 아직 쓰기 전 상태를 읽을 수 있다
+        Application order = new Application("ORDER");
+        when(registry.getApplication("ORDER")).thenReturn(order);
+        publisher.onEvent(RegistryEvent.registered(
+                new EurekaInstanceRegisteredEvent(this, instance("ORDER", "order-1", InstanceStatus.UP), 90, false)));
+        publisher.rebuild();
+        assertThat(publisher.current().application("ORDER")).isNull();
+
+        order.addInstance(instance("ORDER", "order-1", InstanceStatus.UP));
+        Thread.sleep(150);
+        publisher.rebuild();
+        assertThat(publisher.current().instance("ORDER", "order-1")).isNotNull();
+        assertThat(publisher.getAgeMillis()).isZero();
+    }
+
+    @Test
+    void looksUpApplicationsCaseInsensitivelyAndCountsInstances() {
+        Map<String, AppView> apps = new HashMap<>();
+        apps.put("ORDER", appOf("ORDER", "order-1", "order-2"));
+        apps.put("PAYMENT", appOf("PAYMENT", "payment-1"));
+        RegistryView view = new RegistryView(3L, 1_000L, apps);
+
+        assertThat(view.application("order")).isSameAs(apps.get("ORDER"));
+        assertThat(view.instance("Payment", "payment-1")).isNotNull();
+        assertThat(view.instance("PAYMENT", "missing")).isNull();
+        assertThat(view.applicationCount()).isEqualTo(2);
+        assertThat(view.instanceCount()).isEqualTo(3);
+        assertThat(RegistryView.normalize("ORDER")).isSameAs(RegistryView.normalize("ORDER"));
+    }
+
+    @Test
+    void toApplicationsCarriesTheReconcileHashCode() {
+        RegistryView view = new RegistryView(1L, 1_000L, Map.of("ORDER", appOf("ORDER", "order-1", "order-2")));
+
+        Applications applications = view.toApplications();
+
+        assertThat(applications.getRegisteredApplications()).hasSize(1);
+        assertThat(applications.getAppsHashCode()).isEqualTo("UP_2_");
+    }
+
+    private static AppView appOf(String appName, String... instanceIds) {
+        Application application = new Application(appName);
+        for (String instanceId : instanceIds) {
+            application.addInstance(instance(appName, instanceId, InstanceStatus.UP));
+        }
+        return AppView.of(application);
+    }
+
+    private static InstanceInfo instance(String appName, String instanceId, InstanceStatus status) {
+        return InstanceInfo.Builder.newBuilder()
+            .setAppName(appName)
+            .setInstanceId(instanceId)
+            .setHostName(instanceId)
+            .setStatus(status)
+            .build();
+    }
+}
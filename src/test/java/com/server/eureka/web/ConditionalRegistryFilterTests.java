@@ -0,0 +1,204 @@
+package com.server.eureka.web;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.DataCenterInfo;
+import com.netflix.appinfo.EurekaInstanceConfig;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.appinfo.MyDataCenterInfo;
+import com.netflix.eureka.EurekaServerConfig;
+import com.netflix.eureka.EurekaServerContext;
+import com.netflix.eureka.registry.Key;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import com.netflix.eureka.registry.ResponseCache;
+import com.netflix.eureka.registry.ResponseCacheImpl;
+import com.server.eureka.view.RegistryViewPublisher;
+import com.server.eureka.web.RegistryResponseCache.CacheResult;
+import com.server.eureka.web.RegistryResponseCache.PayloadFormat;
+import com.server.eureka.web.RegistryResponseCache.PayloadType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConditionalRegistryFilterTests {
+
+    private static final String FULL_JSON = "{\"applications\":{\"versions__delta\":\"1\",\"apps__hashcode\":\"UP_1_\",\"application\":[]}}";
+    private static final String FULL_XML = "<applications><versions__delta>1</versions__delta><apps__hashcode>UP_1_</apps__hashcode></applications>";
+    private static final String DELTA_JSON = "{\"applications\":{\"versions__delta\":\"2\",\"apps__hashcode\":\"UP_2_\",\"application\":[]}}";
+
+    private final ResponseCache responseCache = mock(ResponseCache.class);
+    private final AtomicBoolean rebuildDeltaDuringFullFetch = new AtomicBoolean();
+    private volatile String deltaJson = DELTA_JSON;
+    private RegistryResponseCache registryResponseCache;
+    private ConditionalRegistryFilter filter;
+
+    @BeforeAll
+    static void initApplicationInfoManager() {
+        // EurekaMonitors 는 초기화 시 ApplicationInfoManager 싱글턴의 DataCenterInfo 를 읽는다
+        if (ApplicationInfoManager.getInstance().getInfo() == null) {
+            new ApplicationInfoManager(mock(EurekaInstanceConfig.class), InstanceInfo.Builder.newBuilder()
+                .setAppName("EUREKA")
+                .setHostName("localhost")
+                .setDataCenterInfo(new MyDataCenterInfo(DataCenterInfo.Name.MyOwn))
+                .build(), null);
+        }
+    }
+
+    ConditionalRegistryFilterTests() {
+        PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+        EurekaServerContext context = mock(EurekaServerContext.class);
+        EurekaServerConfig serverConfig = mock(EurekaServerConfig.class);
+        when(context.getRegistry()).thenReturn(registry);
+        when(context.getServerConfig()).thenReturn(serverConfig);
+        when(registry.shouldAllowAccess(false)).thenReturn(true);
+        when(registry.getResponseCache()).thenReturn(responseCache);
+        when(responseCache.get(any(Key.class))).thenAnswer(invocation -> {
+            Key key = invocation.getArgument(0);
+            boolean json = key.getType() == Key.KeyType.JSON;
+            if (ResponseCacheImpl.ALL_APPS_DELTA.equals(key.getName())) {
+                return json ? deltaJson : null;
+            }
+            if (rebuildDeltaDuringFullFetch.getAndSet(false)) {
+                // 다른 요청이 같은 순간 delta 슬롯을 재생성한다
+                registryResponseCache.current(PayloadType.DELTA, PayloadFormat.JSON);
+            }
+            return json ? FULL_JSON : FULL_XML;
+        });
+
+        registryResponseCache = new RegistryResponseCache(context, mock(RegistryViewPublisher.class),
+                new SimpleMeterRegistry(), false);
+        filter = new ConditionalRegistryFilter(context, registryResponseCache);
+    }
+
+    @Test
+    void servesThePrecomputedBodyThenAnswersNotModifiedForItsEtag() throws Exception {
+        MockHttpServletResponse first = fetch(get("/eureka/apps/", "application/json", null, null));
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getContentType()).startsWith("application/json");
+        assertThat(first.getContentAsString()).isEqualTo(FULL_JSON);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"UP_1_-").doesNotEndWith("-gzip\"");
+
+        MockHttpServletRequest conditional = get("/eureka/apps", "application/json", null, etag);
+        MockHttpServletResponse second = fetch(conditional);
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(conditional.getAttribute(RegistryResponseCache.CACHE_RESULT_ATTRIBUTE)).isEqualTo(CacheResult.HIT);
+    }
+
+    @Test
+    void negotiatesGzipAndAcceptsEitherEncodingsEtag() throws Exception {
+        MockHttpServletResponse plain = fetch(get("/eureka/apps", "application/json", null, null));
+        MockHttpServletResponse gzipped = fetch(get("/eureka/apps", "application/json", "gzip, deflate", null));
+
+        assertThat(gzipped.getStatus()).isEqualTo(200);
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+        assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(FULL_JSON);
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+
+        // 같은 버전이면 인코딩과 무관하게 304
+        MockHttpServletResponse notModified = fetch(
+                get("/eureka/apps", "application/json", "gzip", plain.getHeader(HttpHeaders.ETAG)));
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getHeader(HttpHeaders.ETAG)).isEqualTo(gzipped.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void choosesXmlUnlessAcceptMentionsJson() throws Exception {
+        MockHttpServletResponse response = fetch(get("/eureka/apps", "application/xml", null, null));
+
+        assertThat(response.getContentType()).startsWith("application/xml");
+        assertThat(response.getContentAsString()).isEqualTo(FULL_XML);
+    }
+
+    @Test
+    void staleEtagGetsTheNewBody() throws Exception {
+        String etag = fetch(get("/eureka/apps/delta", "application/json", null, null)).getHeader(HttpHeaders.ETAG);
+        deltaJson = DELTA_JSON.replace("UP_2_", "UP_3_");
+
+        MockHttpServletRequest request = get("/eureka/apps/delta", "application/json", null, etag);
+        MockHttpServletResponse response = fetch(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("UP_3_");
+        assertThat(request.getAttribute(RegistryResponseCache.CACHE_RESULT_ATTRIBUTE)).isEqualTo(CacheResult.MISS);
+    }
+
+    @Test
+    void rebuildOfAnotherSlotDoesNotTurnAHitIntoAMiss() throws Exception {
+        MockHttpServletRequest first = get("/eureka/apps", "application/json", null, null);
+        fetch(first);
+        assertThat(first.getAttribute(RegistryResponseCache.CACHE_RESULT_ATTRIBUTE)).isEqualTo(CacheResult.MISS);
+
+        rebuildDeltaDuringFullFetch.set(true);
+        MockHttpServletRequest second = get("/eureka/apps", "application/json", null, null);
+        fetch(second);
+
+        assertThat(registryResponseCache.peek(PayloadType.DELTA, PayloadFormat.JSON)).isNotNull();
+        assertThat(second.getAttribute(RegistryResponseCache.CACHE_RESULT_ATTRIBUTE)).isEqualTo(CacheResult.HIT);
+    }
+
+    @Test
+    void leavesRegionCompactAndOtherRequestsToJersey() throws Exception {
+        MockHttpServletRequest regions = get("/eureka/apps", "application/json", null, null);
+        regions.setParameter("regions", "us-west-2");
+        MockHttpServletRequest compact = get("/eureka/apps", "application/json", null, null);
+        compact.addHeader("X-Eureka-Accept", "compact");
+        MockHttpServletRequest singleApp = get("/eureka/apps/ORDER", "application/json", null, null);
+        MockHttpServletRequest register = get("/eureka/apps/ORDER", "application/json", null, null);
+        register.setMethod("POST");
+
+        for (MockHttpServletRequest request : new MockHttpServletRequest[] {regions, compact, singleApp, register}) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, chain);
+
+            assertThat(chain.getRequest()).as(request.getRequestURI()).isSameAs(request);
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        }
+    }
+
+    private MockHttpServletResponse fetch(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        assertThat(chain.getRequest()).isNull();
+        return response;
+    }
+
+    private static MockHttpServletRequest get(String uri, String accept, String acceptEncoding, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.addHeader(HttpHeaders.ACCEPT, accept);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}